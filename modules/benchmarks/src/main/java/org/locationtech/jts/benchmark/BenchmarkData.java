@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.util.SineStarFactory;
+import org.locationtech.jts.shape.random.RandomPointsBuilder;
+
+/**
+ * Creates the synthetic datasets used by the benchmarks.
+ * <p>
+ * All data is generated from a fixed seed,
+ * so that every run (and every fork) of a benchmark
+ * operates on exactly the same geometry.
+ * This allows results from different releases to be compared directly.
+ */
+public class BenchmarkData {
+
+  /**
+   * The seed used for all random data.
+   */
+  public static final long SEED = 13_579L;
+
+  private static final GeometryFactory FACTORY = new GeometryFactory();
+
+  /**
+   * Gets the factory used to create benchmark geometries.
+   * 
+   * @return the geometry factory
+   */
+  public static GeometryFactory getFactory() {
+    return FACTORY;
+  }
+
+  /**
+   * Creates a sine star polygon with the given number of vertices.
+   * 
+   * @param centreX the X ordinate of the star centre
+   * @param centreY the Y ordinate of the star centre
+   * @param size the size of the star
+   * @param nPts the number of vertices
+   * @return a sine star polygon
+   */
+  public static Geometry sineStar(double centreX, double centreY, double size, int nPts) {
+    SineStarFactory gsf = new SineStarFactory(FACTORY);
+    gsf.setCentre(new Coordinate(centreX, centreY));
+    gsf.setSize(size);
+    gsf.setNumPoints(nPts);
+    gsf.setNumArms(20);
+    gsf.setArmLengthRatio(0.3);
+    return gsf.createSineStar();
+  }
+
+  /**
+   * Creates a square grid of overlapping sine star polygons.
+   * Adjacent stars overlap, so the grid is a good workload for unions.
+   * 
+   * @param nSide the number of stars along each side of the grid
+   * @param nPts the number of vertices in each star
+   * @return a list of polygons
+   */
+  public static List<Geometry> sineStarGrid(int nSide, int nPts) {
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    double size = 100;
+    double step = 0.8 * size;
+    for (int i = 0; i < nSide; i++) {
+      for (int j = 0; j < nSide; j++) {
+        geoms.add(sineStar(i * step, j * step, size, nPts));
+      }
+    }
+    return geoms;
+  }
+
+  /**
+   * Creates a set of random points within an extent.
+   * 
+   * @param extent the extent to create the points in
+   * @param nPts the number of points to create
+   * @return a MultiPoint containing the points
+   */
+  public static Geometry randomPoints(Envelope extent, int nPts) {
+    RandomPointsBuilder builder = new SeededRandomPointsBuilder(FACTORY, SEED);
+    builder.setExtent(extent);
+    builder.setNumPoints(nPts);
+    return builder.getGeometry();
+  }
+
+  /**
+   * Creates a set of random square envelopes within an extent.
+   * 
+   * @param extent the extent containing the envelope origins
+   * @param n the number of envelopes to create
+   * @param size the side length of the envelopes
+   * @return an array of envelopes
+   */
+  public static Envelope[] randomEnvelopes(Envelope extent, int n, double size) {
+    Random random = new Random(SEED);
+    Envelope[] envs = new Envelope[n];
+    for (int i = 0; i < n; i++) {
+      double x = extent.getMinX() + extent.getWidth() * random.nextDouble();
+      double y = extent.getMinY() + extent.getHeight() * random.nextDouble();
+      envs[i] = new Envelope(x, x + size, y, y + size);
+    }
+    return envs;
+  }
+
+  /**
+   * A {@link RandomPointsBuilder} which uses a seeded
+   * random number generator, to produce repeatable point sets.
+   */
+  private static class SeededRandomPointsBuilder extends RandomPointsBuilder {
+
+    private Random random;
+
+    SeededRandomPointsBuilder(GeometryFactory geomFact, long seed) {
+      super(geomFact);
+      random = new Random(seed);
+    }
+
+    @Override
+    protected Coordinate createRandomCoord(Envelope env) {
+      double x = env.getMinX() + env.getWidth() * random.nextDouble();
+      double y = env.getMinY() + env.getHeight() * random.nextDouble();
+      return createCoord(x, y);
+    }
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the JTS benchmarks.
+ * <p>
+ * This accepts the standard JMH command line options.
+ * Unless otherwise specified, results are written in JSON format
+ * to the file <code>jts-benchmarks.json</code>,
+ * so that the results of different builds can be compared.
+ * <p>
+ * Usage:
+ * <pre>
+ * java -jar jts-benchmarks.jar [JMH options] [benchmark regexp]
+ * </pre>
+ */
+public class BenchmarkRunner {
+
+  /**
+   * The file results are written to by default.
+   */
+  public static final String DEFAULT_RESULT_FILE = "jts-benchmarks.json";
+
+  public static void main(String[] args) throws Exception {
+    CommandLineOptions cmdOpts = new CommandLineOptions(args);
+    if (cmdOpts.shouldHelp() || cmdOpts.shouldList() || cmdOpts.shouldListWithParams()
+        || cmdOpts.shouldListProfilers() || cmdOpts.shouldListResultFormats()) {
+      Main.main(args);
+      return;
+    }
+    ChainedOptionsBuilder opts = new OptionsBuilder().parent(cmdOpts);
+    if (! cmdOpts.getResultFormat().hasValue()) {
+      opts.resultFormat(ResultFormatType.JSON);
+    }
+    if (! cmdOpts.getResult().hasValue()) {
+      opts.result(DEFAULT_RESULT_FILE);
+    }
+    new Runner(opts.build()).run();
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.geom;
+
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.algorithm.Orientation;
+import org.locationtech.jts.algorithm.locate.SimplePointInAreaLocator;
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.impl.CoordinateArraySequenceFactory;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+import org.locationtech.jts.operation.overlayng.OverlayNG;
+import org.locationtech.jts.operation.overlayng.OverlayNGRobust;
+import org.locationtech.jts.precision.GeometryPrecisionReducer;
+import org.locationtech.jts.simplify.DouglasPeuckerSimplifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares operations, metrics and point location on geometries using 
+ * {@link CoordinateArraySequenceFactory} and {@link PackedCoordinateSequenceFactory}.
+ * <p>
+ * The geometries are created by a factory with the selected 
+ * coordinate sequence implementation,
+ * so the operation results are created with it as well.
+ * Run with the JMH GC profiler (<code>-prof gc</code>) to report
+ * the memory allocated by each operation (<code>gc.alloc.rate.norm</code>).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CoordinateSequenceMemoryBenchmark {
+
+  @Param({ "array", "packed" })
+  public String coordSeq;
+
+  @Param({ "10000" })
+  public int numPts;
+
+  private Geometry geomA;
+  private Geometry geomB;
+  private PrecisionModel precisionModel = new PrecisionModel(10);
+  private Coordinate pt = new Coordinate(10, 10);
+
+  @Setup
+  public void setup() {
+    GeometryFactory factory;
+    if (coordSeq.equals("packed")) {
+      factory = new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY);
+    }
+    else {
+      factory = new GeometryFactory(CoordinateArraySequenceFactory.instance());
+    }
+    geomA = factory.createGeometry(BenchmarkData.sineStar(0, 0, 100, numPts));
+    geomB = factory.createGeometry(BenchmarkData.sineStar(30, 30, 100, numPts));
+  }
+
+  @Benchmark
+  public Geometry create() {
+    return geomA.getFactory().createGeometry(geomA);
+  }
+
+  @Benchmark
+  public double area() {
+    return geomA.getArea();
+  }
+
+  @Benchmark
+  public double length() {
+    return geomA.getLength();
+  }
+
+  @Benchmark
+  public boolean isCCW() {
+    return Orientation.isCCW(((Polygon) geomA).getExteriorRing().getCoordinateSequence());
+  }
+
+  @Benchmark
+  public int locate() {
+    return SimplePointInAreaLocator.locate(pt, geomA);
+  }
+
+  @Benchmark
+  public Geometry buffer() {
+    return geomA.buffer(5);
+  }
+
+  @Benchmark
+  public Geometry intersection() {
+    return OverlayNGRobust.overlay(geomA, geomB, OverlayNG.INTERSECTION);
+  }
+
+  @Benchmark
+  public Geometry simplify() {
+    return DouglasPeuckerSimplifier.simplify(geomA, 1);
+  }
+
+  @Benchmark
+  public Geometry reducePrecision() {
+    return GeometryPrecisionReducer.reduce(geomA, precisionModel);
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.geom;
+
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks envelope filtering of a set of small polygons
+ * against a query polygon,
+ * using {@link Geometry#getEnvelopeInternal()} (which copies the envelope),
+ * {@link Geometry#getEnvelopeInternalReadOnly()},
+ * and the {@link Geometry#intersects(Geometry)} predicate
+ * (which short-circuits on the envelopes).
+ * Run with the JMH GC profiler (<code>-prof gc</code>) to compare allocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EnvelopeBenchmark {
+
+  @Param({ "100000" })
+  public int numGeoms;
+
+  private Geometry[] geoms;
+  private Geometry query;
+
+  @Setup
+  public void setup() {
+    Envelope extent = new Envelope(0, 1000, 0, 1000);
+    Geometry pts = BenchmarkData.randomPoints(extent, numGeoms);
+    geoms = new Geometry[numGeoms];
+    for (int i = 0; i < numGeoms; i++) {
+      geoms[i] = pts.getGeometryN(i).buffer(1, 2);
+    }
+    query = BenchmarkData.sineStar(500, 500, 10, 100);
+  }
+
+  @Benchmark
+  public int filterCopy() {
+    Envelope queryEnv = query.getEnvelopeInternal();
+    int count = 0;
+    for (Geometry g : geoms) {
+      if (queryEnv.intersects(g.getEnvelopeInternal())) count++;
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int filterReadOnly() {
+    Envelope queryEnv = query.getEnvelopeInternalReadOnly();
+    int count = 0;
+    for (Geometry g : geoms) {
+      if (queryEnv.intersects(g.getEnvelopeInternalReadOnly())) count++;
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int intersects() {
+    int count = 0;
+    for (Geometry g : geoms) {
+      if (query.intersects(g)) count++;
+    }
+    return count;
+  }
+}
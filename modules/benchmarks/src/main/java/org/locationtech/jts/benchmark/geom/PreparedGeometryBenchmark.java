@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.geom;
+
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks {@link PreparedGeometry} predicates
+ * evaluated against a prepared sine star polygon.
+ * Each invocation tests a fixed set of random points
+ * and small polygons against the prepared geometry.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PreparedGeometryBenchmark {
+
+  private static final int NUM_TESTS = 1000;
+
+  @Param({ "1000", "10000", "100000" })
+  public int numPts;
+
+  private PreparedGeometry prepGeom;
+  private Geometry[] testPoints;
+  private Geometry[] testPolys;
+
+  @Setup
+  public void setup() {
+    Geometry target = BenchmarkData.sineStar(0, 0, 100, numPts);
+    prepGeom = PreparedGeometryFactory.prepare(target);
+    // force indexes to be built before measurement
+    prepGeom.intersects(target.getCentroid());
+
+    Envelope extent = target.getEnvelopeInternal();
+    Geometry pts = BenchmarkData.randomPoints(extent, NUM_TESTS);
+    testPoints = new Geometry[NUM_TESTS];
+    testPolys = new Geometry[NUM_TESTS];
+    for (int i = 0; i < NUM_TESTS; i++) {
+      Geometry pt = pts.getGeometryN(i);
+      testPoints[i] = pt;
+      testPolys[i] = BenchmarkData.sineStar(pt.getCoordinate().x, pt.getCoordinate().y, 5, 20);
+    }
+  }
+
+  @Benchmark
+  public void containsPoint(Blackhole bh) {
+    for (Geometry pt : testPoints) {
+      bh.consume(prepGeom.contains(pt));
+    }
+  }
+
+  @Benchmark
+  public void intersectsPoint(Blackhole bh) {
+    for (Geometry pt : testPoints) {
+      bh.consume(prepGeom.intersects(pt));
+    }
+  }
+
+  @Benchmark
+  public void containsPolygon(Blackhole bh) {
+    for (Geometry poly : testPolys) {
+      bh.consume(prepGeom.contains(poly));
+    }
+  }
+
+  @Benchmark
+  public void intersectsPolygon(Blackhole bh) {
+    for (Geometry poly : testPolys) {
+      bh.consume(prepGeom.intersects(poly));
+    }
+  }
+
+  @Benchmark
+  public void coversPolygon(Blackhole bh) {
+    for (Geometry poly : testPolys) {
+      bh.consume(prepGeom.covers(poly));
+    }
+  }
+}
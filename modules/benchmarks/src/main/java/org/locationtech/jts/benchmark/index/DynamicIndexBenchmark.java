@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.index;
+
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.ItemVisitor;
+import org.locationtech.jts.index.SpatialIndex;
+import org.locationtech.jts.index.quadtree.Quadtree;
+import org.locationtech.jts.index.rstartree.RStarTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the dynamic indexes {@link Quadtree} and {@link RStarTree}
+ * (built by insertion, and by bulk loading),
+ * for building, querying and moving items.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DynamicIndexBenchmark {
+
+  private static final double EXTENT_SIZE = 10000;
+  private static final double ITEM_SIZE = 100;
+  private static final double QUERY_SIZE = 200;
+  private static final int NUM_QUERIES = 1000;
+  private static final int NUM_MOVES = 1000;
+
+  @Param({ "Quadtree", "RStarTree", "RStarTreeLoad" })
+  public String indexType;
+
+  @Param({ "10000", "100000" })
+  public int numItems;
+
+  private Envelope[] itemEnvs;
+  private Integer[] items;
+  private Envelope[] queryEnvs;
+  private SpatialIndex index;
+  private boolean[] isMoved;
+  private int moveIndex = 0;
+
+  @Setup
+  public void setup() {
+    Envelope extent = new Envelope(0, EXTENT_SIZE, 0, EXTENT_SIZE);
+    itemEnvs = BenchmarkData.randomEnvelopes(extent, numItems, ITEM_SIZE);
+    items = new Integer[numItems];
+    for (int i = 0; i < numItems; i++) {
+      items[i] = Integer.valueOf(i);
+    }
+    Envelope[] envs = BenchmarkData.randomEnvelopes(extent, NUM_QUERIES + 1, QUERY_SIZE);
+    // avoid querying with the item envelopes, which use the same seed
+    queryEnvs = new Envelope[NUM_QUERIES];
+    System.arraycopy(envs, 1, queryEnvs, 0, NUM_QUERIES);
+    index = buildIndex();
+    isMoved = new boolean[numItems];
+  }
+
+  private SpatialIndex buildIndex() {
+    if (indexType.equals("RStarTreeLoad")) {
+      RStarTree tree = new RStarTree();
+      tree.load(itemEnvs, items);
+      return tree;
+    }
+    SpatialIndex idx = indexType.equals("Quadtree") ? new Quadtree() : new RStarTree();
+    for (int i = 0; i < itemEnvs.length; i++) {
+      idx.insert(itemEnvs[i], items[i]);
+    }
+    return idx;
+  }
+
+  @Benchmark
+  public SpatialIndex build() {
+    return buildIndex();
+  }
+
+  @Benchmark
+  public void query(Blackhole bh) {
+    ItemVisitor visitor = new ItemVisitor() {
+      public void visitItem(Object item) {
+        bh.consume(item);
+      }
+    };
+    for (Envelope queryEnv : queryEnvs) {
+      index.query(queryEnv, visitor);
+    }
+  }
+
+  /**
+   * Moves items by removing and reinserting them with a shifted envelope.
+   * Items are moved back and forth, so the index contents stay the same
+   * over all iterations.
+   */
+  @Benchmark
+  public void move() {
+    for (int n = 0; n < NUM_MOVES; n++) {
+      int i = moveIndex;
+      moveIndex = (moveIndex + 1) % numItems;
+      Envelope env = itemEnvs[i];
+      double dx = isMoved[i] ? -ITEM_SIZE : ITEM_SIZE;
+      Envelope newEnv = new Envelope(env.getMinX() + dx, env.getMaxX() + dx,
+          env.getMinY(), env.getMaxY());
+      index.remove(env, items[i]);
+      index.insert(newEnv, items[i]);
+      itemEnvs[i] = newEnv;
+      isMoved[i] = ! isMoved[i];
+    }
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.index;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.kdtree.KdNode;
+import org.locationtech.jts.index.kdtree.KdNodeVisitor;
+import org.locationtech.jts.index.kdtree.KdTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks building a {@link KdTree} by inserting points
+ * compared to bulk-loading (sequentially and in parallel),
+ * and range and nearest-neighbour queries against 
+ * the inserted and bulk-loaded trees.
+ * Sorted points produce a degenerate tree when inserted.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xss16m" })
+@State(Scope.Benchmark)
+public class KdTreeBenchmark {
+
+  private static final double EXTENT_SIZE = 100000;
+  private static final int NUM_QUERIES = 1000;
+  private static final double QUERY_SIZE = 100;
+
+  @Param({ "random", "sorted" })
+  public String order;
+
+  @Param({ "10000", "100000" })
+  public int numPts;
+
+  private Coordinate[] pts;
+  private Coordinate[] queryPts;
+  private KdTree insertTree;
+  private KdTree bulkTree;
+  private ForkJoinPool pool;
+
+  @Setup
+  public void setup() {
+    Envelope extent = new Envelope(0, EXTENT_SIZE, 0, EXTENT_SIZE);
+    pts = BenchmarkData.randomPoints(extent, numPts).getCoordinates();
+    if (order.equals("sorted")) {
+      Arrays.sort(pts);
+    }
+    queryPts = BenchmarkData.randomPoints(extent, NUM_QUERIES).getCoordinates();
+    insertTree = insert();
+    bulkTree = bulkLoad();
+    pool = new ForkJoinPool();
+  }
+
+  @TearDown
+  public void tearDown() {
+    pool.shutdown();
+  }
+
+  @Benchmark
+  public KdTree insert() {
+    KdTree tree = new KdTree();
+    for (int i = 0; i < pts.length; i++) {
+      tree.insert(pts[i]);
+    }
+    return tree;
+  }
+
+  @Benchmark
+  public KdTree bulkLoad() {
+    return new KdTree(pts, 0);
+  }
+
+  @Benchmark
+  public KdTree bulkLoadParallel() {
+    return new KdTree(pts, null, 0, pool);
+  }
+
+  @Benchmark
+  public int queryInserted() {
+    return query(insertTree);
+  }
+
+  @Benchmark
+  public int queryBulkLoaded() {
+    return query(bulkTree);
+  }
+
+  @Benchmark
+  public int nearestNeighborsInserted() {
+    return nearestNeighbors(insertTree);
+  }
+
+  @Benchmark
+  public int nearestNeighborsBulkLoaded() {
+    return nearestNeighbors(bulkTree);
+  }
+
+  private int query(KdTree tree) {
+    final int[] count = new int[1];
+    KdNodeVisitor visitor = new KdNodeVisitor() {
+      public void visit(KdNode node) {
+        count[0]++;
+      }
+    };
+    for (int i = 0; i < queryPts.length; i++) {
+      Envelope queryEnv = new Envelope(queryPts[i]);
+      queryEnv.expandBy(QUERY_SIZE);
+      tree.query(queryEnv, visitor);
+    }
+    return count[0];
+  }
+
+  private int nearestNeighbors(KdTree tree) {
+    int count = 0;
+    for (int i = 0; i < queryPts.length; i++) {
+      count += tree.nearestNeighbour(queryPts[i], 10).length;
+    }
+    return count;
+  }
+}
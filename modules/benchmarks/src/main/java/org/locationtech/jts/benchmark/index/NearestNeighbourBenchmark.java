@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.index;
+
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.hprtree.HPRtree;
+import org.locationtech.jts.index.kdtree.KdTree;
+import org.locationtech.jts.index.strtree.ItemBoundable;
+import org.locationtech.jts.index.strtree.ItemDistance;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks k-nearest-neighbour and within-distance queries
+ * for points indexed in an {@link STRtree}, an {@link HPRtree} and a {@link KdTree}.
+ * Each operation runs a fixed number of queries.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NearestNeighbourBenchmark {
+
+  private static final double EXTENT_SIZE = 100000;
+  private static final int NUM_QUERIES = 1000;
+  private static final double QUERY_DISTANCE = 200;
+
+  private static final ItemDistance POINT_DISTANCE = new ItemDistance() {
+    public double distance(ItemBoundable item1, ItemBoundable item2) {
+      return ((Coordinate) item1.getItem()).distance((Coordinate) item2.getItem());
+    }
+  };
+
+  @Param({ "100000" })
+  public int numPts;
+
+  @Param({ "1", "10" })
+  public int k;
+
+  private Coordinate[] queryPts;
+  private STRtree strTree;
+  private HPRtree hprTree;
+  private KdTree kdTree;
+
+  @Setup
+  public void setup() {
+    Envelope extent = new Envelope(0, EXTENT_SIZE, 0, EXTENT_SIZE);
+    Coordinate[] pts = BenchmarkData.randomPoints(extent, numPts).getCoordinates();
+    queryPts = BenchmarkData.randomPoints(extent, NUM_QUERIES).getCoordinates();
+    strTree = new STRtree();
+    hprTree = new HPRtree();
+    for (int i = 0; i < pts.length; i++) {
+      Envelope env = new Envelope(pts[i]);
+      strTree.insert(env, pts[i]);
+      hprTree.insert(env, pts[i]);
+    }
+    strTree.build();
+    hprTree.build();
+    kdTree = new KdTree(pts, 0);
+  }
+
+  @Benchmark
+  public int nearestSTRtree() {
+    int count = 0;
+    for (int i = 0; i < queryPts.length; i++) {
+      count += strTree.nearestNeighbour(new Envelope(queryPts[i]), queryPts[i], POINT_DISTANCE, k).length;
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int nearestHPRtree() {
+    int count = 0;
+    for (int i = 0; i < queryPts.length; i++) {
+      count += hprTree.nearestNeighbour(new Envelope(queryPts[i]), queryPts[i], POINT_DISTANCE, k).length;
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int nearestKdTree() {
+    int count = 0;
+    for (int i = 0; i < queryPts.length; i++) {
+      count += kdTree.nearestNeighbour(queryPts[i], k).length;
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int withinDistanceSTRtree() {
+    int count = 0;
+    for (int i = 0; i < queryPts.length; i++) {
+      count += strTree.queryWithinDistance(new Envelope(queryPts[i]), queryPts[i], 
+          POINT_DISTANCE, QUERY_DISTANCE).size();
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int withinDistanceHPRtree() {
+    int count = 0;
+    for (int i = 0; i < queryPts.length; i++) {
+      count += hprTree.queryWithinDistance(new Envelope(queryPts[i]), queryPts[i], 
+          POINT_DISTANCE, QUERY_DISTANCE).size();
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int withinDistanceKdTree() {
+    int count = 0;
+    for (int i = 0; i < queryPts.length; i++) {
+      count += kdTree.queryWithinDistance(queryPts[i], QUERY_DISTANCE).size();
+    }
+    return count;
+  }
+}
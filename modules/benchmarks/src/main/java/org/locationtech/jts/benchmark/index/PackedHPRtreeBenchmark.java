@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.index;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.hprtree.ItemIdVisitor;
+import org.locationtech.jts.index.hprtree.PackedHPRtree;
+import org.locationtech.jts.index.hprtree.PackedHPRtreeFile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks building and querying a {@link PackedHPRtree},
+ * both on the heap and memory-mapped from a file,
+ * and opening a tree file.
+ * The data and queries are the same as in {@link SpatialIndexBenchmark},
+ * so the results are directly comparable.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PackedHPRtreeBenchmark {
+
+  private static final double EXTENT_SIZE = 10000;
+  private static final double ITEM_SIZE = 10;
+  private static final double QUERY_SIZE = 50;
+  private static final int NUM_QUERIES = 1000;
+
+  @Param({ "10000", "1000000" })
+  public int numItems;
+
+  private double[] itemBounds;
+  private Envelope[] queryEnvs;
+  private PackedHPRtree index;
+  private File indexFile;
+  private PackedHPRtree mappedIndex;
+
+  @Setup
+  public void setup() throws IOException {
+    Envelope extent = new Envelope(0, EXTENT_SIZE, 0, EXTENT_SIZE);
+    Envelope[] itemEnvs = BenchmarkData.randomEnvelopes(extent, numItems, ITEM_SIZE);
+    itemBounds = new double[4 * numItems];
+    for (int i = 0; i < numItems; i++) {
+      itemBounds[4*i] = itemEnvs[i].getMinX();
+      itemBounds[4*i+1] = itemEnvs[i].getMinY();
+      itemBounds[4*i+2] = itemEnvs[i].getMaxX();
+      itemBounds[4*i+3] = itemEnvs[i].getMaxY();
+    }
+    Envelope[] envs = BenchmarkData.randomEnvelopes(extent, NUM_QUERIES + 1, QUERY_SIZE);
+    queryEnvs = new Envelope[NUM_QUERIES];
+    System.arraycopy(envs, 1, queryEnvs, 0, NUM_QUERIES);
+    index = new PackedHPRtree(itemBounds);
+    indexFile = File.createTempFile("jts-bench", ".hpr");
+    PackedHPRtreeFile.write(index, indexFile);
+    mappedIndex = PackedHPRtreeFile.open(indexFile);
+  }
+
+  @TearDown
+  public void tearDown() {
+    indexFile.delete();
+  }
+
+  @Benchmark
+  public PackedHPRtree build() {
+    return new PackedHPRtree(itemBounds);
+  }
+
+  /**
+   * Opening is measured with single invocations,
+   * since repeated mappings are only released on garbage collection.
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  @Warmup(iterations = 5)
+  @Measurement(iterations = 20)
+  public PackedHPRtree open() throws IOException {
+    return PackedHPRtreeFile.open(indexFile);
+  }
+
+  @Benchmark
+  public void query(Blackhole bh) {
+    query(index, bh);
+  }
+
+  @Benchmark
+  public void queryMapped(Blackhole bh) {
+    query(mappedIndex, bh);
+  }
+
+  private void query(PackedHPRtree tree, Blackhole bh) {
+    ItemIdVisitor visitor = new ItemIdVisitor() {
+      public void visitItem(int id) {
+        bh.consume(id);
+      }
+    };
+    for (Envelope queryEnv : queryEnvs) {
+      tree.query(queryEnv, visitor);
+    }
+  }
+}
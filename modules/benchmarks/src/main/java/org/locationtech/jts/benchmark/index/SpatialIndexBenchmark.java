@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.index;
+
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.ItemVisitor;
+import org.locationtech.jts.index.SpatialIndex;
+import org.locationtech.jts.index.hprtree.HPRtree;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks building and querying the packed R-tree indexes
+ * {@link STRtree} and {@link HPRtree}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpatialIndexBenchmark {
+
+  private static final double EXTENT_SIZE = 10000;
+  private static final double ITEM_SIZE = 10;
+  private static final double QUERY_SIZE = 50;
+  private static final int NUM_QUERIES = 1000;
+
+  @Param({ "STRtree", "HPRtree" })
+  public String indexType;
+
+  @Param({ "10000", "1000000" })
+  public int numItems;
+
+  private Envelope[] itemEnvs;
+  private Envelope[] queryEnvs;
+  private SpatialIndex index;
+
+  @Setup
+  public void setup() {
+    Envelope extent = new Envelope(0, EXTENT_SIZE, 0, EXTENT_SIZE);
+    itemEnvs = BenchmarkData.randomEnvelopes(extent, numItems, ITEM_SIZE);
+    Envelope[] envs = BenchmarkData.randomEnvelopes(extent, NUM_QUERIES + 1, QUERY_SIZE);
+    // avoid querying with the item envelopes, which use the same seed
+    queryEnvs = new Envelope[NUM_QUERIES];
+    System.arraycopy(envs, 1, queryEnvs, 0, NUM_QUERIES);
+    index = buildIndex();
+  }
+
+  private SpatialIndex buildIndex() {
+    SpatialIndex idx = createIndex(indexType);
+    for (int i = 0; i < itemEnvs.length; i++) {
+      idx.insert(itemEnvs[i], itemEnvs[i]);
+    }
+    build(idx);
+    return idx;
+  }
+
+  static SpatialIndex createIndex(String type) {
+    switch (type) {
+    case "STRtree": return new STRtree();
+    case "HPRtree": return new HPRtree();
+    }
+    throw new IllegalArgumentException("Unknown index type: " + type);
+  }
+
+  static void build(SpatialIndex index) {
+    if (index instanceof STRtree) {
+      ((STRtree) index).build();
+    }
+    else if (index instanceof HPRtree) {
+      ((HPRtree) index).build();
+    }
+  }
+
+  @Benchmark
+  public SpatialIndex build() {
+    return buildIndex();
+  }
+
+  @Benchmark
+  public void query(Blackhole bh) {
+    ItemVisitor visitor = new ItemVisitor() {
+      public void visitItem(Object item) {
+        bh.consume(item);
+      }
+    };
+    for (Envelope queryEnv : queryEnvs) {
+      index.query(queryEnv, visitor);
+    }
+  }
+}
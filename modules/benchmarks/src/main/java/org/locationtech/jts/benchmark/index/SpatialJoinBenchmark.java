@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.index;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.ItemPairVisitor;
+import org.locationtech.jts.index.ItemVisitor;
+import org.locationtech.jts.index.SpatialIndex;
+import org.locationtech.jts.index.SpatialJoin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks a {@link SpatialJoin} between two indexes,
+ * compared to querying one index with every item of the other.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpatialJoinBenchmark {
+
+  private static final double EXTENT_SIZE = 10000;
+  private static final double ITEM_SIZE = 10;
+
+  @Param({ "STRtree", "HPRtree" })
+  public String indexType;
+
+  @Param({ "100000" })
+  public int numItems;
+
+  /**
+   * The parallelism of the join pool, or 0 to join in the calling thread.
+   */
+  @Param({ "0", "4" })
+  public int threads;
+
+  private Envelope[] itemEnvs1;
+  private SpatialIndex index1;
+  private SpatialIndex index2;
+  private ForkJoinPool pool;
+
+  @Setup
+  public void setup() {
+    Envelope extent = new Envelope(0, EXTENT_SIZE, 0, EXTENT_SIZE);
+    Envelope[] envs = BenchmarkData.randomEnvelopes(extent, 2 * numItems, ITEM_SIZE);
+    itemEnvs1 = new Envelope[numItems];
+    Envelope[] itemEnvs2 = new Envelope[numItems];
+    System.arraycopy(envs, 0, itemEnvs1, 0, numItems);
+    System.arraycopy(envs, numItems, itemEnvs2, 0, numItems);
+    index1 = createIndex(itemEnvs1);
+    index2 = createIndex(itemEnvs2);
+    if (threads > 0) {
+      pool = new ForkJoinPool(threads);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    if (pool != null) {
+      pool.shutdown();
+    }
+  }
+
+  private SpatialIndex createIndex(Envelope[] envs) {
+    SpatialIndex index = SpatialIndexBenchmark.createIndex(indexType);
+    for (int i = 0; i < envs.length; i++) {
+      index.insert(envs[i], envs[i]);
+    }
+    SpatialIndexBenchmark.build(index);
+    return index;
+  }
+
+  @Benchmark
+  public void join(Blackhole bh) {
+    SpatialJoin join = new SpatialJoin(index1, index2);
+    join.setPool(pool);
+    join.join(new ItemPairVisitor() {
+      public void visitPair(Object item1, Object item2) {
+        bh.consume(item2);
+      }
+    });
+  }
+
+  @Benchmark
+  public void queryEach(Blackhole bh) {
+    ItemVisitor visitor = new ItemVisitor() {
+      public void visitItem(Object item) {
+        bh.consume(item);
+      }
+    };
+    for (Envelope env : itemEnvs1) {
+      index2.query(env, visitor);
+    }
+  }
+}
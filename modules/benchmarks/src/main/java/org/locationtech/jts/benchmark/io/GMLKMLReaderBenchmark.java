@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.io;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.GeometryConsumer;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.gml2.GMLReader;
+import org.locationtech.jts.io.gml2.GMLStreamReader;
+import org.locationtech.jts.io.gml2.GMLWriter;
+import org.locationtech.jts.io.kml.KMLReader;
+import org.locationtech.jts.io.kml.KMLStreamReader;
+import org.locationtech.jts.io.kml.KMLWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xml.sax.SAXException;
+
+/**
+ * Benchmarks reading a GML MultiPolygon
+ * with {@link GMLReader} and {@link GMLStreamReader},
+ * and a KML document of polygon placemarks
+ * with {@link KMLReader} (one geometry element at a time) and {@link KMLStreamReader}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GMLKMLReaderBenchmark {
+
+  @Param({ "1000" })
+  public int numFeatures;
+
+  @Param({ "100" })
+  public int numPts;
+
+  private String gml;
+  private String kml;
+  private String[] kmlGeoms;
+
+  @Setup
+  public void setup() {
+    Envelope extent = new Envelope(0, 1000, 0, 1000);
+    Geometry centres = BenchmarkData.randomPoints(extent, numFeatures);
+    GMLWriter gmlWriter = new GMLWriter();
+    KMLWriter kmlWriter = new KMLWriter();
+    // KMLReader only accepts single-space tuple separators
+    kmlWriter.setMaximumCoordinatesPerLine(Integer.MAX_VALUE);
+    StringBuilder gmlBuf = new StringBuilder("<gml:MultiPolygon>");
+    StringBuilder kmlBuf = new StringBuilder("<kml><Document>");
+    kmlGeoms = new String[numFeatures];
+    for (int i = 0; i < numFeatures; i++) {
+      Geometry pt = centres.getGeometryN(i);
+      Geometry geom = BenchmarkData.sineStar(pt.getCoordinate().x, pt.getCoordinate().y, 10, numPts);
+      gmlBuf.append("<gml:polygonMember>");
+      gmlBuf.append(gmlWriter.write(geom));
+      gmlBuf.append("</gml:polygonMember>");
+      kmlGeoms[i] = kmlWriter.write(geom);
+      kmlBuf.append("<Placemark><name>").append(i).append("</name>");
+      kmlBuf.append(kmlGeoms[i]);
+      kmlBuf.append("</Placemark>");
+    }
+    gml = gmlBuf.append("</gml:MultiPolygon>").toString();
+    kml = kmlBuf.append("</Document></kml>").toString();
+  }
+
+  @Benchmark
+  public Geometry readGML() throws SAXException, IOException, ParserConfigurationException {
+    return new GMLReader().read(gml, BenchmarkData.getFactory());
+  }
+
+  @Benchmark
+  public long readGMLStream() throws SAXException, IOException, ParserConfigurationException {
+    PointCounter counter = new PointCounter();
+    new GMLStreamReader(BenchmarkData.getFactory()).read(new StringReader(gml), counter);
+    return counter.numPts;
+  }
+
+  @Benchmark
+  public long readKML() throws ParseException {
+    KMLReader reader = new KMLReader(BenchmarkData.getFactory());
+    long numPts = 0;
+    for (int i = 0; i < kmlGeoms.length; i++) {
+      numPts += reader.read(kmlGeoms[i]).getNumPoints();
+    }
+    return numPts;
+  }
+
+  @Benchmark
+  public long readKMLStream() throws ParseException, IOException {
+    PointCounter counter = new PointCounter();
+    new KMLStreamReader(BenchmarkData.getFactory()).read(new StringReader(kml), counter);
+    return counter.numPts;
+  }
+
+  private static class PointCounter implements GeometryConsumer {
+    long numPts = 0;
+
+    public void accept(long recordNum, Geometry geometry) {
+      numPts += geometry.getNumPoints();
+    }
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.io;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.geojson.GeoJsonReader;
+import org.locationtech.jts.io.geojson.GeoJsonStreamReader;
+import org.locationtech.jts.io.geojson.GeoJsonWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks reading a GeoJSON FeatureCollection of polygons
+ * with {@link GeoJsonReader} and {@link GeoJsonStreamReader},
+ * and writing the polygons with {@link GeoJsonWriter}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GeoJsonBenchmark {
+
+  @Param({ "1000" })
+  public int numFeatures;
+
+  @Param({ "100" })
+  public int numPts;
+
+  private Geometry[] geoms;
+  private String json;
+
+  @Setup
+  public void setup() {
+    Envelope extent = new Envelope(0, 1000, 0, 1000);
+    Geometry centres = BenchmarkData.randomPoints(extent, numFeatures);
+    geoms = new Geometry[numFeatures];
+    GeoJsonWriter writer = new GeoJsonWriter();
+    writer.setEncodeCRS(false);
+    StringBuilder buf = new StringBuilder("{\"type\":\"FeatureCollection\",\"features\":[");
+    for (int i = 0; i < numFeatures; i++) {
+      Geometry pt = centres.getGeometryN(i);
+      geoms[i] = BenchmarkData.sineStar(pt.getCoordinate().x, pt.getCoordinate().y, 10, numPts);
+      if (i > 0) buf.append(',');
+      buf.append("{\"type\":\"Feature\",\"properties\":{\"id\":").append(i).append("},\"geometry\":");
+      buf.append(writer.write(geoms[i]));
+      buf.append('}');
+    }
+    buf.append("]}");
+    json = buf.toString();
+  }
+
+  @Benchmark
+  public Geometry readTree() throws ParseException {
+    return new GeoJsonReader().read(json);
+  }
+
+  @Benchmark
+  public int readStream() throws IOException, ParseException {
+    GeoJsonStreamReader reader = new GeoJsonStreamReader(new StringReader(json));
+    int n = 0;
+    while (reader.hasNext()) {
+      n += reader.next().getNumPoints();
+    }
+    return n;
+  }
+
+  @Benchmark
+  public int write() throws IOException {
+    GeoJsonWriter writer = new GeoJsonWriter();
+    StringBuilder buf = new StringBuilder();
+    for (int i = 0; i < geoms.length; i++) {
+      writer.write(geoms[i], buf);
+    }
+    return buf.length();
+  }
+}
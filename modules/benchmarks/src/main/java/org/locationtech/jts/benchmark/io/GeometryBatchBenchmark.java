@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.io.WKBWriter;
+import org.locationtech.jts.io.columnar.GeometryBatch;
+import org.locationtech.jts.io.columnar.GeometryBatchWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks converting polygons to and from a columnar {@link GeometryBatch},
+ * and writing a batch, compared to writing the polygons as WKB.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GeometryBatchBenchmark {
+
+  @Param({ "10000" })
+  public int numGeoms;
+
+  @Param({ "10", "100" })
+  public int numPts;
+
+  private Geometry[] geoms;
+  private GeometryBatch batch;
+  private GeometryFactory factory;
+  private WKBWriter wkbWriter;
+  private GeometryBatchWriter batchWriter;
+
+  @Setup
+  public void setup() {
+    factory = BenchmarkData.getFactory();
+    geoms = new Geometry[numGeoms];
+    Geometry centres = BenchmarkData.randomPoints(new Envelope(-180, 180, -80, 80), numGeoms);
+    for (int i = 0; i < numGeoms; i++) {
+      Geometry pt = centres.getGeometryN(i);
+      geoms[i] = BenchmarkData.sineStar(pt.getCoordinate().x, pt.getCoordinate().y, 1, numPts);
+    }
+    batch = GeometryBatch.create(geoms, true);
+    wkbWriter = new WKBWriter();
+    batchWriter = new GeometryBatchWriter();
+  }
+
+  @Benchmark
+  public GeometryBatch toBatch() {
+    return GeometryBatch.create(geoms, true);
+  }
+
+  @Benchmark
+  public Geometry[] fromBatch() {
+    return batch.toGeometries(factory);
+  }
+
+  @Benchmark
+  public int writeBatch() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    batchWriter.write(GeometryBatch.create(geoms, true), Channels.newChannel(out));
+    return out.size();
+  }
+
+  @Benchmark
+  public int writeWKB() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (Geometry geom : geoms) {
+      out.write(wkbWriter.write(geom));
+    }
+    return out.size();
+  }
+}
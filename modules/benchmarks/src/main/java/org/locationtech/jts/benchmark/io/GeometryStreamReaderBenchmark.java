@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.io;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.GeometryConsumer;
+import org.locationtech.jts.io.GeometryStreamReader;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKBWriter;
+import org.locationtech.jts.io.WKTFileReader;
+import org.locationtech.jts.io.WKTReader;
+import org.locationtech.jts.io.WKTWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks {@link GeometryStreamReader} reading a stream of polygons
+ * in WKT and WKB hex, compared to {@link WKTFileReader}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GeometryStreamReaderBenchmark {
+
+  @Param({ "30" })
+  public int gridSide;
+
+  @Param({ "100" })
+  public int numPts;
+
+  /**
+   * The parallelism of the decoding pool, or 0 to decode in the calling thread.
+   */
+  @Param({ "0", "4" })
+  public int threads;
+
+  private String wkt;
+  private String wkbHex;
+  private ForkJoinPool pool;
+
+  @Setup
+  public void setup() {
+    List<Geometry> geoms = BenchmarkData.sineStarGrid(gridSide, numPts);
+    WKTWriter wktWriter = new WKTWriter();
+    WKBWriter wkbWriter = new WKBWriter();
+    StringBuilder wktBuf = new StringBuilder();
+    StringBuilder hexBuf = new StringBuilder();
+    for (Geometry geom : geoms) {
+      wktBuf.append(wktWriter.write(geom)).append('\n');
+      hexBuf.append(WKBWriter.toHex(wkbWriter.write(geom))).append('\n');
+    }
+    wkt = wktBuf.toString();
+    wkbHex = hexBuf.toString();
+    if (threads > 0) {
+      pool = new ForkJoinPool(threads);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    if (pool != null) {
+      pool.shutdown();
+    }
+  }
+
+  @Benchmark
+  public List fileReader() throws IOException, ParseException {
+    WKTFileReader reader = new WKTFileReader(new StringReader(wkt), 
+        new WKTReader(BenchmarkData.getFactory()));
+    return reader.read();
+  }
+
+  @Benchmark
+  public long streamWKT(Blackhole bh) throws IOException, ParseException {
+    return read(GeometryStreamReader.WKT, wkt, true, bh);
+  }
+
+  @Benchmark
+  public long streamWKTUnordered(Blackhole bh) throws IOException, ParseException {
+    return read(GeometryStreamReader.WKT, wkt, false, bh);
+  }
+
+  @Benchmark
+  public long streamWKBHex(Blackhole bh) throws IOException, ParseException {
+    return read(GeometryStreamReader.WKB_HEX, wkbHex, true, bh);
+  }
+
+  private long read(int format, String input, boolean isOrdered, final Blackhole bh) 
+      throws IOException, ParseException {
+    GeometryStreamReader reader = new GeometryStreamReader(format, BenchmarkData.getFactory());
+    reader.setPool(pool);
+    reader.setOrdered(isOrdered);
+    return reader.read(new StringReader(input), new GeometryConsumer() {
+      public void accept(long recordNum, Geometry geometry) {
+        bh.consume(geometry);
+      }
+    });
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.io;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.GeometryConsumer;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.twkb.TWKBBatchWriter;
+import org.locationtech.jts.io.twkb.TWKBBufferReader;
+import org.locationtech.jts.io.twkb.TWKBReader;
+import org.locationtech.jts.io.twkb.TWKBWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks {@link TWKBReader} and {@link TWKBWriter}
+ * against {@link TWKBBufferReader} and {@link TWKBBatchWriter}
+ * for a batch of polygons.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TWKBBenchmark {
+
+  @Param({ "1000" })
+  public int numGeoms;
+
+  @Param({ "10", "1000" })
+  public int numPts;
+
+  private List<Geometry> geoms;
+  private List<byte[]> records;
+  private ByteBuffer buffer;
+  private TWKBWriter writer;
+  private TWKBBatchWriter batchWriter;
+  private TWKBReader reader;
+  private TWKBBufferReader bufferReader;
+
+  @Setup
+  public void setup() {
+    writer = new TWKBWriter().setXYPrecision(5);
+    batchWriter = new TWKBBatchWriter(writer);
+    geoms = new ArrayList<Geometry>();
+    records = new ArrayList<byte[]>();
+    Geometry centres = BenchmarkData.randomPoints(new Envelope(-180, 180, -80, 80), numGeoms);
+    for (int i = 0; i < numGeoms; i++) {
+      Geometry pt = centres.getGeometryN(i);
+      Geometry geom = BenchmarkData.sineStar(pt.getCoordinate().x, pt.getCoordinate().y, 1, numPts);
+      geoms.add(geom);
+      records.add(writer.write(geom));
+      batchWriter.write(geom);
+    }
+    buffer = ByteBuffer.wrap(batchWriter.toByteArray());
+    reader = new TWKBReader(BenchmarkData.getFactory());
+    bufferReader = new TWKBBufferReader(BenchmarkData.getFactory());
+  }
+
+  @Benchmark
+  public int write() {
+    int len = 0;
+    for (Geometry geom : geoms) {
+      len += writer.write(geom).length;
+    }
+    return len;
+  }
+
+  @Benchmark
+  public int writeBatch() {
+    batchWriter.reset();
+    batchWriter.writeAll(geoms);
+    return batchWriter.size();
+  }
+
+  @Benchmark
+  public void read(Blackhole bh) throws ParseException {
+    for (byte[] record : records) {
+      bh.consume(reader.read(record));
+    }
+  }
+
+  @Benchmark
+  public long readBuffer(final Blackhole bh) throws ParseException {
+    buffer.rewind();
+    return bufferReader.readAll(buffer, new GeometryConsumer() {
+      public void accept(long recordNum, Geometry geometry) {
+        bh.consume(geometry);
+      }
+    });
+  }
+}
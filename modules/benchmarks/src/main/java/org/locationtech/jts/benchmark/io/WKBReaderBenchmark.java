@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.io;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKBBufferReader;
+import org.locationtech.jts.io.WKBReader;
+import org.locationtech.jts.io.WKBWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link WKBReader} and {@link WKBBufferReader} 
+ * parsing polygons and multipoints.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WKBReaderBenchmark {
+
+  @Param({ "POLYGON", "MULTIPOINT" })
+  public String geomType;
+
+  @Param({ "100", "100000" })
+  public int numPts;
+
+  private byte[] data;
+  private ByteBuffer buffer;
+  private WKBReader reader;
+  private WKBBufferReader bufferReader;
+
+  @Setup
+  public void setup() {
+    Geometry geom;
+    if (geomType.equals("POLYGON")) {
+      geom = BenchmarkData.sineStar(0, 0, 100, numPts);
+    }
+    else {
+      geom = BenchmarkData.randomPoints(new Envelope(0, 100, 0, 100), numPts);
+    }
+    data = new WKBWriter().write(geom);
+    buffer = ByteBuffer.allocateDirect(data.length);
+    buffer.put(data);
+    reader = new WKBReader(BenchmarkData.getFactory());
+    bufferReader = new WKBBufferReader();
+  }
+
+  @Benchmark
+  public Geometry read() throws ParseException {
+    return reader.read(data);
+  }
+
+  @Benchmark
+  public Geometry readBuffer() throws ParseException {
+    return bufferReader.read(buffer, 0);
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.io;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.WKBBufferWriter;
+import org.locationtech.jts.io.WKBWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link WKBWriter} and {@link WKBBufferWriter} 
+ * writing polygons and multipoints.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WKBWriterBenchmark {
+
+  @Param({ "POLYGON", "MULTIPOINT" })
+  public String geomType;
+
+  @Param({ "100", "100000" })
+  public int numPts;
+
+  private Geometry geom;
+  private byte[] bytes;
+  private ByteBuffer buffer;
+  private WKBWriter writer;
+  private WKBBufferWriter bufferWriter;
+
+  @Setup
+  public void setup() {
+    if (geomType.equals("POLYGON")) {
+      geom = BenchmarkData.sineStar(0, 0, 100, numPts);
+    }
+    else {
+      geom = BenchmarkData.randomPoints(new Envelope(0, 100, 0, 100), numPts);
+    }
+    writer = new WKBWriter();
+    bufferWriter = new WKBBufferWriter();
+    bytes = new byte[bufferWriter.getSize(geom)];
+    buffer = ByteBuffer.allocateDirect(bytes.length);
+  }
+
+  @Benchmark
+  public byte[] write() {
+    return writer.write(geom);
+  }
+
+  @Benchmark
+  public int writeArray() {
+    return bufferWriter.write(geom, bytes, 0);
+  }
+
+  @Benchmark
+  public int writeBuffer() {
+    return bufferWriter.write(geom, buffer, 0);
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.io;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKTReader;
+import org.locationtech.jts.io.WKTWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link WKTReader} parsing polygons and multipoints
+ * from strings, character arrays and readers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WKTReaderBenchmark {
+
+  @Param({ "POLYGON", "MULTIPOINT" })
+  public String geomType;
+
+  @Param({ "100", "100000" })
+  public int numPts;
+
+  private String data;
+  private char[] chars;
+  private WKTReader reader;
+
+  @Setup
+  public void setup() {
+    Geometry geom;
+    if (geomType.equals("POLYGON")) {
+      geom = BenchmarkData.sineStar(0, 0, 100, numPts);
+    }
+    else {
+      geom = BenchmarkData.randomPoints(new Envelope(0, 100, 0, 100), numPts);
+    }
+    data = new WKTWriter().write(geom);
+    chars = data.toCharArray();
+    reader = new WKTReader(BenchmarkData.getFactory());
+  }
+
+  @Benchmark
+  public Geometry read() throws ParseException {
+    return reader.read(data);
+  }
+
+  @Benchmark
+  public Geometry readChars() throws ParseException {
+    return reader.read(chars, 0, chars.length);
+  }
+
+  @Benchmark
+  public Geometry readReader() throws ParseException {
+    return reader.read(new StringReader(data));
+  }
+}
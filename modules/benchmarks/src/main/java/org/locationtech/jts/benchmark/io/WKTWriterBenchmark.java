@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.io;
+
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.OrdinateFormat;
+import org.locationtech.jts.io.WKTWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link WKTWriter} writing polygons and multipoints,
+ * and {@link OrdinateFormat} formatting their ordinates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WKTWriterBenchmark {
+
+  @Param({ "POLYGON", "MULTIPOINT" })
+  public String geomType;
+
+  @Param({ "100", "100000" })
+  public int numPts;
+
+  private Geometry geom;
+  private double[] ordinates;
+  private WKTWriter writer;
+  private char[] buf = new char[OrdinateFormat.MAX_LENGTH];
+
+  @Setup
+  public void setup() {
+    if (geomType.equals("POLYGON")) {
+      geom = BenchmarkData.sineStar(0, 0, 100, numPts);
+    }
+    else {
+      geom = BenchmarkData.randomPoints(new Envelope(0, 100, 0, 100), numPts);
+    }
+    Coordinate[] pts = geom.getCoordinates();
+    ordinates = new double[2 * pts.length];
+    for (int i = 0; i < pts.length; i++) {
+      ordinates[2 * i] = pts[i].x;
+      ordinates[2 * i + 1] = pts[i].y;
+    }
+    writer = new WKTWriter();
+  }
+
+  @Benchmark
+  public String write() {
+    return writer.write(geom);
+  }
+
+  @Benchmark
+  public int formatOrdinates() {
+    int len = 0;
+    for (int i = 0; i < ordinates.length; i++) {
+      len += OrdinateFormat.DEFAULT.format(ordinates[i], buf, 0);
+    }
+    return len;
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.noding;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.algorithm.RobustLineIntersector;
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.noding.IntersectionAdder;
+import org.locationtech.jts.noding.MCIndexNoder;
+import org.locationtech.jts.noding.MCIndexParallelNoder;
+import org.locationtech.jts.noding.NodedSegmentString;
+import org.locationtech.jts.noding.Noder;
+import org.locationtech.jts.noding.snapround.SnapRoundingNoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks noding the boundaries of a set of overlapping
+ * sine star polygons with {@link MCIndexNoder},
+ * {@link MCIndexParallelNoder} and {@link SnapRoundingNoder}.
+ * <p>
+ * Noding modifies the input segment strings,
+ * so a new set of segment strings is created for every invocation.
+ * This cost is small compared to the cost of noding.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NoderBenchmark {
+
+  @Param({ "MCIndexNoder", "MCIndexParallelNoder", "SnapRoundingNoder" })
+  public String noderType;
+
+  @Param({ "1000", "10000" })
+  public int numPts;
+
+  private List<Coordinate[]> lines;
+  private ForkJoinPool pool = new ForkJoinPool();
+
+  @Setup
+  public void setup() {
+    lines = new ArrayList<Coordinate[]>();
+    for (Geometry geom : BenchmarkData.sineStarGrid(3, numPts)) {
+      lines.add(geom.getBoundary().getCoordinates());
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    pool.shutdown();
+  }
+
+  private Noder createNoder() {
+    switch (noderType) {
+    case "MCIndexNoder": return new MCIndexNoder(new IntersectionAdder(new RobustLineIntersector()));
+    case "MCIndexParallelNoder": return new MCIndexParallelNoder(pool);
+    case "SnapRoundingNoder": return new SnapRoundingNoder(new PrecisionModel(1000));
+    }
+    throw new IllegalArgumentException("Unknown noder type: " + noderType);
+  }
+
+  @Benchmark
+  public Collection node() {
+    List<NodedSegmentString> segStrings = new ArrayList<NodedSegmentString>();
+    for (Coordinate[] pts : lines) {
+      segStrings.add(new NodedSegmentString(pts, null));
+    }
+    Noder noder = createNoder();
+    noder.computeNodes(segStrings);
+    return noder.getNodedSubstrings();
+  }
+}
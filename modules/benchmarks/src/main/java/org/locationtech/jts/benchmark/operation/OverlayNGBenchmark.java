@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.benchmark.operation;
+
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.benchmark.BenchmarkData;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.operation.overlayng.OverlayNG;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link OverlayNG} overlay operations
+ * on a pair of overlapping sine star polygons.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OverlayNGBenchmark {
+
+  @Param({ "1000", "10000", "100000" })
+  public int numPts;
+
+  @Param({ "INTERSECTION", "UNION", "DIFFERENCE" })
+  public String opName;
+
+  private Geometry geomA;
+  private Geometry geomB;
+  private int opCode;
+
+  @Setup
+  public void setup() {
+    geomA = BenchmarkData.sineStar(0, 0, 100, numPts);
+    geomB = BenchmarkData.sineStar(10, 10, 100, numPts);
+    opCode = opCode(opName);
+  }
+
+  private static int opCode(String name) {
+    switch (name) {
+    case "INTERSECTION": return OverlayNG.INTERSECTION;
+    case "UNION": return OverlayNG.UNION;
+    case "DIFFERENCE": return OverlayNG.DIFFERENCE;
+    case "SYMDIFFERENCE": return OverlayNG.SYMDIFFERENCE;
+    }
+    throw new IllegalArgumentException("Unknown overlay operation: " + name);
+  }
+
+  @Benchmark
+  public Geometry overlay() {
+    return OverlayNG.overlay(geomA, geomB, opCode);
+  }
+}
@@ -93,21 +93,18 @@ public class Area {
      * Based on the Shoelace formula.
      * http://en.wikipedia.org/wiki/Shoelace_formula
      */
-    Coordinate p0 = ring.createCoordinate();
-    Coordinate p1 = ring.createCoordinate();
-    Coordinate p2 = ring.createCoordinate();
-    ring.getCoordinate(0, p1);
-    ring.getCoordinate(1, p2);
-    double x0 = p1.x;
-    p2.x -= x0;
+    double x0 = ring.getX(0);
+    double p1y = ring.getY(0);
+    double p2x = ring.getX(1) - x0;
+    double p2y = ring.getY(1);
     double sum = 0.0;
     for (int i = 1; i < n - 1; i++) {
-      p0.y = p1.y;
-      p1.x = p2.x;
-      p1.y = p2.y;
-      ring.getCoordinate(i + 1, p2);
-      p2.x -= x0;
-      sum += p1.x * (p0.y - p2.y);
+      double p0y = p1y;
+      double p1x = p2x;
+      p1y = p2y;
+      p2x = ring.getX(i + 1) - x0;
+      p2y = ring.getY(i + 1);
+      sum += p1x * (p0y - p2y);
     }
     return sum / 2.0;
   }
@@ -162,19 +162,17 @@ public class Orientation {
      * Note this relies on the convention that
      * rings have the same start and end point. 
      */
-    Coordinate upHiPt = ring.getCoordinate(0);
-    double prevY = upHiPt.y;
-    Coordinate upLowPt = null;
+    double upHiY = ring.getY(0);
+    double prevY = upHiY;
     int iUpHi = 0;
     for (int i = 1; i <= nPts; i++) {
-      double py = ring.getOrdinate(i, Coordinate.Y);
+      double py = ring.getY(i);
       /**
        * If segment is upwards and endpoint is higher, record it
        */
-      if (py > prevY && py >= upHiPt.y) {
-        upHiPt = ring.getCoordinate(i);
+      if (py > prevY && py >= upHiY) {
+        upHiY = py;
         iUpHi = i;
-        upLowPt = ring.getCoordinate(i-1);
       }
       prevY = py;
     }
@@ -182,6 +180,7 @@ public class Orientation {
      * Check if ring is flat and return default value if so
      */
     if (iUpHi == 0) return false;
+    int iUpLow = iUpHi - 1;
     
     /**
      * Find the next lower point after the high point
@@ -191,11 +190,9 @@ public class Orientation {
     int iDownLow = iUpHi;
     do {
       iDownLow = (iDownLow + 1) % nPts;
-    } while (iDownLow != iUpHi && ring.getOrdinate(iDownLow, Coordinate.Y) == upHiPt.y );
+    } while (iDownLow != iUpHi && ring.getY(iDownLow) == upHiY );
 
-    Coordinate downLowPt = ring.getCoordinate(iDownLow);
     int iDownHi = iDownLow > 0 ? iDownLow - 1 : nPts - 1;
-    Coordinate downHiPt = ring.getCoordinate(iDownHi);
   
     /**
      * Two cases can occur:
@@ -206,14 +203,16 @@ public class Orientation {
      *    In this case the top of the cap is flat.
      *    The ring orientation is given by the direction of the flat segment
      */
-    if (upHiPt.equals2D(downHiPt)) {
+    if (isEqual2D(ring, iUpHi, iDownHi)) {
       /**
        * Check for the case where the cap has configuration A-B-A. 
        * This can happen if the ring does not contain 3 distinct points
        * (including the case where the input array has fewer than 4 elements), or
        * it contains coincident line segments.
        */
-      if (upLowPt.equals2D(upHiPt) || downLowPt.equals2D(upHiPt) || upLowPt.equals2D(downLowPt))
+      if (isEqual2D(ring, iUpLow, iUpHi) 
+          || isEqual2D(ring, iDownLow, iUpHi) 
+          || isEqual2D(ring, iUpLow, iDownLow))
         return false;
     
       /**
@@ -221,18 +220,25 @@ public class Orientation {
        * This is an invalid ring, which cannot be computed correctly.
        * In this case the orientation is 0, and the result is false.
        */
-      int index = index(upLowPt, upHiPt, downLowPt);
+      int index = CGAlgorithmsDD.orientationIndex(
+          ring.getX(iUpLow), ring.getY(iUpLow), 
+          ring.getX(iUpHi), upHiY,
+          ring.getX(iDownLow), ring.getY(iDownLow));
       return index == COUNTERCLOCKWISE;
     }
     else {
       /**
        * Flat cap - direction of flat top determines orientation
        */
-      double delX = downHiPt.x - upHiPt.x;
+      double delX = ring.getX(iDownHi) - ring.getX(iUpHi);
       return delX < 0;
     }
   }
   
+  private static boolean isEqual2D(CoordinateSequence seq, int i, int j) {
+    return seq.getX(i) == seq.getX(j) && seq.getY(i) == seq.getY(j);
+  }
+  
   /**
    * Tests if a ring defined by an array of {@link Coordinate}s is
    * oriented counter-clockwise, using the signed area of the ring.
@@ -114,4 +114,47 @@ public class PointLocation {
     return RayCrossingCounter.locatePointInRing(p, ring);
   }
 
+  /**
+   * Tests whether a point lies inside or on a ring defined by a 
+   * {@link CoordinateSequence}. 
+   * The ordinates are read directly from the sequence,
+   * so no {@link Coordinate}s are created.
+   * <p>
+   * This method does <i>not</i> first check the point against the envelope of
+   * the ring.
+   * 
+   * @param p
+   *          point to check for ring inclusion
+   * @param ring
+   *          a coordinate sequence representing the ring (which must have
+   *          first point identical to last point)
+   * @return true if p is inside ring
+   * 
+   * @see PointLocation#locateInRing(Coordinate, CoordinateSequence)
+   */
+  public static boolean isInRing(Coordinate p, CoordinateSequence ring)
+  {
+    return PointLocation.locateInRing(p, ring) != Location.EXTERIOR;
+  }
+
+  /**
+   * Determines whether a point lies in the interior, on the boundary, or in the
+   * exterior of a ring defined by a {@link CoordinateSequence}. 
+   * The ring may be oriented in either direction.
+   * <p>
+   * This method does <i>not</i> first check the point against the envelope of
+   * the ring.
+   * 
+   * @param p
+   *          point to check for ring inclusion
+   * @param ring
+   *          a coordinate sequence representing the ring (which must have
+   *          first point identical to last point)
+   * @return the {@link Location} of p relative to the ring
+   */
+  public static int locateInRing(Coordinate p, CoordinateSequence ring)
+  {
+    return RayCrossingCounter.locatePointInRing(p, ring);
+  }
+
 }
@@ -171,7 +171,7 @@ public class SimplePointInAreaLocator
   	// short-circuit if point is not in ring envelope
   	if (! ring.getEnvelopeInternal().intersects(p))
   		return Location.EXTERIOR;
-  	return PointLocation.locateInRing(p, ring.getCoordinates());
+  	return PointLocation.locateInRing(p, ring.getCoordinateSequence());
   }
 
 	private Geometry geom;
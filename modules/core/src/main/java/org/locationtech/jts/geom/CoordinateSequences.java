@@ -11,6 +11,9 @@
  */
 package org.locationtech.jts.geom;
 
+import java.util.List;
+
+import org.locationtech.jts.geom.impl.CoordinateArraySequenceFactory;
 import org.locationtech.jts.io.OrdinateFormat;
 
 
@@ -90,6 +93,51 @@ public class CoordinateSequences {
 		}
   }
   
+  /**
+   * Creates a {@link CoordinateSequence} containing a list of coordinates,
+   * in forward or reverse order.
+   * The sequence is created by the given factory with 
+   * {@link CoordinateSequenceFactory#create(int, int, int)}
+   * and filled using the ordinate setters,
+   * so that factories which do not store {@link Coordinate}s
+   * (such as packed sequences) do not require an intermediate coordinate array.
+   * For a {@link CoordinateArraySequenceFactory} the coordinates are 
+   * used directly.
+   * <p>
+   * The dimension and measures of the sequence are determined
+   * by the first coordinate of the list.
+   * 
+   * @param fact the factory to use to create the sequence
+   * @param pts the coordinates to copy
+   * @param isForward true if the coordinates are copied in forward order, false for reverse
+   * @return a new sequence containing the coordinates
+   */
+  public static CoordinateSequence create(CoordinateSequenceFactory fact, List<Coordinate> pts, boolean isForward)
+  {
+    int size = pts.size();
+    if (size == 0 || fact instanceof CoordinateArraySequenceFactory) {
+      Coordinate[] coords = new Coordinate[size];
+      for (int i = 0; i < size; i++) {
+        coords[i] = pts.get(isForward ? i : size - 1 - i);
+      }
+      return fact.create(coords);
+    }
+    Coordinate first = pts.get(0);
+    int dimension = Coordinates.dimension(first);
+    CoordinateSequence seq = fact.create(size, dimension, Coordinates.measures(first));
+    // the factory may not support the requested dimension
+    dimension = seq.getDimension();
+    for (int i = 0; i < size; i++) {
+      Coordinate p = pts.get(isForward ? i : size - 1 - i);
+      seq.setOrdinate(i, CoordinateSequence.X, p.x);
+      seq.setOrdinate(i, CoordinateSequence.Y, p.y);
+      for (int dim = 2; dim < dimension; dim++) {
+        seq.setOrdinate(i, dim, p.getOrdinate(dim));
+      }
+    }
+    return seq;
+  }
+
   /**
    * Tests whether a {@link CoordinateSequence} forms a valid {@link LinearRing},
    * by checking the sequence length and closure
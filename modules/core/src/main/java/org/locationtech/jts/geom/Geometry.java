@@ -619,7 +619,7 @@ public abstract class Geometry
    * @see GeometryFactory#toGeometry(Envelope)
    */
   public Geometry getEnvelope() {
-    return getFactory().toGeometry(getEnvelopeInternal());
+    return getFactory().toGeometry(getEnvelopeInternalReadOnly());
   }
 
   /**
@@ -637,10 +637,32 @@ public abstract class Geometry
    *@return an empty Envelope if this Geometry is empty
    */
   public Envelope getEnvelopeInternal() {
+    return new Envelope(getEnvelopeInternalReadOnly());
+  }
+
+  /**
+   * Gets the {@link Envelope} maintained internally by this <code>Geometry</code>,
+   * without copying it.
+   * The envelope is computed and cached on first access,
+   * unless it was precomputed by the {@link GeometryFactory}.
+   * <p>
+   * The returned object <b>must not be modified</b>.
+   * It is intended for code which only tests or reads the envelope,
+   * such as envelope filters and spatial index queries,
+   * and avoids creating a copy on every call.
+   * If the geometry is changed (see {@link #geometryChanged()})
+   * a new envelope is computed, and a previously returned object
+   * is not updated.
+   *
+   *@return the envelope of this <code>Geometry</code>, which must not be modified
+   *
+   * @see #getEnvelopeInternal()
+   */
+  public Envelope getEnvelopeInternalReadOnly() {
     if (envelope == null) {
       envelope = computeEnvelopeInternal();
     }
-    return new Envelope(envelope);
+    return envelope;
   }
 
   /**
@@ -714,7 +736,7 @@ public abstract class Geometry
    */
   public boolean touches(Geometry g) {
     // short-circuit test
-    if (! getEnvelopeInternal().intersects(g.getEnvelopeInternal()))
+    if (! getEnvelopeInternalReadOnly().intersects(g.getEnvelopeInternalReadOnly()))
       return false;
     return relate(g).isTouches(getDimension(), g.getDimension());
   }
@@ -745,7 +767,7 @@ public abstract class Geometry
   public boolean intersects(Geometry g) {
 
     // short-circuit envelope test
-    if (! getEnvelopeInternal().intersects(g.getEnvelopeInternal()))
+    if (! getEnvelopeInternalReadOnly().intersects(g.getEnvelopeInternalReadOnly()))
       return false;
 
     /**
@@ -811,7 +833,7 @@ public abstract class Geometry
    */
   public boolean crosses(Geometry g) {
     // short-circuit test
-    if (! getEnvelopeInternal().intersects(g.getEnvelopeInternal()))
+    if (! getEnvelopeInternalReadOnly().intersects(g.getEnvelopeInternalReadOnly()))
       return false;
     return relate(g).isCrosses(getDimension(), g.getDimension());
   }
@@ -887,7 +909,7 @@ public abstract class Geometry
       return false;
     }
     // optimization - envelope test
-    if (! getEnvelopeInternal().contains(g.getEnvelopeInternal()))
+    if (! getEnvelopeInternalReadOnly().contains(g.getEnvelopeInternalReadOnly()))
       return false;
     // optimization for rectangle arguments
     if (isRectangle()) {
@@ -920,7 +942,7 @@ public abstract class Geometry
    */
   public boolean overlaps(Geometry g) {
     // short-circuit test
-    if (! getEnvelopeInternal().intersects(g.getEnvelopeInternal()))
+    if (! getEnvelopeInternalReadOnly().intersects(g.getEnvelopeInternalReadOnly()))
       return false;
     return relate(g).isOverlaps(getDimension(), g.getDimension());
   }
@@ -970,7 +992,7 @@ public abstract class Geometry
       return false;
     }
     // optimization - envelope test
-    if (! getEnvelopeInternal().covers(g.getEnvelopeInternal()))
+    if (! getEnvelopeInternalReadOnly().covers(g.getEnvelopeInternalReadOnly()))
       return false;
     // optimization for rectangle arguments
     if (isRectangle()) {
@@ -1102,7 +1124,7 @@ public abstract class Geometry
   public boolean equalsTopo(Geometry g)
   {
     // short-circuit test
-    if (! getEnvelopeInternal().equals(g.getEnvelopeInternal()))
+    if (! getEnvelopeInternalReadOnly().equals(g.getEnvelopeInternalReadOnly()))
       return false;
     return relate(g).isEquals(getDimension(), g.getDimension());
   }
@@ -1150,7 +1172,7 @@ public abstract class Geometry
    */
   public int hashCode()
   {
-    return getEnvelopeInternal().hashCode();
+    return getEnvelopeInternalReadOnly().hashCode();
   }
 
   public String toString() {
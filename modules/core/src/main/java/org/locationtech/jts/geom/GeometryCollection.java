@@ -247,7 +247,7 @@ public class GeometryCollection extends Geometry {
   protected Envelope computeEnvelopeInternal() {
     Envelope envelope = new Envelope();
     for (int i = 0; i < geometries.length; i++) {
-      envelope.expandToInclude(geometries[i].getEnvelopeInternal());
+      envelope.expandToInclude(geometries[i].getEnvelopeInternalReadOnly());
     }
     return envelope;
   }
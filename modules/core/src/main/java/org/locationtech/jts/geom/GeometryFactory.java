@@ -16,6 +16,7 @@ import java.util.Collection;
 import java.util.Iterator;
 
 import org.locationtech.jts.geom.impl.CoordinateArraySequenceFactory;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
 import org.locationtech.jts.geom.util.GeometryEditor;
 import org.locationtech.jts.util.Assert;
 
@@ -27,6 +28,16 @@ import org.locationtech.jts.util.Assert;
  * In particular, they are not rounded to the supplied <tt>PrecisionModel</tt>.
  * It is assumed that input Coordinates meet the given precision.
  * <p>
+ * Factories created without an explicit {@link CoordinateSequenceFactory}
+ * use a default one, which can be chosen
+ * via the system property <code>jts.coordseq</code>:
+ * <ul>
+ * <li><code>jts.coordseq=array</code> - (default) use {@link CoordinateArraySequenceFactory}
+ * <li><code>jts.coordseq=packed</code> - use the double-precision {@link PackedCoordinateSequenceFactory}
+ * </ul>
+ * The packed representation stores ordinates in a primitive array,
+ * which reduces memory use and allocation for large geometries.
+ * <p>
  * Instances of this class are thread-safe.
  *
  * @version 1.7
@@ -35,6 +46,37 @@ public class GeometryFactory
     implements Serializable
 {
   private static final long serialVersionUID = -6820524753094095635L;
+
+  public static final String COORDSEQ_PROPERTY_NAME = "jts.coordseq";
+
+  public static final String COORDSEQ_PROPERTY_VALUE_ARRAY = "array";
+  public static final String COORDSEQ_PROPERTY_VALUE_PACKED = "packed";
+
+  private static CoordinateSequenceFactory defaultCoordinateSequenceFactory 
+    = CoordinateArraySequenceFactory.instance();
+
+  static {
+    setDefaultCoordinateSequenceFactory(System.getProperty(COORDSEQ_PROPERTY_NAME));
+  }
+
+  /**
+   * This function is provided primarily for unit testing.
+   * It is not recommended to use it dynamically, since 
+   * that may result in factories with inconsistent 
+   * coordinate sequence implementations.
+   * 
+   * @param coordSeqCode the code for the coordinate sequence implementation (may be null)
+   */
+  static void setDefaultCoordinateSequenceFactory(String coordSeqCode) {
+    if (coordSeqCode == null) 
+      return;
+    // set explicitly since current value may not be default
+    defaultCoordinateSequenceFactory = CoordinateArraySequenceFactory.instance();
+    
+    if (COORDSEQ_PROPERTY_VALUE_PACKED.equalsIgnoreCase(coordSeqCode) )
+      defaultCoordinateSequenceFactory = PackedCoordinateSequenceFactory.DOUBLE_FACTORY;
+  }
+
   private PrecisionModel precisionModel;
 
   private CoordinateSequenceFactory coordinateSequenceFactory;
@@ -57,6 +99,29 @@ public class GeometryFactory
       this.SRID = SRID;
   }
 
+  /**
+   * Constructs a GeometryFactory that generates Geometries having the given
+   * PrecisionModel, spatial-reference ID, and CoordinateSequence implementation,
+   * and which optionally computes the envelope of each geometry when it is created.
+   * <p>
+   * Precomputing envelopes is useful for geometries which are not modified
+   * after creation and whose envelopes are used frequently 
+   * (for instance, when building and querying spatial indexes).
+   * It avoids the lazy computation of the envelope on first access,
+   * which is not synchronized between threads.
+   *
+   * @param precisionModel the PrecisionModel to use
+   * @param SRID the SRID to use
+   * @param coordinateSequenceFactory the CoordinateSequenceFactory to use
+   * @param isEnvelopePrecomputed true if geometry envelopes are computed on creation
+   */
+  public GeometryFactory(PrecisionModel precisionModel, int SRID,
+                         CoordinateSequenceFactory coordinateSequenceFactory,
+                         boolean isEnvelopePrecomputed) {
+      this(precisionModel, SRID, coordinateSequenceFactory);
+      this.isEnvelopePrecomputed = isEnvelopePrecomputed;
+  }
+
   /**
    * Constructs a GeometryFactory that generates Geometries having the given
    * CoordinateSequence implementation, a double-precision floating PrecisionModel and a
@@ -99,7 +164,7 @@ public class GeometryFactory
 
   private static CoordinateSequenceFactory getDefaultCoordinateSequenceFactory()
   {
-    return CoordinateArraySequenceFactory.instance();
+    return defaultCoordinateSequenceFactory;
   }
 
   /**
@@ -279,7 +344,7 @@ public class GeometryFactory
    * @return the created Point
    */
   public Point createPoint(CoordinateSequence coordinates) {
-  	return new Point(coordinates, this);
+  	return initEnvelope(new Point(coordinates, this));
   }
   
   /**
@@ -299,7 +364,7 @@ public class GeometryFactory
    * @return the created MultiLineString
    */
   public MultiLineString createMultiLineString(LineString[] lineStrings) {
-  	return new MultiLineString(lineStrings, this);
+  	return initEnvelope(new MultiLineString(lineStrings, this));
   }
   
   /**
@@ -319,7 +384,7 @@ public class GeometryFactory
    * @return the created GeometryCollection
    */
   public GeometryCollection createGeometryCollection(Geometry[] geometries) {
-  	return new GeometryCollection(geometries, this);
+  	return initEnvelope(new GeometryCollection(geometries, this));
   }
   
   /**
@@ -343,7 +408,7 @@ public class GeometryFactory
    * @return the created MultiPolygon
    */
   public MultiPolygon createMultiPolygon(Polygon[] polygons) {
-    return new MultiPolygon(polygons, this);
+    return initEnvelope(new MultiPolygon(polygons, this));
   }
   
   /**
@@ -377,7 +442,7 @@ public class GeometryFactory
    * @throws IllegalArgumentException if the ring is not closed, or has too few points
    */
   public LinearRing createLinearRing(CoordinateSequence coordinates) {
-    return new LinearRing(coordinates, this);
+    return initEnvelope(new LinearRing(coordinates, this));
   }
   
   /**
@@ -397,7 +462,7 @@ public class GeometryFactory
    * @return a MultiPoint object
    */
   public MultiPoint createMultiPoint(Point[] point) {
-  	return new MultiPoint(point, this);
+  	return initEnvelope(new MultiPoint(point, this));
   }
 
   /**
@@ -464,7 +529,7 @@ public class GeometryFactory
    * @throws IllegalArgumentException if a ring is invalid
    */
   public Polygon createPolygon(LinearRing shell, LinearRing[] holes) {
-    return new Polygon(shell, holes, this);
+    return initEnvelope(new Polygon(shell, holes, this));
   }
 
   /**
@@ -618,7 +683,7 @@ public class GeometryFactory
    * @param coordinates a CoordinateSequence (possibly empty), or null
    */
   public LineString createLineString(CoordinateSequence coordinates) {
-	return new LineString(coordinates, this);
+	return initEnvelope(new LineString(coordinates, this));
   }
 
   /**
@@ -687,5 +752,24 @@ public class GeometryFactory
     return coordinateSequenceFactory;
   }
 
+  /**
+   * Tests whether this factory computes the envelope of geometries 
+   * when they are created.
+   * 
+   * @return true if geometry envelopes are precomputed
+   */
+  public boolean isEnvelopePrecomputed() {
+    return isEnvelopePrecomputed;
+  }
+
+  private boolean isEnvelopePrecomputed = false;
+
+  private <T extends Geometry> T initEnvelope(T geom) {
+    if (isEnvelopePrecomputed) {
+      geom.getEnvelopeInternalReadOnly();
+    }
+    return geom;
+  }
+
 }
 
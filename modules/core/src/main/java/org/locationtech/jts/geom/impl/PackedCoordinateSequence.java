@@ -31,8 +31,14 @@ import org.locationtech.jts.geom.Envelope;
  * of the internal values.
  * To change the actual values, use the provided setters.
  * <p>
- * For efficiency, created Coordinate arrays
- * are cached using a soft reference.
+ * Algorithms which read ordinates with {@link #getX(int)}, {@link #getY(int)}
+ * and {@link #getOrdinate(int, int)} do not create any Coordinates.
+ * <p>
+ * Optionally, Coordinate arrays created by {@link #toCoordinateArray()}
+ * can be cached using a soft reference.
+ * This is enabled via the system property <code>jts.coordseq.cache=true</code>.
+ * Caching makes repeated coordinate array accesses more efficient,
+ * but can retain a large amount of memory.
  * The cache is cleared each time the coordinate sequence contents are
  * modified through a setter method.
  *
@@ -42,6 +48,35 @@ public abstract class PackedCoordinateSequence
     implements CoordinateSequence, Serializable
 {
   private static final long serialVersionUID = -3151899011275603L;
+
+  public static final String CACHE_PROPERTY_NAME = "jts.coordseq.cache";
+
+  private static boolean isCacheEnabled = false;
+
+  static {
+    setCacheEnabled(System.getProperty(CACHE_PROPERTY_NAME));
+  }
+
+  /**
+   * This function is provided primarily for unit testing.
+   * 
+   * @param cacheCode <code>"true"</code> to cache coordinate arrays (may be null)
+   */
+  static void setCacheEnabled(String cacheCode) {
+    if (cacheCode == null) 
+      return;
+    isCacheEnabled = Boolean.parseBoolean(cacheCode);
+  }
+
+  /**
+   * Tests whether coordinate arrays are cached.
+   * This function is provided primarily for unit testing.
+   * 
+   * @return true if coordinate arrays are cached
+   */
+  static boolean isCacheEnabled() {
+    return isCacheEnabled;
+  }
   /**
    * The dimensions of the coordinates held in the packed array
    */
@@ -66,7 +101,8 @@ public abstract class PackedCoordinateSequence
   }
   
   /**
-   * A soft reference to the Coordinate[] representation of this sequence.
+   * A soft reference to the Coordinate[] representation of this sequence,
+   * if caching is enabled.
    * Makes repeated coordinate array accesses more efficient.
    */
   protected transient SoftReference<Coordinate[]> coordRef;
@@ -122,7 +158,6 @@ public abstract class PackedCoordinateSequence
    */
   public Coordinate[] toCoordinateArray() {
     Coordinate[] coords = getCachedCoords();
-// testing - never cache
     if (coords != null)
       return coords;
 
@@ -130,7 +165,8 @@ public abstract class PackedCoordinateSequence
     for (int i = 0; i < coords.length; i++) {
       coords[i] = getCoordinateInternal(i);
     }
-    coordRef = new SoftReference<Coordinate[]>(coords);
+    if (isCacheEnabled)
+      coordRef = new SoftReference<Coordinate[]>(coords);
 
     return coords;
   }
@@ -88,7 +88,7 @@ class BasicPreparedGeometry
    */
   protected boolean envelopesIntersect(Geometry g)
   {
-    if (! baseGeom.getEnvelopeInternal().intersects(g.getEnvelopeInternal()))
+    if (! baseGeom.getEnvelopeInternalReadOnly().intersects(g.getEnvelopeInternalReadOnly()))
       return false;
     return true;
   }
@@ -103,7 +103,7 @@ class BasicPreparedGeometry
    */
   protected boolean envelopeCovers(Geometry g)
   {
-    if (! baseGeom.getEnvelopeInternal().covers(g.getEnvelopeInternal()))
+    if (! baseGeom.getEnvelopeInternalReadOnly().covers(g.getEnvelopeInternalReadOnly()))
       return false;
     return true;
   }
@@ -124,7 +124,7 @@ class BasicPreparedGeometry
   	// since raw relate is used, provide some optimizations
   	
     // short-circuit test
-    if (! baseGeom.getEnvelopeInternal().contains(g.getEnvelopeInternal()))
+    if (! baseGeom.getEnvelopeInternalReadOnly().contains(g.getEnvelopeInternalReadOnly()))
       return false;
   	
     // otherwise, compute using relate mask
@@ -16,8 +16,10 @@ import java.util.Iterator;
 import java.util.List;
 
 import org.locationtech.jts.algorithm.Orientation;
-import org.locationtech.jts.algorithm.PointLocation;
+import org.locationtech.jts.algorithm.RayCrossingCounter;
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequences;
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.LinearRing;
@@ -91,12 +93,10 @@ public abstract class EdgeRing {
   public void computeRing()
   {
     if (ring != null) return;   // don't compute more than once
-    Coordinate[] coord = new Coordinate[pts.size()];
-    for (int i = 0; i < pts.size(); i++) {
-      coord[i] = (Coordinate) pts.get(i);
-    }
-    ring = geometryFactory.createLinearRing(coord);
-    isHole = Orientation.isCCW(ring.getCoordinates());
+    CoordinateSequence seq = CoordinateSequences.create(
+        geometryFactory.getCoordinateSequenceFactory(), pts, true);
+    ring = geometryFactory.createLinearRing(seq);
+    isHole = Orientation.isCCW(seq);
 //Debug.println( (isHole ? "hole - " : "shell - ") + WKTWriter.toLineString(new CoordinateArraySequence(ring.getCoordinates())));
   }
   abstract public DirectedEdge getNext(DirectedEdge de);
@@ -221,7 +221,7 @@ public abstract class EdgeRing {
     LinearRing shell = getLinearRing();
     Envelope env = shell.getEnvelopeInternal();
     if (! env.contains(p)) return false;
-    if (! PointLocation.isInRing(p, shell.getCoordinates()) ) return false;
+    if (RayCrossingCounter.locatePointInRing(p, shell.getCoordinateSequence()) == Location.EXTERIOR) return false;
 
     for (Iterator i = holes.iterator(); i.hasNext(); ) {
       EdgeRing hole = (EdgeRing) i.next();
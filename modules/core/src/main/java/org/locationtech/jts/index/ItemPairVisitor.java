@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.index;
+
+/**
+ * A visitor for the results of a spatial join
+ * between two spatial indexes.
+ * Each result is a pair consisting of 
+ * an item from the first index 
+ * and an item from the second index.
+ * 
+ * @see SpatialJoin
+ */
+public interface ItemPairVisitor
+{
+  /**
+   * Visits a pair of items found by a join.
+   * 
+   * @param item1 the item from the first index
+   * @param item2 the item from the second index
+   */
+  void visitPair(Object item1, Object item2);
+}
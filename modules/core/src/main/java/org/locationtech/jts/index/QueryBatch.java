@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.index;
+
+import java.util.Arrays;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.hprtree.HPRtree;
+import org.locationtech.jts.index.hprtree.HilbertEncoder;
+import org.locationtech.jts.index.strtree.STRtree;
+
+/**
+ * A batch of query envelopes for a spatial index,
+ * organized for efficient batch querying.
+ * <p>
+ * Querying an index with many envelopes one at a time 
+ * requires a separate traversal of the index for each query.
+ * Instead, the queries in a batch are sorted
+ * by the Hilbert code of their midpoints, 
+ * and partitioned into groups of spatially close queries.
+ * Each group is then evaluated with a single traversal of the index.
+ * At each node the traversal only tests the queries 
+ * which intersect the parent node.
+ * This greatly reduces the number of nodes visited,
+ * and provides good memory locality.
+ * This makes it an efficient primitive for spatial joins.
+ * <p>
+ * Batch queries are supported by {@link STRtree} and {@link HPRtree}.
+ * The {@link #query(SpatialIndex, Envelope[], BatchItemVisitor)} method
+ * allows querying any {@link SpatialIndex}.
+ * <p>
+ * Null query envelopes are ignored.
+ * 
+ * @see BatchItemVisitor
+ */
+public class QueryBatch {
+
+  /**
+   * The default number of queries in a group.
+   * Determined empirically.
+   */
+  public static final int DEFAULT_GROUP_SIZE = 32;
+
+  private static final int HILBERT_LEVEL = 12;
+
+  /**
+   * Queries a spatial index with a batch of query envelopes.
+   * If the index supports batch queries they are used,
+   * otherwise each envelope is queried in turn 
+   * in Hilbert order.
+   * <p>
+   * The result pairs are not reported in any particular order.
+   * 
+   * @param index the index to query
+   * @param searchEnvs the query envelopes
+   * @param visitor the visitor to report results to
+   */
+  public static void query(SpatialIndex index, Envelope[] searchEnvs, final BatchItemVisitor visitor) {
+    if (index instanceof STRtree) {
+      ((STRtree) index).query(searchEnvs, visitor);
+      return;
+    }
+    if (index instanceof HPRtree) {
+      ((HPRtree) index).query(searchEnvs, visitor);
+      return;
+    }
+    QueryBatch batch = new QueryBatch(searchEnvs);
+    int[] order = batch.order;
+    for (int i = 0; i < order.length; i++) {
+      final int queryIndex = order[i];
+      index.query(searchEnvs[queryIndex], new ItemVisitor() {
+        public void visitItem(Object item) {
+          visitor.visitItem(queryIndex, item);
+        }
+      });
+    }
+  }
+
+  private Envelope[] queries;
+  private int groupSize;
+  private int[] order;
+
+  /**
+   * Creates a batch for a set of query envelopes,
+   * using the default group size.
+   * 
+   * @param queries the query envelopes
+   */
+  public QueryBatch(Envelope[] queries) {
+    this(queries, DEFAULT_GROUP_SIZE);
+  }
+
+  /**
+   * Creates a batch for a set of query envelopes,
+   * using a given group size.
+   * 
+   * @param queries the query envelopes
+   * @param groupSize the maximum number of queries in a group
+   */
+  public QueryBatch(Envelope[] queries, int groupSize) {
+    if (groupSize < 1)
+      throw new IllegalArgumentException("Group size must be positive");
+    this.queries = queries;
+    this.groupSize = groupSize;
+    order = hilbertOrder(queries);
+  }
+
+  /**
+   * Computes the indexes of the non-null queries,
+   * sorted by the Hilbert code of their midpoints.
+   * The sort is performed on keys containing the code and the query index,
+   * so that no per-query objects are created.
+   * 
+   * @param queries the query envelopes
+   * @return the sorted query indexes
+   */
+  private static int[] hilbertOrder(Envelope[] queries) {
+    Envelope extent = new Envelope();
+    int count = 0;
+    for (Envelope env : queries) {
+      if (env == null || env.isNull()) continue;
+      extent.expandToInclude(env);
+      count++;
+    }
+    HilbertEncoder encoder = new HilbertEncoder(HILBERT_LEVEL, extent);
+    long[] keys = new long[count];
+    int n = 0;
+    for (int i = 0; i < queries.length; i++) {
+      Envelope env = queries[i];
+      if (env == null || env.isNull()) continue;
+      keys[n++] = ((long) encoder.encode(env) << 32) | i;
+    }
+    Arrays.sort(keys);
+    int[] order = new int[count];
+    for (int i = 0; i < count; i++) {
+      order[i] = (int) keys[i];
+    }
+    return order;
+  }
+
+  /**
+   * Gets the query envelopes.
+   * 
+   * @return the query envelopes
+   */
+  public Envelope[] getQueries() {
+    return queries;
+  }
+
+  /**
+   * Gets the maximum number of queries in a group.
+   * 
+   * @return the group size
+   */
+  public int getGroupSize() {
+    return groupSize;
+  }
+
+  /**
+   * Gets the number of query groups.
+   * 
+   * @return the number of groups
+   */
+  public int getNumGroups() {
+    return (order.length + groupSize - 1) / groupSize;
+  }
+
+  /**
+   * Gets the indexes of the queries in a group.
+   * 
+   * @param group the index of the group
+   * @param queryIndexes an array to receive the query indexes,
+   *   of length at least the group size
+   * @return the number of queries in the group
+   */
+  public int getGroup(int group, int[] queryIndexes) {
+    int start = group * groupSize;
+    int count = Math.min(groupSize, order.length - start);
+    System.arraycopy(order, start, queryIndexes, 0, count);
+    return count;
+  }
+
+  /**
+   * Computes the queries in a list of active queries
+   * which intersect a given rectangle.
+   * 
+   * @param active the indexes of the active queries
+   * @param numActive the number of active queries
+   * @param minX the minimum X of the rectangle
+   * @param minY the minimum Y of the rectangle
+   * @param maxX the maximum X of the rectangle
+   * @param maxY the maximum Y of the rectangle
+   * @param result an array to receive the indexes of the intersecting queries
+   * @return the number of intersecting queries
+   */
+  public int intersecting(int[] active, int numActive, 
+      double minX, double minY, double maxX, double maxY, int[] result) {
+    int count = 0;
+    for (int i = 0; i < numActive; i++) {
+      int q = active[i];
+      Envelope env = queries[q];
+      if (env.getMaxX() < minX || env.getMaxY() < minY 
+          || env.getMinX() > maxX || env.getMinY() > maxY)
+        continue;
+      result[count++] = q;
+    }
+    return count;
+  }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.index.hprtree.HPRtree;
+import org.locationtech.jts.index.strtree.STRtree;
+
+/**
+ * Computes the pairs of items from two spatial indexes
+ * which interact spatially.
+ * The join is computed by traversing both indexes together,
+ * so only pairs of subtrees whose bounds intersect are visited.
+ * This is much faster than querying one index 
+ * with every item of the other.
+ * <p>
+ * The indexes must both be {@link STRtree}s or both be {@link HPRtree}s.
+ * <p>
+ * By default the join reports all pairs of items whose bounds intersect.
+ * If a spatial predicate is set, the items must be {@link Geometry}s
+ * or {@link PreparedGeometry}s, and only the pairs 
+ * which satisfy the predicate are reported.
+ * The predicate is evaluated for the first item against the second item.
+ * For best performance the items of the first index
+ * should be {@link PreparedGeometry}s 
+ * (e.g. the polygons in a points-in-polygons join).
+ * <p>
+ * The join can be computed in parallel over pairs of subtrees
+ * by providing a {@link ForkJoinPool}.
+ * In this case the pair visitor must be thread-safe.
+ * 
+ * <h3>Example</h3>
+ * <pre>
+ * STRtree polys = new STRtree();
+ * for (Geometry poly : polygons) {
+ *   polys.insert(poly.getEnvelopeInternal(), PreparedGeometryFactory.prepare(poly));
+ * }
+ * STRtree pts = ...
+ * SpatialJoin join = new SpatialJoin(polys, pts);
+ * join.setPredicate(SpatialJoin.INTERSECTS);
+ * join.join(new ItemPairVisitor() {
+ *   public void visitPair(Object poly, Object pt) { ... }
+ * });
+ * </pre>
+ * 
+ * @see ItemPairVisitor
+ */
+public class SpatialJoin {
+  
+  /**
+   * Reports pairs of items with intersecting bounds.
+   */
+  public static final int ENVELOPE = 0;
+  
+  /**
+   * Reports pairs of items which intersect.
+   */
+  public static final int INTERSECTS = 1;
+  
+  /**
+   * Reports pairs where the first item contains the second.
+   */
+  public static final int CONTAINS = 2;
+  
+  /**
+   * Reports pairs where the first item covers the second.
+   */
+  public static final int COVERS = 3;
+  
+  /**
+   * Reports pairs where the first item is within the second.
+   */
+  public static final int WITHIN = 4;
+  
+  /**
+   * Reports pairs where the first item is covered by the second.
+   */
+  public static final int COVERED_BY = 5;
+
+  /**
+   * Computes the pairs of items with intersecting bounds
+   * from two spatial indexes.
+   * 
+   * @param index1 the first index
+   * @param index2 the second index
+   * @return a list of pairs of items
+   */
+  public static List<Object[]> join(SpatialIndex index1, SpatialIndex index2) {
+    return new SpatialJoin(index1, index2).getPairs();
+  }
+  
+  private SpatialIndex index1;
+  private SpatialIndex index2;
+  private int predicate = ENVELOPE;
+  private ForkJoinPool pool = null;
+
+  /**
+   * Creates a join between two spatial indexes.
+   * 
+   * @param index1 the first index
+   * @param index2 the second index
+   * @throws IllegalArgumentException if the indexes are not both STRtrees or both HPRtrees
+   */
+  public SpatialJoin(SpatialIndex index1, SpatialIndex index2) {
+    if (! ((index1 instanceof STRtree && index2 instanceof STRtree)
+        || (index1 instanceof HPRtree && index2 instanceof HPRtree)))
+      throw new IllegalArgumentException("Indexes must both be STRtrees or both be HPRtrees");
+    this.index1 = index1;
+    this.index2 = index2;
+  }
+  
+  /**
+   * Sets the spatial predicate which pairs must satisfy.
+   * The default is {@link #ENVELOPE}.
+   * 
+   * @param predicate the spatial predicate code
+   */
+  public void setPredicate(int predicate) {
+    if (predicate < ENVELOPE || predicate > COVERED_BY)
+      throw new IllegalArgumentException("Unknown predicate: " + predicate);
+    this.predicate = predicate;
+  }
+  
+  /**
+   * Sets the pool used to compute the join in parallel.
+   * If the pool is null (the default) the join
+   * is computed in the calling thread.
+   * 
+   * @param pool the pool to use, or null
+   */
+  public void setPool(ForkJoinPool pool) {
+    this.pool = pool;
+  }
+  
+  /**
+   * Computes the join, reporting each pair to a visitor.
+   * The pairs are not reported in any particular order.
+   * 
+   * @param visitor the visitor to report pairs to
+   */
+  public void join(ItemPairVisitor visitor) {
+    ItemPairVisitor joinVisitor = visitor;
+    if (predicate != ENVELOPE) {
+      joinVisitor = new PredicateFilter(predicate, visitor);
+    }
+    if (index1 instanceof STRtree) {
+      ((STRtree) index1).join((STRtree) index2, joinVisitor, pool);
+    }
+    else {
+      ((HPRtree) index1).join((HPRtree) index2, joinVisitor, pool);
+    }
+  }
+  
+  /**
+   * Computes the join, returning the pairs as a list.
+   * 
+   * @return a list of pairs of items
+   */
+  public List<Object[]> getPairs() {
+    final List<Object[]> pairs = new ArrayList<Object[]>();
+    join(new ItemPairVisitor() {
+      public void visitPair(Object item1, Object item2) {
+        synchronized (pairs) {
+          pairs.add(new Object[] { item1, item2 });
+        }
+      }
+    });
+    return pairs;
+  }
+
+  /**
+   * Filters pairs by evaluating a spatial predicate.
+   */
+  private static class PredicateFilter implements ItemPairVisitor {
+    private int predicate;
+    private ItemPairVisitor visitor;
+
+    PredicateFilter(int predicate, ItemPairVisitor visitor) {
+      this.predicate = predicate;
+      this.visitor = visitor;
+    }
+    
+    public void visitPair(Object item1, Object item2) {
+      Geometry geom2 = toGeometry(item2);
+      boolean isMatch;
+      if (item1 instanceof PreparedGeometry) {
+        isMatch = evaluate((PreparedGeometry) item1, geom2);
+      }
+      else {
+        isMatch = evaluate(toGeometry(item1), geom2);
+      }
+      if (isMatch) {
+        visitor.visitPair(item1, item2);
+      }
+    }
+    
+    private boolean evaluate(PreparedGeometry prep, Geometry geom) {
+      switch (predicate) {
+      case INTERSECTS: return prep.intersects(geom);
+      case CONTAINS: return prep.contains(geom);
+      case COVERS: return prep.covers(geom);
+      case WITHIN: return prep.within(geom);
+      case COVERED_BY: return prep.coveredBy(geom);
+      }
+      return true;
+    }
+    
+    private boolean evaluate(Geometry geom1, Geometry geom2) {
+      switch (predicate) {
+      case INTERSECTS: return geom1.intersects(geom2);
+      case CONTAINS: return geom1.contains(geom2);
+      case COVERS: return geom1.covers(geom2);
+      case WITHIN: return geom1.within(geom2);
+      case COVERED_BY: return geom1.coveredBy(geom2);
+      }
+      return true;
+    }
+    
+    private static Geometry toGeometry(Object item) {
+      if (item instanceof Geometry) 
+        return (Geometry) item;
+      if (item instanceof PreparedGeometry) 
+        return ((PreparedGeometry) item).getGeometry();
+      throw new IllegalArgumentException("Join item is not a Geometry: " + item);
+    }
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.index.hprtree;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * A read-only array of <code>double</code> values,
+ * held either in a Java array 
+ * or in a sequence of (possibly memory-mapped) buffers.
+ * Buffers are used to allow the data in a file 
+ * to be accessed without copying it onto the heap.
+ * Since a single buffer is limited to 2 GB,
+ * large arrays are split into chunks.
+ */
+final class DoubleStore {
+
+  /**
+   * The number of values in a buffer chunk, as a power of 2.
+   * A chunk holds 2^27 values (1 GB).
+   */
+  static final int CHUNK_BITS = 27;
+  
+  static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+  
+  private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+  private final double[] array;
+  private final DoubleBuffer[] chunks;
+  private final int size;
+
+  DoubleStore(double[] array) {
+    this.array = array;
+    this.chunks = null;
+    this.size = array.length;
+  }
+
+  /**
+   * Creates a store over a sequence of buffers.
+   * All buffers except the last must contain exactly {@link #CHUNK_SIZE} values.
+   * 
+   * @param chunks the buffers holding the values
+   * @param size the total number of values
+   */
+  DoubleStore(DoubleBuffer[] chunks, int size) {
+    this.array = null;
+    this.chunks = chunks;
+    this.size = size;
+  }
+
+  int size() {
+    return size;
+  }
+
+  double get(int i) {
+    if (array != null) 
+      return array[i];
+    return chunks[i >>> CHUNK_BITS].get(i & CHUNK_MASK);
+  }
+}
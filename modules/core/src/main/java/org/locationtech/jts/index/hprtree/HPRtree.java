@@ -12,15 +12,23 @@
 package org.locationtech.jts.index.hprtree;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.index.ArrayListVisitor;
+import org.locationtech.jts.index.BatchItemVisitor;
+import org.locationtech.jts.index.ItemPairVisitor;
 import org.locationtech.jts.index.ItemVisitor;
+import org.locationtech.jts.index.QueryBatch;
 import org.locationtech.jts.index.SpatialIndex;
+import org.locationtech.jts.index.strtree.ItemBoundable;
+import org.locationtech.jts.index.strtree.ItemDistance;
 import org.locationtech.jts.index.strtree.STRtree;
 
 /**
@@ -141,6 +149,99 @@ public class HPRtree
     }
   }
 
+  /**
+   * Queries the index with a batch of envelopes,
+   * reporting each pair of query index and item 
+   * whose bounds intersect.
+   * The queries are grouped by spatial proximity
+   * (see {@link QueryBatch}), and the tree is traversed once per group.
+   * The result pairs are not reported in any particular order.
+   * 
+   * @param searchEnvs the query envelopes
+   * @param visitor the visitor to report results to
+   */
+  public void query(Envelope[] searchEnvs, BatchItemVisitor visitor) {
+    query(new QueryBatch(searchEnvs), visitor);
+  }
+
+  /**
+   * Queries the index with a batch of envelopes,
+   * reporting each pair of query index and item 
+   * whose bounds intersect.
+   * The tree is traversed once per query group.
+   * 
+   * @param batch the query batch
+   * @param visitor the visitor to report results to
+   */
+  public void query(QueryBatch batch, BatchItemVisitor visitor) {
+    build();
+    if (items.isEmpty())
+      return;
+    int numLayers = layerStartIndex == null ? 0 : layerStartIndex.length - 1;
+    int[][] active = new int[numLayers + 2][batch.getGroupSize()];
+    int numGroups = batch.getNumGroups();
+    for (int g = 0; g < numGroups; g++) {
+      int numQueries = batch.getGroup(g, active[1]);
+      int numActive = batch.intersecting(active[1], numQueries, 
+          totalExtent.getMinX(), totalExtent.getMinY(), totalExtent.getMaxX(), totalExtent.getMaxY(), active[0]);
+      if (numActive == 0) 
+        continue;
+      if (layerStartIndex == null) {
+        queryItemsBatch(batch, 0, active, 0, numActive, visitor);
+      }
+      else {
+        int layerIndex = layerStartIndex.length - 2;
+        int layerSize = layerSize(layerIndex);
+        for (int i = 0; i < layerSize; i += ENV_SIZE) {
+          queryNodeBatch(batch, layerIndex, i, active, 0, numActive, visitor);
+        }
+      }
+    }
+  }
+
+  private void queryNodeBatch(QueryBatch batch, int layerIndex, int nodeOffset, 
+      int[][] active, int depth, int numActive, BatchItemVisitor visitor) {
+    int nodeIndex = layerStartIndex[layerIndex] + nodeOffset;
+    int numNodeActive = batch.intersecting(active[depth], numActive,
+        nodeBounds[nodeIndex], nodeBounds[nodeIndex+1], nodeBounds[nodeIndex+2], nodeBounds[nodeIndex+3], 
+        active[depth + 1]);
+    if (numNodeActive == 0) 
+      return;
+    if (layerIndex == 0) {
+      int childNodesOffset = nodeOffset / ENV_SIZE  * nodeCapacity;
+      queryItemsBatch(batch, childNodesOffset, active, depth + 1, numNodeActive, visitor);
+    }
+    else {
+      int childNodesOffset = nodeOffset * nodeCapacity;
+      int layerStart = layerStartIndex[layerIndex - 1];
+      int layerEnd = layerStartIndex[layerIndex];
+      for (int i = 0; i < nodeCapacity; i++) {
+        int childOffset = childNodesOffset + ENV_SIZE * i; 
+        // don't query past layer end
+        if (layerStart + childOffset >= layerEnd) break;
+        queryNodeBatch(batch, layerIndex - 1, childOffset, active, depth + 1, numNodeActive, visitor);
+      }
+    }
+  }
+
+  private void queryItemsBatch(QueryBatch batch, int blockStart, 
+      int[][] active, int depth, int numActive, BatchItemVisitor visitor) {
+    int[] itemActive = active[depth + 1];
+    for (int i = 0; i < nodeCapacity; i++) {
+      int itemIndex = blockStart + i; 
+      // don't query past end of items
+      if (itemIndex >= items.size()) break;
+      
+      Item item = items.get(itemIndex);
+      Envelope env = item.getEnvelope();
+      int numItemActive = batch.intersecting(active[depth], numActive,
+          env.getMinX(), env.getMinY(), env.getMaxX(), env.getMaxY(), itemActive);
+      for (int k = 0; k < numItemActive; k++) {
+        visitor.visitItem(itemActive[k], item.getItem());
+      }
+    }    
+  }
+
   private void queryTopLayer(Envelope searchEnv, ItemVisitor visitor) {
     int layerIndex = layerStartIndex.length - 2;
     int layerSize = layerSize(layerIndex);
@@ -216,6 +317,540 @@ public class HPRtree
         env2.getMaxY() < env1.getMinY());
   }
   
+  /**
+   * Finds the item in this tree which is nearest to a given item,
+   * using {@link ItemDistance} as the distance metric.
+   * 
+   * @param env the envelope of the query item
+   * @param item the item to find the nearest neighbour of
+   * @param itemDist a distance metric applicable to the items in this tree and the query item
+   * @return the nearest item in this tree, or <code>null</code> if the tree is empty
+   * 
+   * @see #nearestNeighbour(Envelope, Object, ItemDistance, int)
+   */
+  public Object nearestNeighbour(Envelope env, Object item, ItemDistance itemDist) {
+    Object[] nn = nearestNeighbour(env, item, itemDist, 1);
+    if (nn.length == 0)
+      return null;
+    return nn[0];
+  }
+
+  /**
+   * Finds up to k items in this tree which are the nearest neighbours 
+   * to a given item, using {@link ItemDistance} as the distance metric.
+   * The query item does not have to be contained in the tree,
+   * but it does have to be compatible with the distance metric.
+   * The distance between items must be no less than 
+   * the distance between their envelopes.
+   * <p>
+   * The search is a best-first traversal of the tree, 
+   * using a priority queue of nodes and items ordered by their 
+   * distance from the query item.
+   * The distance of a node is the distance to its packed bounds,
+   * which is a lower bound for the distance of the items it contains.
+   * Items are removed from the queue in order of distance,
+   * so the search terminates when k items have been found.
+   * Entries further than the k-th nearest item seen so far
+   * are not added to the queue.
+   * <p>
+   * If the tree size is smaller than k fewer items will be returned.
+   * If the tree is empty an array of size 0 is returned.
+   * 
+   * @param env the envelope of the query item
+   * @param item the item to find the nearest neighbours of
+   * @param itemDist a distance metric applicable to the items in this tree and the query item
+   * @param k the maximum number of nearest items to search for
+   * @return an array of the nearest items found, in order of increasing distance
+   */
+  public Object[] nearestNeighbour(Envelope env, Object item, ItemDistance itemDist, int k) {
+    build();
+    if (items.isEmpty() || k <= 0) 
+      return new Object[0];
+    
+    ItemBoundable queryBnd = new ItemBoundable(env, item);
+    List<Object> result = new ArrayList<Object>();
+    NodeQueue queue = new NodeQueue();
+    /**
+     * The distances of the k nearest items added to the queue.
+     * Entries further than the k-th of these can not be in the result,
+     * so they are not added.
+     */
+    DistanceBound bound = new DistanceBound(k);
+    int rootLevel = rootLevel();
+    queue.add(rootLevel, 0, distance(rootLevel, 0, env));
+    while (! queue.isEmpty() && result.size() < k) {
+      queue.poll();
+      int level = queue.level();
+      int offset = queue.offset();
+      if (level == 0) {
+        result.add(items.get(offset).getItem());
+        continue;
+      }
+      int numChildren = numChildren(level, offset);
+      for (int i = 0; i < numChildren; i++) {
+        int childOffset = childOffset(level, offset, i);
+        if (level == 1) {
+          double dist = itemDist.distance(items.get(childOffset), queryBnd);
+          if (dist <= bound.distance()) {
+            queue.add(0, childOffset, dist);
+            bound.add(dist);
+          }
+        }
+        else {
+          double dist = distance(level - 1, childOffset, env);
+          if (dist <= bound.distance()) {
+            queue.add(level - 1, childOffset, dist);
+          }
+        }
+      }
+    }
+    return result.toArray();
+  }
+  
+  /**
+   * Queries the tree for all items which lie within a given distance 
+   * of a query item, using {@link ItemDistance} as the distance metric.
+   * The distance between items must be no less than 
+   * the distance between their envelopes.
+   * 
+   * @param env the envelope of the query item
+   * @param item the query item
+   * @param itemDist a distance metric applicable to the items in this tree and the query item
+   * @param maxDistance the distance limit for the search
+   * @return a list of the items found
+   */
+  public List queryWithinDistance(Envelope env, Object item, ItemDistance itemDist, double maxDistance) {
+    ArrayListVisitor visitor = new ArrayListVisitor();
+    queryWithinDistance(env, item, itemDist, maxDistance, visitor);
+    return visitor.getItems();
+  }
+  
+  /**
+   * Queries the tree for all items which lie within a given distance 
+   * of a query item, using {@link ItemDistance} as the distance metric,
+   * and applies an {@link ItemVisitor} to them.
+   * Subtrees whose bounds lie further than the distance
+   * from the query envelope are not searched.
+   * The distance between items must be no less than 
+   * the distance between their envelopes.
+   * 
+   * @param env the envelope of the query item
+   * @param item the query item
+   * @param itemDist a distance metric applicable to the items in this tree and the query item
+   * @param maxDistance the distance limit for the search
+   * @param visitor a visitor to apply to the items found
+   */
+  public void queryWithinDistance(Envelope env, Object item, ItemDistance itemDist, 
+      double maxDistance, ItemVisitor visitor) {
+    build();
+    if (items.isEmpty()) 
+      return;
+    ItemBoundable queryBnd = new ItemBoundable(env, item);
+    queryWithinDistance(rootLevel(), 0, env, queryBnd, itemDist, maxDistance, visitor);
+  }
+
+  private void queryWithinDistance(int level, int offset, Envelope env, ItemBoundable queryBnd,
+      ItemDistance itemDist, double maxDistance, ItemVisitor visitor) {
+    if (distance(level, offset, env) > maxDistance) 
+      return;
+    if (level == 0) {
+      Item item = items.get(offset);
+      if (itemDist.distance(item, queryBnd) <= maxDistance) {
+        visitor.visitItem(item.getItem());
+      }
+      return;
+    }
+    int numChildren = numChildren(level, offset);
+    for (int i = 0; i < numChildren; i++) {
+      queryWithinDistance(level - 1, childOffset(level, offset, i), 
+          env, queryBnd, itemDist, maxDistance, visitor);
+    }
+  }
+  
+  /**
+   * Computes the distance between the bounds of a node 
+   * (or item, at level 0) and an envelope.
+   * 
+   * @param level the node level
+   * @param offset the node offset
+   * @param env the envelope
+   * @return the distance between the node bounds and the envelope
+   */
+  private double distance(int level, int offset, Envelope env) {
+    double minX, minY, maxX, maxY;
+    if (level == 0) {
+      Envelope itemEnv = items.get(offset).getEnvelope();
+      minX = itemEnv.getMinX();
+      minY = itemEnv.getMinY();
+      maxX = itemEnv.getMaxX();
+      maxY = itemEnv.getMaxY();
+    }
+    else if (level == rootLevel()) {
+      minX = totalExtent.getMinX();
+      minY = totalExtent.getMinY();
+      maxX = totalExtent.getMaxX();
+      maxY = totalExtent.getMaxY();
+    }
+    else {
+      int nodeIndex = layerStartIndex[level - 1] + offset;
+      minX = nodeBounds[nodeIndex];
+      minY = nodeBounds[nodeIndex + 1];
+      maxX = nodeBounds[nodeIndex + 2];
+      maxY = nodeBounds[nodeIndex + 3];
+    }
+    double dx = Math.max(0.0, Math.max(minX - env.getMaxX(), env.getMinX() - maxX));
+    double dy = Math.max(0.0, Math.max(minY - env.getMaxY(), env.getMinY() - maxY));
+    if (dx == 0.0) return dy;
+    if (dy == 0.0) return dx;
+    return Math.sqrt(dx * dx + dy * dy);
+  }
+  
+  /**
+   * Tracks the k-th smallest of a set of distances,
+   * using a bounded max-heap.
+   */
+  private static class DistanceBound {
+    private int capacity;
+    private double[] heap;
+    private int size = 0;
+    
+    public DistanceBound(int k) {
+      capacity = k;
+      heap = new double[Math.min(k, 1024)];
+    }
+    
+    /**
+     * Gets the k-th smallest distance added, 
+     * or infinity if fewer than k distances have been added.
+     */
+    public double distance() {
+      if (size < capacity) 
+        return Double.POSITIVE_INFINITY;
+      return heap[0];
+    }
+    
+    public void add(double dist) {
+      if (size < capacity) {
+        if (size == heap.length) {
+          heap = Arrays.copyOf(heap, (int) Math.min(capacity, 2L * size));
+        }
+        int i = size++;
+        while (i > 0) {
+          int parent = (i - 1) / 2;
+          if (heap[parent] >= dist) break;
+          heap[i] = heap[parent];
+          i = parent;
+        }
+        heap[i] = dist;
+        return;
+      }
+      if (dist >= heap[0]) 
+        return;
+      int i = 0;
+      while (true) {
+        int child = 2 * i + 1;
+        if (child >= size) break;
+        if (child + 1 < size && heap[child + 1] > heap[child]) 
+          child++;
+        if (heap[child] <= dist) break;
+        heap[i] = heap[child];
+        i = child;
+      }
+      heap[i] = dist;
+    }
+  }
+  
+  /**
+   * A priority queue of tree nodes and items, ordered by distance.
+   * The entries are stored in arrays,
+   * so adding an entry does not allocate memory.
+   */
+  private static class NodeQueue {
+    private double[] dist = new double[64];
+    private int[] level = new int[64];
+    private int[] offset = new int[64];
+    private int size = 0;
+    
+    public boolean isEmpty() {
+      return size == 0;
+    }
+    
+    public void add(int level, int offset, double dist) {
+      if (size == this.dist.length) {
+        this.dist = Arrays.copyOf(this.dist, 2 * size);
+        this.level = Arrays.copyOf(this.level, 2 * size);
+        this.offset = Arrays.copyOf(this.offset, 2 * size);
+      }
+      int i = size++;
+      //-- sift up
+      while (i > 0) {
+        int parent = (i - 1) / 2;
+        if (this.dist[parent] <= dist) break;
+        set(i, parent);
+        i = parent;
+      }
+      this.dist[i] = dist;
+      this.level[i] = level;
+      this.offset[i] = offset;
+    }
+    
+    /**
+     * Removes the nearest entry from the queue.
+     * Its level and offset are then available from
+     * {@link #level()} and {@link #offset()}.
+     */
+    public void poll() {
+      size--;
+      //-- move the head entry past the end of the heap
+      swap(0, size);
+      //-- sift down
+      int i = 0;
+      while (true) {
+        int child = 2 * i + 1;
+        if (child >= size) break;
+        if (child + 1 < size && dist[child + 1] < dist[child]) 
+          child++;
+        if (dist[i] <= dist[child]) break;
+        swap(i, child);
+        i = child;
+      }
+    }
+    
+    public int level() {
+      return level[size];
+    }
+    
+    public int offset() {
+      return offset[size];
+    }
+    
+    private void set(int i, int j) {
+      dist[i] = dist[j];
+      level[i] = level[j];
+      offset[i] = offset[j];
+    }
+    
+    private void swap(int i, int j) {
+      double tmpDist = dist[i];
+      dist[i] = dist[j];
+      dist[j] = tmpDist;
+      int tmp = level[i];
+      level[i] = level[j];
+      level[j] = tmp;
+      tmp = offset[i];
+      offset[i] = offset[j];
+      offset[j] = tmp;
+    }
+  }
+  
+  /**
+   * Finds all pairs of items from this tree and another tree
+   * whose bounds intersect.
+   * The trees are traversed together, 
+   * so that only pairs of nodes whose bounds intersect are visited.
+   * The pairs are not reported in any particular order.
+   * 
+   * @param tree the tree to join with
+   * @param visitor the visitor to report pairs to
+   */
+  public void join(HPRtree tree, ItemPairVisitor visitor) {
+    join(tree, visitor, null);
+  }
+
+  /**
+   * Finds all pairs of items from this tree and another tree
+   * whose bounds intersect, 
+   * optionally using a {@link ForkJoinPool} to 
+   * process pairs of subtrees in parallel.
+   * If a pool is provided the visitor must be thread-safe.
+   * 
+   * @param tree the tree to join with
+   * @param visitor the visitor to report pairs to
+   * @param pool the pool to use, or null to join in the calling thread
+   */
+  public void join(HPRtree tree, ItemPairVisitor visitor, ForkJoinPool pool) {
+    build();
+    tree.build();
+    if (items.isEmpty() || tree.items.isEmpty()) 
+      return;
+    if (! intersects(totalExtent, tree.totalExtent))
+      return;
+    if (pool == null) {
+      join(rootLevel(), 0, tree, tree.rootLevel(), 0, visitor);
+    }
+    else {
+      pool.invoke(new JoinAction(this, rootLevel(), 0, tree, tree.rootLevel(), 0, visitor));
+    }
+  }
+
+  /*
+   * For joins, the tree nodes are identified by a level and an offset.
+   * Level 0 contains the items, with the offset being the item index.
+   * Level k > 0 contains the nodes of layer k - 1, 
+   * with the offset being the offset in the layer bounds.
+   * The top level contains a single virtual root node 
+   * with the bounds of the total extent.
+   */
+  
+  private void join(int level1, int offset1, 
+      HPRtree tree, int level2, int offset2, ItemPairVisitor visitor) {
+    if (level1 > 0 && level1 >= level2) {
+      double minX = tree.bound(level2, offset2, 0);
+      double minY = tree.bound(level2, offset2, 1);
+      double maxX = tree.bound(level2, offset2, 2);
+      double maxY = tree.bound(level2, offset2, 3);
+      int numChildren = numChildren(level1, offset1);
+      for (int i = 0; i < numChildren; i++) {
+        int child = childOffset(level1, offset1, i);
+        if (intersects(level1 - 1, child, minX, minY, maxX, maxY)) {
+          join(level1 - 1, child, tree, level2, offset2, visitor);
+        }
+      }
+    }
+    else if (level2 > 0) {
+      double minX = bound(level1, offset1, 0);
+      double minY = bound(level1, offset1, 1);
+      double maxX = bound(level1, offset1, 2);
+      double maxY = bound(level1, offset1, 3);
+      int numChildren = tree.numChildren(level2, offset2);
+      for (int i = 0; i < numChildren; i++) {
+        int child = tree.childOffset(level2, offset2, i);
+        if (tree.intersects(level2 - 1, child, minX, minY, maxX, maxY)) {
+          join(level1, offset1, tree, level2 - 1, child, visitor);
+        }
+      }
+    }
+    else {
+      visitor.visitPair(items.get(offset1).getItem(), tree.items.get(offset2).getItem());
+    }
+  }
+
+  private int rootLevel() {
+    if (layerStartIndex == null) return 1;
+    return layerStartIndex.length;
+  }
+  
+  private int numChildren(int level, int offset) {
+    if (level == rootLevel()) {
+      if (layerStartIndex == null) return items.size();
+      return layerSize(layerStartIndex.length - 2) / ENV_SIZE;
+    }
+    if (level == 1) {
+      return Math.min(nodeCapacity, items.size() - offset / ENV_SIZE * nodeCapacity);
+    }
+    return Math.min(nodeCapacity, (layerSize(level - 2) - offset * nodeCapacity) / ENV_SIZE);
+  }
+  
+  private int childOffset(int level, int offset, int i) {
+    if (level == rootLevel()) {
+      if (layerStartIndex == null) return i;
+      return ENV_SIZE * i;
+    }
+    if (level == 1) {
+      return offset / ENV_SIZE * nodeCapacity + i;
+    }
+    return offset * nodeCapacity + ENV_SIZE * i;
+  }
+  
+  private boolean intersects(int level, int offset, double minX, double minY, double maxX, double maxY) {
+    if (level == 0) {
+      Envelope env = items.get(offset).getEnvelope();
+      return !(minX > env.getMaxX() || maxX < env.getMinX() 
+          || minY > env.getMaxY() || maxY < env.getMinY());
+    }
+    int nodeIndex = layerStartIndex[level - 1] + offset;
+    return !(minX > nodeBounds[nodeIndex + 2] || maxX < nodeBounds[nodeIndex] 
+        || minY > nodeBounds[nodeIndex + 3] || maxY < nodeBounds[nodeIndex + 1]);
+  }
+  
+  /**
+   * Gets an ordinate of the bounds of a join node.
+   * 
+   * @param level the node level
+   * @param offset the node offset
+   * @param ordinate the ordinate index (minX, minY, maxX, maxY)
+   * @return the ordinate value
+   */
+  private double bound(int level, int offset, int ordinate) {
+    if (level == 0) {
+      return ordinate(items.get(offset).getEnvelope(), ordinate);
+    }
+    if (level == rootLevel()) {
+      return ordinate(totalExtent, ordinate);
+    }
+    return nodeBounds[layerStartIndex[level - 1] + offset + ordinate];
+  }
+  
+  private static double ordinate(Envelope env, int ordinate) {
+    switch (ordinate) {
+    case 0: return env.getMinX();
+    case 1: return env.getMinY();
+    case 2: return env.getMaxX();
+    }
+    return env.getMaxY();
+  }
+  
+  /**
+   * Joins a pair of subtrees, forking a subtask for each 
+   * intersecting pair of child subtrees
+   * until the leaf nodes are reached.
+   */
+  private static class JoinAction extends RecursiveAction {
+    private HPRtree tree1;
+    private int level1;
+    private int offset1;
+    private HPRtree tree2;
+    private int level2;
+    private int offset2;
+    private ItemPairVisitor visitor;
+
+    JoinAction(HPRtree tree1, int level1, int offset1, 
+        HPRtree tree2, int level2, int offset2, ItemPairVisitor visitor) {
+      this.tree1 = tree1;
+      this.level1 = level1;
+      this.offset1 = offset1;
+      this.tree2 = tree2;
+      this.level2 = level2;
+      this.offset2 = offset2;
+      this.visitor = visitor;
+    }
+    
+    protected void compute() {
+      if (Math.max(level1, level2) <= 1) {
+        tree1.join(level1, offset1, tree2, level2, offset2, visitor);
+        return;
+      }
+      List<JoinAction> tasks = new ArrayList<JoinAction>();
+      if (level1 >= level2) {
+        double minX = tree2.bound(level2, offset2, 0);
+        double minY = tree2.bound(level2, offset2, 1);
+        double maxX = tree2.bound(level2, offset2, 2);
+        double maxY = tree2.bound(level2, offset2, 3);
+        int numChildren = tree1.numChildren(level1, offset1);
+        for (int i = 0; i < numChildren; i++) {
+          int child = tree1.childOffset(level1, offset1, i);
+          if (tree1.intersects(level1 - 1, child, minX, minY, maxX, maxY)) {
+            tasks.add(new JoinAction(tree1, level1 - 1, child, tree2, level2, offset2, visitor));
+          }
+        }
+      }
+      else {
+        double minX = tree1.bound(level1, offset1, 0);
+        double minY = tree1.bound(level1, offset1, 1);
+        double maxX = tree1.bound(level1, offset1, 2);
+        double maxY = tree1.bound(level1, offset1, 3);
+        int numChildren = tree2.numChildren(level2, offset2);
+        for (int i = 0; i < numChildren; i++) {
+          int child = tree2.childOffset(level2, offset2, i);
+          if (tree2.intersects(level2 - 1, child, minX, minY, maxX, maxY)) {
+            tasks.add(new JoinAction(tree1, level1, offset1, tree2, level2 - 1, child, visitor));
+          }
+        }
+      }
+      invokeAll(tasks);
+    }
+  }
+  
   private int layerSize(int layerIndex) {
     int layerStart = layerStartIndex[layerIndex];
     int layerEnd = layerStartIndex[layerIndex + 1];
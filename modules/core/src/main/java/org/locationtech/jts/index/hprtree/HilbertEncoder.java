@@ -34,11 +34,20 @@ public class HilbertEncoder {
 
   public int encode(Envelope env) {
     double midx = env.getWidth()/2 + env.getMinX();
-    int x = (int) ((midx - minx) / strideX);
-
     double midy = env.getHeight()/2 + env.getMinY();
-    int y = (int) ((midy - miny) / strideY);
-      
+    return encode(midx, midy);
+  }
+
+  /**
+   * Computes the Hilbert code of a point.
+   * 
+   * @param px the X ordinate of the point
+   * @param py the Y ordinate of the point
+   * @return the Hilbert code of the point
+   */
+  public int encode(double px, double py) {
+    int x = (int) ((px - minx) / strideX);
+    int y = (int) ((py - miny) / strideY);
     return HilbertCode.encode(level, x, y);
   }
 
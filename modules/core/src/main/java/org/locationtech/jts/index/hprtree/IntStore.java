@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.index.hprtree;
+
+import java.nio.IntBuffer;
+
+/**
+ * A read-only array of <code>int</code> values,
+ * held either in a Java array 
+ * or in a sequence of (possibly memory-mapped) buffers.
+ * 
+ * @see DoubleStore
+ */
+final class IntStore {
+
+  /**
+   * The number of values in a buffer chunk, as a power of 2.
+   * A chunk holds 2^28 values (1 GB).
+   */
+  static final int CHUNK_BITS = 28;
+  
+  static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+  
+  private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+  private final int[] array;
+  private final IntBuffer[] chunks;
+  private final int size;
+
+  IntStore(int[] array) {
+    this.array = array;
+    this.chunks = null;
+    this.size = array.length;
+  }
+
+  /**
+   * Creates a store over a sequence of buffers.
+   * All buffers except the last must contain exactly {@link #CHUNK_SIZE} values.
+   * 
+   * @param chunks the buffers holding the values
+   * @param size the total number of values
+   */
+  IntStore(IntBuffer[] chunks, int size) {
+    this.array = null;
+    this.chunks = chunks;
+    this.size = size;
+  }
+
+  int size() {
+    return size;
+  }
+
+  int get(int i) {
+    if (array != null) 
+      return array[i];
+    return chunks[i >>> CHUNK_BITS].get(i & CHUNK_MASK);
+  }
+}
@@ -12,26 +12,25 @@
 package org.locationtech.jts.index.hprtree;
 
 import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.strtree.ItemBoundable;
 
-public class Item {
-
-  private Envelope env;
-  private Object item;
+/**
+ * An item in an {@link HPRtree}.
+ * Items are {@link ItemBoundable}s, 
+ * so that they can be passed directly to an 
+ * {@link org.locationtech.jts.index.strtree.ItemDistance}.
+ */
+public class Item extends ItemBoundable {
 
   public Item(Envelope env, Object item) {
-    this.env = env;
-    this.item = item;
+    super(env, item);
   }
 
   public Envelope getEnvelope() {
-    return env;
-  }
-  
-  public Object getItem() {
-    return item;
+    return (Envelope) getBounds();
   }
   
   public String toString() {
-    return "Item: " + env.toString();
+    return "Item: " + getEnvelope().toString();
   }
 }
@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.index.hprtree;
+
+/**
+ * A visitor for the integer ids of items found by a query
+ * on a {@link PackedHPRtree}.
+ */
+public interface ItemIdVisitor
+{
+  /**
+   * Visits an item found by a query.
+   * 
+   * @param id the id of the item
+   */
+  void visitItem(int id);
+}
@@ -0,0 +1,478 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.index.hprtree;
+
+import java.util.Arrays;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.math.MathUtil;
+import org.locationtech.jts.util.IntArrayList;
+
+/**
+ * An immutable Hilbert-Packed R-tree 
+ * which stores all its data in primitive arrays.
+ * <p>
+ * This has the same structure as an {@link HPRtree}, 
+ * but rather than holding an envelope and an item object for each entry 
+ * it stores the item bounds in a <code>double</code> array
+ * and identifies items by <code>int</code> ids.
+ * The id of an item is its position in the input array.
+ * No objects are allocated per item, either during or after construction.
+ * This allows very large indexes to be created 
+ * with a small memory footprint and no garbage collection overhead.
+ * <p>
+ * The index is built from either:
+ * <ul>
+ * <li>an array of item bounds, 
+ * holding the values <code>minX, minY, maxX, maxY</code> for each item
+ * <li>an array of point ordinates,
+ * holding the values <code>x, y</code> for each item.
+ * Points are stored using only two values each.
+ * </ul>
+ * The input arrays are copied, and are not modified.
+ * <p>
+ * A built tree can be saved to a file,
+ * and reopened using memory-mapping via {@link PackedHPRtreeFile}.
+ * <p>
+ * Querying the tree is thread-safe.
+ * 
+ * @see HPRtree
+ */
+public class PackedHPRtree 
+{
+  private static final int ENV_SIZE = 4;
+
+  private static final int HILBERT_LEVEL = 12;
+
+  private static final int DEFAULT_NODE_CAPACITY = 16;
+
+  /**
+   * Creates a tree over a set of points.
+   * 
+   * @param xy an array containing the X and Y ordinates of each point
+   * @return a tree containing the points
+   */
+  public static PackedHPRtree createFromPoints(double[] xy) {
+    return createFromPoints(xy, DEFAULT_NODE_CAPACITY);
+  }
+
+  /**
+   * Creates a tree over a set of points, with a given node capacity.
+   * 
+   * @param xy an array containing the X and Y ordinates of each point
+   * @param nodeCapacity the node capacity to use
+   * @return a tree containing the points
+   */
+  public static PackedHPRtree createFromPoints(double[] xy, int nodeCapacity) {
+    if (xy.length % 2 != 0)
+      throw new IllegalArgumentException("Point array length must be a multiple of 2");
+    return new PackedHPRtree(xy, 2, nodeCapacity);
+  }
+
+  private int nodeCapacity;
+
+  /**
+   * The number of values stored for each item (4 for envelopes, 2 for points)
+   */
+  private int itemStride;
+
+  /**
+   * The offset of the max ordinates from the start of an item
+   */
+  private int itemMaxOffset;
+
+  private int numItems;
+
+  /**
+   * The item bounds, in tree order
+   */
+  private DoubleStore itemBounds;
+
+  /**
+   * The item ids, in tree order
+   */
+  private IntStore itemIds;
+
+  private Envelope totalExtent = new Envelope();
+
+  private int[] layerStartIndex;
+
+  private DoubleStore nodeBounds;
+
+  /**
+   * Creates a tree over a set of item bounds,
+   * with the default node capacity.
+   * 
+   * @param itemBounds an array containing <code>minX, minY, maxX, maxY</code> for each item
+   */
+  public PackedHPRtree(double[] itemBounds) {
+    this(itemBounds, DEFAULT_NODE_CAPACITY);
+  }
+
+  /**
+   * Creates a tree over a set of item bounds,
+   * with the given node capacity.
+   * 
+   * @param itemBounds an array containing <code>minX, minY, maxX, maxY</code> for each item
+   * @param nodeCapacity the node capacity to use
+   */
+  public PackedHPRtree(double[] itemBounds, int nodeCapacity) {
+    this(checkBounds(itemBounds), ENV_SIZE, nodeCapacity);
+  }
+
+  private static double[] checkBounds(double[] itemBounds) {
+    if (itemBounds.length % ENV_SIZE != 0)
+      throw new IllegalArgumentException("Bounds array length must be a multiple of 4");
+    return itemBounds;
+  }
+
+  private PackedHPRtree(double[] itemValues, int itemStride, int nodeCapacity) {
+    if (nodeCapacity < 2)
+      throw new IllegalArgumentException("Node capacity must be at least 2");
+    this.nodeCapacity = nodeCapacity;
+    this.itemStride = itemStride;
+    this.itemMaxOffset = itemStride == ENV_SIZE ? 2 : 0;
+    this.numItems = itemValues.length / itemStride;
+    build(itemValues);
+  }
+
+  /**
+   * Creates a tree from previously-built tree data.
+   */
+  PackedHPRtree(int nodeCapacity, int itemStride, int numItems, Envelope totalExtent,
+      int[] layerStartIndex, DoubleStore nodeBounds, DoubleStore itemBounds, IntStore itemIds) {
+    this.nodeCapacity = nodeCapacity;
+    this.itemStride = itemStride;
+    this.itemMaxOffset = itemStride == ENV_SIZE ? 2 : 0;
+    this.numItems = numItems;
+    this.totalExtent = totalExtent;
+    this.layerStartIndex = layerStartIndex;
+    this.nodeBounds = nodeBounds;
+    this.itemBounds = itemBounds;
+    this.itemIds = itemIds;
+  }
+
+  /**
+   * Gets the number of items in the index.
+   * 
+   * @return the number of items
+   */
+  public int size() {
+    return numItems;
+  }
+
+  /**
+   * Gets the node capacity of the index.
+   * 
+   * @return the node capacity
+   */
+  public int getNodeCapacity() {
+    return nodeCapacity;
+  }
+
+  /**
+   * Gets the extent of all the items in the index.
+   * 
+   * @return the extent of the index
+   */
+  public Envelope getExtent() {
+    return new Envelope(totalExtent);
+  }
+
+  /**
+   * Queries the index for the ids of all items whose extents 
+   * intersect the given search {@link Envelope}.
+   * 
+   * @param searchEnv the envelope to query for
+   * @return an array of the ids of the items found
+   */
+  public int[] query(Envelope searchEnv) {
+    final IntArrayList ids = new IntArrayList();
+    query(searchEnv, new ItemIdVisitor() {
+      public void visitItem(int id) {
+        ids.add(id);
+      }
+    });
+    return ids.toArray();
+  }
+
+  /**
+   * Queries the index for all items whose extents 
+   * intersect the given search {@link Envelope},
+   * and applies an {@link ItemIdVisitor} to their ids.
+   * 
+   * @param searchEnv the envelope to query for
+   * @param visitor a visitor to apply to the ids of the items found
+   */
+  public void query(Envelope searchEnv, ItemIdVisitor visitor) {
+    if (searchEnv.isNull()) 
+      return;
+    query(searchEnv.getMinX(), searchEnv.getMinY(), 
+        searchEnv.getMaxX(), searchEnv.getMaxY(), visitor);
+  }
+
+  /**
+   * Queries the index for all items whose extents 
+   * intersect the given search rectangle,
+   * and applies an {@link ItemIdVisitor} to their ids.
+   * 
+   * @param minX the minimum X ordinate of the search rectangle
+   * @param minY the minimum Y ordinate of the search rectangle
+   * @param maxX the maximum X ordinate of the search rectangle
+   * @param maxY the maximum Y ordinate of the search rectangle
+   * @param visitor a visitor to apply to the ids of the items found
+   */
+  public void query(double minX, double minY, double maxX, double maxY, ItemIdVisitor visitor) {
+    if (numItems == 0) 
+      return;
+    if (maxX < totalExtent.getMinX() || maxY < totalExtent.getMinY()
+        || minX > totalExtent.getMaxX() || minY > totalExtent.getMaxY())
+      return;
+    if (layerStartIndex == null) {
+      queryItems(0, minX, minY, maxX, maxY, visitor);
+      return;
+    }
+    int layerIndex = layerStartIndex.length - 2;
+    int layerSize = layerSize(layerIndex);
+    for (int i = 0; i < layerSize; i += ENV_SIZE) {
+      queryNode(layerIndex, i, minX, minY, maxX, maxY, visitor);
+    }
+  }
+
+  private void queryNode(int layerIndex, int nodeOffset, 
+      double minX, double minY, double maxX, double maxY, ItemIdVisitor visitor) {
+    int nodeIndex = layerStartIndex[layerIndex] + nodeOffset;
+    if (maxX < nodeBounds.get(nodeIndex) 
+        || maxY < nodeBounds.get(nodeIndex+1) 
+        || minX > nodeBounds.get(nodeIndex+2) 
+        || minY > nodeBounds.get(nodeIndex+3)) 
+      return;
+    if (layerIndex == 0) {
+      int childNodesOffset = nodeOffset / ENV_SIZE * nodeCapacity;
+      queryItems(childNodesOffset, minX, minY, maxX, maxY, visitor);
+    }
+    else {
+      int childNodesOffset = nodeOffset * nodeCapacity;
+      queryNodeChildren(layerIndex - 1, childNodesOffset, minX, minY, maxX, maxY, visitor);
+    }
+  }
+
+  private void queryNodeChildren(int layerIndex, int blockOffset, 
+      double minX, double minY, double maxX, double maxY, ItemIdVisitor visitor) {
+    int layerStart = layerStartIndex[layerIndex];
+    int layerEnd = layerStartIndex[layerIndex + 1];
+    for (int i = 0; i < nodeCapacity; i++) {
+      int nodeOffset = blockOffset + ENV_SIZE * i; 
+      // don't query past layer end
+      if (layerStart + nodeOffset >= layerEnd) break;
+      
+      queryNode(layerIndex, nodeOffset, minX, minY, maxX, maxY, visitor);
+    }
+  }
+
+  private void queryItems(int blockStart, 
+      double minX, double minY, double maxX, double maxY, ItemIdVisitor visitor) {
+    int blockEnd = Math.min(blockStart + nodeCapacity, numItems);
+    for (int itemIndex = blockStart; itemIndex < blockEnd; itemIndex++) {
+      int base = itemIndex * itemStride;
+      int maxBase = base + itemMaxOffset;
+      if (maxX < itemBounds.get(base) 
+          || maxY < itemBounds.get(base+1) 
+          || minX > itemBounds.get(maxBase) 
+          || minY > itemBounds.get(maxBase+1)) 
+        continue;
+      visitor.visitItem(itemIds.get(itemIndex));
+    }
+  }
+
+  private int layerSize(int layerIndex) {
+    int layerStart = layerStartIndex[layerIndex];
+    int layerEnd = layerStartIndex[layerIndex + 1];
+    return layerEnd - layerStart;
+  }
+
+  /**
+   * Gets the extents of the internal index nodes
+   * 
+   * @return the internal node extents
+   */
+  public Envelope[] getBounds() {
+    if (nodeBounds == null)
+      return new Envelope[0];
+    int numNodes = nodeBounds.size() / ENV_SIZE;
+    Envelope[] bounds = new Envelope[numNodes];
+    for (int i = 0; i < numNodes; i++) {
+      int boundIndex = ENV_SIZE * i;
+      bounds[i] = new Envelope( nodeBounds.get(boundIndex), nodeBounds.get(boundIndex+2),
+          nodeBounds.get(boundIndex+1), nodeBounds.get(boundIndex+3));
+    }
+    return bounds;
+  }
+
+  int getItemStride() {
+    return itemStride;
+  }
+
+  int[] getLayerStartIndex() {
+    return layerStartIndex;
+  }
+
+  DoubleStore getNodeBounds() {
+    return nodeBounds;
+  }
+
+  DoubleStore getItemBounds() {
+    return itemBounds;
+  }
+
+  IntStore getItemIds() {
+    return itemIds;
+  }
+
+  //------------------------  Build  -----------------------------
+
+  private void build(double[] itemValues) {
+    computeExtent(itemValues);
+    int[] ids = sortItems(itemValues);
+    double[] sortedValues = sortedItemValues(itemValues, ids);
+    itemIds = new IntStore(ids);
+    itemBounds = new DoubleStore(sortedValues);
+    // don't need to build nodes for an empty or very small tree
+    if (numItems <= nodeCapacity) return;
+
+    layerStartIndex = computeLayerStartIndex(numItems, nodeCapacity);
+    int nodeCount = layerStartIndex[ layerStartIndex.length - 1 ] / ENV_SIZE;
+    double[] bounds = createBoundsArray(nodeCount);
+    
+    computeLeafNodes(sortedValues, bounds);
+    for (int i = 1; i < layerStartIndex.length - 1; i++) {
+      computeLayerNodes(i, bounds);
+    }
+    nodeBounds = new DoubleStore(bounds);
+  }
+
+  private void computeExtent(double[] itemValues) {
+    for (int i = 0; i < numItems; i++) {
+      int base = i * itemStride;
+      int maxBase = base + itemMaxOffset;
+      totalExtent.expandToInclude(itemValues[base], itemValues[base+1]);
+      totalExtent.expandToInclude(itemValues[maxBase], itemValues[maxBase+1]);
+    }
+  }
+
+  /**
+   * Sorts the items by the Hilbert code of their midpoints.
+   * The sort is performed on keys containing the code and the item id,
+   * so that no per-item objects are created.
+   * Items with equal codes are ordered by id.
+   * 
+   * @param itemValues the input item values
+   * @return the item ids in sorted order
+   */
+  private int[] sortItems(double[] itemValues) {
+    HilbertEncoder encoder = new HilbertEncoder(HILBERT_LEVEL, totalExtent);
+    long[] keys = new long[numItems];
+    for (int i = 0; i < numItems; i++) {
+      int base = i * itemStride;
+      int maxBase = base + itemMaxOffset;
+      double midx = (itemValues[maxBase] - itemValues[base]) / 2 + itemValues[base];
+      double midy = (itemValues[maxBase+1] - itemValues[base+1]) / 2 + itemValues[base+1];
+      int code = encoder.encode(midx, midy);
+      keys[i] = ((long) code << 32) | i;
+    }
+    Arrays.sort(keys);
+
+    int[] ids = new int[numItems];
+    for (int i = 0; i < numItems; i++) {
+      ids[i] = (int) keys[i];
+    }
+    return ids;
+  }
+
+  private double[] sortedItemValues(double[] itemValues, int[] ids) {
+    double[] sorted = new double[numItems * itemStride];
+    for (int i = 0; i < numItems; i++) {
+      System.arraycopy(itemValues, ids[i] * itemStride, sorted, i * itemStride, itemStride);
+    }
+    return sorted;
+  }
+
+  private static double[] createBoundsArray(int size) {
+    double[] a = new double[ENV_SIZE * size];
+    for (int i = 0; i < size; i++) {
+      int index = ENV_SIZE * i;
+      a[index] = Double.MAX_VALUE;
+      a[index+1] = Double.MAX_VALUE;
+      a[index+2] = -Double.MAX_VALUE;
+      a[index+3] = -Double.MAX_VALUE;
+    }
+    return a;
+  }
+
+  private void computeLayerNodes(int layerIndex, double[] bounds) {
+    int layerStart = layerStartIndex[layerIndex];
+    int childLayerStart = layerStartIndex[layerIndex - 1];
+    int layerSize = layerSize(layerIndex);
+    int childLayerEnd = layerStart;
+    for (int i = 0; i < layerSize; i += ENV_SIZE) {
+      int nodeIndex = layerStart + i;
+      int blockStart = childLayerStart + nodeCapacity * i;
+      for (int c = 0; c < nodeCapacity; c++ ) {
+        int index = blockStart + ENV_SIZE * c;
+        if (index >= childLayerEnd) break;
+        updateNodeBounds(bounds, nodeIndex, bounds[index], bounds[index+1], bounds[index+2], bounds[index+3]);
+      } 
+    }
+  }
+
+  private void computeLeafNodes(double[] sortedValues, double[] bounds) {
+    int layerSize = layerStartIndex[1];
+    for (int nodeIndex = 0; nodeIndex < layerSize; nodeIndex += ENV_SIZE) {
+      int blockStart = nodeCapacity * nodeIndex / ENV_SIZE;
+      int blockEnd = Math.min(blockStart + nodeCapacity, numItems);
+      for (int itemIndex = blockStart; itemIndex < blockEnd; itemIndex++) {
+        int base = itemIndex * itemStride;
+        int maxBase = base + itemMaxOffset;
+        updateNodeBounds(bounds, nodeIndex, sortedValues[base], sortedValues[base+1], 
+            sortedValues[maxBase], sortedValues[maxBase+1]);
+      }
+    }
+  }
+
+  private static void updateNodeBounds(double[] bounds, int nodeIndex, double minX, double minY, double maxX, double maxY) {
+    if (minX < bounds[nodeIndex]) bounds[nodeIndex] = minX;
+    if (minY < bounds[nodeIndex+1]) bounds[nodeIndex+1] = minY;
+    if (maxX > bounds[nodeIndex+2]) bounds[nodeIndex+2] = maxX;
+    if (maxY > bounds[nodeIndex+3]) bounds[nodeIndex+3] = maxY;
+  }
+
+  /**
+   * Computes the start indices of the node layers in the node bounds array.
+   * The last value is the size of the array.
+   * 
+   * @param itemSize the number of items
+   * @param nodeCapacity the node capacity
+   * @return the layer start indices, or null if the tree has no nodes
+   */
+  static int[] computeLayerStartIndex(int itemSize, int nodeCapacity) {
+    if (itemSize <= nodeCapacity) return null;
+    IntArrayList layerIndexList = new IntArrayList();
+    int layerSize = itemSize;
+    int index = 0;
+    do {
+      layerIndexList.add(index);
+      layerSize = MathUtil.ceil(layerSize, nodeCapacity);
+      index += ENV_SIZE * layerSize;
+    } while (layerSize > 1);
+    return layerIndexList.toArray();
+  }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.index.hprtree;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.Arrays;
+
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * Saves a {@link PackedHPRtree} to a file,
+ * and opens a saved tree by memory-mapping the file.
+ * <p>
+ * A mapped tree is queried directly from the file data,
+ * with no copying onto the heap.
+ * This allows a service to start up using a very large prebuilt index
+ * almost instantly, and to share the index pages between processes.
+ * The mapping remains valid until the tree is garbage-collected.
+ * <p>
+ * The file format is as follows.
+ * All values are little-endian.
+ * <pre>
+ * Offset  Type      Value
+ * 0       int       magic number 0x5250484A ("JHPR")
+ * 4       int       format version (1)
+ * 8       int       node capacity
+ * 12      int       item stride (4 for envelopes, 2 for points)
+ * 16      int       number of items (N)
+ * 20      int       number of layer start indices (L)
+ * 24      int       number of node bound values (B)
+ * 28      int       reserved (0)
+ * 32      double[4] extent (minX, minY, maxX, maxY)
+ * 64      int[L]    layer start indices, padded to a multiple of 8 bytes
+ *         double[B] node bounds (minX, minY, maxX, maxY for each node)
+ *         double[N * stride] item bounds, in tree order
+ *         int[N]    item ids, in tree order
+ * </pre>
+ */
+public class PackedHPRtreeFile {
+
+  private static final int MAGIC = 0x5250484A;
+  
+  private static final int VERSION = 1;
+  
+  private static final int HEADER_SIZE = 64;
+
+  private static final int ITEM_STRIDE_ENVELOPE = 4;
+
+  private static final int ITEM_STRIDE_POINT = 2;
+
+  private static final int DOUBLE_SIZE = 8;
+
+  private static final int INT_SIZE = 4;
+
+  private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+  /**
+   * Writes a tree to a file.
+   * Any existing file is overwritten.
+   * 
+   * @param tree the tree to write
+   * @param file the file to write to
+   * @throws IOException if an I/O error occurs
+   */
+  public static void write(PackedHPRtree tree, File file) throws IOException {
+    try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+      raf.setLength(0);
+      FileChannel channel = raf.getChannel();
+      new Writer(channel).write(tree);
+    }
+  }
+
+  /**
+   * Opens a tree saved in a file, by memory-mapping the file.
+   * 
+   * @param file the file to open
+   * @return the tree contained in the file
+   * @throws IOException if an I/O error occurs, or the file is not a valid tree file
+   */
+  public static PackedHPRtree open(File file) throws IOException {
+    try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+      FileChannel channel = raf.getChannel();
+      return read(channel);
+    }
+  }
+
+  private static PackedHPRtree read(FileChannel channel) throws IOException {
+    long fileSize = channel.size();
+    if (fileSize < HEADER_SIZE)
+      throw new IOException("File is too short to be a packed tree file");
+    ByteBuffer header = channel.map(MapMode.READ_ONLY, 0, HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    if (header.getInt(0) != MAGIC)
+      throw new IOException("File is not a packed tree file");
+    int version = header.getInt(4);
+    if (version != VERSION)
+      throw new IOException("Unsupported packed tree file version: " + version);
+    int nodeCapacity = header.getInt(8);
+    int itemStride = header.getInt(12);
+    int numItems = header.getInt(16);
+    int numLayerIndices = header.getInt(20);
+    int numNodeValues = header.getInt(24);
+    Envelope extent = new Envelope();
+    if (numItems > 0) {
+      extent = new Envelope(header.getDouble(32), header.getDouble(48), 
+          header.getDouble(40), header.getDouble(56));
+    }
+
+    if (nodeCapacity < 2)
+      throw new IOException("Invalid packed tree node capacity: " + nodeCapacity);
+    if (itemStride != ITEM_STRIDE_ENVELOPE && itemStride != ITEM_STRIDE_POINT)
+      throw new IOException("Invalid packed tree item stride: " + itemStride);
+    if (numItems < 0 || numLayerIndices < 0 || numNodeValues < 0)
+      throw new IOException("Invalid packed tree item or node count");
+    long numItemValues = (long) numItems * itemStride;
+    if (numItemValues > Integer.MAX_VALUE)
+      throw new IOException("Packed tree has too many items: " + numItems);
+    // the node structure is determined by the number of items and the node capacity
+    int[] expectedLayerStartIndex = PackedHPRtree.computeLayerStartIndex(numItems, nodeCapacity);
+    int expectedLayerIndices = expectedLayerStartIndex == null ? 0 : expectedLayerStartIndex.length;
+    int expectedNodeValues = expectedLayerStartIndex == null ? 0 
+        : expectedLayerStartIndex[expectedLayerIndices - 1];
+    if (numLayerIndices != expectedLayerIndices || numNodeValues != expectedNodeValues)
+      throw new IOException("Invalid packed tree node structure");
+
+    long layerOffset = HEADER_SIZE;
+    long nodeOffset = layerOffset + padToDouble((long) numLayerIndices * INT_SIZE);
+    long itemOffset = nodeOffset + (long) numNodeValues * DOUBLE_SIZE;
+    long idOffset = itemOffset + numItemValues * DOUBLE_SIZE;
+    long expectedSize = idOffset + (long) numItems * INT_SIZE;
+    if (fileSize != expectedSize)
+      throw new IOException("Packed tree file size is " + fileSize + " but expected " + expectedSize);
+
+    int[] layerStartIndex = null;
+    if (numLayerIndices > 0) {
+      layerStartIndex = new int[numLayerIndices];
+      channel.map(MapMode.READ_ONLY, layerOffset, (long) numLayerIndices * INT_SIZE)
+        .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(layerStartIndex);
+      if (! Arrays.equals(layerStartIndex, expectedLayerStartIndex))
+        throw new IOException("Invalid packed tree layer indices");
+    }
+    DoubleStore nodeBounds = null;
+    if (numNodeValues > 0) {
+      nodeBounds = mapDoubles(channel, nodeOffset, numNodeValues);
+    }
+    DoubleStore itemBounds = mapDoubles(channel, itemOffset, (int) numItemValues);
+    IntStore itemIds = mapInts(channel, idOffset, numItems);
+    return new PackedHPRtree(nodeCapacity, itemStride, numItems, extent, 
+        layerStartIndex, nodeBounds, itemBounds, itemIds);
+  }
+
+  private static long padToDouble(long size) {
+    return (size + DOUBLE_SIZE - 1) / DOUBLE_SIZE * DOUBLE_SIZE;
+  }
+
+  private static DoubleStore mapDoubles(FileChannel channel, long offset, int size) throws IOException {
+    int numChunks = numChunks(size, DoubleStore.CHUNK_SIZE);
+    DoubleBuffer[] chunks = new DoubleBuffer[numChunks];
+    for (int i = 0; i < numChunks; i++) {
+      long chunkStart = (long) i * DoubleStore.CHUNK_SIZE;
+      long chunkSize = Math.min(DoubleStore.CHUNK_SIZE, size - chunkStart);
+      chunks[i] = channel.map(MapMode.READ_ONLY, offset + chunkStart * DOUBLE_SIZE, chunkSize * DOUBLE_SIZE)
+          .order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+    }
+    return new DoubleStore(chunks, size);
+  }
+
+  private static IntStore mapInts(FileChannel channel, long offset, int size) throws IOException {
+    int numChunks = numChunks(size, IntStore.CHUNK_SIZE);
+    IntBuffer[] chunks = new IntBuffer[numChunks];
+    for (int i = 0; i < numChunks; i++) {
+      long chunkStart = (long) i * IntStore.CHUNK_SIZE;
+      long chunkSize = Math.min(IntStore.CHUNK_SIZE, size - chunkStart);
+      chunks[i] = channel.map(MapMode.READ_ONLY, offset + chunkStart * INT_SIZE, chunkSize * INT_SIZE)
+          .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+    }
+    return new IntStore(chunks, size);
+  }
+
+  private static int numChunks(int size, int chunkSize) {
+    return (int) (((long) size + chunkSize - 1) / chunkSize);
+  }
+
+  /**
+   * Writes tree data to a channel, using a buffer.
+   */
+  private static class Writer {
+    private FileChannel channel;
+    private ByteBuffer buf = ByteBuffer.allocate(WRITE_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+    Writer(FileChannel channel) {
+      this.channel = channel;
+    }
+
+    void write(PackedHPRtree tree) throws IOException {
+      int[] layerStartIndex = tree.getLayerStartIndex();
+      DoubleStore nodeBounds = tree.getNodeBounds();
+      DoubleStore itemBounds = tree.getItemBounds();
+      IntStore itemIds = tree.getItemIds();
+      int numLayerIndices = layerStartIndex == null ? 0 : layerStartIndex.length;
+      int numNodeValues = nodeBounds == null ? 0 : nodeBounds.size();
+      Envelope extent = tree.getExtent();
+
+      writeInt(MAGIC);
+      writeInt(VERSION);
+      writeInt(tree.getNodeCapacity());
+      writeInt(tree.getItemStride());
+      writeInt(tree.size());
+      writeInt(numLayerIndices);
+      writeInt(numNodeValues);
+      writeInt(0);
+      writeDouble(extent.getMinX());
+      writeDouble(extent.getMinY());
+      writeDouble(extent.getMaxX());
+      writeDouble(extent.getMaxY());
+
+      for (int i = 0; i < numLayerIndices; i++) {
+        writeInt(layerStartIndex[i]);
+      }
+      if (numLayerIndices % 2 != 0) {
+        writeInt(0);
+      }
+      for (int i = 0; i < numNodeValues; i++) {
+        writeDouble(nodeBounds.get(i));
+      }
+      for (int i = 0; i < itemBounds.size(); i++) {
+        writeDouble(itemBounds.get(i));
+      }
+      for (int i = 0; i < itemIds.size(); i++) {
+        writeInt(itemIds.get(i));
+      }
+      flush();
+    }
+
+    private void writeInt(int value) throws IOException {
+      if (buf.remaining() < INT_SIZE) flush();
+      buf.putInt(value);
+    }
+
+    private void writeDouble(double value) throws IOException {
+      if (buf.remaining() < DOUBLE_SIZE) flush();
+      buf.putDouble(value);
+    }
+
+    private void flush() throws IOException {
+      buf.flip();
+      while (buf.hasRemaining()) {
+        channel.write(buf);
+      }
+      buf.clear();
+    }
+  }
+}
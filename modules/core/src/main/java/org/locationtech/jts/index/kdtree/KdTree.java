@@ -14,10 +14,13 @@ package org.locationtech.jts.index.kdtree;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateList;
@@ -28,8 +31,11 @@ import org.locationtech.jts.geom.Envelope;
  * <a href='https://en.wikipedia.org/wiki/K-d_tree'>KD-Tree</a> 
  * over two dimensions (X and Y). 
  * KD-trees provide fast range searching and fast lookup for point data.
- * The tree is built dynamically by inserting points.
- * The tree supports queries by range and for point equality.
+ * The tree is built dynamically by inserting points,
+ * or can be bulk-loaded from an array of points.
+ * The tree supports queries by range, for point equality,
+ * for the k nearest neighbours of a point,
+ * and for the points within a distance of a point.
  * For querying an internal stack is used instead of recursion to avoid overflow. 
  * <p>
  * This implementation supports detecting and snapping points which are closer
@@ -52,6 +58,13 @@ import org.locationtech.jts.geom.Envelope;
  * This has a serious impact on query efficiency.  
  * One solution to this is to randomize the order of points before insertion
  * (e.g. by using <a href="https://en.wikipedia.org/wiki/Fisher%E2%80%93Yates_shuffle">Fisher-Yates shuffling</a>).
+ * A better solution is to create the tree from all the points at once
+ * using {@link #KdTree(Coordinate[], double)}.
+ * This builds a balanced tree by splitting the points at the median
+ * ordinate value of each level, whatever the order of the input points.
+ * The build can optionally be run in parallel
+ * using {@link #KdTree(Coordinate[], Object[], double, ForkJoinPool)}.
+ * A bulk-loaded tree is dynamic, and further points can be inserted into it.
  * 
  * @author David Skea
  * @author Martin Davis
@@ -92,6 +105,12 @@ public class KdTree {
     return coord.toCoordinateArray();
   }
 
+  /**
+   * The minimum number of points in a range which
+   * is split into parallel tasks during a parallel bulk build.
+   */
+  private static final int PARALLEL_BUILD_MIN_SIZE = 10000;
+
   private KdNode root = null;
   private long numberOfNodes;
   private double tolerance;
@@ -116,6 +135,307 @@ public class KdTree {
     this.tolerance = tolerance;
   }
 
+  /**
+   * Creates a KdTree containing a set of points, 
+   * specifying a snapping distance tolerance.
+   * The tree is balanced, regardless of the order of the points.
+   * 
+   * @param pts the points to load
+   * @param tolerance the tolerance distance for considering two points equal
+   * 
+   * @see #KdTree(Coordinate[], Object[], double, ForkJoinPool)
+   */
+  public KdTree(Coordinate[] pts, double tolerance) {
+    this(pts, null, tolerance, null);
+  }
+
+  /**
+   * Creates a KdTree containing a set of points with associated data items,
+   * specifying a snapping distance tolerance,
+   * and optionally building the tree using the threads of a {@link ForkJoinPool}.
+   * <p>
+   * The tree is built by recursively splitting the points 
+   * at the median X or Y ordinate value,
+   * so that it is balanced regardless of the order of the points.
+   * <p>
+   * If the tolerance is zero, the tree contains the same nodes 
+   * (with the same counts and data) 
+   * as a tree created by inserting the points in the given order.
+   * Repeated points are merged into a single node,
+   * which has the data item of the first occurrence of the point.
+   * If the tolerance is positive, the points are inserted in a 
+   * balanced order with the usual snapping semantics 
+   * (so only the partitioning of the points is computed in parallel).
+   * 
+   * @param pts the points to load
+   * @param data the data items for the points, or null
+   * @param tolerance the tolerance distance for considering two points equal
+   * @param pool the pool to build the tree with, or null to build it in the calling thread
+   * 
+   * @throws IllegalArgumentException if the data array is not the same length as the points array
+   */
+  public KdTree(Coordinate[] pts, Object[] data, double tolerance, ForkJoinPool pool) {
+    this.tolerance = tolerance;
+    if (data != null && data.length != pts.length)
+      throw new IllegalArgumentException("Number of data items does not match number of points");
+    if (pts.length == 0) 
+      return;
+    
+    final Builder builder = new Builder(pts, data, tolerance == 0.0, pool != null);
+    if (pool == null) {
+      builder.build();
+    }
+    else {
+      pool.invoke(new RecursiveAction() {
+        @Override
+        protected void compute() {
+          builder.build();
+        }
+      });
+    }
+    
+    if (tolerance == 0.0) {
+      root = builder.getRoot();
+      numberOfNodes = size();
+    }
+    else {
+      int[] order = builder.getOrder();
+      for (int i = 0; i < order.length; i++) {
+        int index = order[i];
+        insert(pts[index], data == null ? null : data[index]);
+      }
+    }
+  }
+
+  /**
+   * Builds a balanced tree by recursive median partitioning
+   * of an array of point indices.
+   * The point ordinates are copied into arrays which are permuted 
+   * along with the indices, for locality of access.
+   * If the points are to be linked directly, the nodes for each range are created
+   * with exact duplicates of the split point merged into the split node.
+   * Otherwise the point indices are recorded in preorder, 
+   * which is an insertion order which produces the balanced tree.
+   * In both cases the ranges are independent, 
+   * so they can be built in parallel.
+   */
+  private static class Builder {
+    private Coordinate[] pts;
+    private Object[] data;
+    private int[] index;
+    private double[] x;
+    private double[] y;
+    private int[] order = null;
+    private boolean isParallel;
+    private KdNode root;
+
+    Builder(Coordinate[] pts, Object[] data, boolean isLinked, boolean isParallel) {
+      this.pts = pts;
+      this.data = data;
+      this.isParallel = isParallel;
+      index = new int[pts.length];
+      x = new double[pts.length];
+      y = new double[pts.length];
+      for (int i = 0; i < index.length; i++) {
+        index[i] = i;
+        x[i] = pts[i].x;
+        y[i] = pts[i].y;
+      }
+      if (! isLinked) {
+        order = new int[pts.length];
+      }
+    }
+
+    void build() {
+      root = build(0, index.length, true, 0);
+    }
+
+    KdNode getRoot() {
+      return root;
+    }
+
+    int[] getOrder() {
+      return order;
+    }
+
+    /**
+     * Builds the subtree for a range of the point indices.
+     * 
+     * @param lo the start of the range
+     * @param hi the end of the range (exclusive)
+     * @param isXLevel whether the range is split by X ordinate
+     * @param orderStart the start of the preorder output for the range
+     * @return the root node of the subtree (if nodes are linked)
+     */
+    KdNode build(int lo, int hi, boolean isXLevel, int orderStart) {
+      if (lo >= hi) 
+        return null;
+      int split = selectMedian(lo, hi, isXLevel);
+      int numDup = groupDuplicates(split, hi, isXLevel);
+      int leftLo = lo;
+      int leftHi = split;
+      int rightLo = split + 1 + numDup;
+      int leftOrderStart = orderStart + 1 + numDup;
+      int rightOrderStart = leftOrderStart + (leftHi - leftLo);
+
+      KdNode node = null;
+      if (order != null) {
+        for (int i = 0; i <= numDup; i++) {
+          order[orderStart + i] = index[split + i];
+        }
+      }
+      else {
+        int pi = index[split];
+        node = new KdNode(pts[pi], data == null ? null : data[pi]);
+        for (int i = 0; i < numDup; i++) {
+          node.increment();
+        }
+      }
+      
+      KdNode left;
+      KdNode right;
+      if (isParallel && hi - lo >= PARALLEL_BUILD_MIN_SIZE) {
+        BuildAction leftAction = new BuildAction(this, leftLo, leftHi, ! isXLevel, leftOrderStart);
+        BuildAction rightAction = new BuildAction(this, rightLo, hi, ! isXLevel, rightOrderStart);
+        RecursiveAction.invokeAll(leftAction, rightAction);
+        left = leftAction.node;
+        right = rightAction.node;
+      }
+      else {
+        left = build(leftLo, leftHi, ! isXLevel, leftOrderStart);
+        right = build(rightLo, hi, ! isXLevel, rightOrderStart);
+      }
+      if (node != null) {
+        node.setLeft(left);
+        node.setRight(right);
+      }
+      return node;
+    }
+
+    /**
+     * Partitions a range of the indices around the median ordinate value
+     * using a three-way quickselect.
+     * On return the indices before the returned position have ordinate 
+     * strictly less than the median, and the indices from the returned position
+     * to the end of the block of median values have ordinate equal to it.
+     * This matches the tree invariant, where points equal to the split value
+     * are in the right subtree.
+     * 
+     * @param lo the start of the range
+     * @param hi the end of the range (exclusive)
+     * @param isXLevel whether to partition by X ordinate
+     * @return the position of the first index with the median value
+     */
+    private int selectMedian(int lo, int hi, boolean isXLevel) {
+      int k = (lo + hi) >>> 1;
+      int l = lo;
+      int h = hi - 1;
+      while (true) {
+        double pivot = medianOf3(ordinate(l, isXLevel), 
+            ordinate((l + h) >>> 1, isXLevel), ordinate(h, isXLevel));
+        int lt = l;
+        int gt = h;
+        int i = l;
+        while (i <= gt) {
+          double v = ordinate(i, isXLevel);
+          if (v < pivot) {
+            swap(lt++, i++);
+          }
+          else if (v > pivot) {
+            swap(i, gt--);
+          }
+          else {
+            i++;
+          }
+        }
+        if (k < lt) {
+          h = lt - 1;
+        }
+        else if (k > gt) {
+          l = gt + 1;
+        }
+        else {
+          return lt;
+        }
+      }
+    }
+
+    /**
+     * Moves the exact duplicates of the split point to follow it,
+     * and places the first occurring duplicate at the split position.
+     * The duplicates all lie in the block of equal ordinate values
+     * following the split position.
+     * 
+     * @param split the split position
+     * @param hi the end of the range (exclusive)
+     * @param isXLevel whether the range is split by X ordinate
+     * @return the number of duplicates of the split point
+     */
+    private int groupDuplicates(int split, int hi, boolean isXLevel) {
+      double splitX = x[split];
+      double splitY = y[split];
+      double splitValue = ordinate(split, isXLevel);
+      int numDup = 0;
+      for (int i = split + 1; i < hi && ordinate(i, isXLevel) == splitValue; i++) {
+        if (x[i] == splitX && y[i] == splitY) {
+          numDup++;
+          swap(split + numDup, i);
+          if (index[split + numDup] < index[split]) {
+            swap(split, split + numDup);
+          }
+        }
+      }
+      return numDup;
+    }
+
+    private double ordinate(int i, boolean isXLevel) {
+      return isXLevel ? x[i] : y[i];
+    }
+
+    private void swap(int i, int j) {
+      int tmp = index[i];
+      index[i] = index[j];
+      index[j] = tmp;
+      double tmpX = x[i];
+      x[i] = x[j];
+      x[j] = tmpX;
+      double tmpY = y[i];
+      y[i] = y[j];
+      y[j] = tmpY;
+    }
+
+    private static double medianOf3(double a, double b, double c) {
+      if (a < b) {
+        if (b < c) return b;
+        return a < c ? c : a;
+      }
+      if (a < c) return a;
+      return b < c ? c : b;
+    }
+  }
+
+  private static class BuildAction extends RecursiveAction {
+    private Builder builder;
+    private int lo;
+    private int hi;
+    private boolean isXLevel;
+    private int orderStart;
+    KdNode node;
+
+    BuildAction(Builder builder, int lo, int hi, boolean isXLevel, int orderStart) {
+      this.builder = builder;
+      this.lo = lo;
+      this.hi = hi;
+      this.isXLevel = isXLevel;
+      this.orderStart = orderStart;
+    }
+
+    @Override
+    protected void compute() {
+      node = builder.build(lo, hi, isXLevel, orderStart);
+    }
+  }
+
   /**
    * Gets the root node of this tree.
    * 
@@ -304,15 +624,14 @@ public class KdTree {
    * @param visitor a visitor to visit all nodes found by the search
    */
   public void query(Envelope queryEnv, KdNodeVisitor visitor) {
-    //-- Deque is faster than Stack
-    Deque<QueryStackFrame> queryStack = new ArrayDeque<QueryStackFrame>();
+    NodeStack queryStack = new NodeStack();
     KdNode currentNode = root;
     boolean isXLevel = true;
 
     // search is computed via in-order traversal
     while (true) {
       if ( currentNode != null ) {
-        queryStack.push(new QueryStackFrame(currentNode, isXLevel));
+        queryStack.push(currentNode, isXLevel, 0.0);
 
         boolean searchLeft = currentNode.isRangeOverLeft(isXLevel, queryEnv);
         if ( searchLeft ) {
@@ -327,9 +646,8 @@ public class KdTree {
       } 
       else if ( ! queryStack.isEmpty() ) {
         // currentNode is empty, so pop stack
-        QueryStackFrame frame = queryStack.pop();
-        currentNode = frame.getNode();
-        isXLevel = frame.isXLevel();
+        currentNode = queryStack.pop();
+        isXLevel = queryStack.isXLevel();
 
         //-- check if search matches current node
         if ( queryEnv.contains(currentNode.getCoordinate()) ) {
@@ -353,21 +671,53 @@ public class KdTree {
     }
   }
 
-  private static class QueryStackFrame {
-    private KdNode node;
-    private boolean isXLevel = false;
+  /**
+   * A stack of nodes to be searched, 
+   * with the level of each node and a distance bound.
+   * It is stored in arrays, so pushing a node does not allocate memory.
+   */
+  private static class NodeStack {
+    private KdNode[] nodes = new KdNode[64];
+    private boolean[] isXLevel = new boolean[64];
+    private double[] bound = new double[64];
+    private int size = 0;
     
-    public QueryStackFrame(KdNode node, boolean isXLevel) {
-      this.node = node;
-      this.isXLevel = isXLevel;
+    public void push(KdNode node, boolean isXLevel, double bound) {
+      if (size == nodes.length) {
+        nodes = Arrays.copyOf(nodes, 2 * size);
+        this.isXLevel = Arrays.copyOf(this.isXLevel, 2 * size);
+        this.bound = Arrays.copyOf(this.bound, 2 * size);
+      }
+      nodes[size] = node;
+      this.isXLevel[size] = isXLevel;
+      this.bound[size] = bound;
+      size++;
     }
     
-    public KdNode getNode() {
+    public boolean isEmpty() {
+      return size == 0;
+    }
+    
+    /**
+     * Pops the top node from the stack.
+     * Its level and bound are then available from 
+     * {@link #isXLevel()} and {@link #bound()}.
+     * 
+     * @return the popped node
+     */
+    public KdNode pop() {
+      size--;
+      KdNode node = nodes[size];
+      nodes[size] = null;
       return node;
     }
     
     public boolean isXLevel() {
-      return isXLevel;
+      return isXLevel[size];
+    }
+    
+    public double bound() {
+      return bound[size];
     }
   }
   
@@ -427,22 +777,249 @@ public class KdTree {
     return null;           
   }
 
+  /**
+   * Finds the node in the index which is nearest to a given point.
+   * If more than one node is at the same distance, 
+   * the one with the lowest coordinate is returned.
+   * 
+   * @param p the query point
+   * @return the nearest node, or null if the tree is empty
+   */
+  public KdNode nearestNeighbour(Coordinate p) {
+    KdNode[] nn = nearestNeighbour(p, 1);
+    if (nn.length == 0)
+      return null;
+    return nn[0];
+  }
+
+  /**
+   * Finds the k nodes in the index which are nearest to a given point.
+   * The nodes are returned in order of increasing distance from the point,
+   * with nodes at the same distance ordered by coordinate.
+   * If the index contains fewer than k nodes, all nodes are returned.
+   * Repeated points are represented by a single node.
+   * <p>
+   * The search is a depth-first traversal using an internal stack,
+   * which visits the side of each split closer to the point first,
+   * and prunes subtrees lying further from the 
+   * query point than the current k-th nearest node.
+   * 
+   * @param p the query point
+   * @param k the number of nodes to find
+   * @return the nearest nodes, in order of distance
+   */
+  public KdNode[] nearestNeighbour(Coordinate p, int k) {
+    if (root == null || k <= 0) 
+      return new KdNode[0];
+    
+    NeighbourHeap nearest = new NeighbourHeap(k);
+    NodeStack stack = new NodeStack();
+    stack.push(root, true, 0.0);
+    while (! stack.isEmpty()) {
+      KdNode node = stack.pop();
+      boolean isXLevel = stack.isXLevel();
+      double bound = stack.bound();
+      if (nearest.isFull() && bound > nearest.maxDistance()) 
+        continue;
+      
+      Coordinate nodePt = node.getCoordinate();
+      double dx = p.x - nodePt.x;
+      double dy = p.y - nodePt.y;
+      nearest.add(node, dx * dx + dy * dy);
+      
+      /**
+       * The query point is on the left of the split if its ordinate
+       * is less than the split value (which is the node ordinate).
+       * Points in the far subtree are at least as far away
+       * as the splitting line.
+       */
+      double delta = isXLevel ? dx : dy;
+      KdNode near = delta < 0 ? node.getLeft() : node.getRight();
+      KdNode far = delta < 0 ? node.getRight() : node.getLeft();
+      if (far != null) {
+        stack.push(far, ! isXLevel, Math.max(bound, delta * delta));
+      }
+      if (near != null) {
+        stack.push(near, ! isXLevel, bound);
+      }
+    }
+    return nearest.toArray();
+  }
+  
+  /**
+   * A bounded max-heap of the nearest nodes found so far,
+   * ordered by squared distance and then by coordinate.
+   */
+  private static class NeighbourHeap {
+    private int capacity;
+    private KdNode[] nodes;
+    private double[] dist;
+    private int size = 0;
+    
+    public NeighbourHeap(int capacity) {
+      this.capacity = capacity;
+      int initSize = Math.min(capacity, 16);
+      nodes = new KdNode[initSize];
+      dist = new double[initSize];
+    }
+    
+    public boolean isFull() {
+      return size == capacity;
+    }
+    
+    public double maxDistance() {
+      return dist[0];
+    }
+    
+    public void add(KdNode node, double d) {
+      if (size < capacity) {
+        if (size == nodes.length) {
+          int newSize = (int) Math.min(capacity, 2L * size);
+          nodes = Arrays.copyOf(nodes, newSize);
+          dist = Arrays.copyOf(dist, newSize);
+        }
+        nodes[size] = node;
+        dist[size] = d;
+        siftUp(size);
+        size++;
+        return;
+      }
+      if (! isFarther(0, node, d))
+        return;
+      nodes[0] = node;
+      dist[0] = d;
+      siftDown(0, size);
+    }
+
+    /**
+     * Tests whether the heap entry at a position 
+     * is farther than a given node at a given distance.
+     */
+    private boolean isFarther(int i, KdNode node, double d) {
+      if (dist[i] != d)
+        return dist[i] > d;
+      return nodes[i].getCoordinate().compareTo(node.getCoordinate()) > 0;
+    }
+
+    private void siftUp(int i) {
+      while (i > 0) {
+        int parent = (i - 1) / 2;
+        if (! isFarther(i, nodes[parent], dist[parent])) 
+          return;
+        swap(i, parent);
+        i = parent;
+      }
+    }
+
+    private void siftDown(int i, int n) {
+      while (true) {
+        int largest = i;
+        int left = 2 * i + 1;
+        int right = left + 1;
+        if (left < n && isFarther(left, nodes[largest], dist[largest]))
+          largest = left;
+        if (right < n && isFarther(right, nodes[largest], dist[largest]))
+          largest = right;
+        if (largest == i)
+          return;
+        swap(i, largest);
+        i = largest;
+      }
+    }
+
+    private void swap(int i, int j) {
+      KdNode tmpNode = nodes[i];
+      nodes[i] = nodes[j];
+      nodes[j] = tmpNode;
+      double tmpDist = dist[i];
+      dist[i] = dist[j];
+      dist[j] = tmpDist;
+    }
+
+    /**
+     * Extracts the nodes in order of increasing distance.
+     * The heap is emptied by this operation.
+     */
+    public KdNode[] toArray() {
+      KdNode[] result = new KdNode[size];
+      for (int n = size - 1; n >= 0; n--) {
+        result[n] = nodes[0];
+        swap(0, n);
+        siftDown(0, n);
+      }
+      size = 0;
+      return result;
+    }
+  }
+
+  /**
+   * Finds the nodes in the index which lie within a given distance of a point.
+   * 
+   * @param p the query point
+   * @param distance the distance limit for the search
+   * @return a list of the KdNodes found
+   */
+  public List queryWithinDistance(Coordinate p, double distance) {
+    final List result = new ArrayList();
+    queryWithinDistance(p, distance, new KdNodeVisitor() {
+
+      public void visit(KdNode node) {
+        result.add(node);
+      }
+      
+    });
+    return result;
+  }
+
+  /**
+   * Finds the nodes in the index which lie within a given distance of a point,
+   * and visits them.
+   * The search is a range search of the envelope of the query circle,
+   * with nodes filtered by their distance from the point.
+   * 
+   * @param p the query point
+   * @param distance the distance limit for the search
+   * @param visitor a visitor to visit the nodes found
+   */
+  public void queryWithinDistance(final Coordinate p, double distance, final KdNodeVisitor visitor) {
+    final double distanceSq = distance * distance;
+    Envelope queryEnv = new Envelope(p);
+    queryEnv.expandBy(distance);
+    query(queryEnv, new KdNodeVisitor() {
+
+      public void visit(KdNode node) {
+        Coordinate nodePt = node.getCoordinate();
+        double dx = p.x - nodePt.x;
+        double dy = p.y - nodePt.y;
+        if (dx * dx + dy * dy <= distanceSq) {
+          visitor.visit(node);
+        }
+      }
+      
+    });
+  }
+
   /**
    * Computes the depth of the tree.
    * 
    * @return the depth of the tree
    */
   public int depth() {
-    return depthNode(root);
-  }
-  
-  private int depthNode(KdNode currentNode) {
-    if (currentNode == null)
+    if (root == null)
       return 0;
-
-    int dL = depthNode(currentNode.getLeft());
-    int dR = depthNode(currentNode.getRight());
-    return 1 + (dL > dR ? dL : dR);
+    //-- count the levels of a breadth-first traversal
+    Deque<KdNode> level = new ArrayDeque<KdNode>();
+    level.add(root);
+    int depth = 0;
+    while (! level.isEmpty()) {
+      depth++;
+      for (int n = level.size(); n > 0; n--) {
+        KdNode node = level.poll();
+        if (node.getLeft() != null) level.add(node.getLeft());
+        if (node.getRight() != null) level.add(node.getRight());
+      }
+    }
+    return depth;
   }
   
   /**
@@ -451,16 +1028,18 @@ public class KdTree {
    * @return the size of the tree
    */
   public int size() {
-    return sizeNode(root);
-  }
-  
-  private int sizeNode(KdNode currentNode) {
-    if (currentNode == null)
+    if (root == null)
       return 0;
-
-    int sizeL = sizeNode(currentNode.getLeft());
-    int sizeR = sizeNode(currentNode.getRight());
-    return 1 + sizeL + sizeR;
+    Deque<KdNode> stack = new ArrayDeque<KdNode>();
+    stack.push(root);
+    int size = 0;
+    while (! stack.isEmpty()) {
+      KdNode node = stack.pop();
+      size++;
+      if (node.getLeft() != null) stack.push(node.getLeft());
+      if (node.getRight() != null) stack.push(node.getRight());
+    }
+    return size;
   }
   
 }
@@ -0,0 +1,449 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.index.quadtree;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.ArrayListVisitor;
+import org.locationtech.jts.index.ItemVisitor;
+import org.locationtech.jts.index.SpatialIndex;
+
+/**
+ * A {@link Quadtree} which can be queried and updated concurrently
+ * by multiple threads without external synchronization.
+ * <p>
+ * The tree has the same structure as {@link Quadtree},
+ * but its nodes are immutable.
+ * An update creates copies of the nodes on the path 
+ * from the root to the modified node (sharing all other nodes),
+ * and then publishes the new root atomically.
+ * Queries read the current root and traverse it without locking,
+ * so they never block, and are never blocked by, updates.
+ * Each query sees a consistent snapshot of the tree, 
+ * which contains the result of all updates completed before the query started.
+ * Updates are serialized with each other.
+ * The cost of an update is proportional to the depth of the tree
+ * plus the number of items in the modified node.
+ * <p>
+ * Copies of the envelopes of the items are stored in the tree,
+ * so queries return only items whose envelope intersects the query envelope
+ * (as with {@link Quadtree}, the envelopes of items with 
+ * zero width or height are padded by a small amount).
+ * Moving an item can be done atomically using {@link #update(Envelope, Envelope, Object)}.
+ * 
+ * @see Quadtree
+ */
+public class ConcurrentQuadtree
+    implements SpatialIndex, Serializable
+{
+  private static final long serialVersionUID = 3297364153926174436L;
+  
+  private volatile QuadNode root = QuadNode.createRoot();
+  
+  /**
+   * The minimum envelope extent of all items inserted so far
+   * (see {@link Quadtree}).
+   * Only accessed while holding the update lock.
+   */
+  private double minExtent = 1.0;
+
+  /**
+   * Constructs a tree with zero items.
+   */
+  public ConcurrentQuadtree()
+  {
+  }
+
+  /**
+   * Returns the number of levels in the tree.
+   * 
+   * @return the depth of the tree
+   */
+  public int depth()
+  {
+    return root.depth();
+  }
+
+  /**
+   * Tests whether the index contains any items.
+   * 
+   * @return true if the index does not contain any items
+   */
+  public boolean isEmpty()
+  {
+    return root.size == 0;
+  }
+  
+  /**
+   * Returns the number of items in the tree.
+   *
+   * @return the number of items in the tree
+   */
+  public int size()
+  {
+    return root.size;
+  }
+
+  public synchronized void insert(Envelope itemEnv, Object item)
+  {
+    root = insert(root, itemEnv, item);
+  }
+
+  /**
+   * Removes a single item from the tree.
+   *
+   * @param itemEnv the Envelope of the item to be removed
+   * @param item the item to remove
+   * @return <code>true</code> if the item was found (and thus removed)
+   */
+  public synchronized boolean remove(Envelope itemEnv, Object item)
+  {
+    QuadNode newRoot = remove(root, itemEnv, item);
+    if (newRoot == root) 
+      return false;
+    root = newRoot;
+    return true;
+  }
+
+  /**
+   * Moves an item to a new envelope.
+   * The update is atomic: queries see the item either at its 
+   * old location or at its new location, but never both or neither.
+   * If the item is not found in the tree it is not inserted.
+   * 
+   * @param oldEnv the current envelope of the item
+   * @param newEnv the new envelope of the item
+   * @param item the item to move
+   * @return <code>true</code> if the item was found (and thus moved)
+   */
+  public synchronized boolean update(Envelope oldEnv, Envelope newEnv, Object item)
+  {
+    QuadNode newRoot = remove(root, oldEnv, item);
+    if (newRoot == root) 
+      return false;
+    root = insert(newRoot, newEnv, item);
+    return true;
+  }
+
+  private QuadNode insert(QuadNode root, Envelope itemEnv, Object item) 
+  {
+    collectStats(itemEnv);
+    Envelope insertEnv = Quadtree.ensureExtent(itemEnv, minExtent);
+    // the envelope is stored, so copy it in case the caller modifies it
+    if (insertEnv == itemEnv) 
+      insertEnv = new Envelope(itemEnv);
+    return root.insertRoot(insertEnv, item);
+  }
+  
+  private QuadNode remove(QuadNode root, Envelope itemEnv, Object item) 
+  {
+    Envelope posEnv = Quadtree.ensureExtent(itemEnv, minExtent);
+    return root.remove(posEnv, item);
+  }
+
+  /**
+   * Queries the tree and returns the items whose envelopes
+   * intersect the given search envelope.
+   * This method does not block.
+   * 
+   * @param searchEnv the envelope of the desired query area.
+   * @return a List of items which intersect the search envelope
+   */
+  public List query(Envelope searchEnv)
+  {
+    ArrayListVisitor visitor = new ArrayListVisitor();
+    query(searchEnv, visitor);
+    return visitor.getItems();
+  }
+
+  /**
+   * Queries the tree and visits the items whose envelopes
+   * intersect the given search envelope.
+   * This method does not block.
+   * The visitor may update the tree;
+   * the updates are not seen by the query in progress.
+   * 
+   * @param searchEnv the envelope of the desired query area.
+   * @param visitor a visitor object which is passed the visited items
+   */
+  public void query(Envelope searchEnv, ItemVisitor visitor)
+  {
+    if (searchEnv == null) 
+      return;
+    root.visit(searchEnv, visitor);
+  }
+
+  /**
+   * Returns a list of all items in the tree.
+   * 
+   * @return a list of all items in the tree
+   */
+  public List queryAll()
+  {
+    List foundItems = new ArrayList();
+    root.addAllItems(foundItems);
+    return foundItems;
+  }
+
+  private void collectStats(Envelope itemEnv)
+  {
+    double delX = itemEnv.getWidth();
+    if (delX < minExtent && delX > 0.0)
+      minExtent = delX;
+
+    double delY = itemEnv.getHeight();
+    if (delY < minExtent && delY > 0.0)
+      minExtent = delY;
+  }
+
+  /**
+   * An immutable node of the tree.
+   * The root node has no envelope, and is centred at the origin.
+   * Subnodes are numbered as in {@link NodeBase}.
+   */
+  private static final class QuadNode implements Serializable {
+    
+    private static final long serialVersionUID = -1582391460128458472L;
+
+    private static final Object[] NO_ITEMS = new Object[0];
+    private static final Envelope[] NO_ENVS = new Envelope[0];
+    private static final QuadNode[] NO_SUBNODES = new QuadNode[4];
+
+    static QuadNode createRoot() {
+      return new QuadNode(null, 0, NO_ITEMS, NO_ENVS, NO_SUBNODES);
+    }
+    
+    private static QuadNode createNode(Envelope env) {
+      Key key = new Key(env);
+      return new QuadNode(key.getEnvelope(), key.getLevel(), NO_ITEMS, NO_ENVS, NO_SUBNODES);
+    }
+
+    private static QuadNode createExpanded(QuadNode node, Envelope addEnv) {
+      Envelope expandEnv = new Envelope(addEnv);
+      if (node != null) expandEnv.expandToInclude(node.env);
+
+      QuadNode largerNode = createNode(expandEnv);
+      if (node != null) largerNode = largerNode.insertNode(node);
+      return largerNode;
+    }
+
+    /**
+     * The node envelope (null for the root)
+     */
+    final Envelope env;
+    final int level;
+    final double centrex;
+    final double centrey;
+    final Object[] items;
+    final Envelope[] itemEnvs;
+    final QuadNode[] subnode;
+    /**
+     * The number of items in the subtree
+     */
+    final int size;
+
+    private QuadNode(Envelope env, int level, Object[] items, Envelope[] itemEnvs, QuadNode[] subnode) {
+      this.env = env;
+      this.level = level;
+      if (env == null) {
+        centrex = 0.0;
+        centrey = 0.0;
+      }
+      else {
+        centrex = (env.getMinX() + env.getMaxX()) / 2;
+        centrey = (env.getMinY() + env.getMaxY()) / 2;
+      }
+      this.items = items;
+      this.itemEnvs = itemEnvs;
+      this.subnode = subnode;
+      int n = items.length;
+      for (int i = 0; i < 4; i++) {
+        if (subnode[i] != null) n += subnode[i].size;
+      }
+      size = n;
+    }
+    
+    private boolean isRoot() {
+      return env == null;
+    }
+    
+    private boolean isSearchMatch(Envelope searchEnv) {
+      if (isRoot()) return true;
+      return env.intersects(searchEnv);
+    }
+    
+    private QuadNode withItem(Envelope itemEnv, Object item) {
+      int n = items.length;
+      Object[] newItems = new Object[n + 1];
+      Envelope[] newEnvs = new Envelope[n + 1];
+      System.arraycopy(items, 0, newItems, 0, n);
+      System.arraycopy(itemEnvs, 0, newEnvs, 0, n);
+      newItems[n] = item;
+      newEnvs[n] = itemEnv;
+      return new QuadNode(env, level, newItems, newEnvs, subnode);
+    }
+
+    private QuadNode withoutItem(int index) {
+      int n = items.length;
+      if (n == 1) 
+        return new QuadNode(env, level, NO_ITEMS, NO_ENVS, subnode);
+      Object[] newItems = new Object[n - 1];
+      Envelope[] newEnvs = new Envelope[n - 1];
+      System.arraycopy(items, 0, newItems, 0, index);
+      System.arraycopy(itemEnvs, 0, newEnvs, 0, index);
+      System.arraycopy(items, index + 1, newItems, index, n - index - 1);
+      System.arraycopy(itemEnvs, index + 1, newEnvs, index, n - index - 1);
+      return new QuadNode(env, level, newItems, newEnvs, subnode);
+    }
+
+    private QuadNode withSubnode(int index, QuadNode node) {
+      QuadNode[] newSubnode = subnode.clone();
+      newSubnode[index] = node;
+      return new QuadNode(env, level, items, itemEnvs, newSubnode);
+    }
+    
+    /**
+     * Inserts an item into the tree this is the root of,
+     * expanding the tree upwards if required.
+     * 
+     * @return the new root
+     */
+    QuadNode insertRoot(Envelope itemEnv, Object item) {
+      int index = NodeBase.getSubnodeIndex(itemEnv, 0.0, 0.0);
+      // if index is -1, itemEnv must cross the X or Y axis.
+      if (index == -1) {
+        return withItem(itemEnv, item);
+      }
+      QuadNode node = subnode[index];
+      /**
+       *  If the subquad doesn't exist or this item is not contained in it,
+       *  have to expand the tree upward to contain the item.
+       */
+      if (node == null || ! node.env.contains(itemEnv)) {
+        node = createExpanded(node, itemEnv);
+      }
+      /**
+       * Do NOT create a new quad for zero-area envelopes - this would lead
+       * to infinite recursion. Instead, use a heuristic of simply inserting into
+       * the smallest existing quad containing the item
+       */
+      boolean isZeroX = IntervalSize.isZeroWidth(itemEnv.getMinX(), itemEnv.getMaxX());
+      boolean isZeroY = IntervalSize.isZeroWidth(itemEnv.getMinY(), itemEnv.getMaxY());
+      return withSubnode(index, node.insertContained(itemEnv, item, isZeroX || isZeroY));
+    }
+
+    /**
+     * Inserts an item contained in this node into the smallest subnode containing it,
+     * creating subnodes if required (unless the item has zero extent).
+     * 
+     * @return the updated node
+     */
+    private QuadNode insertContained(Envelope itemEnv, Object item, boolean isZeroExtent) {
+      int index = NodeBase.getSubnodeIndex(itemEnv, centrex, centrey);
+      if (index == -1) 
+        return withItem(itemEnv, item);
+      QuadNode node = subnode[index];
+      if (node == null) {
+        if (isZeroExtent) 
+          return withItem(itemEnv, item);
+        node = createSubnode(index);
+      }
+      return withSubnode(index, node.insertContained(itemEnv, item, isZeroExtent));
+    }
+
+    private QuadNode insertNode(QuadNode node) {
+      int index = NodeBase.getSubnodeIndex(node.env, centrex, centrey);
+      if (node.level == level - 1) {
+        return withSubnode(index, node);
+      }
+      // the quad is not a direct child, so make a new child quad to contain it
+      QuadNode childNode = createSubnode(index).insertNode(node);
+      return withSubnode(index, childNode);
+    }
+
+    private QuadNode createSubnode(int index) {
+      double minx = index == 0 || index == 2 ? env.getMinX() : centrex;
+      double maxx = index == 0 || index == 2 ? centrex : env.getMaxX();
+      double miny = index == 0 || index == 1 ? env.getMinY() : centrey;
+      double maxy = index == 0 || index == 1 ? centrey : env.getMaxY();
+      return new QuadNode(new Envelope(minx, maxx, miny, maxy), level - 1, 
+          NO_ITEMS, NO_ENVS, NO_SUBNODES);
+    }
+
+    /**
+     * Removes a single item from this subtree.
+     * Empty subnodes are removed.
+     * 
+     * @return the updated node, or this node if the item was not found
+     */
+    QuadNode remove(Envelope itemEnv, Object item) {
+      if (! isSearchMatch(itemEnv))
+        return this;
+      for (int i = 0; i < 4; i++) {
+        QuadNode node = subnode[i];
+        if (node == null) continue;
+        QuadNode newNode = node.remove(itemEnv, item);
+        if (newNode != node) {
+          // trim subtree if empty
+          return withSubnode(i, newNode.size == 0 ? null : newNode);
+        }
+      }
+      for (int i = 0; i < items.length; i++) {
+        if (item == null ? items[i] == null : item.equals(items[i])) {
+          return withoutItem(i);
+        }
+      }
+      return this;
+    }
+
+    void visit(Envelope searchEnv, ItemVisitor visitor) {
+      if (! isSearchMatch(searchEnv))
+        return;
+      for (int i = 0; i < items.length; i++) {
+        if (itemEnvs[i].intersects(searchEnv)) {
+          visitor.visitItem(items[i]);
+        }
+      }
+      for (int i = 0; i < 4; i++) {
+        if (subnode[i] != null) {
+          subnode[i].visit(searchEnv, visitor);
+        }
+      }
+    }
+
+    void addAllItems(List resultItems) {
+      for (int i = 0; i < items.length; i++) {
+        resultItems.add(items[i]);
+      }
+      for (int i = 0; i < 4; i++) {
+        if (subnode[i] != null) {
+          subnode[i].addAllItems(resultItems);
+        }
+      }
+    }
+
+    int depth() {
+      int maxSubDepth = 0;
+      for (int i = 0; i < 4; i++) {
+        if (subnode[i] != null) {
+          int sqd = subnode[i].depth();
+          if (sqd > maxSubDepth)
+            maxSubDepth = sqd;
+        }
+      }
+      return maxSubDepth + 1;
+    }
+  }
+}
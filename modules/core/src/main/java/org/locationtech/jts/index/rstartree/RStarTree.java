@@ -0,0 +1,863 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.index.rstartree;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.ArrayListVisitor;
+import org.locationtech.jts.index.ItemVisitor;
+import org.locationtech.jts.index.SpatialIndex;
+import org.locationtech.jts.index.strtree.STRtree;
+
+/**
+ * A dynamic R-tree spatial index using the R*-tree algorithms 
+ * of Beckmann, Kriegel, Schneider and Seeger (1990).
+ * <p>
+ * Unlike the packed {@link STRtree} and {@link org.locationtech.jts.index.hprtree.HPRtree},
+ * items can be inserted and removed at any time, and queries reflect all changes made.
+ * This allows an index to be maintained for data which is being edited,
+ * without needing to rebuild it.
+ * The R* algorithms keep the tree well-structured under updates:
+ * <ul>
+ * <li>Inserts choose the subtree which minimizes the increase in overlap
+ * between leaf nodes, and then in area.
+ * <li>Node splits choose the split which minimizes the margin (perimeter)
+ * and overlap of the two new nodes.
+ * <li>The first time a node at a given level overflows during an insertion,
+ * the entries furthest from its centre are removed and reinserted 
+ * (<i>forced reinsertion</i>), which often avoids a split
+ * and improves the tree structure.
+ * <li>Underfull nodes left by removals are removed and their entries reinserted.
+ * </ul>
+ * A tree can be initially populated with {@link #load(Envelope[], Object[])},
+ * which packs the items using the Sort-Tile-Recursive algorithm 
+ * (as used by {@link STRtree}).
+ * This is much faster than inserting the items one at a time, and 
+ * gives a tree with better query performance.
+ * <p>
+ * Items are identified by their envelope and the item object,
+ * using {@link Object#equals(Object)}.
+ * The tree stores copies of item envelopes,
+ * so envelope objects may be modified or reused after they are passed in.
+ * Items with a null envelope are not added.
+ * <p>
+ * This class is not thread-safe. 
+ */
+public class RStarTree
+    implements SpatialIndex, Serializable
+{
+  private static final long serialVersionUID = 4396278135702457814L;
+
+  private static final int DEFAULT_NODE_CAPACITY = 16;
+  private static final int MIN_NODE_CAPACITY = 4;
+  
+  /**
+   * The fraction of the maximum node capacity used as the minimum capacity
+   * (the optimal value according to the R*-tree paper).
+   */
+  private static final double MIN_FILL_FRACTION = 0.4;
+  
+  /**
+   * The fraction of the maximum node capacity removed by forced reinsertion
+   * (the optimal value according to the R*-tree paper).
+   */
+  private static final double REINSERT_FRACTION = 0.3;
+
+  private final int maxEntries;
+  private final int minEntries;
+  private Node root;
+  private int size = 0;
+
+  /**
+   * Constructs an empty tree with the default node capacity.
+   */
+  public RStarTree()
+  {
+    this(DEFAULT_NODE_CAPACITY);
+  }
+
+  /**
+   * Constructs an empty tree with the given maximum number of entries per node.
+   * 
+   * @param nodeCapacity the maximum number of entries in a node (at least 4)
+   */
+  public RStarTree(int nodeCapacity)
+  {
+    if (nodeCapacity < MIN_NODE_CAPACITY) 
+      throw new IllegalArgumentException("Node capacity must be at least " + MIN_NODE_CAPACITY);
+    maxEntries = nodeCapacity;
+    minEntries = Math.max(2, (int) (MIN_FILL_FRACTION * nodeCapacity));
+    root = new Node(0, maxEntries);
+  }
+
+  /**
+   * Gets the maximum number of entries in a node.
+   * 
+   * @return the node capacity
+   */
+  public int getNodeCapacity() {
+    return maxEntries;
+  }
+  
+  /**
+   * Returns the number of items in the tree.
+   *
+   * @return the number of items in the tree
+   */
+  public int size() {
+    return size;
+  }
+  
+  /**
+   * Tests whether the index contains any items.
+   * 
+   * @return true if the index does not contain any items
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Returns the number of levels in the tree.
+   * 
+   * @return the depth of the tree
+   */
+  public int depth() {
+    return root.level + 1;
+  }
+
+  /**
+   * Adds items to the tree.
+   * If the tree is empty, it is built by packing the items 
+   * using the Sort-Tile-Recursive algorithm.
+   * Otherwise the items are inserted one at a time.
+   * 
+   * @param itemEnvs the envelopes of the items
+   * @param items the items to add
+   * 
+   * @throws IllegalArgumentException if the arrays have different lengths
+   */
+  public void load(Envelope[] itemEnvs, Object[] items) {
+    if (itemEnvs.length != items.length)
+      throw new IllegalArgumentException("Number of envelopes and items must be equal");
+    if (! isEmpty()) {
+      for (int i = 0; i < items.length; i++) {
+        insert(itemEnvs[i], items[i]);
+      }
+      return;
+    }
+    List entries = new ArrayList();
+    for (int i = 0; i < items.length; i++) {
+      if (itemEnvs[i] == null || itemEnvs[i].isNull()) continue;
+      entries.add(new Entry(new Envelope(itemEnvs[i]), items[i]));
+    }
+    if (entries.isEmpty()) return;
+    size = entries.size();
+    
+    int level = 0;
+    while (true) {
+      List nodes = packLevel(entries, level);
+      if (nodes.size() == 1) {
+        root = (Node) nodes.get(0);
+        return;
+      }
+      entries = new ArrayList();
+      for (int i = 0; i < nodes.size(); i++) {
+        Node node = (Node) nodes.get(i);
+        entries.add(new Entry(node.env, node));
+      }
+      level++;
+    }
+  }
+
+  /**
+   * Packs the entries for a level into nodes, 
+   * by sorting them into vertical slices by X 
+   * and then into nodes by Y within each slice.
+   * The entries are distributed evenly among slices and nodes.
+   * 
+   * @param entries the entries to pack
+   * @param level the level of the created nodes
+   * @return the list of nodes
+   */
+  private List packLevel(List entries, int level) {
+    Entry[] entryArr = (Entry[]) entries.toArray(new Entry[entries.size()]);
+    Arrays.sort(entryArr, X_COMPARATOR);
+    int n = entryArr.length;
+    int numNodes = (n + maxEntries - 1) / maxEntries;
+    int numSlices = (int) Math.ceil(Math.sqrt(numNodes));
+    
+    List nodes = new ArrayList();
+    for (int s = 0; s < numSlices; s++) {
+      int sliceStart = (int) ((long) s * n / numSlices);
+      int sliceEnd = (int) ((long) (s + 1) * n / numSlices);
+      Arrays.sort(entryArr, sliceStart, sliceEnd, Y_COMPARATOR);
+      
+      int sliceSize = sliceEnd - sliceStart;
+      int sliceNodes = (sliceSize + maxEntries - 1) / maxEntries;
+      for (int i = 0; i < sliceNodes; i++) {
+        int start = sliceStart + (int) ((long) i * sliceSize / sliceNodes);
+        int end = sliceStart + (int) ((long) (i + 1) * sliceSize / sliceNodes);
+        Node node = new Node(level, maxEntries);
+        for (int j = start; j < end; j++) {
+          node.add(entryArr[j].env, entryArr[j].item);
+        }
+        node.computeBounds();
+        nodes.add(node);
+      }
+    }
+    return nodes;
+  }
+
+  /**
+   * Inserts an item into the tree.
+   * 
+   * @param itemEnv the envelope of the item
+   * @param item the item to insert
+   */
+  public void insert(Envelope itemEnv, Object item) {
+    if (itemEnv.isNull()) 
+      return;
+    insertEntry(new Envelope(itemEnv), item, 0, new boolean[root.level + 1]);
+    size++;
+  }
+
+  /**
+   * Removes a single item from the tree.
+   * 
+   * @param itemEnv the envelope of the item to remove
+   * @param item the item to remove
+   * @return <code>true</code> if the item was found (and thus removed)
+   */
+  public boolean remove(Envelope itemEnv, Object item) {
+    Node leaf = findLeaf(root, itemEnv, item);
+    if (leaf == null) 
+      return false;
+    leaf.remove(leaf.indexOfItem(itemEnv, item));
+    condense(leaf);
+    size--;
+    return true;
+  }
+  
+  /**
+   * Moves an item to a new envelope.
+   * If the item is not found in the tree it is not inserted.
+   * <p>
+   * If the new envelope lies within the current leaf node 
+   * the item is updated in place,
+   * which is much faster than removing and reinserting it.
+   * 
+   * @param oldEnv the current envelope of the item
+   * @param newEnv the new envelope of the item
+   * @param item the item to move
+   * @return <code>true</code> if the item was found (and thus moved)
+   */
+  public boolean update(Envelope oldEnv, Envelope newEnv, Object item) {
+    Node leaf = findLeaf(root, oldEnv, item);
+    if (leaf == null) 
+      return false;
+    int index = leaf.indexOfItem(oldEnv, item);
+    if (! newEnv.isNull() && leaf.env.contains(newEnv)) {
+      leaf.entryEnvs[index] = new Envelope(newEnv);
+      adjustBounds(leaf);
+      return true;
+    }
+    leaf.remove(index);
+    condense(leaf);
+    size--;
+    insert(newEnv, item);
+    return true;
+  }
+
+  /**
+   * Queries the tree for items whose envelopes
+   * intersect the given search envelope.
+   * 
+   * @param searchEnv the envelope to query for
+   * @return a list of the items found
+   */
+  public List query(Envelope searchEnv) {
+    ArrayListVisitor visitor = new ArrayListVisitor();
+    query(searchEnv, visitor);
+    return visitor.getItems();
+  }
+
+  /**
+   * Queries the tree and visits the items whose envelopes
+   * intersect the given search envelope.
+   * The visitor must not modify the tree.
+   * 
+   * @param searchEnv the envelope to query for
+   * @param visitor a visitor to pass the items found to
+   */
+  public void query(Envelope searchEnv, ItemVisitor visitor) {
+    if (searchEnv == null || isEmpty()) 
+      return;
+    if (! root.env.intersects(searchEnv))
+      return;
+    query(root, searchEnv, visitor);
+  }
+
+  private static void query(Node node, Envelope searchEnv, ItemVisitor visitor) {
+    for (int i = 0; i < node.size; i++) {
+      if (! node.entryEnvs[i].intersects(searchEnv))
+        continue;
+      if (node.isLeaf()) {
+        visitor.visitItem(node.entries[i]);
+      }
+      else {
+        query((Node) node.entries[i], searchEnv, visitor);
+      }
+    }
+  }
+
+  /**
+   * Returns a list of all items in the tree.
+   * 
+   * @return a list of all items in the tree
+   */
+  public List queryAll() {
+    List items = new ArrayList();
+    addAllItems(root, items);
+    return items;
+  }
+
+  private static void addAllItems(Node node, List items) {
+    for (int i = 0; i < node.size; i++) {
+      if (node.isLeaf()) {
+        items.add(node.entries[i]);
+      }
+      else {
+        addAllItems((Node) node.entries[i], items);
+      }
+    }
+  }
+
+  //------------------------------------------------------------------
+  // Insertion
+  //------------------------------------------------------------------
+
+  /**
+   * Inserts an entry into a node at the given level,
+   * and handles any resulting overflow.
+   * 
+   * @param env the envelope of the entry
+   * @param entry an item (for level 0) or a node
+   * @param level the level of the node to insert into
+   * @param isReinserted the levels at which reinsertion has been done for this insertion
+   */
+  private void insertEntry(Envelope env, Object entry, int level, boolean[] isReinserted) {
+    Node node = chooseNode(env, level);
+    node.add(env, entry);
+    for (Node n = node; n != null; n = n.parent) {
+      n.env.expandToInclude(env);
+    }
+    while (node != null && node.size > maxEntries) {
+      node = overflow(node, isReinserted);
+    }
+  }
+
+  /**
+   * Handles an overflowing node, either by reinsertion or by splitting it.
+   * 
+   * @return the parent node if the node was split (which may now overflow),
+   *   or null if no further overflow is possible
+   */
+  private Node overflow(Node node, boolean[] isReinserted) {
+    int level = node.level;
+    if (node != root && level < isReinserted.length && ! isReinserted[level]) {
+      isReinserted[level] = true;
+      reinsert(node, isReinserted);
+      return null;
+    }
+    Node sibling = split(node);
+    if (node == root) {
+      Node newRoot = new Node(level + 1, maxEntries);
+      newRoot.add(node.env, node);
+      newRoot.add(sibling.env, sibling);
+      newRoot.computeBounds();
+      root = newRoot;
+      return null;
+    }
+    Node parent = node.parent;
+    parent.add(sibling.env, sibling);
+    return parent;
+  }
+  
+  /**
+   * Finds the node at the given level to insert an entry into.
+   */
+  private Node chooseNode(Envelope env, int level) {
+    Node node = root;
+    while (node.level > level) {
+      node = (Node) node.entries[chooseSubtree(node, env)];
+    }
+    return node;
+  }
+
+  /**
+   * Chooses the child of a node to insert an entry into.
+   * For a node whose children are leaves, 
+   * this is the child which needs the least overlap enlargement 
+   * to include the entry.
+   * Otherwise, it is the child which needs the least area enlargement.
+   * Ties are resolved by choosing the child with least area enlargement,
+   * and then least area.
+   */
+  private static int chooseSubtree(Node node, Envelope env) {
+    int best = -1;
+    double bestEnlargement = Double.POSITIVE_INFINITY;
+    double bestArea = Double.POSITIVE_INFINITY;
+    for (int i = 0; i < node.size; i++) {
+      Envelope childEnv = node.entryEnvs[i];
+      double area = area(childEnv);
+      double enlargement = unionArea(childEnv, env) - area;
+      if (enlargement < bestEnlargement 
+          || (enlargement == bestEnlargement && area < bestArea)) {
+        best = i;
+        bestEnlargement = enlargement;
+        bestArea = area;
+      }
+    }
+    /**
+     * A child which needs no enlargement has no overlap enlargement,
+     * so it is also the choice by least overlap enlargement.
+     * Otherwise, the child with least area enlargement provides 
+     * a bound for computing the overlap enlargement of the others.
+     */
+    if (node.level != 1 || bestEnlargement == 0)
+      return best;
+    double bestOverlap = overlapEnlargement(node, best, env, Double.POSITIVE_INFINITY);
+    if (bestOverlap == 0)
+      return best;
+    int bestLeastEnlargement = best;
+    for (int i = 0; i < node.size; i++) {
+      if (i == bestLeastEnlargement) continue;
+      double overlap = overlapEnlargement(node, i, env, bestOverlap);
+      if (overlap > bestOverlap) continue;
+      Envelope childEnv = node.entryEnvs[i];
+      double area = area(childEnv);
+      double enlargement = unionArea(childEnv, env) - area;
+      if (overlap < bestOverlap
+          || enlargement < bestEnlargement
+          || (enlargement == bestEnlargement && area < bestArea)) {
+        best = i;
+        bestOverlap = overlap;
+        bestEnlargement = enlargement;
+        bestArea = area;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Computes the increase in overlap between a child of a node 
+   * and the other children if the child is expanded to include an envelope.
+   * Since the overlap with each other child can only increase, 
+   * the computation stops once the increase exceeds a given bound.
+   * 
+   * @return the overlap increase, or a value greater than the bound
+   */
+  private static double overlapEnlargement(Node node, int index, Envelope env, double bound) {
+    Envelope childEnv = node.entryEnvs[index];
+    double minx = Math.min(childEnv.getMinX(), env.getMinX());
+    double maxx = Math.max(childEnv.getMaxX(), env.getMaxX());
+    double miny = Math.min(childEnv.getMinY(), env.getMinY());
+    double maxy = Math.max(childEnv.getMaxY(), env.getMaxY());
+    double delta = 0;
+    for (int i = 0; i < node.size; i++) {
+      if (i == index) continue;
+      Envelope other = node.entryEnvs[i];
+      delta += overlapArea(minx, maxx, miny, maxy, other)
+          - overlapArea(childEnv.getMinX(), childEnv.getMaxX(), 
+              childEnv.getMinY(), childEnv.getMaxY(), other);
+      if (delta > bound) 
+        return delta;
+    }
+    return delta;
+  }
+
+  /**
+   * Removes the entries of an overflowing node which are furthest from its centre,
+   * and reinserts them starting with the closest.
+   */
+  private void reinsert(Node node, boolean[] isReinserted) {
+    final double cx = node.env.centre().getX();
+    final double cy = node.env.centre().getY();
+    Entry[] entries = node.removeAll();
+    Arrays.sort(entries, new Comparator() {
+      public int compare(Object o1, Object o2) {
+        return Double.compare(distanceSq(((Entry) o2).env, cx, cy),
+            distanceSq(((Entry) o1).env, cx, cy));
+      }
+    });
+    int numReinsert = Math.max(1, (int) (REINSERT_FRACTION * maxEntries));
+    for (int i = numReinsert; i < entries.length; i++) {
+      node.add(entries[i].env, entries[i].item);
+    }
+    adjustBounds(node);
+    for (int i = numReinsert - 1; i >= 0; i--) {
+      insertEntry(entries[i].env, entries[i].item, node.level, isReinserted);
+    }
+  }
+
+  private static double distanceSq(Envelope env, double x, double y) {
+    double dx = (env.getMinX() + env.getMaxX()) / 2 - x;
+    double dy = (env.getMinY() + env.getMaxY()) / 2 - y;
+    return dx * dx + dy * dy;
+  }
+  
+  //------------------------------------------------------------------
+  // Splitting
+  //------------------------------------------------------------------
+
+  /**
+   * Splits an overflowing node into two.
+   * The split axis is the one with the smallest total margin 
+   * over all candidate distributions.
+   * The distribution along that axis is the one with least overlap,
+   * and then least total area.
+   * 
+   * @return the new sibling node
+   */
+  private Node split(Node node) {
+    Entry[] entries = node.removeAll();
+    double marginX = splitMargin(entries, MIN_X_COMPARATOR) + splitMargin(entries, MAX_X_COMPARATOR);
+    double marginY = splitMargin(entries, MIN_Y_COMPARATOR) + splitMargin(entries, MAX_Y_COMPARATOR);
+    Comparator[] comparators = marginX <= marginY 
+        ? new Comparator[] { MIN_X_COMPARATOR, MAX_X_COMPARATOR }
+        : new Comparator[] { MIN_Y_COMPARATOR, MAX_Y_COMPARATOR };
+    
+    Comparator bestComparator = null;
+    int bestIndex = -1;
+    double bestOverlap = Double.POSITIVE_INFINITY;
+    double bestArea = Double.POSITIVE_INFINITY;
+    for (int c = 0; c < comparators.length; c++) {
+      Arrays.sort(entries, comparators[c]);
+      Envelope[] lowerEnv = prefixEnvelopes(entries);
+      Envelope[] upperEnv = suffixEnvelopes(entries);
+      for (int k = minEntries; k <= entries.length - minEntries; k++) {
+        Envelope env1 = lowerEnv[k - 1];
+        Envelope env2 = upperEnv[k];
+        double overlap = overlapArea(env1.getMinX(), env1.getMaxX(), 
+            env1.getMinY(), env1.getMaxY(), env2);
+        double area = area(env1) + area(env2);
+        if (overlap < bestOverlap || (overlap == bestOverlap && area < bestArea)) {
+          bestOverlap = overlap;
+          bestArea = area;
+          bestIndex = k;
+          bestComparator = comparators[c];
+        }
+      }
+    }
+    Arrays.sort(entries, bestComparator);
+    
+    Node sibling = new Node(node.level, maxEntries);
+    for (int i = 0; i < entries.length; i++) {
+      Node target = i < bestIndex ? node : sibling;
+      target.add(entries[i].env, entries[i].item);
+    }
+    node.computeBounds();
+    sibling.computeBounds();
+    return sibling;
+  }
+
+  /**
+   * Computes the sum of the margins of all candidate distributions
+   * of a list of entries sorted with the given comparator.
+   */
+  private double splitMargin(Entry[] entries, Comparator comparator) {
+    Arrays.sort(entries, comparator);
+    Envelope[] lowerEnv = prefixEnvelopes(entries);
+    Envelope[] upperEnv = suffixEnvelopes(entries);
+    double margin = 0;
+    for (int k = minEntries; k <= entries.length - minEntries; k++) {
+      margin += margin(lowerEnv[k - 1]) + margin(upperEnv[k]);
+    }
+    return margin;
+  }
+
+  private static Envelope[] prefixEnvelopes(Entry[] entries) {
+    Envelope[] envs = new Envelope[entries.length];
+    Envelope env = new Envelope();
+    for (int i = 0; i < entries.length; i++) {
+      env = new Envelope(env);
+      env.expandToInclude(entries[i].env);
+      envs[i] = env;
+    }
+    return envs;
+  }
+
+  private static Envelope[] suffixEnvelopes(Entry[] entries) {
+    Envelope[] envs = new Envelope[entries.length];
+    Envelope env = new Envelope();
+    for (int i = entries.length - 1; i >= 0; i--) {
+      env = new Envelope(env);
+      env.expandToInclude(entries[i].env);
+      envs[i] = env;
+    }
+    return envs;
+  }
+
+  //------------------------------------------------------------------
+  // Removal
+  //------------------------------------------------------------------
+
+  private static Node findLeaf(Node node, Envelope itemEnv, Object item) {
+    for (int i = 0; i < node.size; i++) {
+      if (! node.entryEnvs[i].intersects(itemEnv))
+        continue;
+      if (node.isLeaf()) {
+        if (isEqual(item, node.entries[i]))
+          return node;
+      }
+      else {
+        Node leaf = findLeaf((Node) node.entries[i], itemEnv, item);
+        if (leaf != null) 
+          return leaf;
+      }
+    }
+    return null;
+  }
+
+  private static boolean isEqual(Object item, Object entry) {
+    return item == null ? entry == null : item.equals(entry);
+  }
+
+  /**
+   * Condenses the tree after an entry is removed from a leaf.
+   * Underfull nodes on the path to the root are removed,
+   * and their entries are reinserted at the same level. 
+   * If the root is left with a single child, the child becomes the root.
+   */
+  private void condense(Node leaf) {
+    List orphans = new ArrayList();
+    Node node = leaf;
+    while (node != root) {
+      Node parent = node.parent;
+      if (node.size < minEntries) {
+        parent.remove(parent.indexOf(node));
+        orphans.add(node);
+      }
+      else {
+        node.computeBounds();
+      }
+      node = parent;
+    }
+    root.computeBounds();
+    
+    for (int i = 0; i < orphans.size(); i++) {
+      Node orphan = (Node) orphans.get(i);
+      Entry[] entries = orphan.removeAll();
+      for (int j = 0; j < entries.length; j++) {
+        insertEntry(entries[j].env, entries[j].item, orphan.level, new boolean[root.level + 1]);
+      }
+    }
+    
+    while (! root.isLeaf() && root.size == 1) {
+      root = (Node) root.entries[0];
+      root.parent = null;
+    }
+    if (! root.isLeaf() && root.size == 0) {
+      root = new Node(0, maxEntries);
+    }
+  }
+  
+  /**
+   * Recomputes the bounds of a node and its ancestors.
+   */
+  private static void adjustBounds(Node node) {
+    for (Node n = node; n != null; n = n.parent) {
+      n.computeBounds();
+    }
+  }
+
+  //------------------------------------------------------------------
+  // Envelope measures
+  //------------------------------------------------------------------
+
+  private static double area(Envelope env) {
+    return env.getWidth() * env.getHeight();
+  }
+
+  private static double margin(Envelope env) {
+    return env.getWidth() + env.getHeight();
+  }
+
+  private static double unionArea(Envelope env1, Envelope env2) {
+    double w = Math.max(env1.getMaxX(), env2.getMaxX()) - Math.min(env1.getMinX(), env2.getMinX());
+    double h = Math.max(env1.getMaxY(), env2.getMaxY()) - Math.min(env1.getMinY(), env2.getMinY());
+    return w * h;
+  }
+
+  private static double overlapArea(double minx, double maxx, double miny, double maxy, Envelope env) {
+    double w = Math.min(maxx, env.getMaxX()) - Math.max(minx, env.getMinX());
+    if (w <= 0) return 0;
+    double h = Math.min(maxy, env.getMaxY()) - Math.max(miny, env.getMinY());
+    if (h <= 0) return 0;
+    return w * h;
+  }
+
+  private static final Comparator X_COMPARATOR = new Comparator() {
+    public int compare(Object o1, Object o2) {
+      Envelope e1 = ((Entry) o1).env;
+      Envelope e2 = ((Entry) o2).env;
+      return Double.compare(e1.getMinX() + e1.getMaxX(), e2.getMinX() + e2.getMaxX());
+    }
+  };
+
+  private static final Comparator Y_COMPARATOR = new Comparator() {
+    public int compare(Object o1, Object o2) {
+      Envelope e1 = ((Entry) o1).env;
+      Envelope e2 = ((Entry) o2).env;
+      return Double.compare(e1.getMinY() + e1.getMaxY(), e2.getMinY() + e2.getMaxY());
+    }
+  };
+
+  private static final Comparator MIN_X_COMPARATOR = new Comparator() {
+    public int compare(Object o1, Object o2) {
+      Envelope e1 = ((Entry) o1).env;
+      Envelope e2 = ((Entry) o2).env;
+      int comp = Double.compare(e1.getMinX(), e2.getMinX());
+      if (comp != 0) return comp;
+      return Double.compare(e1.getMaxX(), e2.getMaxX());
+    }
+  };
+
+  private static final Comparator MAX_X_COMPARATOR = new Comparator() {
+    public int compare(Object o1, Object o2) {
+      Envelope e1 = ((Entry) o1).env;
+      Envelope e2 = ((Entry) o2).env;
+      int comp = Double.compare(e1.getMaxX(), e2.getMaxX());
+      if (comp != 0) return comp;
+      return Double.compare(e1.getMinX(), e2.getMinX());
+    }
+  };
+
+  private static final Comparator MIN_Y_COMPARATOR = new Comparator() {
+    public int compare(Object o1, Object o2) {
+      Envelope e1 = ((Entry) o1).env;
+      Envelope e2 = ((Entry) o2).env;
+      int comp = Double.compare(e1.getMinY(), e2.getMinY());
+      if (comp != 0) return comp;
+      return Double.compare(e1.getMaxY(), e2.getMaxY());
+    }
+  };
+
+  private static final Comparator MAX_Y_COMPARATOR = new Comparator() {
+    public int compare(Object o1, Object o2) {
+      Envelope e1 = ((Entry) o1).env;
+      Envelope e2 = ((Entry) o2).env;
+      int comp = Double.compare(e1.getMaxY(), e2.getMaxY());
+      if (comp != 0) return comp;
+      return Double.compare(e1.getMinY(), e2.getMinY());
+    }
+  };
+
+  /**
+   * An entry of a node, used while restructuring the tree.
+   */
+  private static final class Entry {
+    final Envelope env;
+    final Object item;
+    
+    Entry(Envelope env, Object item) {
+      this.env = env;
+      this.item = item;
+    }
+  }
+  
+  /**
+   * A node of the tree.
+   * Leaf nodes (at level 0) contain items,
+   * and other nodes contain nodes at the next lower level.
+   * The envelope of a child node entry is the envelope of the child node.
+   */
+  private static final class Node implements Serializable {
+    
+    private static final long serialVersionUID = -5063128424183741395L;
+    
+    final int level;
+    Node parent;
+    final Envelope env = new Envelope();
+    final Object[] entries;
+    final Envelope[] entryEnvs;
+    int size = 0;
+
+    Node(int level, int capacity) {
+      this.level = level;
+      // allow for an extra entry before the node is split
+      entries = new Object[capacity + 1];
+      entryEnvs = new Envelope[capacity + 1];
+    }
+    
+    boolean isLeaf() {
+      return level == 0;
+    }
+    
+    void add(Envelope entryEnv, Object entry) {
+      entries[size] = entry;
+      entryEnvs[size] = entryEnv;
+      size++;
+      if (! isLeaf()) {
+        ((Node) entry).parent = this;
+      }
+    }
+    
+    int indexOf(Object entry) {
+      for (int i = 0; i < size; i++) {
+        if (entries[i] == entry)
+          return i;
+      }
+      return -1;
+    }
+
+    int indexOfItem(Envelope itemEnv, Object item) {
+      for (int i = 0; i < size; i++) {
+        if (entryEnvs[i].intersects(itemEnv) && isEqual(item, entries[i]))
+          return i;
+      }
+      return -1;
+    }
+
+    void remove(int index) {
+      size--;
+      entries[index] = entries[size];
+      entryEnvs[index] = entryEnvs[size];
+      entries[size] = null;
+      entryEnvs[size] = null;
+    }
+    
+    Entry[] removeAll() {
+      Entry[] removed = new Entry[size];
+      for (int i = 0; i < size; i++) {
+        removed[i] = new Entry(entryEnvs[i], entries[i]);
+        entries[i] = null;
+        entryEnvs[i] = null;
+      }
+      size = 0;
+      return removed;
+    }
+
+    void computeBounds() {
+      env.setToNull();
+      for (int i = 0; i < size; i++) {
+        env.expandToInclude(entryEnvs[i]);
+      }
+    }
+  }
+}
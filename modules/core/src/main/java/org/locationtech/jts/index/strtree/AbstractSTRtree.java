@@ -14,11 +14,14 @@ package org.locationtech.jts.index.strtree;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import org.locationtech.jts.index.ItemVisitor;
 import org.locationtech.jts.util.Assert;
@@ -34,6 +37,9 @@ import org.locationtech.jts.util.Assert;
  * <p>
  * This class is thread-safe.  Building the tree is synchronized, 
  * and querying is stateless.
+ * <p>
+ * For large numbers of items the tree can be built in parallel,
+ * using {@link #build(ForkJoinPool)}.
  *
  * @see STRtree
  * @see SIRtree
@@ -64,7 +70,7 @@ public abstract class AbstractSTRtree implements Serializable {
 
   protected AbstractNode root;
 
-  private boolean built = false;
+  private volatile boolean built = false;
   /**
    * Set to <tt>null</tt> when index is built, to avoid retaining memory.
    */
@@ -72,6 +78,12 @@ public abstract class AbstractSTRtree implements Serializable {
   
   private int nodeCapacity;
 
+  /**
+   * The pool used to run a parallel build.
+   * Only set while a parallel build is in progress.
+   */
+  private transient ForkJoinPool buildPool = null;
+
   private static final int DEFAULT_NODE_CAPACITY = 10;
 
   /**
@@ -122,16 +134,68 @@ public abstract class AbstractSTRtree implements Serializable {
    * called once, and thus can be called only after all of the data has been
    * inserted into the tree.
    */
-  public synchronized void build() {
+  public void build() {
+    // avoid locking once built, since built trees may be queried concurrently
+    if (built) return;
+    synchronized (this) {
+      if (built) return;
+      buildTree();
+    }
+  }
+
+  /**
+   * Builds the tree using the threads of the given {@link ForkJoinPool}.
+   * The boundables of each level are sorted in parallel,
+   * and the nodes of each level are constructed in parallel.
+   * The tree produced has exactly the same structure as
+   * the one created by {@link #build()}.
+   * <p>
+   * A parallel build is only worthwhile for large numbers of items.
+   * As with {@link #build()}, this can only be called once;
+   * if the tree is already built it has no effect.
+   * 
+   * @param pool the pool to use to build the tree
+   */
+  public synchronized void build(ForkJoinPool pool) {
     if (built) return;
+    buildPool = pool;
+    try {
+      pool.invoke(new BuildAction());
+    }
+    finally {
+      buildPool = null;
+    }
+  }
+
+  private void buildTree() {
     root = itemBoundables.isEmpty()
            ? createNode(0)
            : createHigherLevels(itemBoundables, -1);
+    // compute the root bounds before the tree is published to queries
+    root.getBounds();
     // the item list is no longer needed
     itemBoundables = null;
     built = true;
   }
 
+  private class BuildAction extends RecursiveAction {
+    @Override
+    protected void compute() {
+      buildTree();
+    }
+  }
+
+  /**
+   * Tests whether the tree is currently being built in parallel.
+   * If so, subclasses may parallelize the computation
+   * of parent boundables using {@link #createParentBoundablesParallel(List[], int)}.
+   * 
+   * @return true if a parallel build is in progress
+   */
+  protected boolean isParallelBuild() {
+    return buildPool != null;
+  }
+
   protected abstract AbstractNode createNode(int level);
 
   /**
@@ -142,8 +206,7 @@ public abstract class AbstractSTRtree implements Serializable {
     Assert.isTrue(!childBoundables.isEmpty());
     ArrayList parentBoundables = new ArrayList();
     parentBoundables.add(createNode(newLevel));
-    ArrayList sortedChildBoundables = new ArrayList(childBoundables);
-    Collections.sort(sortedChildBoundables, getComparator());
+    List sortedChildBoundables = sortBoundables(childBoundables, getComparator());
     for (Iterator i = sortedChildBoundables.iterator(); i.hasNext(); ) {
       Boundable childBoundable = (Boundable) i.next();
       if (lastNode(parentBoundables).getChildBoundables().size() == getNodeCapacity()) {
@@ -154,6 +217,136 @@ public abstract class AbstractSTRtree implements Serializable {
     return parentBoundables;
   }
 
+  /**
+   * Creates a sorted copy of a list of boundables.
+   * During a parallel build the sort is performed in parallel
+   * using the build pool.
+   * Both sorts are stable, so the order produced is the same.
+   * 
+   * @param boundables the boundables to sort
+   * @param comparator the comparator to sort with
+   * @return a new sorted list of the boundables
+   */
+  protected List sortBoundables(List boundables, Comparator comparator) {
+    if (! isParallelBuild()) {
+      ArrayList sorted = new ArrayList(boundables);
+      Collections.sort(sorted, comparator);
+      return sorted;
+    }
+    Object[] sorted = boundables.toArray();
+    // Arrays.parallelSort uses the common pool parallelism, so sort in the build pool
+    new SortAction(sorted, new Object[sorted.length], 0, sorted.length, comparator).invoke();
+    return new ArrayList(Arrays.asList(sorted));
+  }
+
+  private static final int PARALLEL_SORT_MIN_SIZE = 8192;
+
+  /**
+   * A stable merge sort of a range of an array, 
+   * sorting the halves of large ranges in parallel.
+   */
+  private static class SortAction extends RecursiveAction {
+    private Object[] items;
+    private Object[] buffer;
+    private int start;
+    private int end;
+    private Comparator comparator;
+
+    SortAction(Object[] items, Object[] buffer, int start, int end, Comparator comparator) {
+      this.items = items;
+      this.buffer = buffer;
+      this.start = start;
+      this.end = end;
+      this.comparator = comparator;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start <= PARALLEL_SORT_MIN_SIZE) {
+        Arrays.sort(items, start, end, comparator);
+        return;
+      }
+      int mid = (start + end) >>> 1;
+      invokeAll(new SortAction(items, buffer, start, mid, comparator),
+          new SortAction(items, buffer, mid, end, comparator));
+      merge(mid);
+    }
+
+    private void merge(int mid) {
+      if (comparator.compare(items[mid - 1], items[mid]) <= 0)
+        return;
+      System.arraycopy(items, start, buffer, start, end - start);
+      int i = start;
+      int j = mid;
+      for (int k = start; k < end; k++) {
+        // take from the lower half on ties, to keep the sort stable
+        if (j >= end || (i < mid && comparator.compare(buffer[i], buffer[j]) <= 0)) {
+          items[k] = buffer[i++];
+        }
+        else {
+          items[k] = buffer[j++];
+        }
+      }
+    }
+  }
+
+  /**
+   * Creates the parent boundables for a set of groups of child boundables,
+   * processing each group in parallel.
+   * The result contains the parents for each group, in group order.
+   * The bounds of the new parent nodes are computed 
+   * as part of the parallel computation.
+   * Must only be called during a parallel build.
+   * 
+   * @param childGroups the groups of child boundables
+   * @param newLevel the level of the parent boundables
+   * @return the list of parent boundables
+   */
+  protected List createParentBoundablesParallel(List[] childGroups, int newLevel) {
+    ParentBoundablesAction[] actions = new ParentBoundablesAction[childGroups.length];
+    for (int i = 0; i < childGroups.length; i++) {
+      actions[i] = new ParentBoundablesAction(childGroups[i], newLevel);
+    }
+    RecursiveAction.invokeAll(actions);
+    List parentBoundables = new ArrayList();
+    for (int i = 0; i < actions.length; i++) {
+      parentBoundables.addAll(actions[i].parentBoundables);
+    }
+    return parentBoundables;
+  }
+
+  /**
+   * Creates the parent boundables for a group of child boundables.
+   * By default this is {@link #createParentBoundables(List, int)}.
+   * 
+   * @param childBoundables the group of child boundables
+   * @param newLevel the level of the parent boundables
+   * @return the list of parent boundables
+   */
+  protected List createParentBoundablesForGroup(List childBoundables, int newLevel) {
+    return createParentBoundables(childBoundables, newLevel);
+  }
+
+  private class ParentBoundablesAction extends RecursiveAction {
+    private List childBoundables;
+    private int newLevel;
+    List parentBoundables;
+
+    ParentBoundablesAction(List childBoundables, int newLevel) {
+      this.childBoundables = childBoundables;
+      this.newLevel = newLevel;
+    }
+
+    @Override
+    protected void compute() {
+      parentBoundables = createParentBoundablesForGroup(childBoundables, newLevel);
+      // compute bounds in this thread, so they are not computed lazily by others
+      for (Object parent : parentBoundables) {
+        ((Boundable) parent).getBounds();
+      }
+    }
+  }
+
   protected AbstractNode lastNode(List nodes) {
     return (AbstractNode) nodes.get(nodes.size() - 1);
   }
@@ -13,14 +13,19 @@ package org.locationtech.jts.index.strtree;
 
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.ArrayListVisitor;
+import org.locationtech.jts.index.BatchItemVisitor;
+import org.locationtech.jts.index.ItemPairVisitor;
 import org.locationtech.jts.index.ItemVisitor;
+import org.locationtech.jts.index.QueryBatch;
 import org.locationtech.jts.index.SpatialIndex;
 import org.locationtech.jts.util.Assert;
 
@@ -47,6 +52,10 @@ import org.locationtech.jts.util.Assert;
  * Querying a tree is thread-safe.  
  * The building phase is done synchronously, 
  * and querying is stateless.
+ * <p>
+ * Large trees can be built using multiple threads
+ * via {@link #build(java.util.concurrent.ForkJoinPool)}.
+ * The vertical slices of each level are processed in parallel.
  *
  * @version 1.7
  */
@@ -124,8 +133,7 @@ implements SpatialIndex, Serializable
   protected List createParentBoundables(List childBoundables, int newLevel) {
     Assert.isTrue(!childBoundables.isEmpty());
     int minLeafCount = (int) Math.ceil((childBoundables.size() / (double) getNodeCapacity()));
-    ArrayList sortedChildBoundables = new ArrayList(childBoundables);
-    Collections.sort(sortedChildBoundables, xComparator);
+    List sortedChildBoundables = sortBoundables(childBoundables, xComparator);
     List[] verticalSlices = verticalSlices(sortedChildBoundables,
         (int) Math.ceil(Math.sqrt(minLeafCount)));
     return createParentBoundablesFromVerticalSlices(verticalSlices, newLevel);
@@ -133,6 +141,9 @@ implements SpatialIndex, Serializable
 
   private List createParentBoundablesFromVerticalSlices(List[] verticalSlices, int newLevel) {
     Assert.isTrue(verticalSlices.length > 0);
+    if (isParallelBuild()) {
+      return createParentBoundablesParallel(verticalSlices, newLevel);
+    }
     List parentBoundables = new ArrayList();
     for (int i = 0; i < verticalSlices.length; i++) {
       parentBoundables.addAll(
@@ -145,6 +156,10 @@ implements SpatialIndex, Serializable
     return super.createParentBoundables(childBoundables, newLevel);
   }
 
+  protected List createParentBoundablesForGroup(List childBoundables, int newLevel) {
+    return createParentBoundablesFromVerticalSlice(childBoundables, newLevel);
+  }
+
   /**
    * @param childBoundables Must be sorted by the x-value of the envelope midpoints
    */
@@ -241,6 +256,213 @@ implements SpatialIndex, Serializable
     super.query(searchEnv, visitor);
   }
 
+  /**
+   * Queries the tree with a batch of envelopes,
+   * reporting each pair of query index and item 
+   * whose bounds intersect.
+   * The queries are grouped by spatial proximity
+   * (see {@link QueryBatch}), and the tree is traversed once per group.
+   * The result pairs are not reported in any particular order.
+   * 
+   * @param searchEnvs the query envelopes
+   * @param visitor the visitor to report results to
+   */
+  public void query(Envelope[] searchEnvs, BatchItemVisitor visitor) {
+    query(new QueryBatch(searchEnvs), visitor);
+  }
+
+  /**
+   * Queries the tree with a batch of envelopes,
+   * reporting each pair of query index and item 
+   * whose bounds intersect.
+   * The tree is traversed once per query group.
+   * 
+   * @param batch the query batch
+   * @param visitor the visitor to report results to
+   */
+  public void query(QueryBatch batch, BatchItemVisitor visitor) {
+    build();
+    if (isEmpty()) return;
+    int maxDepth = root.getLevel() + 2;
+    int[][] active = new int[maxDepth][batch.getGroupSize()];
+    Envelope rootEnv = (Envelope) root.getBounds();
+    int numGroups = batch.getNumGroups();
+    for (int g = 0; g < numGroups; g++) {
+      int numQueries = batch.getGroup(g, active[1]);
+      int numActive = batch.intersecting(active[1], numQueries, 
+          rootEnv.getMinX(), rootEnv.getMinY(), rootEnv.getMaxX(), rootEnv.getMaxY(), active[0]);
+      if (numActive > 0) {
+        queryBatch(batch, root, active, 0, numActive, visitor);
+      }
+    }
+  }
+
+  private void queryBatch(QueryBatch batch, AbstractNode node, int[][] active, int depth, int numActive, 
+      BatchItemVisitor visitor) {
+    int[] nodeActive = active[depth];
+    List childBoundables = node.getChildBoundables();
+    for (int i = 0; i < childBoundables.size(); i++) {
+      Boundable childBoundable = (Boundable) childBoundables.get(i);
+      Envelope childEnv = (Envelope) childBoundable.getBounds();
+      int numChildActive = batch.intersecting(nodeActive, numActive, 
+          childEnv.getMinX(), childEnv.getMinY(), childEnv.getMaxX(), childEnv.getMaxY(), active[depth + 1]);
+      if (numChildActive == 0)
+        continue;
+      if (childBoundable instanceof AbstractNode) {
+        queryBatch(batch, (AbstractNode) childBoundable, active, depth + 1, numChildActive, visitor);
+      }
+      else {
+        Object item = ((ItemBoundable) childBoundable).getItem();
+        int[] childActive = active[depth + 1];
+        for (int k = 0; k < numChildActive; k++) {
+          visitor.visitItem(childActive[k], item);
+        }
+      }
+    }
+  }
+
+  /**
+   * Finds all pairs of items from this tree and another tree
+   * whose bounds intersect.
+   * The trees are traversed together, 
+   * so that only pairs of nodes whose bounds intersect are visited.
+   * The pairs are not reported in any particular order.
+   * <p>
+   * If the tree is joined with itself
+   * each item is reported paired with itself,
+   * and each pair of distinct items is reported in both orders.
+   * 
+   * @param tree the tree to join with
+   * @param visitor the visitor to report pairs to
+   */
+  public void join(STRtree tree, ItemPairVisitor visitor)
+  {
+    join(tree, visitor, null);
+  }
+
+  /**
+   * Finds all pairs of items from this tree and another tree
+   * whose bounds intersect, 
+   * optionally using a {@link ForkJoinPool} to 
+   * process pairs of subtrees in parallel.
+   * If a pool is provided the visitor must be thread-safe.
+   * 
+   * @param tree the tree to join with
+   * @param visitor the visitor to report pairs to
+   * @param pool the pool to use, or null to join in the calling thread
+   * 
+   * @see #join(STRtree, ItemPairVisitor)
+   */
+  public void join(STRtree tree, ItemPairVisitor visitor, ForkJoinPool pool)
+  {
+    build();
+    tree.build();
+    if (isEmpty() || tree.isEmpty()) return;
+    AbstractNode root1 = getRoot();
+    AbstractNode root2 = tree.getRoot();
+    if (! intersects(root1, root2)) return;
+    if (pool == null) {
+      joinBoundables(root1, root2, visitor);
+    }
+    else {
+      pool.invoke(new JoinAction(root1, root2, visitor));
+    }
+  }
+  
+  private static void joinBoundables(Boundable bnd1, Boundable bnd2, ItemPairVisitor visitor)
+  {
+    if (isExpandFirst(bnd1, bnd2)) {
+      List children = ((AbstractNode) bnd1).getChildBoundables();
+      for (int i = 0; i < children.size(); i++) {
+        Boundable child = (Boundable) children.get(i);
+        if (intersects(child, bnd2)) {
+          joinBoundables(child, bnd2, visitor);
+        }
+      }
+    }
+    else if (bnd2 instanceof AbstractNode) {
+      List children = ((AbstractNode) bnd2).getChildBoundables();
+      for (int i = 0; i < children.size(); i++) {
+        Boundable child = (Boundable) children.get(i);
+        if (intersects(bnd1, child)) {
+          joinBoundables(bnd1, child, visitor);
+        }
+      }
+    }
+    else {
+      visitor.visitPair(((ItemBoundable) bnd1).getItem(), ((ItemBoundable) bnd2).getItem());
+    }
+  }
+  
+  /**
+   * Tests whether the first boundable of a join pair should be expanded.
+   * The boundable which is higher in its tree is expanded first,
+   * which keeps the pairs of subtrees roughly balanced in size.
+   */
+  private static boolean isExpandFirst(Boundable bnd1, Boundable bnd2)
+  {
+    if (! (bnd1 instanceof AbstractNode)) return false;
+    if (! (bnd2 instanceof AbstractNode)) return true;
+    return ((AbstractNode) bnd1).getLevel() >= ((AbstractNode) bnd2).getLevel();
+  }
+  
+  private static boolean intersects(Boundable bnd1, Boundable bnd2)
+  {
+    return ((Envelope) bnd1.getBounds()).intersects((Envelope) bnd2.getBounds());
+  }
+  
+  private static int level(Boundable bnd)
+  {
+    if (bnd instanceof AbstractNode) 
+      return ((AbstractNode) bnd).getLevel();
+    return -1;
+  }
+  
+  /**
+   * Joins a pair of subtrees, forking a subtask for each 
+   * intersecting pair of child subtrees
+   * until the leaf nodes are reached.
+   */
+  private static class JoinAction extends RecursiveAction 
+  {
+    private Boundable bnd1;
+    private Boundable bnd2;
+    private ItemPairVisitor visitor;
+
+    JoinAction(Boundable bnd1, Boundable bnd2, ItemPairVisitor visitor) {
+      this.bnd1 = bnd1;
+      this.bnd2 = bnd2;
+      this.visitor = visitor;
+    }
+    
+    protected void compute() {
+      if (Math.max(level(bnd1), level(bnd2)) <= 0) {
+        joinBoundables(bnd1, bnd2, visitor);
+        return;
+      }
+      List tasks = new ArrayList();
+      if (isExpandFirst(bnd1, bnd2)) {
+        List children = ((AbstractNode) bnd1).getChildBoundables();
+        for (int i = 0; i < children.size(); i++) {
+          Boundable child = (Boundable) children.get(i);
+          if (intersects(child, bnd2)) {
+            tasks.add(new JoinAction(child, bnd2, visitor));
+          }
+        }
+      }
+      else {
+        List children = ((AbstractNode) bnd2).getChildBoundables();
+        for (int i = 0; i < children.size(); i++) {
+          Boundable child = (Boundable) children.get(i);
+          if (intersects(bnd1, child)) {
+            tasks.add(new JoinAction(bnd1, child, visitor));
+          }
+        }
+      }
+      invokeAll(tasks);
+    }
+  }
+
   /**
    * Removes a single item from the tree.
    *
@@ -498,6 +720,60 @@ implements SpatialIndex, Serializable
     return false;
   }
  
+  /**
+   * Queries the tree for all items which lie within a given distance 
+   * of a query item, using {@link ItemDistance} as the distance metric.
+   * The distance between items must be no less than 
+   * the distance between their envelopes.
+   * 
+   * @param env the envelope of the query item
+   * @param item the query item
+   * @param itemDist a distance metric applicable to the items in this tree and the query item
+   * @param maxDistance the distance limit for the search
+   * @return a list of the items found
+   */
+  public List queryWithinDistance(Envelope env, Object item, ItemDistance itemDist, double maxDistance) 
+  {
+    ArrayListVisitor visitor = new ArrayListVisitor();
+    queryWithinDistance(env, item, itemDist, maxDistance, visitor);
+    return visitor.getItems();
+  }
+
+  /**
+   * Queries the tree for all items which lie within a given distance 
+   * of a query item, using {@link ItemDistance} as the distance metric,
+   * and applies an {@link ItemVisitor} to them.
+   * Subtrees whose bounds lie further than the distance
+   * from the query envelope are not searched.
+   * The distance between items must be no less than 
+   * the distance between their envelopes.
+   * 
+   * @param env the envelope of the query item
+   * @param item the query item
+   * @param itemDist a distance metric applicable to the items in this tree and the query item
+   * @param maxDistance the distance limit for the search
+   * @param visitor a visitor to apply to the items found
+   */
+  public void queryWithinDistance(Envelope env, Object item, ItemDistance itemDist, 
+      double maxDistance, ItemVisitor visitor) 
+  {
+    if (isEmpty()) return;
+    ItemBoundable queryBnd = new ItemBoundable(env, item);
+    List<Boundable> stack = new ArrayList<Boundable>();
+    stack.add(getRoot());
+    while (! stack.isEmpty()) {
+      Boundable bnd = stack.remove(stack.size() - 1);
+      if (((Envelope) bnd.getBounds()).distance(env) > maxDistance) 
+        continue;
+      if (bnd instanceof AbstractNode) {
+        stack.addAll(((AbstractNode) bnd).getChildBoundables());
+      }
+      else if (itemDist.distance((ItemBoundable) bnd, queryBnd) <= maxDistance) {
+        visitor.visitItem(((ItemBoundable) bnd).getItem());
+      }
+    }
+  }
+ 
   /**
    * Finds up to k items in this tree which are the nearest neighbors to the given {@code item}, 
    * using {@code itemDist} as the distance metric.
@@ -520,7 +796,8 @@ implements SpatialIndex, Serializable
    * @param item the item to find the nearest neighbours of
    * @param itemDist a distance metric applicable to the items in this tree and the query item
    * @param k the maximum number of nearest items to search for
-   * @return an array of the nearest items found (with length between 0 and K)
+   * @return an array of the nearest items found (with length between 0 and K),
+   *   in order of increasing distance
    */
   public Object[] nearestNeighbour(Envelope env, Object item, ItemDistance itemDist,int k)
   {
@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+import java.util.Arrays;
+
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+
+/**
+ * Parses the coordinate text of XML geometry formats
+ * (such as the GML <code>coordinates</code> and <code>posList</code> elements
+ * and the KML <code>coordinates</code> element)
+ * directly from character data into a packed array of ordinates.
+ * <p>
+ * Ordinates are accumulated over one or more calls to the parse methods,
+ * and can then be converted to a {@link CoordinateSequence}.
+ * Numbers are parsed with {@link OrdinateParser}, 
+ * so no intermediate strings or {@link org.locationtech.jts.geom.Coordinate}s 
+ * are created.
+ * The parser can be {@link #reset()} and reused, 
+ * retaining its allocated buffer.
+ * <p>
+ * This class is not thread-safe.
+ */
+public class CoordinateTextParser
+{
+  /**
+   * The maximum number of ordinates stored for each coordinate.
+   */
+  private static final int STRIDE = 3;
+
+  private double[] ords = new double[3 * 64];
+  private int numCoords = 0;
+  private int dimension = 0;
+  private char[] numBuf = new char[32];
+
+  /**
+   * Creates a new parser.
+   */
+  public CoordinateTextParser() {
+  }
+
+  /**
+   * Removes all parsed coordinates.
+   */
+  public void reset() {
+    numCoords = 0;
+    dimension = 0;
+  }
+
+  /**
+   * Gets the number of coordinates parsed.
+   * 
+   * @return the number of coordinates
+   */
+  public int size() {
+    return numCoords;
+  }
+
+  /**
+   * Gets the dimension of the parsed coordinates, 
+   * which is the largest number of ordinates in any coordinate (at most 3).
+   * 
+   * @return the coordinate dimension, or 0 if no coordinates have been parsed
+   */
+  public int getDimension() {
+    return dimension;
+  }
+
+  /**
+   * Gets an ordinate value of a parsed coordinate.
+   * 
+   * @param index the coordinate index
+   * @param ordinateIndex the ordinate index
+   * @return the ordinate value, or NaN if it was not present
+   */
+  public double getOrdinate(int index, int ordinateIndex) {
+    return ords[index * STRIDE + ordinateIndex];
+  }
+
+  /**
+   * Parses a list of tuples, with ordinates separated by a coordinate separator 
+   * and tuples separated by a tuple separator.
+   * Whitespace around separators is ignored.
+   * If the tuple separator is whitespace, any whitespace separates tuples.
+   * Missing ordinates are NaN, and ordinates after the third are ignored.
+   * This handles GML2 <code>coordinates</code> text, 
+   * and KML <code>coordinates</code> text (which uses the default separators).
+   * 
+   * @param text the character data
+   * @param start the start of the text
+   * @param end the end of the text (exclusive)
+   * @param cs the coordinate separator (usually <code>','</code>)
+   * @param ts the tuple separator (usually <code>' '</code>)
+   * @param decimal the decimal point character (usually <code>'.'</code>)
+   * @throws ParseException if a number is invalid
+   */
+  public void parseTuples(char[] text, int start, int end, char cs, char ts, char decimal) 
+      throws ParseException
+  {
+    int i = skipWhitespace(text, start, end);
+    while (i < end) {
+      int base = addCoordinate();
+      int n = 0;
+      boolean isMore;
+      do {
+        i = skipWhitespace(text, i, end);
+        int tokStart = i;
+        while (i < end) {
+          char c = text[i];
+          if (c == cs || c == ts || isWhitespace(c)) break;
+          i++;
+        }
+        if (i == tokStart)
+          throw new ParseException("Missing ordinate value at position " + (tokStart - start));
+        double value = parseNumber(text, tokStart, i, decimal);
+        if (n < STRIDE) 
+          ords[base + n] = value;
+        n++;
+        int next = skipWhitespace(text, i, end);
+        isMore = false;
+        if (next < end && text[next] == cs && ! isWhitespace(cs)) {
+          isMore = true;
+          i = next + 1;
+        }
+        else if (next < end && text[next] == ts) {
+          i = next + 1;
+        }
+        else if (next < end && text[i] == cs) {
+          // whitespace coordinate separator
+          isMore = true;
+          i = next;
+        }
+        else {
+          i = next;
+        }
+      } while (isMore);
+      updateDimension(n);
+      i = skipWhitespace(text, i, end);
+    }
+  }
+
+  /**
+   * Parses a whitespace-separated list of ordinates 
+   * with a given number of ordinates per coordinate,
+   * as in GML <code>posList</code> and <code>pos</code> text.
+   * 
+   * @param text the character data
+   * @param start the start of the text
+   * @param end the end of the text (exclusive)
+   * @param dim the number of ordinates in each coordinate
+   * @throws ParseException if a number is invalid, or the number of values is 
+   *   not a multiple of the dimension
+   */
+  public void parseList(char[] text, int start, int end, int dim) 
+      throws ParseException
+  {
+    int i = skipWhitespace(text, start, end);
+    int n = 0;
+    int base = 0;
+    while (i < end) {
+      int tokStart = i;
+      while (i < end && ! isWhitespace(text[i])) {
+        i++;
+      }
+      if (n == 0) base = addCoordinate();
+      double value = parseNumber(text, tokStart, i, '.');
+      if (n < STRIDE) 
+        ords[base + n] = value;
+      n++;
+      if (n == dim) {
+        updateDimension(n);
+        n = 0;
+      }
+      i = skipWhitespace(text, i, end);
+    }
+    if (n != 0)
+      throw new ParseException("Number of ordinate values is not a multiple of dimension " + dim);
+  }
+
+  /**
+   * Adds a coordinate with a given number of ordinates.
+   * 
+   * @param values the ordinate values
+   * @param n the number of values
+   */
+  public void add(double[] values, int n) {
+    int base = addCoordinate();
+    for (int i = 0; i < n && i < STRIDE; i++) {
+      ords[base + i] = values[i];
+    }
+    updateDimension(n);
+  }
+
+  /**
+   * Creates a coordinate sequence containing the parsed coordinates,
+   * with the dimension of the parsed coordinates (but at least 2).
+   * If the factory is a {@link PackedCoordinateSequenceFactory}
+   * the ordinates are copied into the sequence storage in bulk.
+   * 
+   * @param csFactory the factory to create the sequence with
+   * @param precisionModel the precision model to apply to the X and Y ordinates, or null
+   * @return a coordinate sequence
+   */
+  public CoordinateSequence toSequence(CoordinateSequenceFactory csFactory, 
+      PrecisionModel precisionModel) {
+    int dim = Math.max(2, dimension);
+    if (precisionModel != null && ! precisionModel.isFloating()) {
+      for (int i = 0; i < numCoords; i++) {
+        int base = i * STRIDE;
+        ords[base] = precisionModel.makePrecise(ords[base]);
+        ords[base + 1] = precisionModel.makePrecise(ords[base + 1]);
+      }
+    }
+    if (csFactory instanceof PackedCoordinateSequenceFactory) {
+      double[] packed;
+      if (dim == STRIDE) {
+        packed = Arrays.copyOf(ords, numCoords * STRIDE);
+      }
+      else {
+        packed = new double[numCoords * dim];
+        for (int i = 0, j = 0; i < numCoords; i++, j += dim) {
+          System.arraycopy(ords, i * STRIDE, packed, j, dim);
+        }
+      }
+      return ((PackedCoordinateSequenceFactory) csFactory).create(packed, dim, 0);
+    }
+    CoordinateSequence seq = csFactory.create(numCoords, dim);
+    int seqDim = Math.min(dim, seq.getDimension());
+    for (int i = 0; i < numCoords; i++) {
+      for (int d = 0; d < seqDim; d++) {
+        seq.setOrdinate(i, d, ords[i * STRIDE + d]);
+      }
+    }
+    return seq;
+  }
+
+  private int addCoordinate() {
+    int base = numCoords * STRIDE;
+    if (base + STRIDE > ords.length) {
+      ords = Arrays.copyOf(ords, 2 * ords.length);
+    }
+    ords[base] = Double.NaN;
+    ords[base + 1] = Double.NaN;
+    ords[base + 2] = Double.NaN;
+    numCoords++;
+    return base;
+  }
+
+  private void updateDimension(int n) {
+    if (n > dimension) 
+      dimension = Math.min(n, STRIDE);
+  }
+
+  private double parseNumber(char[] text, int start, int end, char decimal) 
+      throws ParseException
+  {
+    try {
+      if (decimal == '.')
+        return OrdinateParser.parse(text, start, end);
+      int len = end - start;
+      if (len > numBuf.length) 
+        numBuf = new char[len];
+      for (int i = 0; i < len; i++) {
+        char c = text[start + i];
+        numBuf[i] = c == decimal ? '.' : c;
+      }
+      return OrdinateParser.parse(numBuf, 0, len);
+    }
+    catch (NumberFormatException ex) {
+      throw new ParseException("Invalid number: " + new String(text, start, end - start));
+    }
+  }
+
+  private static int skipWhitespace(char[] text, int i, int end) {
+    while (i < end && isWhitespace(text[i])) {
+      i++;
+    }
+    return i;
+  }
+
+  private static boolean isWhitespace(char c) {
+    return c == ' ' || c == '\n' || c == '\t' || c == '\r';
+  }
+}
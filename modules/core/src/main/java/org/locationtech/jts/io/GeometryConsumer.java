@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * A consumer of geometries read from a stream of records.
+ * 
+ * @see GeometryStreamReader
+ */
+public interface GeometryConsumer
+{
+  /**
+   * Accepts a geometry read from a record.
+   * 
+   * @param recordNum the zero-based number of the record in the input
+   * @param geometry the geometry read from the record
+   */
+  void accept(long recordNum, Geometry geometry);
+}
@@ -0,0 +1,617 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+/**
+ * Reads a stream of geometry records in WKT or WKB hex format,
+ * decoding the records in parallel.
+ * <p>
+ * The input is split into records on the calling thread,
+ * and the records are decoded in batches on a {@link ForkJoinPool}.
+ * Geometries are passed to a {@link GeometryConsumer} on the calling thread,
+ * either in input order or in the order batches are decoded.
+ * Unordered delivery is faster when records vary in size, 
+ * since a slow batch does not hold up delivery of the others.
+ * The number of batches being decoded or waiting to be delivered is bounded,
+ * so input of any size can be read in bounded memory.
+ * If no pool is set, records are decoded on the calling thread.
+ * <p>
+ * The formats are:
+ * <ul>
+ * <li>{@link #WKT} - geometries in WKT separated by whitespace, 
+ * as read by {@link WKTFileReader}.
+ * Records are delimited by matching parentheses or the keyword <code>EMPTY</code>.
+ * <li>{@link #WKB_HEX} - one geometry in WKB hex per line,
+ * as read by {@link WKBHexFileReader}.
+ * </ul>
+ * <p>
+ * An instance may be used to read several inputs, but not concurrently.
+ * 
+ * @see WKTFileReader
+ * @see WKBHexFileReader
+ */
+public class GeometryStreamReader
+{
+  /**
+   * Format code for Well-Known Text records.
+   */
+  public static final int WKT = 1;
+  
+  /**
+   * Format code for Well-Known Binary hex records, one per line.
+   */
+  public static final int WKB_HEX = 2;
+  
+  /**
+   * The default number of characters of input in a batch.
+   */
+  public static final int DEFAULT_BATCH_SIZE = 64 * 1024;
+  
+  private int format;
+  private GeometryFactory geomFactory;
+  private ForkJoinPool pool = null;
+  private boolean isOrdered = true;
+  private int maxPendingBatches = -1;
+  private int batchSize = DEFAULT_BATCH_SIZE;
+  private long limit = -1;
+  private long offset = 0;
+  private boolean isStrictParsing = true;
+  private boolean isOldJtsCoordinateSyntaxAllowed = true;
+  private boolean isFixStructure = false;
+
+  /**
+   * Creates a reader for the given format
+   * which creates geometries using the default {@link GeometryFactory}.
+   * 
+   * @param format the format code ({@link #WKT} or {@link #WKB_HEX})
+   */
+  public GeometryStreamReader(int format) {
+    this(format, new GeometryFactory());
+  }
+  
+  /**
+   * Creates a reader for the given format
+   * which creates geometries using the given {@link GeometryFactory}.
+   * 
+   * @param format the format code ({@link #WKT} or {@link #WKB_HEX})
+   * @param geomFactory the factory to use to create geometries
+   */
+  public GeometryStreamReader(int format, GeometryFactory geomFactory) {
+    if (format != WKT && format != WKB_HEX)
+      throw new IllegalArgumentException("Unknown format code: " + format);
+    this.format = format;
+    this.geomFactory = geomFactory;
+  }
+  
+  /**
+   * Sets the pool used to decode records.
+   * If the pool is <code>null</code> (the default) 
+   * records are decoded on the calling thread.
+   * 
+   * @param pool the pool to use, or null
+   */
+  public void setPool(ForkJoinPool pool) {
+    this.pool = pool;
+  }
+  
+  /**
+   * Sets whether geometries are delivered in input order (the default).
+   * If not, batches of geometries are delivered as soon as they are decoded.
+   * Geometries within a batch are always delivered in order.
+   * 
+   * @param isOrdered true if geometries should be delivered in input order
+   */
+  public void setOrdered(boolean isOrdered) {
+    this.isOrdered = isOrdered;
+  }
+  
+  /**
+   * Sets the maximum number of batches which may be being decoded
+   * or waiting to be delivered.
+   * Reading input is paused when this number is reached.
+   * The default is twice the parallelism of the pool. 
+   * 
+   * @param maxPendingBatches the maximum number of pending batches
+   */
+  public void setMaxPendingBatches(int maxPendingBatches) {
+    if (maxPendingBatches < 1)
+      throw new IllegalArgumentException("Max pending batches must be positive");
+    this.maxPendingBatches = maxPendingBatches;
+  }
+  
+  /**
+   * Sets the number of characters of input in a batch of records.
+   * A batch contains at least one record,
+   * so it may be larger if records are larger than the batch size.
+   * 
+   * @param batchSize the number of characters in a batch
+   */
+  public void setBatchSize(int batchSize) {
+    if (batchSize < 1)
+      throw new IllegalArgumentException("Batch size must be positive");
+    this.batchSize = batchSize;
+  }
+  
+  /**
+   * Sets the maximum number of records to read.
+   * 
+   * @param limit the maximum number of records to read
+   */
+  public void setLimit(long limit) {
+    this.limit = limit;
+  }
+  
+  /**
+   * Sets the number of records to skip before reading.
+   * Skipped records are not decoded.
+   * 
+   * @param offset the number of records to skip
+   */
+  public void setOffset(long offset) {
+    this.offset = offset;
+  }
+  
+  /**
+   * Sets whether a record which cannot be parsed is an error (the default).
+   * If not, records which cannot be parsed are skipped.
+   * 
+   * @param isStrict whether records which cannot be parsed are an error
+   */
+  public void setStrictParsing(boolean isStrict) {
+    this.isStrictParsing = isStrict;
+  }
+  
+  /**
+   * Sets whether WKT coordinates may have 3 ordinate values 
+   * even though no Z or M ordinate indicator is present.
+   * 
+   * @param value a boolean value
+   * 
+   * @see WKTReader#setIsOldJtsCoordinateSyntaxAllowed(boolean)
+   */
+  public void setIsOldJtsCoordinateSyntaxAllowed(boolean value) {
+    this.isOldJtsCoordinateSyntaxAllowed = value;
+  }
+  
+  /**
+   * Sets whether the structure of WKT input geometry should be fixed
+   * so that the geometry can be constructed without error.
+   * 
+   * @param isFixStructure true if the input structure should be fixed
+   * 
+   * @see WKTReader#setFixStructure(boolean)
+   */
+  public void setFixStructure(boolean isFixStructure) {
+    this.isFixStructure = isFixStructure;
+  }
+  
+  /**
+   * Reads the geometries from a file.
+   * 
+   * @param file the file to read
+   * @param consumer the consumer to pass geometries to
+   * @return the number of geometries read
+   * @throws IOException if an I/O error occurred
+   * @throws ParseException if a record could not be parsed and parsing is strict
+   */
+  public long read(File file, GeometryConsumer consumer) 
+      throws IOException, ParseException {
+    Reader reader = new FileReader(file);
+    try {
+      return read(reader, consumer);
+    }
+    finally {
+      reader.close();
+    }
+  }
+  
+  /**
+   * Reads the geometries from a {@link Reader}.
+   * The reader is not closed.
+   * 
+   * @param reader the reader to read from
+   * @param consumer the consumer to pass geometries to
+   * @return the number of geometries read
+   * @throws IOException if an I/O error occurred
+   * @throws ParseException if a record could not be parsed and parsing is strict
+   */
+  public long read(Reader reader, GeometryConsumer consumer) 
+      throws IOException, ParseException {
+    int maxPending = maxPendingBatches;
+    if (maxPending < 0) 
+      maxPending = pool == null ? 1 : 2 * pool.getParallelism();
+    return new StreamRead(reader, consumer, maxPending).read();
+  }
+  
+  private WKTReader createWKTReader() {
+    WKTReader reader = new WKTReader(geomFactory);
+    reader.setIsOldJtsCoordinateSyntaxAllowed(isOldJtsCoordinateSyntaxAllowed);
+    reader.setFixStructure(isFixStructure);
+    return reader;
+  }
+  
+  private static byte[] hexToBytes(char[] text, int start, int end) throws ParseException {
+    int len = end - start;
+    if (len % 2 != 0)
+      throw new ParseException("Hex string has odd length");
+    byte[] bytes = new byte[len / 2];
+    for (int i = 0; i < bytes.length; i++) {
+      int nib1 = Character.digit(text[start + 2 * i], 16);
+      int nib0 = Character.digit(text[start + 2 * i + 1], 16);
+      if (nib1 < 0 || nib0 < 0)
+        throw new ParseException("Invalid hex digit at position " + 2 * i);
+      bytes[i] = (byte) ((nib1 << 4) + nib0);
+    }
+    return bytes;
+  }
+
+  /**
+   * A batch of records, which share a buffer of input text.
+   */
+  private static class Batch {
+    long seq;
+    long firstRecordNum;
+    char[] text;
+    int[] start = new int[16];
+    int[] end = new int[16];
+    int size = 0;
+    Geometry[] geoms;
+    Throwable error;
+    
+    Batch(char[] text, long firstRecordNum) {
+      this.text = text;
+      this.firstRecordNum = firstRecordNum;
+    }
+    
+    void add(int recStart, int recEnd) {
+      if (size == start.length) {
+        start = Arrays.copyOf(start, 2 * size);
+        end = Arrays.copyOf(end, 2 * size);
+      }
+      start[size] = recStart;
+      end[size] = recEnd;
+      size++;
+    }
+  }
+  
+  /**
+   * The state of reading a single input.
+   */
+  private class StreamRead {
+    private Reader reader;
+    private GeometryConsumer consumer;
+    private int maxPending;
+    
+    private char[] buf;
+    private int pos = 0;
+    private int end = 0;
+    private boolean isEOF = false;
+    private boolean isDone = false;
+    private long recordNum = 0;
+    
+    private BlockingQueue<Batch> completed = new LinkedBlockingQueue<Batch>();
+    private Map<Long, Batch> waiting = new HashMap<Long, Batch>();
+    private long numSubmitted = 0;
+    private long nextToDeliver = 0;
+    private int numPending = 0;
+    private long numGeoms = 0;
+    private volatile boolean isCancelled = false;
+    
+    StreamRead(Reader reader, GeometryConsumer consumer, int maxPending) {
+      this.reader = reader;
+      this.consumer = consumer;
+      this.maxPending = maxPending;
+      buf = new char[batchSize];
+    }
+    
+    long read() throws IOException, ParseException {
+      try {
+        Batch batch;
+        while ((batch = nextBatch()) != null) {
+          while (numPending >= maxPending) {
+            complete(take());
+          }
+          submit(batch);
+          Batch done;
+          while ((done = completed.poll()) != null) {
+            complete(done);
+          }
+        }
+        while (numPending > 0) {
+          complete(take());
+        }
+      }
+      finally {
+        isCancelled = true;
+      }
+      return numGeoms;
+    }
+    
+    private Batch take() throws InterruptedIOException {
+      try {
+        return completed.take();
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while reading geometries");
+      }
+    }
+    
+    private void submit(final Batch batch) throws IOException, ParseException {
+      batch.seq = numSubmitted++;
+      numPending++;
+      if (pool == null) {
+        decode(batch);
+        complete(batch);
+        return;
+      }
+      pool.execute(new Runnable() {
+        public void run() {
+          try {
+            decode(batch);
+          }
+          catch (Throwable t) {
+            batch.error = t;
+          }
+          finally {
+            completed.add(batch);
+          }
+        }
+      });
+    }
+    
+    private void complete(Batch batch) throws IOException, ParseException {
+      if (! isOrdered) {
+        numPending--;
+        deliver(batch);
+        return;
+      }
+      waiting.put(batch.seq, batch);
+      Batch next;
+      while ((next = waiting.remove(nextToDeliver)) != null) {
+        nextToDeliver++;
+        numPending--;
+        deliver(next);
+      }
+    }
+    
+    private void deliver(Batch batch) throws IOException, ParseException {
+      if (batch.error != null) {
+        if (batch.error instanceof ParseException)
+          throw (ParseException) batch.error;
+        if (batch.error instanceof RuntimeException)
+          throw (RuntimeException) batch.error;
+        if (batch.error instanceof Error)
+          throw (Error) batch.error;
+        throw new IOException(batch.error);
+      }
+      for (int i = 0; i < batch.size; i++) {
+        Geometry geom = batch.geoms[i];
+        if (geom != null) {
+          consumer.accept(batch.firstRecordNum + i, geom);
+          numGeoms++;
+        }
+      }
+    }
+    
+    private void decode(Batch batch) throws ParseException {
+      batch.geoms = new Geometry[batch.size];
+      WKTReader wktReader = null;
+      WKBReader wkbReader = null;
+      if (format == WKT) 
+        wktReader = createWKTReader();
+      else
+        wkbReader = new WKBReader(geomFactory);
+      
+      for (int i = 0; i < batch.size && ! isCancelled; i++) {
+        int recStart = batch.start[i];
+        int recEnd = batch.end[i];
+        try {
+          if (format == WKT) {
+            batch.geoms[i] = wktReader.read(batch.text, recStart, recEnd - recStart);
+          }
+          else {
+            batch.geoms[i] = wkbReader.read(hexToBytes(batch.text, recStart, recEnd));
+          }
+        }
+        catch (ParseException ex) {
+          if (isStrictParsing) {
+            throw new ParseException("Error reading record " 
+                + (batch.firstRecordNum + i) + ": " + ex.getMessage());
+          }
+        }
+      }
+    }
+    
+    /**
+     * Splits the next batch of records from the input.
+     * 
+     * @return the next batch, or null if there are no more records
+     */
+    private Batch nextBatch() throws IOException {
+      if (isDone) 
+        return null;
+      Batch batch = null;
+      while (true) {
+        if (limit >= 0 && recordNum >= offset + limit) {
+          isDone = true;
+          return batch;
+        }
+        int recStart = findRecordStart();
+        int next = recStart < 0 ? -1 : findRecordEnd(recStart);
+        if (next < 0 && isEOF) {
+          isDone = true;
+          if (recStart >= 0) {
+            //-- incomplete final record
+            batch = addRecord(batch, recStart, end);
+          }
+          return batch;
+        }
+        if (next >= 0) {
+          batch = addRecord(batch, recStart, next);
+          pos = next;
+          continue;
+        }
+        //-- more input is needed
+        if (end == buf.length) {
+          if (batch != null) {
+            moveInput(new char[buf.length]);
+            return batch;
+          }
+          if (pos > 0) {
+            //-- buffer is not used by a batch, so can be reused
+            moveInput(buf);
+          }
+          else {
+            //-- a single record is larger than the buffer
+            moveInput(new char[2 * buf.length]);
+          }
+        }
+        int n = reader.read(buf, end, buf.length - end);
+        if (n < 0) 
+          isEOF = true;
+        else
+          end += n;
+      }
+    }
+    
+    /**
+     * Moves the unprocessed input to the start of a buffer.
+     */
+    private void moveInput(char[] newBuf) {
+      int remaining = end - pos;
+      System.arraycopy(buf, pos, newBuf, 0, remaining);
+      buf = newBuf;
+      pos = 0;
+      end = remaining;
+    }
+    
+    private Batch addRecord(Batch batch, int recStart, int recEnd) {
+      long num = recordNum++;
+      if (num < offset)
+        return batch;
+      if (batch == null) 
+        batch = new Batch(buf, num);
+      while (recEnd > recStart && buf[recEnd - 1] <= ' ') 
+        recEnd--;
+      batch.add(recStart, recEnd);
+      return batch;
+    }
+    
+    /**
+     * Finds the start of the next record, skipping whitespace
+     * and (for WKT) comments.
+     * 
+     * @return the index of the record start, or -1 if more input is needed
+     */
+    private int findRecordStart() {
+      int i = pos;
+      while (i < end) {
+        char c = buf[i];
+        if (c == '#' && format == WKT) {
+          int eol = findEndOfLine(i);
+          if (eol < 0) {
+            pos = i;
+            return -1;
+          }
+          i = eol;
+          continue;
+        }
+        if (c > ' ') {
+          pos = i;
+          return i;
+        }
+        i++;
+      }
+      pos = end;
+      return -1;
+    }
+    
+    /**
+     * Finds the end of a record.
+     * 
+     * @param recStart the start of the record
+     * @return the index after the end of the record, or -1 if more input is needed
+     */
+    private int findRecordEnd(int recStart) {
+      if (format == WKB_HEX)
+        return findEndOfLine(recStart);
+      int depth = 0;
+      int i = recStart;
+      while (i < end) {
+        char c = buf[i];
+        if (c == '(') {
+          depth++;
+        }
+        else if (c == ')') {
+          depth--;
+          if (depth <= 0) 
+            return i + 1;
+        }
+        else if (c == '#') {
+          i = findEndOfLine(i);
+          if (i < 0) 
+            return -1;
+          continue;
+        }
+        else if (depth == 0 && WKTTokenizer.isWordChar(c)) {
+          int wordStart = i;
+          while (i < end && WKTTokenizer.isWordChar(buf[i])) 
+            i++;
+          if (i == end) 
+            return -1;
+          if (isEmptyKeyword(wordStart, i))
+            return i;
+          continue;
+        }
+        i++;
+      }
+      return -1;
+    }
+    
+    private boolean isEmptyKeyword(int start, int end) {
+      String empty = WKTConstants.EMPTY;
+      if (end - start != empty.length())
+        return false;
+      for (int i = 0; i < empty.length(); i++) {
+        if (Character.toUpperCase(buf[start + i]) != empty.charAt(i))
+          return false;
+      }
+      return true;
+    }
+    
+    private int findEndOfLine(int i) {
+      while (i < end) {
+        char c = buf[i];
+        if (c == '\n' || c == '\r') 
+          return i;
+        i++;
+      }
+      return -1;
+    }
+  }
+}
@@ -9,12 +9,10 @@
  *
  * http://www.eclipse.org/org/documents/edl-v10.php.
  */
-
 package org.locationtech.jts.io;
 
-import java.text.DecimalFormat;
-import java.text.NumberFormat;
-import java.util.Locale;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 
 /**
  * Formats numeric values for ordinates
@@ -29,14 +27,26 @@ import java.util.Locale;
  * <li>NaN values are represented as "NaN"
  * <li>Inf values are represented as "Inf" or "-Inf"
  * </ul> 
+ * Values are written using the shortest decimal representation 
+ * which reads back as the same <code>double</code> value.
+ * If this has more than the maximum number of fraction digits
+ * it is rounded to that number of digits, using the half-even rule
+ * when the value is exactly half-way.
+ * This is the same result as provided by <code>java.text.DecimalFormat</code>
+ * for the pattern <code>"0"</code>.
+ * <p>
+ * The shortest representation is computed using the Schubfach algorithm
+ * (R. Giulietti, <i>The Schubfach way to render doubles</i>, 2020),
+ * which does not create any objects.
+ * The {@link #format(double, char[], int)} method 
+ * allows writing values into a reusable buffer.
+ * Instances are immutable and may be shared between threads.
  * 
  * @author mdavis
  *
  */
 public class OrdinateFormat
 {
-  private static final String DECIMAL_PATTERN = "0";
-
   /**
    * The output representation of {@link Double#POSITIVE_INFINITY}
    */
@@ -60,6 +70,13 @@ public class OrdinateFormat
    */
   public static final int MAX_FRACTION_DIGITS = 325;
   
+  /**
+   * The maximum number of characters in a formatted value.
+   * This is the length of the smallest negative subnormal value
+   * written with {@link #MAX_FRACTION_DIGITS}.
+   */
+  public static final int MAX_LENGTH = 3 + MAX_FRACTION_DIGITS;
+  
   /**
    * The default formatter using the maximum number of digits in the fraction portion of a number.
    */
@@ -75,13 +92,13 @@ public class OrdinateFormat
     return new OrdinateFormat(maximumFractionDigits);
   }
   
-  private DecimalFormat format;
+  private final int maxFractionDigits;
 
   /**
    * Creates an OrdinateFormat using the default maximum number of fraction digits.
    */
   public OrdinateFormat() {
-    format = createFormat(MAX_FRACTION_DIGITS);
+    this(MAX_FRACTION_DIGITS);
   }
 
   /**
@@ -90,43 +107,348 @@ public class OrdinateFormat
    * @param maximumFractionDigits the maximum number of fraction digits to output
    */
   public OrdinateFormat(int maximumFractionDigits) {
-    format = createFormat(maximumFractionDigits);
+    maxFractionDigits = Math.max(0, Math.min(maximumFractionDigits, MAX_FRACTION_DIGITS));
   }
 
-  private static DecimalFormat createFormat(int maximumFractionDigits) {
-    // ensure format uses standard WKY number format
-    NumberFormat nf = NumberFormat.getInstance(Locale.US);
-    // This is expected to succeed for Locale.US
-    DecimalFormat format;
-    try {
-      format = (DecimalFormat) nf;
-    }
-    catch (ClassCastException ex) {
-      throw new RuntimeException("Unable to create DecimalFormat for Locale.US");
-    }
-    format.applyPattern(DECIMAL_PATTERN);
-    format.setMaximumFractionDigits(maximumFractionDigits);
-    return format;
-  }
-  
   /**
    * Returns a string representation of the given ordinate numeric value.
    * 
    * @param ord the ordinate value
    * @return the formatted number string
    */
-  public synchronized String format(double ord)
+  public String format(double ord)
+  {
+    char[] buf = new char[bufferLength(ord)];
+    int len = format(ord, buf, 0);
+    return new String(buf, 0, len);
+  }
+  
+  /**
+   * Appends the representation of the given ordinate numeric value
+   * to a {@link StringBuilder}.
+   * 
+   * @param ord the ordinate value
+   * @param buf the buffer to append to
+   */
+  public void format(double ord, StringBuilder buf)
+  {
+    char[] chars = new char[bufferLength(ord)];
+    int len = format(ord, chars, 0);
+    buf.append(chars, 0, len);
+  }
+  
+  /**
+   * Writes the representation of the given ordinate numeric value
+   * into a character array.
+   * The array must have space for the formatted value,
+   * which has at most {@link #MAX_LENGTH} characters.
+   * 
+   * @param ord the ordinate value
+   * @param buf the array to write to
+   * @param offset the index to start writing at
+   * @return the index after the last character written
+   */
+  public int format(double ord, char[] buf, int offset)
   {
     /**
      * FUTURE: If it seems better to use scientific notation 
      * for very large/small numbers then this can be done here.
      */
-    
-    if (Double.isNaN(ord)) return REP_NAN;
+    if (Double.isNaN(ord)) return write(REP_NAN, buf, offset);
     if (Double.isInfinite(ord)) {
-      return ord > 0 ? REP_POS_INF : REP_NEG_INF;
+      return write(ord > 0 ? REP_POS_INF : REP_NEG_INF, buf, offset);
     }
-    return format.format(ord);
+    return toDecimal(ord, buf, offset);
   }
 
+  /**
+   * Computes a buffer length sufficient for a value.
+   * Values in the usual range need only a short buffer.
+   */
+  private static int bufferLength(double ord) {
+    double a = Math.abs(ord);
+    if (a < 1e17 && a >= 1e-6 || a == 0) 
+      return 40;
+    return MAX_LENGTH;
+  }
+  
+  private static int write(String s, char[] buf, int offset) {
+    s.getChars(0, s.length(), buf, offset);
+    return offset + s.length();
+  }
+
+  //=============  Shortest decimal computation  =================
+  
+  private static final int P = 53;
+  private static final int Q_MIN = -1074;
+  private static final long C_MIN = 1L << (P - 1);
+  private static final int BQ_MASK = 0x7FF;
+  private static final long T_MASK = (1L << (P - 1)) - 1;
+  private static final long MASK_63 = (1L << 63) - 1;
+  /**
+   * The threshold for subnormal significands 
+   * which require one more digit for uniqueness. 
+   */
+  private static final long C_TINY = 3;
+  private static final int K_MIN = -324;
+  private static final int K_MAX = 292;
+  
+  /**
+   * The 126-bit approximations g of 10^-k for k in [K_MIN, K_MAX],
+   * with 10^-k = beta 2^r for 2^125 &lt;= beta &lt; 2^126 
+   * and g = floor(beta) + 1.
+   * The high 63 bits are in G1 and the low 63 bits in G0.
+   */
+  private static final long[] G1 = new long[K_MAX - K_MIN + 1];
+  private static final long[] G0 = new long[K_MAX - K_MIN + 1];
+  
+  static {
+    BigInteger ten = BigInteger.valueOf(10);
+    BigInteger mask63 = BigInteger.valueOf(MASK_63);
+    for (int k = K_MIN; k <= K_MAX; k++) {
+      BigInteger g;
+      if (k <= 0) {
+        BigInteger pow = ten.pow(-k);
+        int shift = pow.bitLength() - 126;
+        g = shift > 0 ? pow.shiftRight(shift) : pow.shiftLeft(-shift);
+      }
+      else {
+        BigInteger pow = ten.pow(k);
+        g = BigInteger.ONE.shiftLeft(125 + pow.bitLength()).divide(pow);
+      }
+      g = g.add(BigInteger.ONE);
+      G1[k - K_MIN] = g.shiftRight(63).longValue();
+      G0[k - K_MIN] = g.and(mask63).longValue();
+    }
+  }
+  
+  private static final long[] POW10 = {
+    1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 
+    1000000000L, 10000000000L, 100000000000L, 1000000000000L, 10000000000000L, 
+    100000000000000L, 1000000000000000L, 10000000000000000L, 
+    100000000000000000L, 1000000000000000000L
+  };
+  
+  /**
+   * Computes the shortest decimal which rounds to the value,
+   * and writes it.
+   * A finite value is assumed.
+   */
+  private int toDecimal(double v, char[] buf, int offset) {
+    long bits = Double.doubleToRawLongBits(v);
+    long t = bits & T_MASK;
+    int bq = (int) (bits >>> (P - 1)) & BQ_MASK;
+    if (bq != 0) {
+      // normal value
+      int mq = -Q_MIN + 1 - bq;
+      long c = C_MIN | t;
+      // fast path for integers
+      if (0 < mq & mq < P) {
+        long f = c >> mq;
+        if (f << mq == c) {
+          return write(v, f, 0, buf, offset);
+        }
+      }
+      return toDecimal(v, -mq, c, 0, buf, offset);
+    }
+    if (t != 0) {
+      // subnormal value
+      return t < C_TINY 
+          ? toDecimal(v, Q_MIN, 10 * t, -1, buf, offset) 
+          : toDecimal(v, Q_MIN, t, 0, buf, offset);
+    }
+    return write(v, 0, 0, buf, offset);
+  }
+
+  /**
+   * Computes the shortest decimal f 10^e in the rounding interval 
+   * of c 2^q, choosing the closest one if there are several.
+   */
+  private int toDecimal(double v, int q, long c, int dk, char[] buf, int offset) {
+    int out = (int) c & 1;
+    long cb = c << 2;
+    long cbr = cb + 2;
+    long cbl;
+    int k;
+    // the interval is asymmetric at powers of two
+    if (c != C_MIN | q == Q_MIN) {
+      cbl = cb - 2;
+      k = flog10pow2(q);
+    } 
+    else {
+      cbl = cb - 1;
+      k = flog10threeQuartersPow2(q);
+    }
+    int h = q + flog2pow10(-k) + 2;
+    long g1 = G1[k - K_MIN];
+    long g0 = G0[k - K_MIN];
+    long vb = rop(g1, g0, cb << h);
+    long vbl = rop(g1, g0, cbl << h);
+    long vbr = rop(g1, g0, cbr << h);
+
+    long s = vb >> 2;
+    if (s >= 100) {
+      // try a decimal with one digit fewer
+      long sp10 = 10 * multiplyHigh(s, 115292150460684698L << 4);
+      long tp10 = sp10 + 10;
+      boolean upin = vbl + out <= sp10 << 2;
+      boolean wpin = (tp10 << 2) + out <= vbr;
+      if (upin != wpin) {
+        return write(v, upin ? sp10 : tp10, k + dk, buf, offset);
+      }
+    }
+    long t = s + 1;
+    boolean uin = vbl + out <= s << 2;
+    boolean win = (t << 2) + out <= vbr;
+    if (uin != win) {
+      return write(v, uin ? s : t, k + dk, buf, offset);
+    }
+    long cmp = vb - (s + t << 1);
+    return write(v, cmp < 0 || cmp == 0 && (s & 1) == 0 ? s : t, k + dk, buf, offset);
+  }
+
+  /**
+   * Computes the rounded-to-odd product of g and cp, scaled by 2^-128.
+   */
+  private static long rop(long g1, long g0, long cp) {
+    long x1 = multiplyHigh(g0, cp);
+    long y0 = g1 * cp;
+    long y1 = multiplyHigh(g1, cp);
+    long z = (y0 >>> 1) + x1;
+    long vbp = y1 + (z >>> 63);
+    return vbp | (z & MASK_63) + MASK_63 >>> 63;
+  }
+  
+  /**
+   * Computes the high 64 bits of the product of two non-negative values.
+   */
+  private static long multiplyHigh(long x, long y) {
+    long x0 = x & 0xFFFFFFFFL;
+    long x1 = x >>> 32;
+    long y0 = y & 0xFFFFFFFFL;
+    long y1 = y >>> 32;
+    long p01 = x0 * y1;
+    long middle = x1 * y0 + ((x0 * y0) >>> 32) + (p01 & 0xFFFFFFFFL);
+    return x1 * y1 + (middle >>> 32) + (p01 >>> 32);
+  }
+
+  /**
+   * Computes floor(e log10(2)).
+   */
+  private static int flog10pow2(int e) {
+    return (int) (e * 661971961083L >> 41);
+  }
+
+  /**
+   * Computes floor(e log10(2) + log10(3/4)).
+   */
+  private static int flog10threeQuartersPow2(int e) {
+    return (int) (e * 661971961083L + (-274743187321L) >> 41);
+  }
+
+  /**
+   * Computes floor(e log2(10)).
+   */
+  private static int flog2pow10(int e) {
+    return (int) (e * 913124641741L >> 38);
+  }
+  
+  //=============  Output  =================
+  
+  /**
+   * Writes the decimal f 10^e for the value v,
+   * rounded to the maximum number of fraction digits.
+   */
+  private int write(double v, long f, int e, char[] buf, int offset) {
+    if (f != 0) {
+      while (f % 10 == 0) {
+        f /= 10;
+        e++;
+      }
+      if (-e > maxFractionDigits) {
+        f = round(v, f, e);
+        e = -maxFractionDigits;
+        if (f != 0) {
+          while (f % 10 == 0) {
+            f /= 10;
+            e++;
+          }
+        }
+      }
+    }
+    int pos = offset;
+    if (Double.doubleToRawLongBits(v) < 0) {
+      buf[pos++] = '-';
+    }
+    if (f == 0) {
+      buf[pos++] = '0';
+      return pos;
+    }
+    int numDigits = numDigits(f);
+    if (e >= 0) {
+      pos = writeDigits(f, numDigits, buf, pos);
+      for (int i = 0; i < e; i++) {
+        buf[pos++] = '0';
+      }
+      return pos;
+    }
+    int intDigits = numDigits + e;
+    if (intDigits > 0) {
+      writeDigits(f, numDigits, buf, pos);
+      // shift the fraction digits to insert the decimal point
+      System.arraycopy(buf, pos + intDigits, buf, pos + intDigits + 1, -e);
+      buf[pos + intDigits] = '.';
+      return pos + numDigits + 1;
+    }
+    buf[pos++] = '0';
+    buf[pos++] = '.';
+    for (int i = intDigits; i < 0; i++) {
+      buf[pos++] = '0';
+    }
+    return writeDigits(f, numDigits, buf, pos);
+  }
+
+  /**
+   * Rounds the decimal f 10^e for the value v to the maximum number of fraction digits,
+   * returning the rounded significand.
+   * Rounding is determined by the decimal digits, 
+   * except when the dropped digits are exactly half-way,
+   * in which case the exact value is compared to the decimal
+   * and the half-even rule is used if they are equal.
+   */
+  private long round(double v, long f, int e) {
+    int drop = -e - maxFractionDigits;
+    int numDigits = numDigits(f);
+    if (drop > numDigits) 
+      return 0;
+    long p = POW10[drop];
+    long q = f / p;
+    long r = f - q * p;
+    long half = p >> 1;
+    if (r > half) 
+      return q + 1;
+    if (r < half) 
+      return q;
+    int comp = new BigDecimal(Math.abs(v)).compareTo(BigDecimal.valueOf(f, -e));
+    if (comp > 0 || (comp == 0 && (q & 1) != 0)) 
+      return q + 1;
+    return q;
+  }
+  
+  private static int numDigits(long f) {
+    int n = 1;
+    while (n < POW10.length && f >= POW10[n]) {
+      n++;
+    }
+    return n;
+  }
+  
+  private static int writeDigits(long f, int numDigits, char[] buf, int offset) {
+    int end = offset + numDigits;
+    for (int i = end - 1; i >= offset; i--) {
+      buf[i] = (char) ('0' + f % 10);
+      f /= 10;
+    }
+    return end;
+  }
 }
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+import java.math.BigInteger;
+
+/**
+ * Parses numeric values for ordinates 
+ * directly from character data.
+ * <p>
+ * The result is always identical to that of {@link Double#parseDouble(String)},
+ * so the Java syntax for floating point literals is supported.
+ * Plain decimal numbers of up to 18 significant digits
+ * (which includes all numbers written by {@link Double#toString(double)})
+ * are parsed without creating any objects,
+ * using an exact computation for small exponents 
+ * and the Eisel-Lemire algorithm otherwise.
+ * Other syntax, and the rare cases which these methods cannot resolve,
+ * are parsed using <code>Double.parseDouble</code>.
+ * 
+ * @see OrdinateFormat
+ */
+public class OrdinateParser
+{
+  private static final double[] POWERS_OF_TEN = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+    1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+  
+  /**
+   * Largest integer which can be represented exactly as a double
+   */
+  private static final long MAX_EXACT_LONG = 1L << 53;
+  
+  /**
+   * The range of powers of ten for which 128-bit approximations are stored.
+   * Values outside this range overflow or underflow.
+   */
+  private static final int MIN_POW10 = -342;
+  private static final int MAX_POW10 = 308;
+  
+  /**
+   * The high and low 64 bits of the normalized 128-bit mantissas of
+   * the powers of ten, rounded down.
+   */
+  private static final long[] POW10_HI = new long[MAX_POW10 - MIN_POW10 + 1];
+  private static final long[] POW10_LO = new long[MAX_POW10 - MIN_POW10 + 1];
+  
+  static {
+    BigInteger ten = BigInteger.valueOf(10);
+    BigInteger mask64 = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+    for (int e = MIN_POW10; e <= MAX_POW10; e++) {
+      BigInteger m;
+      if (e >= 0) {
+        m = ten.pow(e);
+        int shift = m.bitLength() - 128;
+        m = shift > 0 ? m.shiftRight(shift) : m.shiftLeft(-shift);
+      }
+      else {
+        BigInteger d = ten.pow(-e);
+        m = BigInteger.ONE.shiftLeft(127 + d.bitLength()).divide(d);
+      }
+      POW10_HI[e - MIN_POW10] = m.shiftRight(64).longValue();
+      POW10_LO[e - MIN_POW10] = m.and(mask64).longValue();
+    }
+  }
+
+  /**
+   * Parses a number from a range of a character array.
+   * The result is identical to that of {@link Double#parseDouble(String)}
+   * for the characters in the range.
+   * 
+   * @param buf the array containing the number
+   * @param start the index of the first character of the number
+   * @param end the index after the last character of the number
+   * @return the value of the number
+   * @throws NumberFormatException if the characters are not a valid number
+   */
+  public static double parse(char[] buf, int start, int end) {
+    if (start >= end)
+      throw new NumberFormatException("empty String");
+    int i = start;
+    int n = end;
+    boolean isNegative = false;
+    char c = buf[i];
+    if (c == '-' || c == '+') {
+      isNegative = c == '-';
+      i++;
+    }
+    long mantissa = 0;
+    int numSigDigits = 0;
+    int numDigits = 0;
+    int exp10 = 0;
+    //-- integer part
+    while (i < n && (c = buf[i]) >= '0' && c <= '9') {
+      if (mantissa > 0 || c != '0') {
+        mantissa = 10 * mantissa + (c - '0');
+        numSigDigits++;
+      }
+      numDigits++;
+      i++;
+    }
+    //-- fraction
+    if (i < n && buf[i] == '.') {
+      i++;
+      while (i < n && (c = buf[i]) >= '0' && c <= '9') {
+        if (mantissa > 0 || c != '0') {
+          mantissa = 10 * mantissa + (c - '0');
+          numSigDigits++;
+        }
+        exp10--;
+        numDigits++;
+        i++;
+      }
+    }
+    //-- exponent
+    if (numDigits > 0 && i < n && (buf[i] == 'e' || buf[i] == 'E')) {
+      i++;
+      boolean isExpNegative = false;
+      if (i < n && (buf[i] == '-' || buf[i] == '+')) {
+        isExpNegative = buf[i] == '-';
+        i++;
+      }
+      int exp = 0;
+      int numExpDigits = 0;
+      while (i < n && (c = buf[i]) >= '0' && c <= '9') {
+        if (exp < 1000) 
+          exp = 10 * exp + (c - '0');
+        numExpDigits++;
+        i++;
+      }
+      if (numExpDigits == 0) 
+        return parseDouble(buf, start, end);
+      exp10 += isExpNegative ? -exp : exp;
+    }
+    if (i != n || numDigits == 0 || numSigDigits > 18) 
+      return parseDouble(buf, start, end);
+    
+    double value;
+    if (mantissa == 0) {
+      value = 0.0;
+    }
+    else if (mantissa < MAX_EXACT_LONG && exp10 >= -22 && exp10 <= 22) {
+      //-- exact operands give a correctly-rounded result
+      if (exp10 < 0)
+        value = mantissa / POWERS_OF_TEN[-exp10];
+      else
+        value = mantissa * POWERS_OF_TEN[exp10];
+    }
+    else {
+      long bits = computeBits(mantissa, exp10);
+      if (bits < 0) 
+        return parseDouble(buf, start, end);
+      value = Double.longBitsToDouble(bits);
+    }
+    return isNegative ? -value : value;
+  }
+  
+  /**
+   * Computes the bits of the double nearest to <code>mantissa * 10^exp10</code>,
+   * using the Eisel-Lemire algorithm.
+   * The computation fails if the result is not a normal number,
+   * or if it cannot be determined whether the value is exactly halfway 
+   * between two doubles.
+   * 
+   * @param mantissa a positive decimal mantissa
+   * @param exp10 the decimal exponent
+   * @return the bits of the double, or -1 if the computation failed
+   */
+  private static long computeBits(long mantissa, int exp10) {
+    if (exp10 < MIN_POW10 || exp10 > MAX_POW10)
+      return -1;
+    int index = exp10 - MIN_POW10;
+    int clz = Long.numberOfLeadingZeros(mantissa);
+    long man = mantissa << clz;
+    long exp2 = ((217706 * exp10) >> 16) + 64 + 1023 - clz;
+    
+    long xHi = multiplyHigh(man, POW10_HI[index]);
+    long xLo = man * POW10_HI[index];
+    //-- if the result is close to a rounding boundary use the full 128 bits 
+    if ((xHi & 0x1FF) == 0x1FF && Long.compareUnsigned(xLo + man, man) < 0) {
+      long yHi = multiplyHigh(man, POW10_LO[index]);
+      long yLo = man * POW10_LO[index];
+      long mergedHi = xHi;
+      long mergedLo = xLo + yHi;
+      if (Long.compareUnsigned(mergedLo, xLo) < 0) 
+        mergedHi++;
+      if ((mergedHi & 0x1FF) == 0x1FF && mergedLo + 1 == 0 
+          && Long.compareUnsigned(yLo + man, man) < 0)
+        return -1;
+      xHi = mergedHi;
+      xLo = mergedLo;
+    }
+    //-- shift to 54 bits
+    long msb = xHi >>> 63;
+    long bits = xHi >>> (msb + 9);
+    exp2 -= 1 ^ msb;
+    //-- result may be exactly halfway between two doubles
+    if (xLo == 0 && (xHi & 0x1FF) == 0 && (bits & 3) == 1) 
+      return -1;
+    //-- round to 53 bits
+    bits += bits & 1;
+    bits >>>= 1;
+    if ((bits >>> 53) > 0) {
+      bits >>>= 1;
+      exp2++;
+    }
+    //-- subnormal or infinite
+    if (exp2 <= 0 || exp2 >= 0x7FF)
+      return -1;
+    return (exp2 << 52) | (bits & 0x000FFFFFFFFFFFFFL);
+  }
+  
+  /**
+   * Computes the high 64 bits of the unsigned 128-bit product of two values.
+   */
+  private static long multiplyHigh(long x, long y) {
+    long x0 = x & 0xFFFFFFFFL;
+    long x1 = x >>> 32;
+    long y0 = y & 0xFFFFFFFFL;
+    long y1 = y >>> 32;
+    long p01 = x0 * y1;
+    long middle = x1 * y0 + ((x0 * y0) >>> 32) + (p01 & 0xFFFFFFFFL);
+    return x1 * y1 + (middle >>> 32) + (p01 >>> 32);
+  }
+  
+  private static double parseDouble(char[] buf, int start, int end) {
+    return Double.parseDouble(new String(buf, start, end - start));
+  }
+}
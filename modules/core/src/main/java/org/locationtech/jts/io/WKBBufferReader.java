@@ -0,0 +1,380 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFactory;
+import org.locationtech.jts.geom.CoordinateSequences;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.MultiPoint;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+
+/**
+ * Reads {@link Geometry}s in Well-Known Binary format 
+ * directly from a {@link ByteBuffer}.
+ * The buffer may be a heap buffer, a direct buffer
+ * or a {@link java.nio.MappedByteBuffer} for a file.
+ * <p>
+ * The reader accepts the same formats as {@link WKBReader}
+ * (WKB, PostGIS EWKB and ISO/OGC WKB),
+ * and repairs structurally-invalid input in the same way.
+ * Unlike {@link WKBReader}, measure ordinates are read as measures
+ * (rather than as Z values). 
+ * <p>
+ * The ordinates of each coordinate sequence are decoded 
+ * from the buffer straight into a new <code>double</code> array.
+ * If the geometry factory uses a {@link PackedCoordinateSequenceFactory}
+ * (which is the default), this array is used directly as the storage of a 
+ * {@link PackedCoordinateSequence}, so no further copying is performed.
+ * The buffer is read with absolute accesses, 
+ * so the reader does not modify its position or byte order,
+ * and no buffer views or other temporary objects are created.
+ * <p>
+ * Reading past the limit of the buffer 
+ * or a field value too large for the remaining data
+ * causes a {@link ParseException}.
+ * <p>
+ * This class is designed to support reuse of a single instance to read multiple
+ * geometries. This class is not thread-safe; each thread should create its own
+ * instance.
+ * 
+ * @see WKBReader
+ * @see WKBRecordReader
+ */
+public class WKBBufferReader
+{
+  private static final String INVALID_GEOM_TYPE_MSG
+  = "Invalid geometry type encountered in ";
+
+  private static final String FIELD_NUMCOORDS = "numCoords";
+
+  private static final String FIELD_NUMRINGS = "numRings";
+
+  private static final String FIELD_NUMELEMS = "numElems";
+
+  private GeometryFactory factory;
+  private CoordinateSequenceFactory csFactory;
+  private PrecisionModel precisionModel;
+  private boolean isPacked;
+  
+  private ByteBuffer buf;
+  private int pos;
+  private int limit;
+  private boolean isSwapped;
+  private int inputDimension;
+  private int inputMeasures;
+
+  /**
+   * Creates a reader which creates geometries 
+   * using {@link PackedCoordinateSequence.Double} coordinate sequences.
+   */
+  public WKBBufferReader() {
+    this(new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY));
+  }
+
+  /**
+   * Creates a reader which creates geometries using a given factory.
+   * 
+   * @param geometryFactory the factory to use
+   */
+  public WKBBufferReader(GeometryFactory geometryFactory) {
+    this.factory = geometryFactory;
+    precisionModel = factory.getPrecisionModel();
+    csFactory = factory.getCoordinateSequenceFactory();
+    isPacked = csFactory instanceof PackedCoordinateSequenceFactory;
+  }
+
+  /**
+   * Reads a {@link Geometry} starting at the position of a buffer.
+   * The position of the buffer is advanced to the end of the geometry.
+   * 
+   * @param buffer the buffer to read from
+   * @return the geometry read
+   * @throws ParseException if the WKB is ill-formed
+   */
+  public Geometry read(ByteBuffer buffer) throws ParseException
+  {
+    Geometry geom = read(buffer, buffer.position());
+    buffer.position(pos);
+    return geom;
+  }
+
+  /**
+   * Reads a {@link Geometry} starting at a given offset in a buffer.
+   * The position of the buffer is not changed.
+   * The offset of the end of the geometry 
+   * is available from {@link #getEndOffset()}.
+   * 
+   * @param buffer the buffer to read from
+   * @param offset the offset of the start of the geometry
+   * @return the geometry read
+   * @throws ParseException if the WKB is ill-formed
+   */
+  public Geometry read(ByteBuffer buffer, int offset) throws ParseException
+  {
+    buf = buffer;
+    pos = offset;
+    limit = buffer.limit();
+    // the byte order defaults to the buffer byte order, until set by the WKB
+    isSwapped = false;
+    try {
+      return readGeometry(0);
+    }
+    finally {
+      // don't retain the buffer
+      buf = null;
+    }
+  }
+  
+  /**
+   * Gets the offset of the end of the last geometry read.
+   * 
+   * @return the offset after the end of the last geometry
+   */
+  public int getEndOffset() {
+    return pos;
+  }
+
+  private void checkAvailable(int numBytes) throws ParseException {
+    if (numBytes > limit - pos) 
+      throw new ParseException("Unexpected end of WKB data at offset " + pos);
+  }
+  
+  private byte readByte() throws ParseException {
+    checkAvailable(1);
+    return buf.get(pos++);
+  }
+  
+  private int readInt() throws ParseException {
+    checkAvailable(4);
+    int value = buf.getInt(pos);
+    pos += 4;
+    return isSwapped ? Integer.reverseBytes(value) : value;
+  }
+
+  private double readDouble() {
+    long bits = buf.getLong(pos);
+    pos += 8;
+    if (isSwapped) 
+      bits = Long.reverseBytes(bits);
+    return Double.longBitsToDouble(bits);
+  }
+  
+  /**
+   * Reads an element count, checking that it is not larger than 
+   * the number of elements which could fit in the remaining data.
+   */
+  private int readNumField(String fieldName, int minElementSize) throws ParseException {
+    // num field is unsigned int, but Java has only signed int
+    int num = readInt();
+    if (num < 0 || (long) num * minElementSize > limit - pos) {
+      throw new ParseException(fieldName + " value is too large");
+    }
+    return num;
+  }
+  
+  private Geometry readGeometry(int SRID) throws ParseException
+  {
+    // always set byte order, since it may change from geometry to geometry
+    byte byteOrderWKB = readByte();
+    if (byteOrderWKB == WKBConstants.wkbNDR) {
+      isSwapped = buf.order() != ByteOrder.LITTLE_ENDIAN;
+    }
+    else if (byteOrderWKB == WKBConstants.wkbXDR) {
+      isSwapped = buf.order() != ByteOrder.BIG_ENDIAN;
+    }
+    //if not XDR or NDR, then use the order of the parent geometry (as in WKBReader)
+
+    int typeInt = readInt();
+    int geometryType = (typeInt & 0xffff) % 1000;
+    int isoDim = (typeInt & 0xffff) / 1000;
+    boolean hasZ = (typeInt & 0x80000000) != 0 || isoDim == 1 || isoDim == 3;
+    boolean hasM = (typeInt & 0x40000000) != 0 || isoDim == 2 || isoDim == 3;
+    inputDimension = 2 + (hasZ ? 1 : 0) + (hasM ? 1 : 0);
+    inputMeasures = hasM ? 1 : 0;
+
+    // determine if SRIDs are present (EWKB only)
+    boolean hasSRID = (typeInt & 0x20000000) != 0;
+    if (hasSRID) {
+      SRID = readInt();
+    }
+
+    Geometry geom = null;
+    switch (geometryType) {
+      case WKBConstants.wkbPoint :
+        geom = readPoint();
+        break;
+      case WKBConstants.wkbLineString :
+        geom = readLineString();
+        break;
+      case WKBConstants.wkbPolygon :
+        geom = readPolygon();
+        break;
+      case WKBConstants.wkbMultiPoint :
+        geom = readMultiPoint(SRID);
+        break;
+      case WKBConstants.wkbMultiLineString :
+        geom = readMultiLineString(SRID);
+        break;
+      case WKBConstants.wkbMultiPolygon :
+        geom = readMultiPolygon(SRID);
+        break;
+      case WKBConstants.wkbGeometryCollection :
+        geom = readGeometryCollection(SRID);
+        break;
+      default: 
+        throw new ParseException("Unknown WKB type " + geometryType);
+    }
+    if (SRID != 0)
+      geom.setSRID(SRID);
+    return geom;
+  }
+
+  private Point readPoint() throws ParseException
+  {
+    CoordinateSequence pts = readCoordinateSequence(1);
+    // If X and Y are NaN create a empty point
+    if (Double.isNaN(pts.getX(0)) || Double.isNaN(pts.getY(0))) {
+      return factory.createPoint();
+    }
+    return factory.createPoint(pts);
+  }
+
+  private LineString readLineString() throws ParseException
+  {
+    int size = readNumField(FIELD_NUMCOORDS, 8 * inputDimension);
+    CoordinateSequence pts = readCoordinateSequence(size);
+    if (pts.size() == 1) {
+      pts = CoordinateSequences.extend(csFactory, pts, 2);
+    }
+    return factory.createLineString(pts);
+  }
+
+  private LinearRing readLinearRing() throws ParseException
+  {
+    int size = readNumField(FIELD_NUMCOORDS, 8 * inputDimension);
+    CoordinateSequence pts = readCoordinateSequence(size);
+    if (! CoordinateSequences.isRing(pts)) {
+      pts = CoordinateSequences.ensureValidRing(csFactory, pts);
+    }
+    return factory.createLinearRing(pts);
+  }
+
+  private Polygon readPolygon() throws ParseException
+  {
+    int numRings = readNumField(FIELD_NUMRINGS, 4);
+    // empty polygon
+    if (numRings <= 0)
+      return factory.createPolygon();
+    
+    LinearRing shell = readLinearRing();
+    LinearRing[] holes = new LinearRing[numRings - 1];
+    for (int i = 0; i < numRings - 1; i++) {
+      holes[i] = readLinearRing();
+    }
+    return factory.createPolygon(shell, holes);
+  }
+
+  private MultiPoint readMultiPoint(int SRID) throws ParseException
+  {
+    int numGeom = readNumField(FIELD_NUMELEMS, 5);
+    Point[] geoms = new Point[numGeom];
+    for (int i = 0; i < numGeom; i++) {
+      Geometry g = readGeometry(SRID);
+      if (! (g instanceof Point))
+        throw new ParseException(INVALID_GEOM_TYPE_MSG + "MultiPoint");
+      geoms[i] = (Point) g;
+    }
+    return factory.createMultiPoint(geoms);
+  }
+
+  private MultiLineString readMultiLineString(int SRID) throws ParseException
+  {
+    int numGeom = readNumField(FIELD_NUMELEMS, 5);
+    LineString[] geoms = new LineString[numGeom];
+    for (int i = 0; i < numGeom; i++) {
+      Geometry g = readGeometry(SRID);
+      if (! (g instanceof LineString))
+        throw new ParseException(INVALID_GEOM_TYPE_MSG + "MultiLineString");
+      geoms[i] = (LineString) g;
+    }
+    return factory.createMultiLineString(geoms);
+  }
+
+  private MultiPolygon readMultiPolygon(int SRID) throws ParseException
+  {
+    int numGeom = readNumField(FIELD_NUMELEMS, 5);
+    Polygon[] geoms = new Polygon[numGeom];
+    for (int i = 0; i < numGeom; i++) {
+      Geometry g = readGeometry(SRID);
+      if (! (g instanceof Polygon))
+        throw new ParseException(INVALID_GEOM_TYPE_MSG + "MultiPolygon");
+      geoms[i] = (Polygon) g;
+    }
+    return factory.createMultiPolygon(geoms);
+  }
+
+  private GeometryCollection readGeometryCollection(int SRID) throws ParseException
+  {
+    int numGeom = readNumField(FIELD_NUMELEMS, 5);
+    Geometry[] geoms = new Geometry[numGeom];
+    for (int i = 0; i < numGeom; i++) {
+      geoms[i] = readGeometry(SRID);
+    }
+    return factory.createGeometryCollection(geoms);
+  }
+
+  /**
+   * Reads the ordinates of a coordinate sequence into a packed array.
+   * The X and Y ordinates are made precise according to the 
+   * precision model in use.
+   */
+  private CoordinateSequence readCoordinateSequence(int size) throws ParseException
+  {
+    int dim = inputDimension;
+    checkAvailable(8 * dim * size);
+    double[] ords = new double[size * dim];
+    for (int i = 0; i < ords.length; i++) {
+      ords[i] = readDouble();
+    }
+    if (! precisionModel.isFloating()) {
+      for (int i = 0; i < ords.length; i += dim) {
+        ords[i] = precisionModel.makePrecise(ords[i]);
+        ords[i + 1] = precisionModel.makePrecise(ords[i + 1]);
+      }
+    }
+    if (isPacked) {
+      return ((PackedCoordinateSequenceFactory) csFactory).create(ords, dim, inputMeasures);
+    }
+    CoordinateSequence seq = csFactory.create(size, dim, inputMeasures);
+    int targetDim = Math.min(dim, seq.getDimension());
+    for (int i = 0; i < size; i++) {
+      for (int j = 0; j < targetDim; j++) {
+        seq.setOrdinate(i, j, ords[i * dim + j]);
+      }
+    }
+    return seq;
+  }
+}
@@ -0,0 +1,419 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.MultiPoint;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+import org.locationtech.jts.util.Assert;
+
+/**
+ * Writes {@link Geometry}s in Well-Known Binary format
+ * into a caller-supplied <code>byte</code> array or {@link ByteBuffer}.
+ * <p>
+ * The output is identical to that of a {@link WKBWriter}
+ * with the same settings.
+ * The exact size of the encoding of a geometry 
+ * can be computed with {@link #getSize(Geometry)}, 
+ * so that output buffers can be allocated or reused as required.
+ * No objects are created during writing.
+ * The ordinates of {@link PackedCoordinateSequence.Double}
+ * sequences are copied directly from their backing arrays.
+ * <p>
+ * Buffers are written with absolute accesses,
+ * so the byte order of a buffer does not need to match
+ * the WKB byte order, and is not changed.
+ * If the output does not fit in the space available
+ * an exception is thrown before any data is written.
+ * <p>
+ * This class supports reuse of a single instance to write multiple
+ * geometries. This class is not thread-safe; each thread should create its own
+ * instance.
+ * 
+ * @see WKBWriter
+ * @see WKBBufferReader
+ */
+public class WKBBufferWriter
+{
+  private int outputDimension;
+  private int byteOrder;
+  private boolean includeSRID;
+  
+  private ArraySink arraySink = new ArraySink();
+  private BufferSink bufferSink = new BufferSink();
+  private Sink sink;
+  private int pos;
+
+  /**
+   * Creates a writer that writes {@link Geometry}s with
+   * output dimension = 2 and BIG_ENDIAN byte order
+   */
+  public WKBBufferWriter() {
+    this(2, ByteOrderValues.BIG_ENDIAN);
+  }
+
+  /**
+   * Creates a writer that writes {@link Geometry}s with
+   * the given dimension (2 or 3) for output coordinates
+   * and {@link ByteOrderValues#BIG_ENDIAN} byte order.
+   *
+   * @param outputDimension the coordinate dimension to output (2 or 3)
+   */
+  public WKBBufferWriter(int outputDimension) {
+    this(outputDimension, ByteOrderValues.BIG_ENDIAN);
+  }
+
+  /**
+   * Creates a writer that writes {@link Geometry}s with
+   * the given dimension (2 or 3) for output coordinates
+   * and byte order.
+   *
+   * @param outputDimension the coordinate dimension to output (2 or 3)
+   * @param byteOrder the byte ordering to use
+   */
+  public WKBBufferWriter(int outputDimension, int byteOrder) {
+    this(outputDimension, byteOrder, false);
+  }
+
+  /**
+   * Creates a writer that writes {@link Geometry}s with
+   * the given dimension (2 or 3) for output coordinates
+   * and byte order, optionally including the SRID.
+   * If the input geometry has a smaller coordinate dimension,
+   * coordinates are padded with {@link Coordinate#NULL_ORDINATE}.
+   *
+   * @param outputDimension the coordinate dimension to output (2 or 3)
+   * @param byteOrder the byte ordering to use
+   * @param includeSRID indicates whether SRID should be written
+   */
+  public WKBBufferWriter(int outputDimension, int byteOrder, boolean includeSRID) {
+    if (outputDimension < 2 || outputDimension > 3)
+      throw new IllegalArgumentException("Output dimension must be 2 or 3");
+    this.outputDimension = outputDimension;
+    this.byteOrder = byteOrder;
+    this.includeSRID = includeSRID;
+  }
+
+  /**
+   * Computes the number of bytes in the WKB encoding of a geometry.
+   * 
+   * @param geom the geometry
+   * @return the size of the encoded geometry in bytes
+   */
+  public int getSize(Geometry geom) {
+    return size(geom, includeSRID);
+  }
+  
+  private int size(Geometry geom, boolean isSRIDIncluded) {
+    int size = 1 + 4 + (isSRIDIncluded ? 4 : 0);
+    int coordSize = 8 * outputDimension;
+    if (geom instanceof Point) {
+      return size + coordSize;
+    }
+    if (geom instanceof LineString) {
+      return size + 4 + coordSize * ((LineString) geom).getNumPoints();
+    }
+    if (geom instanceof Polygon) {
+      Polygon poly = (Polygon) geom;
+      size += 4;
+      if (poly.isEmpty()) 
+        return size;
+      size += 4 + coordSize * poly.getExteriorRing().getNumPoints();
+      for (int i = 0; i < poly.getNumInteriorRing(); i++) {
+        size += 4 + coordSize * poly.getInteriorRingN(i).getNumPoints();
+      }
+      return size;
+    }
+    size += 4;
+    for (int i = 0; i < geom.getNumGeometries(); i++) {
+      size += size(geom.getGeometryN(i), false);
+    }
+    return size;
+  }
+
+  /**
+   * Writes a {@link Geometry} into a new byte array of the exact size required.
+   *
+   * @param geom the geometry to write
+   * @return the byte array containing the WKB
+   */
+  public byte[] write(Geometry geom) {
+    byte[] bytes = new byte[getSize(geom)];
+    write(geom, bytes, 0);
+    return bytes;
+  }
+  
+  /**
+   * Writes a {@link Geometry} into a byte array at a given offset.
+   *
+   * @param geom the geometry to write
+   * @param bytes the array to write to
+   * @param offset the offset to start writing at
+   * @return the offset after the end of the written geometry
+   * @throws ArrayIndexOutOfBoundsException if the geometry does not fit in the array
+   */
+  public int write(Geometry geom, byte[] bytes, int offset) {
+    int size = getSize(geom);
+    if (offset < 0 || size > bytes.length - offset)
+      throw new ArrayIndexOutOfBoundsException("WKB of size " + size 
+          + " does not fit in array at offset " + offset);
+    arraySink.bytes = bytes;
+    try {
+      return write(geom, arraySink, offset);
+    }
+    finally {
+      arraySink.bytes = null;
+    }
+  }
+  
+  /**
+   * Writes a {@link Geometry} into a buffer at its current position,
+   * and advances the position past the written geometry.
+   *
+   * @param geom the geometry to write
+   * @param buffer the buffer to write to
+   * @throws BufferOverflowException if the geometry does not fit in the buffer
+   */
+  public void write(Geometry geom, ByteBuffer buffer) {
+    int end = write(geom, buffer, buffer.position());
+    buffer.position(end);
+  }
+  
+  /**
+   * Writes a {@link Geometry} into a buffer at a given offset.
+   * The position of the buffer is not changed.
+   *
+   * @param geom the geometry to write
+   * @param buffer the buffer to write to
+   * @param offset the offset to start writing at
+   * @return the offset after the end of the written geometry
+   * @throws BufferOverflowException if the geometry does not fit in the buffer
+   */
+  public int write(Geometry geom, ByteBuffer buffer, int offset) {
+    if (offset < 0 || getSize(geom) > buffer.limit() - offset)
+      throw new BufferOverflowException();
+    bufferSink.buf = buffer;
+    bufferSink.isSwapped = (byteOrder == ByteOrderValues.BIG_ENDIAN) 
+        != (buffer.order() == ByteOrder.BIG_ENDIAN);
+    try {
+      return write(geom, bufferSink, offset);
+    }
+    finally {
+      bufferSink.buf = null;
+    }
+  }
+  
+  private int write(Geometry geom, Sink sink, int offset) {
+    this.sink = sink;
+    pos = offset;
+    writeGeometry(geom, includeSRID);
+    return pos;
+  }
+  
+  private void writeGeometry(Geometry geom, boolean isSRIDIncluded)
+  {
+    if (geom instanceof Point)
+      writePoint((Point) geom, isSRIDIncluded);
+    // LinearRings will be written as LineStrings
+    else if (geom instanceof LineString)
+      writeLineString((LineString) geom, isSRIDIncluded);
+    else if (geom instanceof Polygon)
+      writePolygon((Polygon) geom, isSRIDIncluded);
+    else if (geom instanceof MultiPoint)
+      writeGeometryCollection(WKBConstants.wkbMultiPoint, 
+          (MultiPoint) geom, isSRIDIncluded);
+    else if (geom instanceof MultiLineString)
+      writeGeometryCollection(WKBConstants.wkbMultiLineString,
+          (MultiLineString) geom, isSRIDIncluded);
+    else if (geom instanceof MultiPolygon)
+      writeGeometryCollection(WKBConstants.wkbMultiPolygon,
+          (MultiPolygon) geom, isSRIDIncluded);
+    else if (geom instanceof GeometryCollection)
+      writeGeometryCollection(WKBConstants.wkbGeometryCollection,
+          (GeometryCollection) geom, isSRIDIncluded);
+    else {
+      Assert.shouldNeverReachHere("Unknown Geometry type");
+    }
+  }
+
+  private void writePoint(Point pt, boolean isSRIDIncluded)
+  {
+    writeHeader(WKBConstants.wkbPoint, pt, isSRIDIncluded);
+    if (pt.getCoordinateSequence().size() == 0) {
+      // write empty point as NaNs (extension to OGC standard)
+      for (int i = 0; i < outputDimension; i++) {
+        writeDouble(Double.NaN);
+      }
+    } else {
+      writeCoordinates(pt.getCoordinateSequence());
+    }
+  }
+
+  private void writeLineString(LineString line, boolean isSRIDIncluded)
+  {
+    writeHeader(WKBConstants.wkbLineString, line, isSRIDIncluded);
+    writeCoordinateSequence(line.getCoordinateSequence());
+  }
+
+  private void writePolygon(Polygon poly, boolean isSRIDIncluded)
+  {
+    writeHeader(WKBConstants.wkbPolygon, poly, isSRIDIncluded);
+    //--- write empty polygons with no rings (OCG extension)
+    if (poly.isEmpty()) {
+      writeInt(0);
+      return;
+    }
+    writeInt(poly.getNumInteriorRing() + 1);
+    writeCoordinateSequence(poly.getExteriorRing().getCoordinateSequence());
+    for (int i = 0; i < poly.getNumInteriorRing(); i++) {
+      writeCoordinateSequence(poly.getInteriorRingN(i).getCoordinateSequence());
+    }
+  }
+
+  private void writeGeometryCollection(int geometryType, GeometryCollection gc, boolean isSRIDIncluded)
+  {
+    writeHeader(geometryType, gc, isSRIDIncluded);
+    writeInt(gc.getNumGeometries());
+    for (int i = 0; i < gc.getNumGeometries(); i++) {
+      writeGeometry(gc.getGeometryN(i), false);
+    }
+  }
+
+  private void writeHeader(int geometryType, Geometry g, boolean isSRIDIncluded)
+  {
+    sink.putByte(pos, byteOrder == ByteOrderValues.LITTLE_ENDIAN 
+        ? (byte) WKBConstants.wkbNDR : (byte) WKBConstants.wkbXDR);
+    pos++;
+    int flag3D = (outputDimension == 3) ? 0x80000000 : 0;
+    int typeInt = geometryType | flag3D;
+    typeInt |= isSRIDIncluded ? 0x20000000 : 0;
+    writeInt(typeInt);
+    if (isSRIDIncluded) {
+      writeInt(g.getSRID());
+    }
+  }
+
+  private void writeCoordinateSequence(CoordinateSequence seq)
+  {
+    writeInt(seq.size());
+    writeCoordinates(seq);
+  }
+  
+  private void writeCoordinates(CoordinateSequence seq)
+  {
+    int size = seq.size();
+    int seqDim = seq.getDimension();
+    if (seq instanceof PackedCoordinateSequence.Double) {
+      double[] ords = ((PackedCoordinateSequence.Double) seq).getRawCoordinates();
+      for (int i = 0; i < size; i++) {
+        int index = i * seqDim;
+        writeDouble(ords[index]);
+        writeDouble(ords[index + 1]);
+        if (outputDimension >= 3) {
+          writeDouble(seqDim >= 3 ? ords[index + 2] : Coordinate.NULL_ORDINATE);
+        }
+      }
+      return;
+    }
+    for (int i = 0; i < size; i++) {
+      writeDouble(seq.getX(i));
+      writeDouble(seq.getY(i));
+      if (outputDimension >= 3) {
+        writeDouble(seqDim >= 3 ? seq.getOrdinate(i, 2) : Coordinate.NULL_ORDINATE);
+      }
+    }
+  }
+  
+  private void writeInt(int value)
+  {
+    sink.putInt(pos, value);
+    pos += 4;
+  }
+
+  private void writeDouble(double value)
+  {
+    sink.putLong(pos, Double.doubleToLongBits(value));
+    pos += 8;
+  }
+  
+  /**
+   * A target for absolute writes of primitive values in the WKB byte order.
+   */
+  private abstract static class Sink {
+    abstract void putByte(int pos, byte value);
+    abstract void putInt(int pos, int value);
+    abstract void putLong(int pos, long value);
+  }
+  
+  private class ArraySink extends Sink {
+    byte[] bytes;
+    
+    void putByte(int pos, byte value) {
+      bytes[pos] = value;
+    }
+    
+    void putInt(int pos, int value) {
+      if (byteOrder == ByteOrderValues.BIG_ENDIAN) {
+        bytes[pos] = (byte)(value >> 24);
+        bytes[pos + 1] = (byte)(value >> 16);
+        bytes[pos + 2] = (byte)(value >> 8);
+        bytes[pos + 3] = (byte) value;
+      }
+      else {
+        bytes[pos] = (byte) value;
+        bytes[pos + 1] = (byte)(value >> 8);
+        bytes[pos + 2] = (byte)(value >> 16);
+        bytes[pos + 3] = (byte)(value >> 24);
+      }
+    }
+    
+    void putLong(int pos, long value) {
+      if (byteOrder == ByteOrderValues.BIG_ENDIAN) {
+        putInt(pos, (int) (value >> 32));
+        putInt(pos + 4, (int) value);
+      }
+      else {
+        putInt(pos, (int) value);
+        putInt(pos + 4, (int) (value >> 32));
+      }
+    }
+  }
+  
+  private static class BufferSink extends Sink {
+    ByteBuffer buf;
+    boolean isSwapped;
+    
+    void putByte(int pos, byte value) {
+      buf.put(pos, value);
+    }
+    
+    void putInt(int pos, int value) {
+      buf.putInt(pos, isSwapped ? Integer.reverseBytes(value) : value);
+    }
+    
+    void putLong(int pos, long value) {
+      buf.putLong(pos, isSwapped ? Long.reverseBytes(value) : value);
+    }
+  }
+}
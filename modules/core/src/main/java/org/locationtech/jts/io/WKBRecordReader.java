@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+import org.locationtech.jts.geom.Geometry;
+
+/**
+ * Reads a sequence of WKB records from a {@link ByteBuffer}
+ * or a file.
+ * The records may be either concatenated,
+ * or prefixed by their length in bytes 
+ * as a 4-byte integer (in big-endian order by default).
+ * <p>
+ * Files are memory-mapped in windows,
+ * so that files larger than 2 GB can be read.
+ * The window is moved forward when a record extends past its end.
+ * Records must be smaller than the window size of 1 GB.
+ * <p>
+ * Geometries are decoded with a {@link WKBBufferReader},
+ * so coordinates are read directly from the buffer
+ * into the coordinate sequences of the geometries.
+ * <p>
+ * A typical usage pattern is:
+ * <pre>
+ * WKBRecordReader rdr = WKBRecordReader.open(file, false);
+ * try {
+ *   while (rdr.hasNext()) {
+ *     Geometry geom = rdr.next();
+ *     ...
+ *   }
+ * }
+ * finally {
+ *   rdr.close();
+ * }
+ * </pre>
+ * 
+ * @see WKBBufferReader
+ */
+public class WKBRecordReader 
+  implements Closeable
+{
+  private static final int DEFAULT_WINDOW_SIZE = 1 << 30;
+  
+  /**
+   * Opens a file of WKB records to read,
+   * using a {@link WKBBufferReader} with the default geometry factory.
+   * 
+   * @param file the file to read
+   * @param isLengthPrefixed true if the records are prefixed by their length
+   * @return a reader for the file
+   * @throws IOException if the file cannot be opened
+   */
+  public static WKBRecordReader open(File file, boolean isLengthPrefixed) throws IOException {
+    return open(file, isLengthPrefixed, new WKBBufferReader());
+  }
+  
+  /**
+   * Opens a file of WKB records to read,
+   * using a given {@link WKBBufferReader}.
+   * 
+   * @param file the file to read
+   * @param isLengthPrefixed true if the records are prefixed by their length
+   * @param reader the reader to decode geometries with
+   * @return a reader for the file
+   * @throws IOException if the file cannot be opened
+   */
+  public static WKBRecordReader open(File file, boolean isLengthPrefixed, WKBBufferReader reader) throws IOException {
+    return open(file, isLengthPrefixed, reader, DEFAULT_WINDOW_SIZE);
+  }
+  
+  static WKBRecordReader open(File file, boolean isLengthPrefixed, WKBBufferReader reader, int windowSize) throws IOException {
+    RandomAccessFile raf = new RandomAccessFile(file, "r");
+    try {
+      return new WKBRecordReader(raf.getChannel(), isLengthPrefixed, reader, windowSize);
+    }
+    catch (IOException ex) {
+      raf.close();
+      throw ex;
+    }
+  }
+  
+  private WKBBufferReader reader;
+  private boolean isLengthPrefixed;
+  private ByteOrder prefixOrder = ByteOrder.BIG_ENDIAN;
+  private FileChannel channel = null;
+  private int windowSize;
+  private long dataSize;
+  private long windowStart = 0;
+  private ByteBuffer buf;
+  private int pos;
+  private long recordOffset = -1;
+
+  /**
+   * Creates a reader for the WKB records in a buffer,
+   * from its position to its limit.
+   * The position of the buffer is not changed.
+   * 
+   * @param buffer the buffer to read
+   * @param isLengthPrefixed true if the records are prefixed by their length
+   */
+  public WKBRecordReader(ByteBuffer buffer, boolean isLengthPrefixed) {
+    this(buffer, isLengthPrefixed, new WKBBufferReader());
+  }
+
+  /**
+   * Creates a reader for the WKB records in a buffer,
+   * from its position to its limit,
+   * using a given {@link WKBBufferReader}.
+   * The position of the buffer is not changed.
+   * 
+   * @param buffer the buffer to read
+   * @param isLengthPrefixed true if the records are prefixed by their length
+   * @param reader the reader to decode geometries with
+   */
+  public WKBRecordReader(ByteBuffer buffer, boolean isLengthPrefixed, WKBBufferReader reader) {
+    this.reader = reader;
+    this.isLengthPrefixed = isLengthPrefixed;
+    this.buf = buffer;
+    this.pos = buffer.position();
+    this.dataSize = buffer.limit();
+  }
+
+  private WKBRecordReader(FileChannel channel, boolean isLengthPrefixed, WKBBufferReader reader, int windowSize) throws IOException {
+    this.reader = reader;
+    this.isLengthPrefixed = isLengthPrefixed;
+    this.channel = channel;
+    this.windowSize = windowSize;
+    this.dataSize = channel.size();
+    mapWindow(0);
+  }
+  
+  /**
+   * Sets the byte order of the record length prefixes.
+   * The default is big-endian.
+   * 
+   * @param order the byte order of the length prefixes
+   */
+  public void setPrefixByteOrder(ByteOrder order) {
+    this.prefixOrder = order;
+  }
+  
+  /**
+   * Tests whether there are more records to read.
+   * 
+   * @return true if there are more records
+   */
+  public boolean hasNext() {
+    return windowStart + pos < dataSize;
+  }
+  
+  /**
+   * Reads the next record.
+   * 
+   * @return the geometry read
+   * @throws IOException if the file cannot be read
+   * @throws ParseException if the record is not valid WKB
+   */
+  public Geometry next() throws IOException, ParseException {
+    recordOffset = windowStart + pos;
+    try {
+      return readRecord();
+    }
+    catch (ParseException ex) {
+      // retry if the record may extend past the end of the window
+      if (channel == null || pos == 0 || windowStart + buf.limit() >= dataSize)
+        throw ex;
+      mapWindow(recordOffset);
+      return readRecord();
+    }
+  }
+  
+  /**
+   * Gets the offset of the last record read.
+   * For a buffer the offset is relative to the start of the buffer,
+   * for a file it is the offset in the file.
+   * 
+   * @return the offset of the last record read, or -1 if no record has been read
+   */
+  public long getRecordOffset() {
+    return recordOffset;
+  }
+  
+  private Geometry readRecord() throws ParseException {
+    if (! isLengthPrefixed) {
+      Geometry geom = reader.read(buf, pos);
+      pos = reader.getEndOffset();
+      return geom;
+    }
+    if (buf.limit() - pos < 4)
+      throw new ParseException("Unexpected end of WKB data at offset " + (windowStart + pos));
+    int len = buf.getInt(pos);
+    if (buf.order() != prefixOrder)
+      len = Integer.reverseBytes(len);
+    if (len < 0 || len > buf.limit() - pos - 4) 
+      throw new ParseException("Invalid WKB record length " + len + " at offset " + (windowStart + pos));
+    int start = pos + 4;
+    Geometry geom = reader.read(buf, start);
+    if (reader.getEndOffset() > start + len)
+      throw new ParseException("WKB record extends past its length at offset " + (windowStart + pos));
+    pos = start + len;
+    return geom;
+  }
+
+  private void mapWindow(long start) throws IOException {
+    long size = Math.min(windowSize, dataSize - start);
+    buf = channel.map(FileChannel.MapMode.READ_ONLY, start, size);
+    windowStart = start;
+    pos = 0;
+  }
+  
+  /**
+   * Closes the file being read, if any.
+   * 
+   * @throws IOException if an I/O error occurs
+   */
+  public void close() throws IOException {
+    if (channel != null) {
+      channel.close();
+    }
+  }
+}
@@ -14,8 +14,6 @@ package org.locationtech.jts.io;
 
 import java.io.IOException;
 import java.io.Reader;
-import java.io.StreamTokenizer;
-import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
@@ -39,15 +37,14 @@ import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.Polygon;
 import org.locationtech.jts.geom.PrecisionModel;
 import org.locationtech.jts.geom.impl.CoordinateArraySequenceFactory;
-import org.locationtech.jts.util.Assert;
-import org.locationtech.jts.util.AssertionFailedException;
 
 /**
  * Converts a geometry in Well-Known Text format to a {@link Geometry}.
  * <p>
  * <code>WKTReader</code> supports
- * extracting <code>Geometry</code> objects from either {@link Reader}s or
- *  {@link String}s. This allows it to function as a parser to read <code>Geometry</code>
+ * extracting <code>Geometry</code> objects from {@link Reader}s,
+ * {@link String}s and other {@link CharSequence}s, or character arrays.
+ * This allows it to function as a parser to read <code>Geometry</code>
  *  objects from text blocks embedded in other data formats (e.g. XML). <P>
  * <p>
  *  A <code>WKTReader</code> is parameterized by a <code>GeometryFactory</code>,
@@ -77,9 +74,11 @@ import org.locationtech.jts.util.AssertionFailedException;
  * <ul>
  * <li>Keywords are case-insensitive.
  * <li>The reader supports non-standard "LINEARRING" tags.
- * <li>The reader uses <tt>Double.parseDouble</tt> to perform the conversion of ASCII
- * numbers to floating point.  This means it supports the Java
+ * <li>The reader converts ASCII numbers to floating point with the same
+ * result as <tt>Double.parseDouble</tt>.  This means it supports the Java
  * syntax for floating point literals (including scientific notation).
+ * Common decimal numbers are parsed directly from the input characters
+ * without creating intermediate objects.
  * </ul>
  * <h3>Syntax</h3>
  * The following syntax specification describes the version of Well-Known Text
@@ -234,13 +233,38 @@ public class WKTReader
    *             if a parsing problem occurs
    */
   public Geometry read(String wellKnownText) throws ParseException {
-    StringReader reader = new StringReader(wellKnownText);
-    try {
-      return read(reader);
-    }
-    finally {
-      reader.close();
-    }
+    return read(new WKTTokenizer(wellKnownText));
+  }
+
+  /**
+   * Reads a Well-Known Text representation of a {@link Geometry}
+   * from a {@link CharSequence}.
+   *
+   * @param wellKnownText
+   *            one or more &lt;Geometry Tagged Text&gt; strings (see the OpenGIS
+   *            Simple Features Specification) separated by whitespace
+   * @return a <code>Geometry</code> specified by <code>wellKnownText</code>
+   * @throws ParseException
+   *             if a parsing problem occurs
+   */
+  public Geometry read(CharSequence wellKnownText) throws ParseException {
+    return read(new WKTTokenizer(wellKnownText));
+  }
+
+  /**
+   * Reads a Well-Known Text representation of a {@link Geometry}
+   * from a range of a character array.
+   * The array is parsed in place, without copying.
+   *
+   * @param chars the array containing a &lt;Geometry Tagged Text&gt; string
+   * @param offset the offset of the first character of the text
+   * @param length the number of characters in the text
+   * @return a <code>Geometry</code> specified by the text
+   * @throws ParseException
+   *             if a parsing problem occurs
+   */
+  public Geometry read(char[] chars, int offset, int length) throws ParseException {
+    return read(new WKTTokenizer(chars, offset, length));
   }
 
   /**
@@ -253,7 +277,10 @@ public class WKTReader
    *@throws  ParseException  if a parsing problem occurs
    */
   public Geometry read(Reader reader) throws ParseException {
-    StreamTokenizer tokenizer = createTokenizer(reader);
+    return read(new WKTTokenizer(reader));
+  }
+
+  private Geometry read(WKTTokenizer tokenizer) throws ParseException {
     try {
       return readGeometryTaggedText(tokenizer);
     }
@@ -263,30 +290,7 @@ public class WKTReader
   }
 
   /**
-   * Utility function to create the tokenizer
-   * @param reader a reader
-   *
-   * @return a WKT Tokenizer.
-   */
-  private static StreamTokenizer createTokenizer(Reader reader) {
-    StreamTokenizer tokenizer = new StreamTokenizer(reader);
-    // set tokenizer to NOT parse numbers
-    tokenizer.resetSyntax();
-    tokenizer.wordChars('a', 'z');
-    tokenizer.wordChars('A', 'Z');
-    tokenizer.wordChars(128 + 32, 255);
-    tokenizer.wordChars('0', '9');
-    tokenizer.wordChars('-', '-');
-    tokenizer.wordChars('+', '+');
-    tokenizer.wordChars('.', '.');
-    tokenizer.whitespaceChars(0, ' ');
-    tokenizer.commentChar('#');
-
-    return tokenizer;
-  }
-
-  /**
-   * Reads a <code>Coordinate</Code> from a stream using the given {@link StreamTokenizer}.
+   * Reads a <code>Coordinate</Code> from a stream using the given {@link WKTTokenizer}.
    * <p>
    * All ordinate values are read, but -depending on the {@link CoordinateSequenceFactory} of the
    * underlying {@link GeometryFactory}- not necessarily all can be handled. Those are silently dropped.
@@ -299,7 +303,7 @@ public class WKTReader
    *@throws  IOException     if an I/O error occurs
    *@throws  ParseException  if an unexpected token was encountered
    */
-  private Coordinate getCoordinate(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags, boolean tryParen)
+  private Coordinate getCoordinate(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags, boolean tryParen)
       throws IOException, ParseException
   {
     boolean opened = false;
@@ -345,7 +349,7 @@ public class WKTReader
   }
 
   /**
-   * Reads a <code>Coordinate</Code> from a stream using the given {@link StreamTokenizer}.
+   * Reads a <code>Coordinate</Code> from a stream using the given {@link WKTTokenizer}.
    * <p>
    *   All ordinate values are read, but -depending on the {@link CoordinateSequenceFactory} of the
    *   underlying {@link GeometryFactory}- not necessarily all can be handled. Those are silently dropped.
@@ -360,7 +364,7 @@ public class WKTReader
    *@throws  IOException     if an I/O error occurs
    *@throws  ParseException  if an unexpected token was encountered
    */
-  private CoordinateSequence getCoordinateSequence(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags, int minSize, boolean isRing)
+  private CoordinateSequence getCoordinateSequence(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags, int minSize, boolean isRing)
           throws IOException, ParseException {
     if (getNextEmptyOrOpener(tokenizer).equals(WKTConstants.EMPTY))
       return createCoordinateSequenceEmpty(ordinateFlags);
@@ -403,7 +407,7 @@ public class WKTReader
   }
 
   /**
-   * Reads a <code>CoordinateSequence</Code> from a stream using the given {@link StreamTokenizer}
+   * Reads a <code>CoordinateSequence</Code> from a stream using the given {@link WKTTokenizer}
    * for an old-style JTS MultiPoint (Point coordinates not enclosed in parentheses).
    * <p>
    * All ordinate values are read, but -depending on the {@link CoordinateSequenceFactory} of the
@@ -418,7 +422,7 @@ public class WKTReader
    * @throws  IOException     if an I/O error occurs
    * @throws  ParseException  if an unexpected token was encountered
 S  */
-  private CoordinateSequence getCoordinateSequenceOldMultiPoint(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags)
+  private CoordinateSequence getCoordinateSequenceOldMultiPoint(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags)
           throws IOException, ParseException {
 
     List<Coordinate> coordinates = new ArrayList<Coordinate>();
@@ -456,10 +460,10 @@ S  */
    * @return {@code true} if the next token is a number, otherwise {@code false}
    * @throws  IOException     if an I/O error occurs
    */
-  private static boolean isNumberNext(StreamTokenizer tokenizer) throws IOException {
+  private static boolean isNumberNext(WKTTokenizer tokenizer) throws IOException {
     int type = tokenizer.nextToken();
     tokenizer.pushBack();
-    return type == StreamTokenizer.TT_WORD;
+    return type == WKTTokenizer.TT_WORD;
   }
 
   /**
@@ -469,7 +473,7 @@ S  */
    * @return {@code true} if the next token is a {@link #L_PAREN}, otherwise {@code false}
    * @throws  IOException     if an I/O error occurs
    */
-  private static boolean isOpenerNext(StreamTokenizer tokenizer) throws IOException {
+  private static boolean isOpenerNext(WKTTokenizer tokenizer) throws IOException {
     int type = tokenizer.nextToken();
     tokenizer.pushBack();
     return type == '(';
@@ -486,21 +490,21 @@ S  */
    * @throws  ParseException  if the next token is not a valid number
    * @throws  IOException     if an I/O error occurs
    */
-  private double getNextNumber(StreamTokenizer tokenizer) throws IOException,
+  private double getNextNumber(WKTTokenizer tokenizer) throws IOException,
       ParseException {
     int type = tokenizer.nextToken();
     switch (type) {
-      case StreamTokenizer.TT_WORD:
+      case WKTTokenizer.TT_WORD:
       {
-        if (tokenizer.sval.equalsIgnoreCase(NAN_SYMBOL)) {
+        if (tokenizer.isWord(NAN_SYMBOL)) {
           return Double.NaN;
         }
         else {
           try {
-            return Double.parseDouble(tokenizer.sval);
+            return tokenizer.getNumber();
           }
           catch (NumberFormatException ex) {
-            throw parseErrorWithLine(tokenizer, "Invalid number: " + tokenizer.sval);
+            throw parseErrorWithLine(tokenizer, "Invalid number: " + tokenizer.getWord());
           }
         }
       }
@@ -517,23 +521,18 @@ S  */
    *@throws  IOException     if an I/O error occurs
    * @param  tokenizer        tokenizer over a stream of text in Well-known Text
    */
-  private static String getNextEmptyOrOpener(StreamTokenizer tokenizer) throws IOException, ParseException {
-    String nextWord = getNextWord(tokenizer);
-    if (nextWord.equalsIgnoreCase(WKTConstants.Z)) {
-      //z = true;
-      nextWord = getNextWord(tokenizer);
+  private static String getNextEmptyOrOpener(WKTTokenizer tokenizer) throws IOException, ParseException {
+    nextWordToken(tokenizer);
+    if (tokenizer.isWord(WKTConstants.Z)
+        || tokenizer.isWord(WKTConstants.M)
+        || tokenizer.isWord(WKTConstants.ZM)) {
+      nextWordToken(tokenizer);
     }
-    else if (nextWord.equalsIgnoreCase(WKTConstants.M)) {
-      //m = true;
-      nextWord = getNextWord(tokenizer);
+    if (tokenizer.isWord(WKTConstants.EMPTY)) {
+      return WKTConstants.EMPTY;
     }
-    else if (nextWord.equalsIgnoreCase(WKTConstants.ZM)) {
-      //z = true;
-      //m = true;
-      nextWord = getNextWord(tokenizer);
-    }
-    if (nextWord.equals(WKTConstants.EMPTY) || nextWord.equals(L_PAREN)) {
-      return nextWord;
+    if (tokenizer.getType() == '(') {
+      return L_PAREN;
     }
     throw parseErrorExpected(tokenizer, WKTConstants.EMPTY + " or " + L_PAREN);
   }
@@ -548,40 +547,46 @@ S  */
    *@throws  IOException     if an I/O error occurs
    * @param  tokenizer        tokenizer over a stream of text in Well-known Text
    */
-  private static EnumSet<Ordinate> getNextOrdinateFlags(StreamTokenizer tokenizer) throws IOException, ParseException {
+  private static EnumSet<Ordinate> getNextOrdinateFlags(WKTTokenizer tokenizer) throws IOException, ParseException {
 
     EnumSet<Ordinate> result = EnumSet.of(Ordinate.X, Ordinate.Y);
 
-    String nextWord = lookAheadWord(tokenizer).toUpperCase(Locale.ROOT);
-    if (nextWord.equalsIgnoreCase(WKTConstants.Z)) {
-      tokenizer.nextToken();
+    nextWordToken(tokenizer);
+    if (tokenizer.isWord(WKTConstants.Z)) {
       result.add(Ordinate.Z);
     }
-    else if (nextWord.equalsIgnoreCase(WKTConstants.M)) {
-      tokenizer.nextToken();
+    else if (tokenizer.isWord(WKTConstants.M)) {
       result.add(Ordinate.M);
     }
-    else if (nextWord.equalsIgnoreCase(WKTConstants.ZM)) {
-      tokenizer.nextToken();
+    else if (tokenizer.isWord(WKTConstants.ZM)) {
       result.add(Ordinate.Z);
       result.add(Ordinate.M);
     }
+    else {
+      tokenizer.pushBack();
+    }
     return result;
   }
 
   /**
-   *  Returns the next word in the stream.
+   * Advances to the next token in the stream, 
+   * which must be a word, a parenthesis or a comma.
    *
-   *@param  tokenizer        tokenizer over a stream of text in Well-known Text
-   *      format. The next token must be a word.
-   *@return                  the next word in the stream as uppercase text
-   *@throws  ParseException  if the next token is not a word
-   *@throws  IOException     if an I/O error occurs
+   * @param  tokenizer        tokenizer over a stream of text in Well-known Text
+   * @return                  the type of the token
+   * @throws  ParseException  if the next token is not a word, parenthesis or comma
+   * @throws  IOException     if an I/O error occurs
    */
-  private static String lookAheadWord(StreamTokenizer tokenizer) throws IOException, ParseException {
-    String nextWord = getNextWord(tokenizer);
-    tokenizer.pushBack();
-    return nextWord;
+  private static int nextWordToken(WKTTokenizer tokenizer) throws IOException, ParseException {
+    int type = tokenizer.nextToken();
+    switch (type) {
+    case WKTTokenizer.TT_WORD:
+    case '(':
+    case ')':
+    case ',':
+      return type;
+    }
+    throw parseErrorExpected(tokenizer, "word");
   }
 
   /**
@@ -592,10 +597,13 @@ S  */
    *@throws  IOException     if an I/O error occurs
    * @param  tokenizer        tokenizer over a stream of text in Well-known Text
    */
-  private static String getNextCloserOrComma(StreamTokenizer tokenizer) throws IOException, ParseException {
-    String nextWord = getNextWord(tokenizer);
-    if (nextWord.equals(COMMA) || nextWord.equals(R_PAREN)) {
-      return nextWord;
+  private static String getNextCloserOrComma(WKTTokenizer tokenizer) throws IOException, ParseException {
+    int type = nextWordToken(tokenizer);
+    if (type == ',') {
+      return COMMA;
+    }
+    if (type == ')') {
+      return R_PAREN;
     }
     throw parseErrorExpected(tokenizer, COMMA + " or " + R_PAREN);
   }
@@ -609,10 +617,9 @@ S  */
    *@throws  ParseException  if the next token is not R_PAREN
    *@throws  IOException     if an I/O error occurs
    */
-  private String getNextCloser(StreamTokenizer tokenizer) throws IOException, ParseException {
-    String nextWord = getNextWord(tokenizer);
-    if (nextWord.equals(R_PAREN)) {
-      return nextWord;
+  private String getNextCloser(WKTTokenizer tokenizer) throws IOException, ParseException {
+    if (nextWordToken(tokenizer) == ')') {
+      return R_PAREN;
     }
     throw parseErrorExpected(tokenizer, R_PAREN);
   }
@@ -625,21 +632,16 @@ S  */
    *@throws  IOException     if an I/O error occurs
    * @param  tokenizer        tokenizer over a stream of text in Well-known Text
    */
-  private static String getNextWord(StreamTokenizer tokenizer) throws IOException, ParseException {
-    int type = tokenizer.nextToken();
+  private static String getNextWord(WKTTokenizer tokenizer) throws IOException, ParseException {
+    int type = nextWordToken(tokenizer);
     switch (type) {
-    case StreamTokenizer.TT_WORD:
-
-      String word = tokenizer.sval;
-      if (word.equalsIgnoreCase(WKTConstants.EMPTY))
-          return WKTConstants.EMPTY;
-      return word;
-
     case '(': return L_PAREN;
     case ')': return R_PAREN;
     case ',': return COMMA;
     }
-    throw parseErrorExpected(tokenizer, "word");
+    if (tokenizer.isWord(WKTConstants.EMPTY))
+      return WKTConstants.EMPTY;
+    return tokenizer.getWord();
   }
 
   /**
@@ -647,17 +649,10 @@ S  */
    * was unexpected.
    *
    * @param expected a description of what was expected
-   * @throws AssertionFailedException if an invalid token is encountered
    */
-  private static ParseException parseErrorExpected(StreamTokenizer tokenizer, String expected)
+  private static ParseException parseErrorExpected(WKTTokenizer tokenizer, String expected)
   {
-    // throws Asserts for tokens that should never be seen
-    if (tokenizer.ttype == StreamTokenizer.TT_NUMBER)
-      Assert.shouldNeverReachHere("Unexpected NUMBER token");
-    if (tokenizer.ttype == StreamTokenizer.TT_EOL)
-      Assert.shouldNeverReachHere("Unexpected EOL token");
-
-    String tokenStr = tokenString(tokenizer);
+    String tokenStr = tokenizer.toString();
     return parseErrorWithLine(tokenizer, "Expected " + expected + " but found " + tokenStr);
   }
 
@@ -666,30 +661,11 @@ S  */
    * was unexpected.
    *
    * @param msg a description of what was expected
-   * @throws AssertionFailedException if an invalid token is encountered
    */
-  private static ParseException parseErrorWithLine(StreamTokenizer tokenizer, String msg)
+  private static ParseException parseErrorWithLine(WKTTokenizer tokenizer, String msg)
   {
     return new ParseException(msg + " (line " + tokenizer.lineno() + ")");
   }
-  
-  /**
-   * Gets a description of the current token type
-   * @param tokenizer the tokenizer
-   * @return a description of the current token
-   */
-  private static String tokenString(StreamTokenizer tokenizer)
-  {
-    switch (tokenizer.ttype) {
-      case StreamTokenizer.TT_NUMBER:
-        return "<NUMBER>";
-      case StreamTokenizer.TT_EOL:
-        return "End-of-Line";
-      case StreamTokenizer.TT_EOF: return "End-of-Stream";
-      case StreamTokenizer.TT_WORD: return "'" + tokenizer.sval + "'";
-    }
-    return "'" + (char) tokenizer.ttype + "'";
-  }
 
   /**
    *  Creates a <code>Geometry</code> using the next token in the stream.
@@ -702,7 +678,7 @@ S  */
    *@throws  IOException     if an I/O error occurs
    * @param  tokenizer        tokenizer over a stream of text in Well-known Text
    */
-  private Geometry readGeometryTaggedText(StreamTokenizer tokenizer) throws IOException, ParseException {
+  private Geometry readGeometryTaggedText(WKTTokenizer tokenizer) throws IOException, ParseException {
     String type;
 
     EnumSet<Ordinate> ordinateFlags = EnumSet.of(Ordinate.X, Ordinate.Y);
@@ -718,7 +694,7 @@ S  */
     return readGeometryTaggedText(tokenizer, type, ordinateFlags);
   }
 
-  private Geometry readGeometryTaggedText(StreamTokenizer tokenizer, String type, EnumSet<Ordinate> ordinateFlags)
+  private Geometry readGeometryTaggedText(WKTTokenizer tokenizer, String type, EnumSet<Ordinate> ordinateFlags)
           throws IOException, ParseException {
 
     if (ordinateFlags.size() == 2) {
@@ -765,7 +741,7 @@ S  */
     throw parseErrorWithLine(tokenizer, "Unknown geometry type: " + type);
   }
 
-  private boolean isTypeName(StreamTokenizer tokenizer, String type, String typeName) throws ParseException {
+  private boolean isTypeName(WKTTokenizer tokenizer, String type, String typeName) throws ParseException {
     if (! type.startsWith(typeName))
       return false;
     
@@ -792,7 +768,7 @@ S  */
    *@throws  IOException     if an I/O error occurs
    *@throws  ParseException  if an unexpected token was encountered
    */
-  private Point readPointText(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
+  private Point readPointText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
     Point point = geometryFactory.createPoint(getCoordinateSequence(tokenizer, ordinateFlags, 1, false));
     return point;
   }
@@ -807,7 +783,7 @@ S  */
    *@throws  IOException     if an I/O error occurs
    *@throws  ParseException  if an unexpected token was encountered
    */
-  private LineString readLineStringText(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
+  private LineString readLineStringText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
     return geometryFactory.createLineString(getCoordinateSequence(tokenizer, ordinateFlags, LineString.MINIMUM_VALID_SIZE, false));
   }
 
@@ -823,7 +799,7 @@ S  */
    *      do not form a closed linestring, or if an unexpected token was
    *      encountered
    */
-  private LinearRing readLinearRingText(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags)
+  private LinearRing readLinearRingText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags)
     throws IOException, ParseException
   {
     return geometryFactory.createLinearRing(getCoordinateSequence(tokenizer, ordinateFlags, LinearRing.MINIMUM_VALID_SIZE, true));
@@ -839,7 +815,7 @@ S  */
    *@throws  IOException     if an I/O error occurs
    *@throws  ParseException  if an unexpected token was encountered
    */
-  private MultiPoint readMultiPointText(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException
+  private MultiPoint readMultiPointText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException
   {
     String nextToken = getNextEmptyOrOpener(tokenizer);
     if (nextToken.equals(WKTConstants.EMPTY)) {
@@ -849,8 +825,11 @@ S  */
     // check for old-style JTS syntax (no parentheses surrounding Point coordinates) and parse it if present
     // MD 2009-02-21 - this is only provided for backwards compatibility for a few versions
     if (isAllowOldJtsMultipointSyntax) {
-      String nextWord = lookAheadWord(tokenizer);
-      if (nextWord != L_PAREN && nextWord != WKTConstants.EMPTY) {
+      nextWordToken(tokenizer);
+      boolean isOldSyntax = tokenizer.getType() != '(' 
+          && ! tokenizer.isWord(WKTConstants.EMPTY);
+      tokenizer.pushBack();
+      if (isOldSyntax) {
         return geometryFactory.createMultiPoint(
             getCoordinateSequenceOldMultiPoint(tokenizer, ordinateFlags));
       }
@@ -882,7 +861,7 @@ S  */
    *      token was encountered.
    *@throws  IOException     if an I/O error occurs
    */
-  private Polygon readPolygonText(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
+  private Polygon readPolygonText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
     String nextToken = getNextEmptyOrOpener(tokenizer);
     if (nextToken.equals(WKTConstants.EMPTY)) {
         return geometryFactory.createPolygon(createCoordinateSequenceEmpty(ordinateFlags));
@@ -909,7 +888,7 @@ S  */
    *@throws  IOException     if an I/O error occurs
    *@throws  ParseException  if an unexpected token was encountered
    */
-  private MultiLineString readMultiLineStringText(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags)
+  private MultiLineString readMultiLineStringText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags)
           throws IOException, ParseException {
     String nextToken = getNextEmptyOrOpener(tokenizer);
     if (nextToken.equals(WKTConstants.EMPTY)) {
@@ -938,7 +917,7 @@ S  */
    *@throws  IOException     if an I/O error occurs
    *@throws  ParseException  if an unexpected token was encountered
    */
-  private MultiPolygon readMultiPolygonText(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
+  private MultiPolygon readMultiPolygonText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
     String nextToken = getNextEmptyOrOpener(tokenizer);
     if (nextToken.equals(WKTConstants.EMPTY)) {
       return geometryFactory.createMultiPolygon();
@@ -966,7 +945,7 @@ S  */
    *      token was encountered
    *@throws  IOException     if an I/O error occurs
    */
-  private GeometryCollection readGeometryCollectionText(StreamTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
+  private GeometryCollection readGeometryCollectionText(WKTTokenizer tokenizer, EnumSet<Ordinate> ordinateFlags) throws IOException, ParseException {
     String nextToken = getNextEmptyOrOpener(tokenizer);
     if (nextToken.equals(WKTConstants.EMPTY)) {
       return geometryFactory.createGeometryCollection();
@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Splits Well-Known Text into tokens, 
+ * for use by {@link WKTReader}.
+ * <p>
+ * The tokenizer works directly on a <code>char</code> array,
+ * and parses numbers in place.
+ * No objects are created per token, 
+ * except when the text of a word is requested explicitly.
+ * Text can also be read from a {@link Reader}.
+ * In this case characters are read one at a time,
+ * so that no more input is consumed than 
+ * a {@link java.io.StreamTokenizer} would consume.
+ * <p>
+ * Tokens are recognized in the same way as by the 
+ * <code>StreamTokenizer</code> previously used by <code>WKTReader</code>:
+ * <ul>
+ * <li>characters up to and including space are whitespace
+ * <li><code>#</code> starts a comment which extends to the end of the line
+ * <li>a word is a sequence of letters, digits, <code>+ - .</code>
+ * and characters above 159 
+ * <li>any other character is a token on its own
+ * </ul>
+ */
+class WKTTokenizer
+{
+  /**
+   * The token type indicating the end of the input.
+   */
+  public static final int TT_EOF = -1;
+  
+  /**
+   * The token type indicating a word.
+   */
+  public static final int TT_WORD = -3;
+
+  private static final int READER_BUFFER_SIZE = 64;
+  
+  
+  private char[] buf;
+  private int pos;
+  private int end;
+  private Reader reader;
+  
+  private int lineno = 1;
+  private int ttype = TT_EOF;
+  private int tokenStart;
+  private int tokenEnd;
+  private boolean isPushedBack = false;
+  
+  /**
+   * Creates a tokenizer for a range of a character array.
+   * The array is not copied.
+   * 
+   * @param chars the characters to tokenize
+   * @param offset the offset of the first character
+   * @param length the number of characters
+   */
+  public WKTTokenizer(char[] chars, int offset, int length) {
+    if (offset < 0 || length < 0 || length > chars.length - offset)
+      throw new IndexOutOfBoundsException();
+    this.buf = chars;
+    this.pos = offset;
+    this.end = offset + length;
+  }
+  
+  /**
+   * Creates a tokenizer for a {@link CharSequence}.
+   * 
+   * @param text the text to tokenize
+   */
+  public WKTTokenizer(CharSequence text) {
+    this(toCharArray(text), 0, text.length());
+  }
+  
+  /**
+   * Creates a tokenizer reading from a {@link Reader}.
+   * 
+   * @param reader the reader to read from
+   */
+  public WKTTokenizer(Reader reader) {
+    this.buf = new char[READER_BUFFER_SIZE];
+    this.reader = reader;
+  }
+  
+  private static char[] toCharArray(CharSequence text) {
+    if (text instanceof String)
+      return ((String) text).toCharArray();
+    int len = text.length();
+    char[] chars = new char[len];
+    if (text instanceof StringBuilder) {
+      ((StringBuilder) text).getChars(0, len, chars, 0);
+    }
+    else {
+      for (int i = 0; i < len; i++) {
+        chars[i] = text.charAt(i);
+      }
+    }
+    return chars;
+  }
+  
+  /**
+   * Gets the type of the current token.
+   * 
+   * @return the token type: {@link #TT_WORD}, {@link #TT_EOF} or a character
+   */
+  public int getType() {
+    return ttype;
+  }
+
+  /**
+   * Gets the current line number.
+   * 
+   * @return the line number
+   */
+  public int lineno() {
+    return lineno;
+  }
+  
+  /**
+   * Causes the next call to {@link #nextToken()}
+   * to return the current token again.
+   */
+  public void pushBack() {
+    isPushedBack = true;
+  }
+  
+  /**
+   * Advances to the next token.
+   * 
+   * @return the type of the token
+   * @throws IOException if an error occurs reading the input
+   */
+  public int nextToken() throws IOException {
+    if (isPushedBack) {
+      isPushedBack = false;
+      return ttype;
+    }
+    if (reader != null) 
+      compact();
+    int c = skipWhitespace();
+    if (c < 0) {
+      return ttype = TT_EOF;
+    }
+    tokenStart = pos;
+    pos++;
+    if (! isWordChar(c)) {
+      tokenEnd = pos;
+      return ttype = c;
+    }
+    while ((c = peek()) >= 0 && isWordChar(c)) {
+      pos++;
+    }
+    tokenEnd = pos;
+    return ttype = TT_WORD;
+  }
+  
+  /**
+   * Skips whitespace and comments.
+   * 
+   * @return the next non-whitespace character, or -1 at end of input
+   * @throws IOException if an error occurs reading the input
+   */
+  private int skipWhitespace() throws IOException {
+    int c;
+    while ((c = peek()) >= 0) {
+      if (c == '#') {
+        //-- skip comment up to end of line
+        while ((c = peek()) >= 0 && c != '\n' && c != '\r') {
+          pos++;
+        }
+        continue;
+      }
+      if (c > ' ') 
+        return c;
+      pos++;
+      if (c == '\r') {
+        lineno++;
+        if (peek() == '\n')
+          pos++;
+      }
+      else if (c == '\n') {
+        lineno++;
+      }
+    }
+    return c;
+  }
+  
+  private int peek() throws IOException {
+    if (pos < end)
+      return buf[pos];
+    if (reader == null)
+      return -1;
+    return fill();
+  }
+  
+  private int fill() throws IOException {
+    int c = reader.read();
+    if (c < 0)
+      return c;
+    if (end == buf.length) {
+      char[] newBuf = new char[2 * buf.length];
+      System.arraycopy(buf, 0, newBuf, 0, end);
+      buf = newBuf;
+    }
+    buf[end++] = (char) c;
+    return c;
+  }
+  
+  /**
+   * Discards consumed characters from the buffer when reading from a Reader,
+   * so that the buffer only grows to the size of the largest token.
+   */
+  private void compact() {
+    int remaining = end - pos;
+    System.arraycopy(buf, pos, buf, 0, remaining);
+    pos = 0;
+    end = remaining;
+  }
+
+  static boolean isWordChar(int c) {
+    return (c >= 'a' && c <= 'z')
+        || (c >= 'A' && c <= 'Z')
+        || (c >= '0' && c <= '9')
+        || c == '-' || c == '+' || c == '.'
+        || c >= 128 + 32;
+  }
+  
+  /**
+   * Gets the text of the current word token.
+   * 
+   * @return the text of the word
+   */
+  public String getWord() {
+    return new String(buf, tokenStart, tokenEnd - tokenStart);
+  }
+  
+  /**
+   * Tests whether the current token is a word 
+   * equal to the given word, ignoring case.
+   * 
+   * @param word the word to test
+   * @return true if the current token matches the word
+   */
+  public boolean isWord(String word) {
+    if (ttype != TT_WORD)
+      return false;
+    int len = tokenEnd - tokenStart;
+    if (len != word.length())
+      return false;
+    for (int i = 0; i < len; i++) {
+      char c1 = buf[tokenStart + i];
+      char c2 = word.charAt(i);
+      if (c1 != c2 
+          && Character.toUpperCase(c1) != Character.toUpperCase(c2))
+        return false;
+    }
+    return true;
+  }
+  
+  /**
+   * Parses the current word token as a number.
+   * The result is identical to that of {@link Double#parseDouble(String)}.
+   * 
+   * @return the value of the number
+   * @throws NumberFormatException if the word is not a valid number
+   * 
+   * @see OrdinateParser
+   */
+  public double getNumber() {
+    return OrdinateParser.parse(buf, tokenStart, tokenEnd);
+  }
+  
+  /**
+   * Gets a description of the current token, for use in error messages.
+   * 
+   * @return a description of the current token
+   */
+  public String toString() {
+    switch (ttype) {
+      case TT_EOF: return "End-of-Stream";
+      case TT_WORD: return "'" + getWord() + "'";
+    }
+    return "'" + (char) ttype + "'";
+  }
+}
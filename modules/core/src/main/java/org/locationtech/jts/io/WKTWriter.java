@@ -13,7 +13,6 @@ package org.locationtech.jts.io;
 
 
 import java.io.IOException;
-import java.io.StringWriter;
 import java.io.Writer;
 import java.util.EnumSet;
 
@@ -229,6 +228,66 @@ public class WKTWriter
     }
   }
 
+  /**
+   * Writes ordinate values using an {@link OrdinateFormat} 
+   * and a reusable character buffer.
+   * An instance is created for each write operation, 
+   * so that a WKTWriter can be used by multiple threads.
+   */
+  private static class OrdinateWriter {
+    
+    private final OrdinateFormat format;
+    private final char[] buf = new char[OrdinateFormat.MAX_LENGTH];
+    
+    OrdinateWriter(OrdinateFormat format) {
+      this.format = format;
+    }
+    
+    void write(double ord, Writer writer) throws IOException {
+      int len = format.format(ord, buf, 0);
+      writer.write(buf, 0, len);
+    }
+  }
+  
+  /**
+   * An unsynchronized {@link Writer} which appends to a {@link StringBuilder}.
+   */
+  private static class StringBuilderWriter extends Writer {
+    
+    private final StringBuilder buf = new StringBuilder();
+    
+    public void write(int c) {
+      buf.append((char) c);
+    }
+    
+    public void write(char[] cbuf, int off, int len) {
+      buf.append(cbuf, off, len);
+    }
+    
+    public void write(String str) {
+      buf.append(str);
+    }
+    
+    public void write(String str, int off, int len) {
+      buf.append(str, off, off + len);
+    }
+    
+    public Writer append(CharSequence csq) {
+      buf.append(csq);
+      return this;
+    }
+    
+    public void flush() {
+    }
+
+    public void close() {
+    }
+    
+    public String toString() {
+      return buf.toString();
+    }
+  }
+
   private EnumSet<Ordinate> outputOrdinates;
   private final int outputDimension;
   private PrecisionModel precisionModel = null;
@@ -379,7 +438,7 @@ public class WKTWriter
    */
   public String write(Geometry geometry)
   {
-    Writer sw = new StringWriter();
+    StringBuilderWriter sw = new StringBuilderWriter();
 
     try {
       writeFormatted(geometry, false, sw);
@@ -412,7 +471,7 @@ public class WKTWriter
    */
   public String writeFormatted(Geometry geometry)
   {
-    Writer sw = new StringWriter();
+    StringBuilderWriter sw = new StringBuilderWriter();
     try {
       writeFormatted(geometry, true, sw);
     }
@@ -440,7 +499,7 @@ public class WKTWriter
   private void writeFormatted(Geometry geometry, boolean useFormatting, Writer writer)
     throws IOException
   {
-    OrdinateFormat formatter = getFormatter(geometry);
+    OrdinateWriter formatter = new OrdinateWriter(getFormatter(geometry));
     // append the WKT
     appendGeometryTaggedText(geometry, useFormatting, writer, formatter);
   }
@@ -467,7 +526,7 @@ public class WKTWriter
    *      from a precise coordinate to an external coordinate
    */
   private void appendGeometryTaggedText(Geometry geometry, boolean useFormatting, Writer writer,
-                                        OrdinateFormat formatter)
+                                        OrdinateWriter formatter)
     throws IOException
   {
     // evaluate the ordinates actually present in the geometry
@@ -491,7 +550,7 @@ public class WKTWriter
    */
   private void appendGeometryTaggedText(
           Geometry geometry, EnumSet<Ordinate> outputOrdinates, boolean useFormatting,
-          int level, Writer writer, OrdinateFormat formatter)
+          int level, Writer writer, OrdinateWriter formatter)
     throws IOException
 
   {
@@ -547,7 +606,7 @@ public class WKTWriter
    */
   private void appendPointTaggedText(
           Point point, EnumSet<Ordinate> outputOrdinates, boolean useFormatting,
-          int level, Writer writer, OrdinateFormat formatter)
+          int level, Writer writer, OrdinateWriter formatter)
     throws IOException
   {
     writer.write(WKTConstants.POINT);
@@ -570,7 +629,7 @@ public class WKTWriter
    */
   private void appendLineStringTaggedText(
           LineString lineString, EnumSet<Ordinate> outputOrdinates, boolean useFormatting,
-          int level, Writer writer, OrdinateFormat formatter)
+          int level, Writer writer, OrdinateWriter formatter)
     throws IOException
   {
     writer.write(WKTConstants.LINESTRING);
@@ -593,7 +652,7 @@ public class WKTWriter
    */
   private void appendLinearRingTaggedText(
           LinearRing linearRing, EnumSet<Ordinate> outputOrdinates, boolean useFormatting,
-          int level, Writer writer, OrdinateFormat formatter)
+          int level, Writer writer, OrdinateWriter formatter)
     throws IOException
   {
     writer.write(WKTConstants.LINEARRING);
@@ -616,7 +675,7 @@ public class WKTWriter
    */
   private void appendPolygonTaggedText(
           Polygon polygon, EnumSet<Ordinate> outputOrdinates, boolean useFormatting,
-          int level, Writer writer, OrdinateFormat formatter)
+          int level, Writer writer, OrdinateWriter formatter)
     throws IOException
   {
     writer.write(WKTConstants.POLYGON);
@@ -639,7 +698,7 @@ public class WKTWriter
    */
   private void appendMultiPointTaggedText(MultiPoint multipoint, EnumSet<Ordinate> outputOrdinates,
                                           boolean useFormatting, int level, Writer writer,
-                                          OrdinateFormat formatter)
+                                          OrdinateWriter formatter)
     throws IOException
   {
     writer.write(WKTConstants.MULTIPOINT); 
@@ -661,7 +720,7 @@ public class WKTWriter
    */
   private void appendMultiLineStringTaggedText(
           MultiLineString multiLineString, EnumSet<Ordinate> outputOrdinates, boolean useFormatting,
-          int level, Writer writer, OrdinateFormat formatter)
+          int level, Writer writer, OrdinateWriter formatter)
     throws IOException
   {
     writer.write(WKTConstants.MULTILINESTRING);
@@ -684,7 +743,7 @@ public class WKTWriter
    */
   private void appendMultiPolygonTaggedText(
           MultiPolygon multiPolygon, EnumSet<Ordinate> outputOrdinates, boolean useFormatting,
-          int level, Writer writer, OrdinateFormat formatter)
+          int level, Writer writer, OrdinateWriter formatter)
     throws IOException
   {
     writer.write(WKTConstants.MULTIPOLYGON);
@@ -707,7 +766,7 @@ public class WKTWriter
    */
   private void appendGeometryCollectionTaggedText(
           GeometryCollection geometryCollection, EnumSet<Ordinate> outputOrdinates, boolean useFormatting,
-          int level, Writer writer, OrdinateFormat formatter)
+          int level, Writer writer, OrdinateWriter formatter)
     throws IOException
   {
     writer.write(WKTConstants.GEOMETRYCOLLECTION);
@@ -729,35 +788,24 @@ public class WKTWriter
    */
   private void appendCoordinate(
           CoordinateSequence seq, EnumSet<Ordinate> outputOrdinates, int i,
-          Writer writer, OrdinateFormat formatter)
+          Writer writer, OrdinateWriter formatter)
       throws IOException
   {
-    writer.write(writeNumber(seq.getX(i), formatter) + " " +
-            writeNumber(seq.getY(i), formatter));
+    formatter.write(seq.getX(i), writer);
+    writer.write(' ');
+    formatter.write(seq.getY(i), writer);
 
     if (outputOrdinates.contains(Ordinate.Z)) {
-      writer.write(" ");
-      writer.write(writeNumber(seq.getZ(i), formatter));
+      writer.write(' ');
+      formatter.write(seq.getZ(i), writer);
     }
 
     if (outputOrdinates.contains(Ordinate.M)) {
-      writer.write(" ");
-      writer.write(writeNumber(seq.getM(i), formatter));
+      writer.write(' ');
+      formatter.write(seq.getM(i), writer);
     }
   }
 
-  /**
-   *  Converts a <code>double</code> to a <code>String</code>, not in scientific
-   *  notation.
-   *
-   *@param  d  the <code>double</code> to convert
-   *@return    the <code>double</code> as a <code>String</code>, not in
-   *      scientific notation
-   */
-  private static String writeNumber(double d, OrdinateFormat formatter) {
-    return formatter.format(d);
-  }
-
   /**
    * Appends additional ordinate information. This function may
    * <ul>
@@ -798,7 +846,7 @@ public class WKTWriter
    * @param  formatter       the formatter to use for writing ordinate values.
    */
   private void appendSequenceText(CoordinateSequence seq, EnumSet<Ordinate> outputOrdinates, boolean useFormatting,
-                                  int level, boolean indentFirst, Writer writer, OrdinateFormat formatter)
+                                  int level, boolean indentFirst, Writer writer, OrdinateWriter formatter)
     throws IOException
   {
     if (seq.size() == 0) {
@@ -835,7 +883,7 @@ public class WKTWriter
    */
   private void appendPolygonText(
           Polygon polygon, EnumSet<Ordinate> outputOrdinates, boolean useFormatting,
-          int level, boolean indentFirst, Writer writer, OrdinateFormat formatter)
+          int level, boolean indentFirst, Writer writer, OrdinateWriter formatter)
     throws IOException
   {
     if (polygon.isEmpty()) {
@@ -867,7 +915,7 @@ public class WKTWriter
    */
   private void appendMultiPointText(
           MultiPoint multiPoint, EnumSet<Ordinate> outputOrdinates, boolean useFormatting,
-          int level, Writer writer, OrdinateFormat formatter)
+          int level, Writer writer, OrdinateWriter formatter)
     throws IOException
   {
     if (multiPoint.getNumGeometries() == 0) {
@@ -900,7 +948,7 @@ public class WKTWriter
    * @param  formatter        the formatter to use for writing ordinate values.
    */
   private void appendMultiLineStringText(MultiLineString multiLineString, EnumSet<Ordinate> outputOrdinates,
-           boolean useFormatting, int level, /*boolean indentFirst, */Writer writer, OrdinateFormat formatter)
+           boolean useFormatting, int level, /*boolean indentFirst, */Writer writer, OrdinateWriter formatter)
     throws IOException
   {
     if (multiLineString.getNumGeometries() == 0) {
@@ -935,7 +983,7 @@ public class WKTWriter
    */
   private void appendMultiPolygonText(
           MultiPolygon multiPolygon, EnumSet<Ordinate> outputOrdinates, boolean useFormatting,
-          int level, Writer writer, OrdinateFormat formatter)
+          int level, Writer writer, OrdinateWriter formatter)
     throws IOException
   {
     if (multiPolygon.getNumGeometries() == 0) {
@@ -970,7 +1018,7 @@ public class WKTWriter
    */
   private void appendGeometryCollectionText(
           GeometryCollection geometryCollection, EnumSet<Ordinate> outputOrdinates, boolean useFormatting,
-          int level, Writer writer, OrdinateFormat formatter)
+          int level, Writer writer, OrdinateWriter formatter)
     throws IOException
   {
     if (geometryCollection.getNumGeometries() == 0) {
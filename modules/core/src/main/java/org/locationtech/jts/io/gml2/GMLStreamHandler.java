@@ -0,0 +1,367 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.gml2;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.io.CoordinateTextParser;
+import org.locationtech.jts.io.GeometryConsumer;
+import org.locationtech.jts.io.ParseException;
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * A SAX {@link DefaultHandler} which reads GML geometries from a document
+ * of any size, and passes each one to a {@link GeometryConsumer} 
+ * as soon as its element is closed.
+ * <p>
+ * Geometries may occur anywhere in the document 
+ * (for instance as feature properties in a WFS response);
+ * elements which are not part of a geometry are skipped
+ * without storing their content.
+ * Only the geometry currently being read is held in memory,
+ * and the text of <code>coordinates</code>, <code>posList</code> and <code>pos</code> 
+ * elements is parsed directly into packed ordinate arrays
+ * by a {@link CoordinateTextParser}, 
+ * so large documents are processed in memory proportional to the largest geometry.
+ * <p>
+ * The GML2 geometry elements handled by {@link GMLHandler} are supported,
+ * as well as the GML3 <code>posList</code>, <code>pos</code>, <code>exterior</code>, 
+ * <code>interior</code>, <code>MultiCurve</code> and <code>MultiSurface</code> elements.
+ * The dimension of <code>posList</code> and <code>pos</code> values
+ * is given by the <code>srsDimension</code> attribute of the element
+ * or its geometry, and is 2 if not specified.
+ * <code>Box</code> and <code>Envelope</code> elements (typically feature bounds) are ignored.
+ * Namespaces and prefixes are ignored, and element names are not case-sensitive.
+ * 
+ * @see GMLStreamReader
+ * @see GMLHandler
+ */
+public class GMLStreamHandler extends DefaultHandler 
+{
+	private static final int POINT = 1;
+	private static final int LINESTRING = 2;
+	private static final int LINEARRING = 3;
+	private static final int POLYGON = 4;
+	private static final int MULTIPOINT = 5;
+	private static final int MULTILINESTRING = 6;
+	private static final int MULTIPOLYGON = 7;
+	private static final int MULTIGEOMETRY = 8;
+	private static final int BOX = 9;
+
+	private static final int COORDINATES = 20;
+	private static final int POSLIST = 21;
+	private static final int POS = 22;
+	private static final int COORD = 23;
+	private static final int COORD_ORDINATE = 24;
+
+	private static final Map<String, Integer> ELEMENTS = new HashMap<String, Integer>();
+	static {
+		ELEMENTS.put("point", POINT);
+		ELEMENTS.put("linestring", LINESTRING);
+		ELEMENTS.put("linearring", LINEARRING);
+		ELEMENTS.put("polygon", POLYGON);
+		ELEMENTS.put("multipoint", MULTIPOINT);
+		ELEMENTS.put("multilinestring", MULTILINESTRING);
+		ELEMENTS.put("multicurve", MULTILINESTRING);
+		ELEMENTS.put("multipolygon", MULTIPOLYGON);
+		ELEMENTS.put("multisurface", MULTIPOLYGON);
+		ELEMENTS.put("multigeometry", MULTIGEOMETRY);
+		ELEMENTS.put("box", BOX);
+		ELEMENTS.put("envelope", BOX);
+		ELEMENTS.put("coordinates", COORDINATES);
+		ELEMENTS.put("poslist", POSLIST);
+		ELEMENTS.put("pos", POS);
+		ELEMENTS.put("coord", COORD);
+		ELEMENTS.put("x", COORD_ORDINATE);
+		ELEMENTS.put("y", COORD_ORDINATE);
+		ELEMENTS.put("z", COORD_ORDINATE);
+	}
+
+	/**
+	 * An open geometry element.
+	 */
+	private static class Frame {
+		final int kind;
+		final int srid;
+		final int srsDimension;
+		List<Geometry> children;
+
+		Frame(int kind, int srid, int srsDimension) {
+			this.kind = kind;
+			this.srid = srid;
+			this.srsDimension = srsDimension;
+		}
+
+		void add(Geometry geom) {
+			if (children == null)
+				children = new ArrayList<Geometry>();
+			children.add(geom);
+		}
+	}
+
+	private final GeometryFactory factory;
+	private final GeometryConsumer consumer;
+	private final CoordinateTextParser coordParser = new CoordinateTextParser();
+
+	private final List<Frame> stack = new ArrayList<Frame>();
+	private int skipDepth = 0;
+	private long count = 0;
+
+	private int textKind = 0;
+	private char[] text = new char[1024];
+	private int textLen = 0;
+	private char cs;
+	private char ts;
+	private char decimal;
+	private int textDimension;
+	private double[] coord = new double[3];
+	private int coordLen;
+
+	/**
+	 * Creates a new handler.
+	 * 
+	 * @param factory the factory to create geometries with
+	 * @param consumer the consumer to pass the geometries to
+	 */
+	public GMLStreamHandler(GeometryFactory factory, GeometryConsumer consumer) {
+		this.factory = factory;
+		this.consumer = consumer;
+	}
+
+	/**
+	 * Gets the number of geometries passed to the consumer.
+	 * 
+	 * @return the number of geometries read
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * @see org.xml.sax.helpers.DefaultHandler#startElement(java.lang.String, java.lang.String, java.lang.String, org.xml.sax.Attributes)
+	 */
+	public void startElement(String uri, String localName, String qName,
+			Attributes attributes) throws SAXException {
+		if (skipDepth > 0) {
+			skipDepth++;
+			return;
+		}
+		int kind = elementKind(localName, qName);
+		if (kind == 0) 
+			return;
+		if (kind == BOX) {
+			skipDepth = 1;
+			return;
+		}
+		if (kind < COORDINATES) {
+			Frame parent = top();
+			int srsDimension = intAttribute(attributes, "srsDimension", 
+					parent == null ? 2 : parent.srsDimension);
+			stack.add(new Frame(kind, GeometryStrategies.getSrid(attributes, factory.getSRID()), srsDimension));
+			if (kind == POINT || kind == LINESTRING || kind == LINEARRING)
+				coordParser.reset();
+			return;
+		}
+		if (top() == null)
+			return;
+		switch (kind) {
+		case COORDINATES:
+			cs = charAttribute(attributes, "cs", ',');
+			ts = charAttribute(attributes, "ts", ' ');
+			decimal = charAttribute(attributes, "decimal", '.');
+			break;
+		case POSLIST:
+		case POS:
+			textDimension = intAttribute(attributes, "srsDimension", top().srsDimension);
+			break;
+		case COORD:
+			coordLen = 0;
+			return;
+		}
+		textKind = kind;
+		textLen = 0;
+	}
+
+	/**
+	 * @see org.xml.sax.helpers.DefaultHandler#characters(char[], int, int)
+	 */
+	public void characters(char[] ch, int start, int length) throws SAXException {
+		if (textKind == 0)
+			return;
+		if (textLen + length > text.length) {
+			char[] newText = new char[Math.max(2 * text.length, textLen + length)];
+			System.arraycopy(text, 0, newText, 0, textLen);
+			text = newText;
+		}
+		System.arraycopy(ch, start, text, textLen, length);
+		textLen += length;
+	}
+
+	/**
+	 * @see org.xml.sax.helpers.DefaultHandler#endElement(java.lang.String, java.lang.String, java.lang.String)
+	 */
+	public void endElement(String uri, String localName, String qName)
+			throws SAXException {
+		if (skipDepth > 0) {
+			skipDepth--;
+			return;
+		}
+		int kind = elementKind(localName, qName);
+		if (kind == 0) 
+			return;
+		try {
+			if (kind >= COORDINATES) {
+				endText(kind);
+				return;
+			}
+			Frame frame = stack.remove(stack.size() - 1);
+			Geometry geom = createGeometry(frame);
+			Frame parent = top();
+			if (parent == null) {
+				consumer.accept(count++, geom);
+			}
+			else {
+				parent.add(geom);
+			}
+		}
+		catch (ParseException ex) {
+			throw new SAXException(ex.getMessage(), ex);
+		}
+		catch (IllegalArgumentException ex) {
+			throw new SAXException(ex.getMessage(), ex);
+		}
+		catch (ClassCastException ex) {
+			throw new SAXException("Invalid geometry member in " + qName, ex);
+		}
+	}
+
+	private void endText(int kind) throws ParseException {
+		if (top() == null)
+			return;
+		switch (kind) {
+		case COORDINATES:
+			coordParser.parseTuples(text, 0, textLen, cs, ts, decimal);
+			break;
+		case POSLIST:
+		case POS:
+			coordParser.parseList(text, 0, textLen, textDimension);
+			break;
+		case COORD_ORDINATE:
+			if (coordLen < coord.length)
+				coord[coordLen++] = Double.parseDouble(new String(text, 0, textLen).trim());
+			break;
+		case COORD:
+			if (coordLen < 1)
+				throw new ParseException("Cannot create a coordinate without at least one axis");
+			coordParser.add(coord, coordLen);
+			break;
+		}
+		textKind = 0;
+	}
+
+	private Geometry createGeometry(Frame frame) throws ParseException {
+		Geometry geom;
+		switch (frame.kind) {
+		case POINT:
+			if (coordParser.size() != 1)
+				throw new ParseException("Cannot create a point without exactly one coordinate");
+			geom = factory.createPoint(coordParser.toSequence(factory.getCoordinateSequenceFactory(), null));
+			break;
+		case LINESTRING:
+			geom = factory.createLineString(coordParser.toSequence(factory.getCoordinateSequenceFactory(), null));
+			break;
+		case LINEARRING:
+			geom = factory.createLinearRing(coordParser.toSequence(factory.getCoordinateSequenceFactory(), null));
+			break;
+		case POLYGON: {
+			List<Geometry> rings = frame.children;
+			if (rings == null)
+				throw new ParseException("Cannot create a polygon without at least one linear ring");
+			LinearRing[] holes = new LinearRing[rings.size() - 1];
+			for (int i = 0; i < holes.length; i++) {
+				holes[i] = (LinearRing) rings.get(i + 1);
+			}
+			geom = factory.createPolygon((LinearRing) rings.get(0), holes);
+			break;
+		}
+		case MULTIPOINT:
+			geom = factory.createMultiPoint(frame.children == null ? null 
+					: frame.children.toArray(new Point[frame.children.size()]));
+			break;
+		case MULTILINESTRING:
+			geom = factory.createMultiLineString(frame.children == null ? null 
+					: frame.children.toArray(new LineString[frame.children.size()]));
+			break;
+		case MULTIPOLYGON:
+			geom = factory.createMultiPolygon(frame.children == null ? null 
+					: frame.children.toArray(new Polygon[frame.children.size()]));
+			break;
+		default:
+			// a MultiGeometry does not take the SRID of its element
+			return factory.createGeometryCollection(frame.children == null ? null 
+					: frame.children.toArray(new Geometry[frame.children.size()]));
+		}
+		if (geom.getSRID() != frame.srid)
+			geom.setSRID(frame.srid);
+		return geom;
+	}
+
+	private Frame top() {
+		return stack.isEmpty() ? null : stack.get(stack.size() - 1);
+	}
+
+	private static int elementKind(String localName, String qName) {
+		String name = localName;
+		if (name == null || name.length() == 0) {
+			name = qName.substring(qName.indexOf(':') + 1);
+		}
+		Integer kind = ELEMENTS.get(name.toLowerCase());
+		return kind == null ? 0 : kind.intValue();
+	}
+
+	private static String attribute(Attributes attrs, String name) {
+		String value = attrs.getValue(name);
+		if (value == null)
+			value = attrs.getValue(GMLConstants.GML_NAMESPACE, name);
+		return value;
+	}
+
+	private static char charAttribute(Attributes attrs, String name, char defaultValue) {
+		String value = attribute(attrs, name);
+		if (value == null || value.length() == 0)
+			return defaultValue;
+		return value.charAt(0);
+	}
+
+	private static int intAttribute(Attributes attrs, String name, int defaultValue) {
+		String value = attribute(attrs, name);
+		if (value == null)
+			return defaultValue;
+		try {
+			return Integer.parseInt(value.trim());
+		}
+		catch (NumberFormatException ex) {
+			return defaultValue;
+		}
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.gml2;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.io.GeometryConsumer;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+/**
+ * Reads the GML geometries in a document of any size,
+ * passing each one to a {@link GeometryConsumer} as soon as it has been parsed.
+ * <p>
+ * Unlike {@link GMLReader}, which builds a single geometry for the whole document,
+ * this reader holds only the geometry currently being read,
+ * so it can be used for large documents such as WFS responses.
+ * Each outermost geometry element in the document is passed to the consumer,
+ * numbered in document order starting at 0.
+ * See {@link GMLStreamHandler} for the GML elements supported.
+ * <p>
+ * Example:
+ * <pre>
+ * new GMLStreamReader(factory).read(reader, new GeometryConsumer() {
+ *   public void accept(long recordNum, Geometry geom) {
+ *     index.insert(geom.getEnvelopeInternal(), geom);
+ *   }
+ * });
+ * </pre>
+ *
+ * @see GMLStreamHandler
+ */
+public class GMLStreamReader 
+{
+	private final GeometryFactory geometryFactory;
+
+	/**
+	 * Creates a reader which creates geometries using a default {@link GeometryFactory}.
+	 */
+	public GMLStreamReader() {
+		this(new GeometryFactory());
+	}
+
+	/**
+	 * Creates a reader which creates geometries using the given {@link GeometryFactory}.
+	 * 
+	 * @param geometryFactory the factory to use
+	 */
+	public GMLStreamReader(GeometryFactory geometryFactory) {
+		this.geometryFactory = geometryFactory;
+	}
+
+	/**
+	 * Reads the geometries in a GML document from a {@link Reader}.
+	 *
+	 * @param reader the input source
+	 * @param consumer the consumer to pass the geometries to
+	 * @return the number of geometries read
+	 * @throws SAXException if the document or a geometry is invalid
+	 * @throws IOException if an I/O error occurs
+	 * @throws ParserConfigurationException if a SAX parser cannot be created
+	 */
+	public long read(Reader reader, GeometryConsumer consumer) throws SAXException, IOException, ParserConfigurationException {
+		return read(new InputSource(reader), consumer);
+	}
+
+	/**
+	 * Reads the geometries in a GML document from an {@link InputStream}.
+	 * The character encoding is determined from the document.
+	 *
+	 * @param is the input source
+	 * @param consumer the consumer to pass the geometries to
+	 * @return the number of geometries read
+	 * @throws SAXException if the document or a geometry is invalid
+	 * @throws IOException if an I/O error occurs
+	 * @throws ParserConfigurationException if a SAX parser cannot be created
+	 */
+	public long read(InputStream is, GeometryConsumer consumer) throws SAXException, IOException, ParserConfigurationException {
+		return read(new InputSource(is), consumer);
+	}
+
+	private long read(InputSource source, GeometryConsumer consumer) throws SAXException, IOException, ParserConfigurationException {
+		SAXParserFactory fact = SAXParserFactory.newInstance();
+		fact.setNamespaceAware(false);
+		fact.setValidating(false);
+		SAXParser parser = fact.newSAXParser();
+
+		GMLStreamHandler handler = new GMLStreamHandler(geometryFactory, consumer);
+		parser.parse(source, handler);
+		return handler.getCount();
+	}
+}
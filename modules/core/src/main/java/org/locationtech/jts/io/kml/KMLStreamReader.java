@@ -0,0 +1,402 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.kml;
+
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFactory;
+import org.locationtech.jts.geom.CoordinateSequences;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.io.CoordinateTextParser;
+import org.locationtech.jts.io.GeometryConsumer;
+import org.locationtech.jts.io.ParseException;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads the KML geometries in a document of any size,
+ * passing each one to a {@link GeometryConsumer} as soon as it has been parsed.
+ * <p>
+ * Unlike {@link KMLReader}, which reads a single geometry element from a string,
+ * this reader scans a whole KML document (for instance one with many <code>Placemark</code>s)
+ * using SAX, and holds only the geometry currently being read.
+ * The text of <code>coordinates</code> elements is parsed directly into packed ordinate arrays,
+ * so large documents are processed in memory proportional to the largest geometry.
+ * Each outermost geometry element is passed to the consumer,
+ * numbered in document order starting at 0.
+ * <p>
+ * Geometries are read in the same way as by {@link KMLReader}:
+ * <ul>
+ * <li><code>Point</code>, <code>LineString</code>, <code>Polygon</code> and
+ * <code>MultiGeometry</code> elements are supported
+ * <li>a <code>MultiGeometry</code> with a single member is read as that member,
+ * and one whose members all have the same type is read as the corresponding
+ * multi-geometry; otherwise it is read as a {@link org.locationtech.jts.geom.GeometryCollection}.
+ * An empty <code>MultiGeometry</code> is read as an empty <code>GeometryCollection</code>.
+ * <li>coordinates are made precise using the precision model of the geometry factory
+ * <li>the values of any requested attribute elements are stored as a {@link Map} 
+ * in the user data of the geometry
+ * </ul>
+ * Coordinate tuples may be separated by any whitespace.
+ */
+public class KMLStreamReader {
+    private final GeometryFactory geometryFactory;
+    private final Set<String> attributeNames;
+
+    /**
+     * Creates a reader that creates objects using the default {@link GeometryFactory}.
+     */
+    public KMLStreamReader() {
+        this(new GeometryFactory(), Collections.emptyList());
+    }
+
+    /**
+     * Creates a reader that creates objects using the given
+     * {@link GeometryFactory}.
+     *
+     * @param geometryFactory the factory used to create <code>Geometry</code>s.
+     */
+    public KMLStreamReader(GeometryFactory geometryFactory) {
+        this(geometryFactory, Collections.emptyList());
+    }
+
+    /**
+     * Creates a reader that creates objects using the given
+     * {@link GeometryFactory}.
+     *
+     * @param geometryFactory the factory used to create <code>Geometry</code>s.
+     * @param attributeNames  names of attributes that should be parsed (i.e. extrude, altitudeMode, tesselate, etc).
+     */
+    public KMLStreamReader(GeometryFactory geometryFactory, Collection<String> attributeNames) {
+        this.geometryFactory = geometryFactory;
+        this.attributeNames = attributeNames == null
+                ? Collections.emptySet()
+                : new HashSet<>(attributeNames);
+    }
+
+    /**
+     * Reads the geometries in a KML document from a {@link Reader}.
+     *
+     * @param reader the input source
+     * @param consumer the consumer to pass the geometries to
+     * @return the number of geometries read
+     * @throws ParseException if the document or a geometry is invalid
+     * @throws IOException if an I/O error occurs
+     */
+    public long read(Reader reader, GeometryConsumer consumer) throws ParseException, IOException {
+        return read(new InputSource(reader), consumer);
+    }
+
+    /**
+     * Reads the geometries in a KML document from an {@link InputStream}.
+     * The character encoding is determined from the document.
+     *
+     * @param is the input source
+     * @param consumer the consumer to pass the geometries to
+     * @return the number of geometries read
+     * @throws ParseException if the document or a geometry is invalid
+     * @throws IOException if an I/O error occurs
+     */
+    public long read(InputStream is, GeometryConsumer consumer) throws ParseException, IOException {
+        return read(new InputSource(is), consumer);
+    }
+
+    private long read(InputSource source, GeometryConsumer consumer) throws ParseException, IOException {
+        Handler handler = new Handler(consumer);
+        try {
+            SAXParserFactory fact = SAXParserFactory.newInstance();
+            fact.setNamespaceAware(true);
+            fact.setValidating(false);
+            SAXParser parser = fact.newSAXParser();
+            parser.parse(source, handler);
+        } catch (SAXException e) {
+            if (e.getException() instanceof ParseException) {
+                throw (ParseException) e.getException();
+            }
+            throw new ParseException(e);
+        } catch (ParserConfigurationException e) {
+            throw new ParseException(e);
+        }
+        return handler.count;
+    }
+
+    private static final int POINT = 1;
+    private static final int LINESTRING = 2;
+    private static final int POLYGON = 3;
+    private static final int MULTIGEOMETRY = 4;
+
+    private static final int TEXT_NONE = 0;
+    private static final int TEXT_COORDINATES = 1;
+    private static final int TEXT_ATTRIBUTE = 2;
+
+    private static final int OUTER_BOUNDARY = 1;
+    private static final int INNER_BOUNDARY = 2;
+
+    /**
+     * An open geometry element.
+     */
+    private static class Frame {
+        final int kind;
+        List<Geometry> geometries;
+        Map<String, String> attributes;
+        boolean hasCoordinates = false;
+        LinearRing shell;
+        List<LinearRing> holes;
+
+        Frame(int kind) {
+            this.kind = kind;
+        }
+    }
+
+    private class Handler extends DefaultHandler {
+        private final GeometryConsumer consumer;
+        private final CoordinateTextParser coordParser = new CoordinateTextParser();
+        private final List<Frame> stack = new ArrayList<>();
+        private long count = 0;
+
+        private int boundary = 0;
+        private int textKind = TEXT_NONE;
+        private String attributeName;
+        private char[] text = new char[1024];
+        private int textLen = 0;
+
+        Handler(GeometryConsumer consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attrs) {
+            String name = elementName(localName, qName);
+            int kind = geometryKind(name);
+            if (kind != 0) {
+                stack.add(new Frame(kind));
+                if (kind != MULTIGEOMETRY) {
+                    coordParser.reset();
+                }
+                return;
+            }
+            Frame frame = top();
+            if (frame == null || frame.kind == MULTIGEOMETRY || textKind != TEXT_NONE) {
+                return;
+            }
+            if (name.equals("coordinates")) {
+                textKind = TEXT_COORDINATES;
+                textLen = 0;
+            } else if (frame.kind == POLYGON && name.equals("outerBoundaryIs")) {
+                boundary = OUTER_BOUNDARY;
+                coordParser.reset();
+            } else if (frame.kind == POLYGON && name.equals("innerBoundaryIs")) {
+                boundary = INNER_BOUNDARY;
+                coordParser.reset();
+            } else if (attributeNames.contains(name)) {
+                textKind = TEXT_ATTRIBUTE;
+                attributeName = name;
+                textLen = 0;
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (textKind == TEXT_NONE) {
+                return;
+            }
+            if (textLen + length > text.length) {
+                char[] newText = new char[Math.max(2 * text.length, textLen + length)];
+                System.arraycopy(text, 0, newText, 0, textLen);
+                text = newText;
+            }
+            System.arraycopy(ch, start, text, textLen, length);
+            textLen += length;
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) throws SAXException {
+            try {
+                endElement(elementName(localName, qName));
+            } catch (ParseException e) {
+                throw new SAXException(e);
+            } catch (IllegalArgumentException e) {
+                throw new SAXException(new ParseException(e.getMessage(), e));
+            }
+        }
+
+        private void endElement(String name) throws ParseException {
+            Frame frame = top();
+            if (frame == null) {
+                return;
+            }
+            if (geometryKind(name) != 0) {
+                stack.remove(stack.size() - 1);
+                Geometry geometry = createGeometry(frame);
+                Frame parent = top();
+                if (parent == null) {
+                    consumer.accept(count++, geometry);
+                } else {
+                    if (parent.geometries == null) {
+                        parent.geometries = new ArrayList<>();
+                    }
+                    parent.geometries.add(geometry);
+                }
+            } else if (textKind == TEXT_COORDINATES && name.equals("coordinates")) {
+                textKind = TEXT_NONE;
+                if (frame.kind == POLYGON && boundary == 0) {
+                    return;
+                }
+                int start = 0;
+                while (start < textLen && Character.isWhitespace(text[start])) {
+                    start++;
+                }
+                if (start == textLen) {
+                    throw new ParseException("Empty coordinates");
+                }
+                coordParser.parseTuples(text, 0, textLen, ',', ' ', '.');
+                frame.hasCoordinates = true;
+            } else if (textKind == TEXT_ATTRIBUTE && name.equals(attributeName)) {
+                textKind = TEXT_NONE;
+                if (frame.attributes == null) {
+                    frame.attributes = new HashMap<>();
+                }
+                frame.attributes.put(attributeName, new String(text, 0, textLen));
+            } else if (boundary != 0 && (name.equals("outerBoundaryIs") || name.equals("innerBoundaryIs"))) {
+                if (! frame.hasCoordinates) {
+                    throw new ParseException(String.format("No element coordinates found in %s", name));
+                }
+                LinearRing ring = geometryFactory.createLinearRing(createSequence());
+                if (boundary == OUTER_BOUNDARY) {
+                    frame.shell = ring;
+                } else {
+                    if (frame.holes == null) {
+                        frame.holes = new ArrayList<>();
+                    }
+                    frame.holes.add(ring);
+                }
+                boundary = 0;
+                frame.hasCoordinates = false;
+            }
+        }
+
+        private Geometry createGeometry(Frame frame) throws ParseException {
+            Geometry geometry;
+            switch (frame.kind) {
+                case POINT:
+                    checkCoordinates(frame, "Point");
+                    CoordinateSequence seq = createSequence();
+                    if (seq.size() > 1) {
+                        CoordinateSequence pt = geometryFactory.getCoordinateSequenceFactory()
+                                .create(1, seq.getDimension(), seq.getMeasures());
+                        CoordinateSequences.copy(seq, 0, pt, 0, 1);
+                        seq = pt;
+                    }
+                    geometry = geometryFactory.createPoint(seq);
+                    break;
+                case LINESTRING:
+                    checkCoordinates(frame, "LineString");
+                    geometry = geometryFactory.createLineString(createSequence());
+                    break;
+                case POLYGON:
+                    if (frame.shell == null) {
+                        throw new ParseException("No outer boundary for Polygon");
+                    }
+                    geometry = geometryFactory.createPolygon(frame.shell,
+                            frame.holes == null ? null : frame.holes.toArray(new LinearRing[0]));
+                    break;
+                default:
+                    return createMultiGeometry(frame.geometries);
+            }
+            geometry.setUserData(frame.attributes);
+            return geometry;
+        }
+
+        private Geometry createMultiGeometry(List<Geometry> geometries) {
+            if (geometries == null) {
+                return geometryFactory.createGeometryCollection();
+            }
+            if (geometries.size() == 1) {
+                return geometries.get(0);
+            }
+            String type = geometries.get(0).getGeometryType();
+            for (Geometry geometry : geometries) {
+                if (! type.equals(geometry.getGeometryType())) {
+                    return geometryFactory.createGeometryCollection(geometries.toArray(new Geometry[0]));
+                }
+            }
+            switch (type) {
+                case Geometry.TYPENAME_POINT:
+                    return geometryFactory.createMultiPoint(geometries.toArray(new Point[0]));
+                case Geometry.TYPENAME_LINESTRING:
+                    return geometryFactory.createMultiLineString(geometries.toArray(new LineString[0]));
+                case Geometry.TYPENAME_POLYGON:
+                    return geometryFactory.createMultiPolygon(geometries.toArray(new Polygon[0]));
+                default:
+                    return geometryFactory.createGeometryCollection(geometries.toArray(new Geometry[0]));
+            }
+        }
+
+        private void checkCoordinates(Frame frame, String elementName) throws ParseException {
+            if (! frame.hasCoordinates) {
+                throw new ParseException(String.format("No element coordinates found in %s", elementName));
+            }
+        }
+
+        private CoordinateSequence createSequence() {
+            CoordinateSequenceFactory csFactory = geometryFactory.getCoordinateSequenceFactory();
+            return coordParser.toSequence(csFactory, geometryFactory.getPrecisionModel());
+        }
+
+        private Frame top() {
+            return stack.isEmpty() ? null : stack.get(stack.size() - 1);
+        }
+    }
+
+    private static String elementName(String localName, String qName) {
+        if (localName != null && localName.length() > 0) {
+            return localName;
+        }
+        return qName.substring(qName.indexOf(':') + 1);
+    }
+
+    private static int geometryKind(String name) {
+        switch (name) {
+            case "Point":
+                return POINT;
+            case "LineString":
+                return LINESTRING;
+            case "Polygon":
+                return POLYGON;
+            case "MultiGeometry":
+                return MULTIGEOMETRY;
+            default:
+                return 0;
+        }
+    }
+}
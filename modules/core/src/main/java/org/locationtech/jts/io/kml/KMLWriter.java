@@ -14,8 +14,6 @@ package org.locationtech.jts.io.kml;
 
 import java.io.IOException;
 import java.io.Writer;
-import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
 
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
@@ -24,6 +22,7 @@ import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.geom.LinearRing;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.io.OrdinateFormat;
 import org.locationtech.jts.util.StringUtil;
 
 
@@ -103,7 +102,7 @@ public class KMLWriter
   private boolean extrude = false;
   private boolean tesselate;
   private String altitudeMode = null;
-  private DecimalFormat numberFormatter = null;
+  private OrdinateFormat numberFormatter = null;
 
   /**
    * Creates a new writer.
@@ -174,13 +173,14 @@ public class KMLWriter
   /**
    * Sets the maximum number of decimal places to output in ordinate values.
    * Useful for limiting output size.
+   * By default ordinates are written in the format of {@link Double#toString(double)}.
    * 
    * @param precision the number of decimal places to output
    */
   public void setPrecision(int precision) {
     //this.precision = precision;
     if (precision >= 0)
-      numberFormatter = createFormatter(precision);
+      numberFormatter = OrdinateFormat.create(precision);
   }
 
   /**
@@ -329,6 +329,8 @@ public class KMLWriter
   private void write(Coordinate[] coords, int level, StringBuffer buf) {
     startLine("<coordinates>", level, buf);
 
+    // the buffer for formatting ordinates is reused for all coordinates
+    char[] ordBuf = numberFormatter == null ? null : new char[OrdinateFormat.MAX_LENGTH];
     boolean isNewLine = false;
     for (int i = 0; i < coords.length; i++) {
       if (i > 0) {
@@ -340,7 +342,7 @@ public class KMLWriter
         isNewLine = false;
       }
 
-      write(coords[i], buf);
+      write(coords[i], buf, ordBuf);
 
       // break output lines to prevent them from getting too long
       if ((i + 1) % maxCoordinatesPerLine == 0 && i < coords.length - 1) {
@@ -351,10 +353,10 @@ public class KMLWriter
     buf.append("</coordinates>\n");
   }
 
-  private void write(Coordinate p, StringBuffer buf) {
-    write(p.x, buf);
+  private void write(Coordinate p, StringBuffer buf, char[] ordBuf) {
+    write(p.x, buf, ordBuf);
     buf.append(COORDINATE_SEPARATOR);
-    write(p.y, buf);
+    write(p.y, buf, ordBuf);
 
     double z = p.getZ();
     // if altitude was specified directly, use it
@@ -365,35 +367,18 @@ public class KMLWriter
     // MD - is this right? Or should it always be written?
     if (!Double.isNaN(z)) {
       buf.append(COORDINATE_SEPARATOR);
-      write(z, buf);
+      write(z, buf, ordBuf);
     }
   }
 
-  private void write(double num, StringBuffer buf) {
-    if (numberFormatter != null)
-      buf.append(numberFormatter.format(num));
-    else
+  private void write(double num, StringBuffer buf, char[] ordBuf) {
+    if (numberFormatter == null) {
+      // appends the Double.toString format without creating a String
       buf.append(num);
-  }
-
-  /**
-   * Creates the <code>DecimalFormat</code> used to write <code>double</code>s
-   * with a sufficient number of decimal places.
-   * 
-   * @param precisionModel
-   *          the <code>PrecisionModel</code> used to determine the number of
-   *          decimal places to write.
-   * @return a <code>DecimalFormat</code> that write <code>double</code> s
-   *         without scientific notation.
-   */
-  private static DecimalFormat createFormatter(int precision) {
-    // specify decimal separator explicitly to avoid problems in other locales
-    DecimalFormatSymbols symbols = new DecimalFormatSymbols();
-    symbols.setDecimalSeparator('.');
-    DecimalFormat format = new DecimalFormat("0."
-        + StringUtil.chars('#', precision), symbols);
-    format.setDecimalSeparatorAlwaysShown(false);
-    return format;
+      return;
+    }
+    int len = numberFormatter.format(num, ordBuf, 0);
+    buf.append(ordBuf, 0, len);
   }
 
 }
@@ -90,6 +90,16 @@ public class IntersectionAdder
    * and end segments.
    */
   private boolean isTrivialIntersection(SegmentString e0, int segIndex0, SegmentString e1, int segIndex1)
+  {
+    return isTrivialIntersection(li, e0, segIndex0, e1, segIndex1);
+  }
+
+  /**
+   * Tests whether the intersection computed by a {@link LineIntersector}
+   * is the trivial intersection of adjacent segments.
+   */
+  static boolean isTrivialIntersection(LineIntersector li, 
+      SegmentString e0, int segIndex0, SegmentString e1, int segIndex1)
   {
     if (e0 == e1) {
       if (li.getIntersectionNum() == 1) {
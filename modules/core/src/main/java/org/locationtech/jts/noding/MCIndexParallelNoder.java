@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.noding;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.locationtech.jts.algorithm.LineIntersector;
+import org.locationtech.jts.algorithm.RobustLineIntersector;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.index.chain.MonotoneChain;
+import org.locationtech.jts.index.chain.MonotoneChainBuilder;
+import org.locationtech.jts.index.chain.MonotoneChainOverlapAction;
+import org.locationtech.jts.index.strtree.STRtree;
+
+/**
+ * Nodes a set of {@link NodedSegmentString}s 
+ * using an index of {@link MonotoneChain}s,
+ * with the search for overlapping chains
+ * performed in parallel in a {@link ForkJoinPool}.
+ * <p>
+ * The noding is the same as that computed by an {@link MCIndexNoder}
+ * with an {@link IntersectionAdder} using a {@link RobustLineIntersector}
+ * (which is the floating precision noder used by OverlayNG).
+ * The query chains are partitioned into contiguous blocks,
+ * and the intersections found for each block are recorded.
+ * The recorded intersections are then added to the segment strings
+ * in block order. 
+ * This adds the nodes in exactly the same order as the sequential noder,
+ * so the noded output is identical. 
+ * <p>
+ * The noder can be used with OverlayNG via
+ * {@link org.locationtech.jts.operation.overlayng.OverlayNG#overlay(org.locationtech.jts.geom.Geometry, org.locationtech.jts.geom.Geometry, int, Noder)}.
+ * Parallel noding is only worthwhile for large inputs.
+ *
+ * @see MCIndexNoder
+ */
+public class MCIndexParallelNoder
+    implements Noder
+{
+  /**
+   * The minimum number of query chains processed by a task.
+   */
+  private static final int MIN_BLOCK_SIZE = 256;
+  
+  /**
+   * The number of blocks created per thread,
+   * to balance the load across threads.
+   */
+  private static final int BLOCKS_PER_THREAD = 4;
+  
+  private ForkJoinPool pool;
+  private Collection nodedSegStrings;
+  private List<MonotoneChain> monoChains = new ArrayList<MonotoneChain>();
+  private STRtree index = new STRtree();
+
+  /**
+   * Creates a new noder which uses the threads of a {@link ForkJoinPool}.
+   * 
+   * @param pool the pool to use
+   */
+  public MCIndexParallelNoder(ForkJoinPool pool)
+  {
+    this.pool = pool;
+  }
+
+  public Collection getNodedSubstrings()
+  {
+    return  NodedSegmentString.getNodedSubstrings(nodedSegStrings);
+  }
+
+  /**
+   * Computes the noding for a collection of {@link NodedSegmentString}s.
+   * 
+   * @param inputSegStrings a collection of {@link NodedSegmentString}s to node
+   */
+  public void computeNodes(Collection inputSegStrings)
+  {
+    this.nodedSegStrings = inputSegStrings;
+    int idCounter = 0;
+    for (Iterator i = inputSegStrings.iterator(); i.hasNext(); ) {
+      SegmentString segStr = (SegmentString) i.next();
+      List segChains = MonotoneChainBuilder.getChains(segStr.getCoordinates(), segStr);
+      for (Iterator j = segChains.iterator(); j.hasNext(); ) {
+        MonotoneChain mc = (MonotoneChain) j.next();
+        mc.setId(idCounter++);
+        index.insert(mc.getEnvelope(), mc);
+        monoChains.add(mc);
+      }
+    }
+    // build the index before it is queried concurrently
+    index.build();
+    
+    List<OverlapBlockAction> blocks = createBlocks();
+    pool.invoke(new RecursiveAction() {
+      protected void compute() {
+        invokeAll(blocks);
+      }
+    });
+    for (OverlapBlockAction block : blocks) {
+      block.getIntersections().addNodes();
+    }
+  }
+
+  private List<OverlapBlockAction> createBlocks()
+  {
+    int numChains = monoChains.size();
+    int numBlocks = pool.getParallelism() * BLOCKS_PER_THREAD;
+    int blockSize = Math.max(MIN_BLOCK_SIZE, (numChains + numBlocks - 1) / numBlocks);
+    List<OverlapBlockAction> blocks = new ArrayList<OverlapBlockAction>();
+    for (int start = 0; start < numChains; start += blockSize) {
+      int end = Math.min(numChains, start + blockSize);
+      blocks.add(new OverlapBlockAction(start, end));
+    }
+    return blocks;
+  }
+
+  /**
+   * Finds the overlaps for a contiguous block of query chains,
+   * recording the intersections found.
+   */
+  private class OverlapBlockAction extends RecursiveAction 
+  {
+    private int start;
+    private int end;
+    private IntersectionRecorder intersections = new IntersectionRecorder();
+
+    OverlapBlockAction(int start, int end) {
+      this.start = start;
+      this.end = end;
+    }
+
+    IntersectionRecorder getIntersections() {
+      return intersections;
+    }
+    
+    protected void compute() {
+      MonotoneChainOverlapAction overlapAction = new MCIndexNoder.SegmentOverlapAction(intersections);
+      for (int i = start; i < end; i++) {
+        MonotoneChain queryChain = monoChains.get(i);
+        List overlapChains = index.query(queryChain.getEnvelope());
+        for (Iterator j = overlapChains.iterator(); j.hasNext(); ) {
+          MonotoneChain testChain = (MonotoneChain) j.next();
+          /**
+           * following test makes sure we only compare each pair of chains once
+           * and that we don't compare a chain to itself
+           */
+          if (testChain.getId() > queryChain.getId()) {
+            queryChain.computeOverlaps(testChain, overlapAction);
+          }
+        }
+      }
+    }
+  }
+  
+  /**
+   * Computes intersections in the same way as {@link IntersectionAdder},
+   * but records them rather than adding them to the segment strings.
+   */
+  private static class IntersectionRecorder
+      implements SegmentIntersector
+  {
+    private LineIntersector li = new RobustLineIntersector();
+    private List<NodedSegmentString> segStrings = new ArrayList<NodedSegmentString>();
+    private List<Coordinate> intPts = new ArrayList<Coordinate>();
+    private int[] segIndexes = new int[16];
+    
+    public void processIntersections(
+        SegmentString e0,  int segIndex0,
+        SegmentString e1,  int segIndex1)
+    {
+      if (e0 == e1 && segIndex0 == segIndex1) return;
+      Coordinate p00 = e0.getCoordinate(segIndex0);
+      Coordinate p01 = e0.getCoordinate(segIndex0 + 1);
+      Coordinate p10 = e1.getCoordinate(segIndex1);
+      Coordinate p11 = e1.getCoordinate(segIndex1 + 1);
+
+      li.computeIntersection(p00, p01, p10, p11);
+      if (li.hasIntersection()
+          && ! IntersectionAdder.isTrivialIntersection(li, e0, segIndex0, e1, segIndex1)) {
+        record((NodedSegmentString) e0, segIndex0);
+        record((NodedSegmentString) e1, segIndex1);
+      }
+    }
+
+    private void record(NodedSegmentString segStr, int segIndex)
+    {
+      for (int i = 0; i < li.getIntersectionNum(); i++) {
+        int n = intPts.size();
+        if (n == segIndexes.length) {
+          int[] newIndexes = new int[2 * n];
+          System.arraycopy(segIndexes, 0, newIndexes, 0, n);
+          segIndexes = newIndexes;
+        }
+        segIndexes[n] = segIndex;
+        segStrings.add(segStr);
+        intPts.add(li.getIntersection(i).copy());
+      }
+    }
+    
+    /**
+     * Adds the recorded intersections to their segment strings,
+     * in the order in which they were found.
+     */
+    void addNodes()
+    {
+      for (int i = 0; i < intPts.size(); i++) {
+        segStrings.get(i).addIntersection(intPts.get(i), segIndexes[i]);
+      }
+    }
+    
+    public boolean isDone() { return false; }
+  }
+}
@@ -11,6 +11,7 @@
  */
 package org.locationtech.jts.noding.snapround;
 
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
@@ -123,6 +124,71 @@ class HotPixelIndex {
     }
   }
 
+  /**
+   * Adds a list of points as node pixels
+   * and a collection of point arrays as non-node pixels.
+   * A pixel is a node if it contains a node point
+   * or more than one of the non-node points.
+   * <p>
+   * If the index is empty it is bulk-loaded with all the points,
+   * which is faster than adding them one at a time,
+   * and produces a balanced KD-tree without shuffling.
+   *
+   * @param nodePts the points to add as nodes
+   * @param pts the point arrays to add
+   */
+  public void add(List<Coordinate> nodePts, Collection<Coordinate[]> pts) {
+    if (! index.isEmpty()) {
+      addNodes(nodePts);
+      for (Coordinate[] vertexPts : pts) {
+        add(vertexPts);
+      }
+      return;
+    }
+    
+    int numPts = nodePts.size();
+    for (Coordinate[] vertexPts : pts) {
+      numPts += vertexPts.length;
+    }
+    Coordinate[] pixelPts = new Coordinate[numPts];
+    HotPixel[] pixels = new HotPixel[numPts];
+    Envelope extent = new Envelope();
+    int i = 0;
+    for (Coordinate pt : nodePts) {
+      HotPixel hp = createPixel(pt, pixelPts, pixels, i++, extent);
+      hp.setToNode();
+    }
+    for (Coordinate[] vertexPts : pts) {
+      for (Coordinate pt : vertexPts) {
+        createPixel(pt, pixelPts, pixels, i++, extent);
+      }
+    }
+    
+    /**
+     * Repeated pixel points are merged into the node 
+     * for the first occurrence, so node points take precedence.
+     * Pixels which were added more than once are nodes.
+     */
+    index = new KdTree(pixelPts, pixels, 0.0, null);
+    index.query(extent, new KdNodeVisitor() {
+      public void visit(KdNode node) {
+        if (node.isRepeated()) {
+          ((HotPixel) node.getData()).setToNode();
+        }
+      }
+    });
+  }
+
+  private HotPixel createPixel(Coordinate pt, Coordinate[] pixelPts, HotPixel[] pixels, 
+      int i, Envelope extent) {
+    Coordinate pRound = round(pt);
+    HotPixel hp = new HotPixel(pRound, scaleFactor);
+    pixelPts[i] = pRound;
+    pixels[i] = hp;
+    extent.expandToInclude(pRound);
+    return hp;
+  }
+
   /**
    * Adds a point as a Hot Pixel.
    * If the point has been added already, it is marked as a node.
@@ -101,8 +101,8 @@ public class SnapRoundingNoder
      * to avoid distorting the line arrangement 
      * (rounding can cause vertices to move across edges).
      */
-    addIntersectionPixels(segStrings);
-    addVertexPixels(segStrings);
+    List<Coordinate> intPts = computeIntersections(segStrings);
+    addPixels(intPts, segStrings);
 
     List<NodedSegmentString> snapped = computeSnaps(segStrings);
     return snapped;
@@ -111,11 +111,11 @@ public class SnapRoundingNoder
   /**
    * Detects interior intersections in the collection of {@link SegmentString}s,
    * and adds nodes for them to the segment strings.
-   * Also creates HotPixel nodes for the intersection points.
    * 
    * @param segStrings the input NodedSegmentStrings
+   * @return the intersection points
    */
-  private void addIntersectionPixels(Collection<NodedSegmentString> segStrings)
+  private List<Coordinate> computeIntersections(Collection<NodedSegmentString> segStrings)
   {
     /**
      * nearness tolerance is a small fraction of the grid size.
@@ -126,24 +126,26 @@ public class SnapRoundingNoder
     SnapRoundingIntersectionAdder intAdder = new SnapRoundingIntersectionAdder(nearnessTol);
     MCIndexNoder noder = new MCIndexNoder(intAdder, nearnessTol);
     noder.computeNodes(segStrings);
-    List<Coordinate> intPts = intAdder.getIntersections();
-    pixelIndex.addNodes(intPts);
+    return intAdder.getIntersections();
   }
   
   /**
-   * Creates HotPixels for each vertex in the input segStrings.
-   * The HotPixels are not marked as nodes, since they will
+   * Creates HotPixel nodes for the intersection points,
+   * and HotPixels for each vertex in the input segStrings.
+   * The vertex HotPixels are not marked as nodes, since they will
    * only be nodes in the final line arrangement
    * if they interact with other segments (or they are already
    * created as intersection nodes).
    * 
+   * @param intPts the intersection points
    * @param segStrings the input NodedSegmentStrings
    */
-  private void addVertexPixels(Collection<NodedSegmentString> segStrings) {
+  private void addPixels(List<Coordinate> intPts, Collection<NodedSegmentString> segStrings) {
+    List<Coordinate[]> vertexPts = new ArrayList<Coordinate[]>();
     for (SegmentString nss : segStrings) {
-      Coordinate[] pts = nss.getCoordinates();
-      pixelIndex.add(pts);
+      vertexPts.add(nss.getCoordinates());
     }
+    pixelIndex.add(intPts, vertexPts);
   }
 
   private Coordinate round(Coordinate pt) {
@@ -16,6 +16,7 @@ import java.util.List;
 
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateList;
+import org.locationtech.jts.geom.CoordinateSequences;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.LineString;
@@ -86,7 +87,8 @@ implements Comparable<OffsetCurveSection> {
       }
       removeStartPt = removeEndPt;
     }
-    return geomFactory.createLineString(pts.toCoordinateArray());
+    return geomFactory.createLineString(
+        CoordinateSequences.create(geomFactory.getCoordinateSequenceFactory(), pts, true));
   }
 
   public static OffsetCurveSection create(Coordinate[] srcPts, int start, int end, double loc, double locLast) {
@@ -236,6 +236,7 @@ public class PolygonBuilder {
     LinearRing testRing = testEr.getLinearRing();
     Envelope testEnv = testRing.getEnvelopeInternal();
     Coordinate testPt = testRing.getCoordinateN(0);
+    Coordinate[] testPts = null;
 
     EdgeRing minShell = null;
     Envelope minShellEnv = null;
@@ -249,9 +250,12 @@ public class PolygonBuilder {
       // hole must be contained in shell
       if (! tryShellEnv.contains(testEnv)) continue;
       
-      testPt = CoordinateArrays.ptNotInList(testRing.getCoordinates(), tryShellRing.getCoordinates());
+      // only materialize the ring coordinates when they are needed
+      if (testPts == null) testPts = testRing.getCoordinates();
+      Coordinate[] tryShellPts = tryShellRing.getCoordinates();
+      testPt = CoordinateArrays.ptNotInList(testPts, tryShellPts);
       boolean isContained = false;
-      if (PointLocation.isInRing(testPt, tryShellRing.getCoordinates()) )
+      if (PointLocation.isInRing(testPt, tryShellPts) )
         isContained = true;
 
       // check if this new containing ring is smaller than the current minimum ring
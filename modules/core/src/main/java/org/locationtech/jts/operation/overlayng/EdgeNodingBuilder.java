@@ -212,7 +212,7 @@ class EdgeNodingBuilder {
   {
     if (g == null || g.isEmpty()) return;
     
-    if (isClippedCompletely(g.getEnvelopeInternal())) 
+    if (isClippedCompletely(g.getEnvelopeInternalReadOnly())) 
       return;
 
     if (g instanceof Polygon)                 addPolygon((Polygon) g, geomIndex);
@@ -268,7 +268,7 @@ class EdgeNodingBuilder {
     // don't add empty rings
     if (ring.isEmpty()) return;
     
-    if (isClippedCompletely(ring.getEnvelopeInternal())) 
+    if (isClippedCompletely(ring.getEnvelopeInternalReadOnly())) 
       return;
     
     Coordinate[] pts = clip( ring );
@@ -315,7 +315,7 @@ class EdgeNodingBuilder {
    */
   private Coordinate[] clip(LinearRing ring) {
     Coordinate[] pts = ring.getCoordinates();
-    Envelope env = ring.getEnvelopeInternal();
+    Envelope env = ring.getEnvelopeInternalReadOnly();
     
     /**
      * If no clipper or ring is completely contained then no need to clip.
@@ -382,7 +382,7 @@ class EdgeNodingBuilder {
     // don't add empty lines
     if (line.isEmpty()) return;
     
-    if (isClippedCompletely(line.getEnvelopeInternal())) 
+    if (isClippedCompletely(line.getEnvelopeInternalReadOnly())) 
       return;
     
     if (isToBeLimited(line)) {
@@ -428,7 +428,7 @@ class EdgeNodingBuilder {
     if (limiter == null || pts.length <= MIN_LIMIT_PTS) {
       return false;
     }
-    Envelope env = line.getEnvelopeInternal();
+    Envelope env = line.getEnvelopeInternalReadOnly();
     /**
      * If line is completely contained then no need to limit
      */
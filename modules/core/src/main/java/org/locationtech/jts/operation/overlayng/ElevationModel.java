@@ -55,9 +55,9 @@ class ElevationModel {
    * @return the elevation model computed from the geometries
    */
   public static ElevationModel create(Geometry geom1, Geometry geom2) {
-    Envelope extent = geom1.getEnvelopeInternal().copy();
+    Envelope extent = geom1.getEnvelopeInternalReadOnly().copy();
     if (geom2 != null) {
-      extent.expandToInclude(geom2.getEnvelopeInternal());
+      extent.expandToInclude(geom2.getEnvelopeInternalReadOnly());
     }
     ElevationModel model = new ElevationModel(extent, DEFAULT_CELL_NUM, DEFAULT_CELL_NUM);
     if (geom1 != null) model.add(geom1);
@@ -76,10 +76,10 @@ public class FastOverlayFilter {
   }
 
   private boolean isEnvelopeIntersects(Geometry a, Geometry b) {
-    return a.getEnvelopeInternal().intersects( b.getEnvelopeInternal() );
+    return a.getEnvelopeInternalReadOnly().intersects( b.getEnvelopeInternalReadOnly() );
   }
 
   private boolean isEnvelopeCovers(Geometry a, Geometry b) {
-    return a.getEnvelopeInternal().covers( b.getEnvelopeInternal() );
+    return a.getEnvelopeInternalReadOnly().covers( b.getEnvelopeInternalReadOnly() );
   }
 }
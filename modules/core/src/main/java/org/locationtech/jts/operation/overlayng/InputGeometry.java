@@ -53,7 +53,7 @@ class InputGeometry {
   }
 
   public Envelope getEnvelope(int geomIndex) {
-    return geom[geomIndex].getEnvelopeInternal();
+    return geom[geomIndex].getEnvelopeInternalReadOnly();
   }
 
   public boolean isEmpty(int geomIndex) {
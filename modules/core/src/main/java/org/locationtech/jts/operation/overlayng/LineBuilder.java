@@ -15,8 +15,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
-import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateList;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequences;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.geom.Location;
@@ -239,8 +240,9 @@ class LineBuilder {
     pts.add(edge.orig(), false);
     edge.addCoordinates(pts);
     
-    Coordinate[] ptsOut = pts.toCoordinateArray(isForward);
-    LineString line = geometryFactory.createLineString(ptsOut);
+    CoordinateSequence seq = CoordinateSequences.create(
+        geometryFactory.getCoordinateSequenceFactory(), pts, isForward);
+    LineString line = geometryFactory.createLineString(seq);
     return line;
   }
   
@@ -336,9 +338,9 @@ class LineBuilder {
     }
     while (e != null);
     
-    Coordinate[] ptsOut = pts.toCoordinateArray(isForward);
-    
-    LineString line = geometryFactory.createLineString(ptsOut);
+    CoordinateSequence seq = CoordinateSequences.create(
+        geometryFactory.getCoordinateSequenceFactory(), pts, isForward);
+    LineString line = geometryFactory.createLineString(seq);
     return line;
   }
 
@@ -20,6 +20,8 @@ import org.locationtech.jts.algorithm.locate.PointOnGeometryLocator;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateArrays;
 import org.locationtech.jts.geom.CoordinateList;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequences;
 import org.locationtech.jts.geom.Envelope;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.LinearRing;
@@ -32,14 +34,13 @@ class OverlayEdgeRing {
   private OverlayEdge startEdge;
   private LinearRing ring;
   private boolean isHole;
-  private Coordinate[] ringPts;
   private IndexedPointInAreaLocator locator;
   private OverlayEdgeRing shell;
   private List<OverlayEdgeRing> holes = new ArrayList<OverlayEdgeRing>(); // a list of EdgeRings which are holes in this EdgeRing
 
   public OverlayEdgeRing(OverlayEdge start, GeometryFactory geometryFactory) {
     startEdge = start;
-    ringPts = computeRingPts(start);
+    CoordinateList ringPts = computeRingPts(start);
     computeRing(ringPts, geometryFactory);
   }
 
@@ -48,7 +49,7 @@ class OverlayEdgeRing {
   }
   
   private Envelope getEnvelope() {
-    return ring.getEnvelopeInternal();
+    return ring.getEnvelopeInternalReadOnly();
   }
   
   /**
@@ -91,7 +92,7 @@ class OverlayEdgeRing {
 
   public void addHole(OverlayEdgeRing ring) { holes.add(ring); }
 
-  private Coordinate[] computeRingPts(OverlayEdge start) {
+  private CoordinateList computeRingPts(OverlayEdge start) {
     OverlayEdge edge = start;
     CoordinateList pts = new CoordinateList();
     do {
@@ -113,26 +114,17 @@ class OverlayEdgeRing {
       edge = edge.nextResult();
     } while (edge != start);
     pts.closeRing();
-    return pts.toCoordinateArray();
+    return pts;
   }
   
-  private void computeRing(Coordinate[] ringPts, GeometryFactory geometryFactory) {
+  private void computeRing(CoordinateList ringPts, GeometryFactory geometryFactory) {
     if (ring != null) return;   // don't compute more than once
-    ring = geometryFactory.createLinearRing(ringPts);
-    isHole = Orientation.isCCW(ring.getCoordinates());
+    CoordinateSequence ringSeq = CoordinateSequences.create(
+        geometryFactory.getCoordinateSequenceFactory(), ringPts, true);
+    ring = geometryFactory.createLinearRing(ringSeq);
+    isHole = Orientation.isCCW(ringSeq);
   }
 
-  /**
-   * Computes the list of coordinates which are contained in this ring.
-   * The coordinates are computed once only and cached.
-   *
-   * @return an array of the {@link Coordinate}s in this ring
-   */
-  private Coordinate[] getCoordinates()
-  {
-    return ringPts;
-  }
-  
   /**
    * Finds the innermost enclosing shell OverlayEdgeRing
    * containing this OverlayEdgeRing, if any.
@@ -200,8 +192,9 @@ class OverlayEdgeRing {
   
   private boolean isPointInOrOut(OverlayEdgeRing ring) {
     // in most cases only one or two points will be checked
-    for (Coordinate pt : ring.getCoordinates()) {
-      int loc = locate(pt);
+    CoordinateSequence seq = ring.getRing().getCoordinateSequence();
+    for (int i = 0; i < seq.size(); i++) {
+      int loc = locate(seq.getCoordinate(i));
       if (loc == Location.INTERIOR) {
         return true;
       }
@@ -214,7 +207,7 @@ class OverlayEdgeRing {
   }
 
   public Coordinate getCoordinate() {
-    return ringPts[0];
+    return ring.getCoordinateN(0);
   }
 
   /**
@@ -311,7 +311,7 @@ public class OverlayNGRobust
    */
   private static double ordinateMagnitude(Geometry geom) {
     if (geom == null || geom.isEmpty()) return 0;
-    Envelope env = geom.getEnvelopeInternal();
+    Envelope env = geom.getEnvelopeInternalReadOnly();
     double magMax = Math.max(
         Math.abs(env.getMaxX()), Math.abs(env.getMaxY()));
     double magMin = Math.max(
@@ -196,9 +196,9 @@ class OverlayUtil {
   static boolean isEnvDisjoint(Geometry a, Geometry b, PrecisionModel pm) {
     if (isEmpty(a) || isEmpty(b)) return true;
     if (isFloating(pm)) {
-      return a.getEnvelopeInternal().disjoint(b.getEnvelopeInternal());
+      return a.getEnvelopeInternalReadOnly().disjoint(b.getEnvelopeInternalReadOnly());
     }
-    return isDisjoint(a.getEnvelopeInternal(), b.getEnvelopeInternal(), pm);
+    return isDisjoint(a.getEnvelopeInternalReadOnly(), b.getEnvelopeInternalReadOnly(), pm);
   }
 
   /**
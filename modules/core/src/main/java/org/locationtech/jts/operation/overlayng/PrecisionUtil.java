@@ -90,7 +90,7 @@ public class PrecisionUtil
    */
   public static double safeScale(Geometry geom)
   {
-    return safeScale( maxBoundMagnitude( geom.getEnvelopeInternal() ));
+    return safeScale( maxBoundMagnitude( geom.getEnvelopeInternalReadOnly() ));
   }
   
   /**
@@ -104,9 +104,9 @@ public class PrecisionUtil
    * @return a safe scale factor for the geometry ordinates
    */
   public static double safeScale(Geometry a, Geometry b) {
-    double maxBnd = maxBoundMagnitude( a.getEnvelopeInternal());
+    double maxBnd = maxBoundMagnitude( a.getEnvelopeInternalReadOnly());
     if (b != null) {
-      double maxBndB = maxBoundMagnitude( b.getEnvelopeInternal());
+      double maxBndB = maxBoundMagnitude( b.getEnvelopeInternalReadOnly());
       maxBnd = Math.max(maxBnd,  maxBndB);
     }
     double scale = PrecisionUtil.safeScale(maxBnd);
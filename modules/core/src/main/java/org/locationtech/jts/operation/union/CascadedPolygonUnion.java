@@ -15,6 +15,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
@@ -43,6 +46,15 @@ import org.locationtech.jts.util.Debug;
  * This algorithm is faster and more robust than
  * the simple iterated approach of
  * repeatedly unioning each polygon to a result geometry.
+ * <p>
+ * The subtrees of the index are independent, 
+ * so they can be unioned concurrently
+ * by providing a {@link ForkJoinPool} 
+ * (see {@link #union(ForkJoinPool)}).
+ * The parallelism is bounded by the parallelism of the pool.
+ * The parallel union performs exactly the same 
+ * sequence of binary unions as the sequential union,
+ * so the result is the same.
  *
  * @author Martin Davis
  *
@@ -94,11 +106,30 @@ public class CascadedPolygonUnion
     return op.union();
   }
 
+  /**
+   * Computes the union of
+   * a collection of {@link Polygonal} {@link Geometry}s,
+   * using a {@link ForkJoinPool} to union subtrees in parallel.
+   * The union strategy must be thread-safe.
+   *
+   * @param polys a collection of {@link Polygonal} {@link Geometry}s
+   * @param unionFun the union strategy to use
+   * @param pool the pool to use, or null to union in the calling thread
+   */
+  public static Geometry union(Collection polys, UnionStrategy unionFun, ForkJoinPool pool)
+  {
+    CascadedPolygonUnion op = new CascadedPolygonUnion(polys, unionFun);
+    return op.union(pool);
+  }
+
 	private Collection inputPolys;
 	private GeometryFactory geomFactory = null;
   private UnionStrategy unionFun;
 
-  private int countRemainder = 0;
+  /**
+   * Atomic, since unions may be computed in parallel
+   */
+  private AtomicInteger countRemainder = new AtomicInteger();
   private int countInput = 0;
 
   /**
@@ -126,7 +157,7 @@ public class CascadedPolygonUnion
     if (inputPolys == null)
       inputPolys = new ArrayList();
     this.countInput = inputPolys.size();
-    this.countRemainder = countInput;
+    this.countRemainder.set(countInput);
   }
   /**
    * The effectiveness of the index is somewhat sensitive
@@ -153,6 +184,23 @@ public class CascadedPolygonUnion
 	 */
 	public Geometry union()
 	{
+	  return union((ForkJoinPool) null);
+	}
+
+  /**
+   * Computes the union of the input geometries,
+   * optionally using a {@link ForkJoinPool} to union 
+   * independent subtrees in parallel.
+   * The result is the same as that computed by {@link #union()}.
+   * The union strategy must be thread-safe.
+   *
+   * @param pool the pool to use, or null to union in the calling thread
+   * @return the union of the input geometries
+   * or null if no input geometries were provided
+   * @throws IllegalStateException if this method is called more than once
+   */
+  public Geometry union(ForkJoinPool pool)
+  {
 	  if (inputPolys == null)
 	    throw new IllegalStateException("union() method cannot be called twice");
 		if (inputPolys.isEmpty())
@@ -169,14 +217,23 @@ public class CascadedPolygonUnion
     STRtree index = new STRtree(STRTREE_NODE_CAPACITY);
     for (Iterator i = inputPolys.iterator(); i.hasNext(); ) {
       Geometry item = (Geometry) i.next();
-      index.insert(item.getEnvelopeInternal(), item);
+      index.insert(item.getEnvelopeInternalReadOnly(), item);
     }
     // To avoiding holding memory remove references to the input geometries,
     inputPolys = null;
 
+    if (pool != null) {
+      index.build(pool);
+    }
     List itemTree = index.itemsTree();
 //    printItemEnvelopes(itemTree);
-    Geometry unionAll = unionTree(itemTree);
+    Geometry unionAll;
+    if (pool == null) {
+      unionAll = unionTree(itemTree);
+    }
+    else {
+      unionAll = pool.invoke(new UnionTreeTask(itemTree));
+    }
     return unionAll;
 	}
 
@@ -293,6 +350,89 @@ public class CascadedPolygonUnion
     return geoms;
   }
 
+  /**
+   * Unions a subtree, forking a task 
+   * for each child subtree which is not a leaf.
+   * The subtree results are combined in the same order
+   * as in {@link #unionTree(List)}.
+   */
+  private class UnionTreeTask extends RecursiveTask<Geometry>
+  {
+    private List geomTree;
+
+    UnionTreeTask(List geomTree) {
+      this.geomTree = geomTree;
+    }
+
+    protected Geometry compute() {
+      if (! hasSubtrees(geomTree)) {
+        return unionTree(geomTree);
+      }
+      List<UnionTreeTask> tasks = new ArrayList<UnionTreeTask>();
+      for (Iterator i = geomTree.iterator(); i.hasNext(); ) {
+        Object o = i.next();
+        if (o instanceof List) {
+          tasks.add(new UnionTreeTask((List) o));
+        }
+      }
+      invokeAll(tasks);
+      
+      List geoms = new ArrayList();
+      int taskIndex = 0;
+      for (Iterator i = geomTree.iterator(); i.hasNext(); ) {
+        Object o = i.next();
+        Geometry geom = null;
+        if (o instanceof List) {
+          geom = tasks.get(taskIndex++).join();
+        }
+        else if (o instanceof Geometry) {
+          geom = (Geometry) o;
+        }
+        geoms.add(geom);
+      }
+      return new BinaryUnionTask(geoms, 0, geoms.size()).compute();
+    }
+  }
+
+  private static boolean hasSubtrees(List geomTree)
+  {
+    for (Iterator i = geomTree.iterator(); i.hasNext(); ) {
+      if (i.next() instanceof List) return true;
+    }
+    return false;
+  }
+  
+  /**
+   * Unions a section of a list in the same way as 
+   * {@link #binaryUnion(List, int, int)},
+   * with the halves of the section unioned in parallel.
+   */
+  private class BinaryUnionTask extends RecursiveTask<Geometry>
+  {
+    private List geoms;
+    private int start;
+    private int end;
+
+    BinaryUnionTask(List geoms, int start, int end) {
+      this.geoms = geoms;
+      this.start = start;
+      this.end = end;
+    }
+
+    protected Geometry compute() {
+      if (end - start <= 2) {
+        return binaryUnion(geoms, start, end);
+      }
+      int mid = (end + start) / 2;
+      BinaryUnionTask task0 = new BinaryUnionTask(geoms, start, mid);
+      BinaryUnionTask task1 = new BinaryUnionTask(geoms, mid, end);
+      task1.fork();
+      Geometry g0 = task0.compute();
+      Geometry g1 = task1.join();
+      return unionSafe(g0, g1);
+    }
+  }
+
   /**
    * Computes the union of two geometries,
    * either or both of which may be null.
@@ -312,9 +452,9 @@ public class CascadedPolygonUnion
   	if (g1 == null)
   		return g0.copy();
 
-  	countRemainder--;
+  	int remainder = countRemainder.decrementAndGet();
   	if (Debug.isDebugging()) {
-  	  Debug.println("Remainder: " + countRemainder + " out of " + countInput);
+  	  Debug.println("Remainder: " + remainder + " out of " + countInput);
       Debug.print("Union: A: " + g0.getNumPoints() + " / B: " + g1.getNumPoints() + "  ---  "  );
   	}
 
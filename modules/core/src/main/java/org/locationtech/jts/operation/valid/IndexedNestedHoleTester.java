@@ -77,7 +77,7 @@ class IndexedNestedHoleTester
     for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
       LinearRing hole = (LinearRing) polygon.getInteriorRingN(i);
 
-      List<LinearRing> results = index.query(hole.getEnvelopeInternal());
+      List<LinearRing> results = index.query(hole.getEnvelopeInternalReadOnly());
       for (LinearRing testHole : results) {
         if (hole == testHole)
           continue;
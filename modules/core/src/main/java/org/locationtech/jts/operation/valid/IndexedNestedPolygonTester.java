@@ -87,7 +87,7 @@ class IndexedNestedPolygonTester
       Polygon poly = (Polygon) multiPoly.getGeometryN(i);
       LinearRing shell = poly.getExteriorRing();
       
-      List<Integer> results = index.query(poly.getEnvelopeInternal());
+      List<Integer> results = index.query(poly.getEnvelopeInternalReadOnly());
       for (Integer polyIndex : results) {
         Polygon possibleOuterPoly = (Polygon) multiPoly.getGeometryN(polyIndex);
         
@@ -233,7 +233,8 @@ public class GeometryPrecisionReducer
     GeometryFactory newFactory 
   	= new GeometryFactory(pm, 
   			inputFactory.getSRID(),
-  			inputFactory.getCoordinateSequenceFactory());
+  			inputFactory.getCoordinateSequenceFactory(),
+  			inputFactory.isEnvelopePrecomputed());
     return newFactory;
   }
   
@@ -11,8 +11,8 @@
  */
 package org.locationtech.jts.precision;
 
-import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequences;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.PrecisionModel;
 import org.locationtech.jts.geom.util.GeometryTransformer;
@@ -41,19 +41,19 @@ class PointwisePrecisionReducerTransformer extends GeometryTransformer {
     if (coordinates.size() == 0)
       return null;
 
-    Coordinate[] coordsReduce = reducePointwise(coordinates);
-    return factory.getCoordinateSequenceFactory().create(coordsReduce);
+    return reducePointwise(coordinates);
   }
 
-  private Coordinate[] reducePointwise(CoordinateSequence coordinates) {
-    Coordinate[] coordReduce = new Coordinate[coordinates.size()];
+  private CoordinateSequence reducePointwise(CoordinateSequence coordinates) {
+    CoordinateSequence seqReduce = factory.getCoordinateSequenceFactory().create(
+        coordinates.size(), coordinates.getDimension(), coordinates.getMeasures());
     // copy coordinates and reduce
     for (int i = 0; i < coordinates.size(); i++) {
-      Coordinate coord = coordinates.getCoordinate(i).copy();
-      targetPM.makePrecise(coord);
-      coordReduce[i]= coord;
+      CoordinateSequences.copyCoord(coordinates, i, seqReduce, i);
+      seqReduce.setOrdinate(i, CoordinateSequence.X, targetPM.makePrecise(coordinates.getX(i)));
+      seqReduce.setOrdinate(i, CoordinateSequence.Y, targetPM.makePrecise(coordinates.getY(i)));
     }
-    return coordReduce;
+    return seqReduce;
   }
 
 }
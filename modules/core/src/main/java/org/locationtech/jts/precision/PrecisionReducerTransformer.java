@@ -14,6 +14,7 @@ package org.locationtech.jts.precision;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateList;
 import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequences;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.geom.LinearRing;
@@ -54,7 +55,7 @@ class PrecisionReducerTransformer extends GeometryTransformer {
     if (coordinates.size() == 0)
       return null;
 
-    Coordinate[] coordsReduce = reduceCompress(coordinates);
+    CoordinateList coordsReduce = reduceCompress(coordinates);
 
     /**
      * Check if the removal of repeated points collapsed the coordinate
@@ -75,37 +76,32 @@ class PrecisionReducerTransformer extends GeometryTransformer {
      * Handle collapse. If specified return null so parent geometry is removed or empty,
      * otherwise extend to required length.
      */
-    if (coordsReduce.length < minSize) {
+    if (coordsReduce.size() < minSize) {
       if (isRemoveCollapsed) {
         return null;
       }
-      coordsReduce = extend(coordsReduce, minSize);
+      extend(coordsReduce, minSize);
     }
-    return factory.getCoordinateSequenceFactory().create(coordsReduce);
+    return CoordinateSequences.create(factory.getCoordinateSequenceFactory(), coordsReduce, true);
   }
 
-  private Coordinate[] extend(Coordinate[] coords, int minLength) {
-    if (coords.length >= minLength)
-      return coords;
-    Coordinate[] exCoords = new Coordinate[minLength];
-    for (int i = 0; i < exCoords.length; i++) {
-      int iSrc = i < coords.length ? i : coords.length - 1;
-      exCoords[i] = coords[iSrc].copy();
+  private static void extend(CoordinateList coords, int minLength) {
+    Coordinate last = coords.getCoordinate(coords.size() - 1);
+    while (coords.size() < minLength) {
+      coords.add(last.copy());
     }
-    return exCoords;
   }
 
-  private Coordinate[] reduceCompress(CoordinateSequence coordinates) {
+  private CoordinateList reduceCompress(CoordinateSequence coordinates) {
     CoordinateList noRepeatCoordList = new CoordinateList();
     // copy coordinates and reduce
     for (int i = 0; i < coordinates.size(); i++) {
-      Coordinate coord = coordinates.getCoordinate(i).copy();
+      Coordinate coord = coordinates.getCoordinateCopy(i);
       targetPM.makePrecise(coord);
+      // remove repeated points, to simplify geometry as much as possible
       noRepeatCoordList.add(coord, false);
     }
-    // remove repeated points, to simplify geometry as much as possible
-    Coordinate[] noRepeatCoords = noRepeatCoordList.toCoordinateArray();
-    return noRepeatCoords;
+    return noRepeatCoordList;
   }
 
   protected Geometry transformPolygon(Polygon geom, Geometry parent) {
@@ -13,7 +13,9 @@
 package org.locationtech.jts.simplify;
 
 import org.locationtech.jts.geom.Coordinate;
-import org.locationtech.jts.geom.CoordinateList;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFactory;
+import org.locationtech.jts.geom.CoordinateSequences;
 import org.locationtech.jts.geom.LineSegment;
 
 /**
@@ -24,11 +26,22 @@ import org.locationtech.jts.geom.LineSegment;
  */
 class DouglasPeuckerLineSimplifier
 {
-  public static Coordinate[] simplify(Coordinate[] pts, double distanceTolerance)
+  /**
+   * Simplifies a sequence of points.
+   * The result is created by the given factory 
+   * and has the dimension and measures of the input sequence.
+   * 
+   * @param seq the sequence to simplify
+   * @param distanceTolerance the approximation tolerance to use
+   * @param csFactory the factory to create the result with
+   * @return the simplified sequence
+   */
+  public static CoordinateSequence simplify(CoordinateSequence seq, double distanceTolerance,
+      CoordinateSequenceFactory csFactory)
   {
-    DouglasPeuckerLineSimplifier simp = new DouglasPeuckerLineSimplifier(pts);
+    DouglasPeuckerLineSimplifier simp = new DouglasPeuckerLineSimplifier(seq.toCoordinateArray());
     simp.setDistanceTolerance(distanceTolerance);
-    return simp.simplify();
+    return simp.simplify(seq, csFactory);
   }
 
   private Coordinate[] pts;
@@ -50,19 +63,27 @@ class DouglasPeuckerLineSimplifier
     this.distanceTolerance = distanceTolerance;
   }
 
-  public Coordinate[] simplify()
+  private CoordinateSequence simplify(CoordinateSequence seq, CoordinateSequenceFactory csFactory)
   {
+    if (pts.length == 0) {
+      return csFactory.create(0, seq.getDimension(), seq.getMeasures());
+    }
     usePt = new boolean[pts.length];
     for (int i = 0; i < pts.length; i++) {
       usePt[i] = true;
     }
     simplifySection(0, pts.length - 1);
-    CoordinateList coordList = new CoordinateList();
+    int size = 0;
+    for (int i = 0; i < pts.length; i++) {
+      if (usePt[i]) size++;
+    }
+    CoordinateSequence simpSeq = csFactory.create(size, seq.getDimension(), seq.getMeasures());
+    int index = 0;
     for (int i = 0; i < pts.length; i++) {
       if (usePt[i])
-        coordList.add(new Coordinate(pts[i]));
+        CoordinateSequences.copyCoord(seq, i, simpSeq, index++);
     }
-    return coordList.toCoordinateArray();
+    return simpSeq;
   }
 
   private LineSegment seg = new LineSegment();
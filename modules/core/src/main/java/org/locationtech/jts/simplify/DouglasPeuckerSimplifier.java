@@ -12,7 +12,6 @@
 
 package org.locationtech.jts.simplify;
 
-import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.LinearRing;
@@ -135,15 +134,8 @@ static class DPTransformer
 	
   protected CoordinateSequence transformCoordinates(CoordinateSequence coords, Geometry parent)
   {
-    Coordinate[] inputPts = coords.toCoordinateArray();
-    Coordinate[] newPts = null;
-    if (inputPts.length == 0) {
-      newPts = new Coordinate[0];
-    }
-    else {
-      newPts = DouglasPeuckerLineSimplifier.simplify(inputPts, distanceTolerance);
-    }
-    return factory.getCoordinateSequenceFactory().create(newPts);
+    return DouglasPeuckerLineSimplifier.simplify(coords, distanceTolerance, 
+        factory.getCoordinateSequenceFactory());
   }
 
   /**
@@ -16,6 +16,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequences;
 import org.locationtech.jts.geom.LineSegment;
 import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.geom.LinearRing;
@@ -48,7 +50,7 @@ class TaggedLineString
   public int getMinimumSize()  {    return minimumSize;  }
   public LineString getParent() { return parentLine; }
   public Coordinate[] getParentCoordinates() { return parentLine.getCoordinates(); }
-  public Coordinate[] getResultCoordinates() { return extractCoordinates(resultSegs); }
+  public CoordinateSequence getResultCoordinateSequence() { return extractCoordinates(resultSegs); }
 
   public int getResultSize()
   {
@@ -78,24 +80,25 @@ class TaggedLineString
 
   public LineString asLineString()
   {
-    return parentLine.getFactory().createLineString(extractCoordinates(resultSegs));
+    return parentLine.getFactory().createLineString(getResultCoordinateSequence());
   }
 
   public LinearRing asLinearRing() {
-    return parentLine.getFactory().createLinearRing(extractCoordinates(resultSegs));
+    return parentLine.getFactory().createLinearRing(getResultCoordinateSequence());
   }
 
-  private static Coordinate[] extractCoordinates(List segs)
+  private CoordinateSequence extractCoordinates(List segs)
   {
-    Coordinate[] pts = new Coordinate[segs.size() + 1];
+    List<Coordinate> pts = new ArrayList<Coordinate>(segs.size() + 1);
     LineSegment seg = null;
     for (int i = 0; i < segs.size(); i++) {
       seg = (LineSegment) segs.get(i);
-      pts[i] = seg.p0;
+      pts.add(seg.p0);
     }
     // add last point
-    pts[pts.length - 1] = seg.p1;
-    return pts;
+    pts.add(seg.p1);
+    return CoordinateSequences.create(
+        parentLine.getFactory().getCoordinateSequenceFactory(), pts, true);
   }
 
 
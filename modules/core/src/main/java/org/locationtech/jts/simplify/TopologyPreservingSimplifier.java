@@ -135,7 +135,7 @@ public class TopologyPreservingSimplifier
     	// for linear components (including rings), simplify the linestring
       if (parent instanceof LineString) {
         TaggedLineString taggedLine = (TaggedLineString) linestringMap.get(parent);
-        return createCoordinateSequence(taggedLine.getResultCoordinates());
+        return taggedLine.getResultCoordinateSequence();
       }
       // for anything else (e.g. points) just copy the coordinates
       return super.transformCoordinates(coords, parent);
@@ -14,6 +14,7 @@ package org.locationtech.jts.algorithm;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
 
 import junit.textui.TestRunner;
 import test.jts.GeometryTestCase;
@@ -47,6 +48,10 @@ public class AreaTest extends GeometryTestCase {
     CoordinateSequence ringSeq = ring.getCoordinateSequence();
     double actual2 = Area.ofRing(ringSeq);
     assertEquals(actual2, expectedArea);
+    
+    CoordinateSequence ringPacked = PackedCoordinateSequenceFactory.DOUBLE_FACTORY.create(ringSeq);
+    double actual3 = Area.ofRing(ringPacked);
+    assertEquals(actual3, expectedArea);
   }
   
   void checkAreaOfRingSigned(String wkt, double expectedArea) {
@@ -59,5 +64,9 @@ public class AreaTest extends GeometryTestCase {
     CoordinateSequence ringSeq = ring.getCoordinateSequence();
     double actual2 = Area.ofRingSigned(ringSeq);
     assertEquals(actual2, expectedArea);
+    
+    CoordinateSequence ringPacked = PackedCoordinateSequenceFactory.DOUBLE_FACTORY.create(ringSeq);
+    double actual3 = Area.ofRingSigned(ringPacked);
+    assertEquals(actual3, expectedArea);
   }
 }
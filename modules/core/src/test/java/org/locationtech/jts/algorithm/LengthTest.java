@@ -13,6 +13,7 @@ package org.locationtech.jts.algorithm;
 
 import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
 
 import junit.textui.TestRunner;
 import test.jts.GeometryTestCase;
@@ -34,5 +35,9 @@ public class LengthTest extends GeometryTestCase {
     CoordinateSequence pts = ring.getCoordinateSequence();
     double actual = Length.ofLine(pts);
     assertEquals(actual, expectedLen);
+    
+    CoordinateSequence ptsPacked = PackedCoordinateSequenceFactory.DOUBLE_FACTORY.create(pts);
+    double actualPacked = Length.ofLine(ptsPacked);
+    assertEquals(actualPacked, expectedLen);
   }
 }
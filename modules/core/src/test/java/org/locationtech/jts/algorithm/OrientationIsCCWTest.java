@@ -15,6 +15,7 @@ import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
 
 import junit.textui.TestRunner;
 import test.jts.GeometryTestCase;
@@ -113,6 +114,8 @@ public class OrientationIsCCWTest extends GeometryTestCase {
     assertEquals("Coordinate array isCCW: ", expectedCCW, Orientation.isCCW(pts2x) );
     CoordinateSequence seq2x = getCoordinateSequence(wkt);
     assertEquals("CoordinateSequence isCCW: ", expectedCCW, Orientation.isCCW(seq2x) );
+    CoordinateSequence seqPacked = PackedCoordinateSequenceFactory.DOUBLE_FACTORY.create(seq2x);
+    assertEquals("PackedCoordinateSequence isCCW: ", expectedCCW, Orientation.isCCW(seqPacked) );
   }
 
   private void checkCCWArea(boolean expectedCCW, String wkt) {
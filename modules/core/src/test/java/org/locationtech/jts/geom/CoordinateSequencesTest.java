@@ -18,6 +18,8 @@ import org.locationtech.jts.io.WKTReader;
 import junit.framework.TestCase;
 import junit.textui.TestRunner;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Random;
 
 
@@ -116,6 +118,14 @@ public class CoordinateSequencesTest extends TestCase {
     doTestReverse(PackedCoordinateSequenceFactory.FLOAT_FACTORY, 7);
   }
 
+  public void testCreateFromList() {
+    doTestCreateFromList(CoordinateArraySequenceFactory.instance(), new CoordinateXY(1, 2), new CoordinateXY(3, 4));
+    doTestCreateFromList(PackedCoordinateSequenceFactory.DOUBLE_FACTORY, new CoordinateXY(1, 2), new CoordinateXY(3, 4));
+    doTestCreateFromList(PackedCoordinateSequenceFactory.DOUBLE_FACTORY, new Coordinate(1, 2, 3), new Coordinate(4, 5, 6));
+    doTestCreateFromList(PackedCoordinateSequenceFactory.DOUBLE_FACTORY, new CoordinateXYM(1, 2, 3), new CoordinateXYM(4, 5, 6));
+    doTestCreateFromList(PackedCoordinateSequenceFactory.FLOAT_FACTORY, new CoordinateXYZM(1, 2, 3, 4), new CoordinateXYZM(5, 6, 7, 8));
+  }
+
   /**
    * Method used to create a {@link #ordinateValues}.
    * Usage: remove first 't' and run as unit test.
@@ -184,6 +194,20 @@ public class CoordinateSequencesTest extends TestCase {
     return fillNonPlanarDimensions(cs);
   }
 
+  private static void doTestCreateFromList(CoordinateSequenceFactory factory, Coordinate p0, Coordinate p1) {
+    List<Coordinate> pts = Arrays.asList(p0, p1);
+    CoordinateSequence forward = CoordinateSequences.create(factory, pts, true);
+    CoordinateSequence reverse = CoordinateSequences.create(factory, pts, false);
+    assertEquals(Coordinates.dimension(p0), forward.getDimension());
+    assertEquals(Coordinates.measures(p0), forward.getMeasures());
+    assertTrue(p0.equals3D(forward.getCoordinate(0)));
+    assertTrue(p1.equals3D(forward.getCoordinate(1)));
+    assertEquals(p0.getM(), forward.getM(0), 0);
+    assertTrue(p1.equals3D(reverse.getCoordinate(0)));
+    assertTrue(p0.equals3D(reverse.getCoordinate(1)));
+    assertEquals(p1.getM(), reverse.getM(0), 0);
+  }
+
   private static void doTestReverse(CoordinateSequenceFactory factory, int dimension) {
 
     // arrange
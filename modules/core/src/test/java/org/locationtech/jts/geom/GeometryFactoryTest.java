@@ -116,6 +116,43 @@ public class GeometryFactoryTest extends TestCase {
 
   }
   
+  public void testEnvelopePrecomputed() throws ParseException
+  {
+    assertFalse(geometryFactory.isEnvelopePrecomputed());
+    Geometry lazy = read("POLYGON ((100 200, 200 200, 200 100, 100 100, 100 200))");
+    assertNull(lazy.envelope);
+    
+    GeometryFactory gf = new GeometryFactory(precisionModel, 0, 
+        CoordinateArraySequenceFactory.instance(), true);
+    assertTrue(gf.isEnvelopePrecomputed());
+    Geometry g = new WKTReader(gf).read(
+        "GEOMETRYCOLLECTION (POLYGON ((100 200, 200 200, 200 100, 100 100, 100 200)), LINESTRING (250 100, 350 200), POINT (350 150))");
+    assertNotNull(g.envelope);
+    assertEquals(new Envelope(100, 350, 100, 200), g.envelope);
+    for (int i = 0; i < g.getNumGeometries(); i++) {
+      assertNotNull(g.getGeometryN(i).envelope);
+    }
+    assertNotNull(gf.createPoint().envelope);
+  }
+
+  public void testDefaultCoordinateSequenceFactory()
+  {
+    try {
+      GeometryFactory.setDefaultCoordinateSequenceFactory(GeometryFactory.COORDSEQ_PROPERTY_VALUE_PACKED);
+      GeometryFactory gf = new GeometryFactory();
+      assertTrue(gf.getCoordinateSequenceFactory() instanceof PackedCoordinateSequenceFactory);
+      assertEquals(PackedCoordinateSequenceFactory.DOUBLE, 
+          ((PackedCoordinateSequenceFactory) gf.getCoordinateSequenceFactory()).getType());
+      // an explicit factory is not affected
+      GeometryFactory gfArray = new GeometryFactory(CoordinateArraySequenceFactory.instance());
+      assertTrue(gfArray.getCoordinateSequenceFactory() instanceof CoordinateArraySequenceFactory);
+    }
+    finally {
+      GeometryFactory.setDefaultCoordinateSequenceFactory(GeometryFactory.COORDSEQ_PROPERTY_VALUE_ARRAY);
+    }
+    assertTrue(new GeometryFactory().getCoordinateSequenceFactory() instanceof CoordinateArraySequenceFactory);
+  }
+  
   private void checkCreateGeometryExact(String wkt) throws ParseException
   {
     Geometry g = read(wkt);
@@ -160,6 +160,24 @@ public class GeometryImplTest extends TestCase {
         assertEquals(new Envelope(1, 51, 1, 51), g.getEnvelopeInternal());
     }
 
+    public void testEnvelopeReadOnly() throws Exception {
+        Geometry g = reader.read("POLYGON ((0 0, 0 50, 50 50, 50 0, 0 0))");
+        Envelope env = g.getEnvelopeInternalReadOnly();
+        assertEquals(new Envelope(0, 50, 0, 50), env);
+        assertSame(env, g.getEnvelopeInternalReadOnly());
+        assertNotSame(env, g.getEnvelopeInternal());
+        assertEquals(env, g.getEnvelopeInternal());
+        g.apply(new CoordinateFilter() {
+                public void filter(Coordinate coord) {
+                    coord.x += 1;
+                }
+            });
+        g.geometryChanged();
+        assertEquals(new Envelope(1, 51, 0, 50), g.getEnvelopeInternalReadOnly());
+        // previously returned envelope is not changed
+        assertEquals(new Envelope(0, 50, 0, 50), env);
+    }
+
     public void testEquals1() throws Exception {
         Geometry polygon1 = reader.read(
                 "POLYGON ((0 0, 0 50, 50 50, 50 0, 0 0))");
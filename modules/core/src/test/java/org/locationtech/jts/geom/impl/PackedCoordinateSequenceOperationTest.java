@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.geom.impl;
+
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFilter;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKTReader;
+import org.locationtech.jts.operation.buffer.OffsetCurve;
+import org.locationtech.jts.operation.overlayng.OverlayNG;
+import org.locationtech.jts.operation.overlayng.OverlayNGRobust;
+import org.locationtech.jts.precision.GeometryPrecisionReducer;
+import org.locationtech.jts.simplify.DouglasPeuckerSimplifier;
+import org.locationtech.jts.simplify.TopologyPreservingSimplifier;
+import org.locationtech.jts.simplify.VWSimplifier;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+/**
+ * Tests that operations on geometries using a {@link PackedCoordinateSequenceFactory}
+ * produce results which use the same factory.
+ */
+public class PackedCoordinateSequenceOperationTest extends GeometryTestCase {
+  
+  public static void main(String args[]) {
+    TestRunner.run(PackedCoordinateSequenceOperationTest.class);
+  }
+
+  private static final String POLY_A = "POLYGON ((10 10, 10 90, 90 90, 90 10, 10 10), (30 30, 50 30, 50 50, 30 50, 30 30))";
+  private static final String POLY_B = "POLYGON ((50 0, 50 60, 120 60, 120 0, 50 0))";
+  private static final String LINE = "LINESTRING (0 0, 10 1, 20 0, 30 1, 40 0, 50 20, 60 0)";
+
+  public PackedCoordinateSequenceOperationTest(String name) { 
+    super(name, PackedCoordinateSequenceFactory.DOUBLE_FACTORY); 
+  }
+
+  public void testOverlayNG() {
+    Geometry a = read(POLY_A);
+    Geometry b = read(POLY_B);
+    checkPacked(OverlayNGRobust.overlay(a, b, OverlayNG.INTERSECTION));
+    checkPacked(OverlayNGRobust.overlay(a, b, OverlayNG.UNION));
+    checkPacked(OverlayNGRobust.overlay(read(LINE), b, OverlayNG.DIFFERENCE));
+  }
+
+  public void testBuffer() {
+    checkPacked(read(POLY_A).buffer(5));
+    checkPacked(read(LINE).buffer(2));
+    checkPacked(read("POINT (10 10)").buffer(2));
+    checkPacked(OffsetCurve.getCurve(read(LINE), 2));
+  }
+
+  public void testSimplify() {
+    checkPacked(DouglasPeuckerSimplifier.simplify(read(POLY_A), 5));
+    checkPacked(TopologyPreservingSimplifier.simplify(read(LINE), 5));
+    checkPacked(VWSimplifier.simplify(read(LINE), 5));
+  }
+
+  public void testPrecisionReducer() {
+    PrecisionModel pm = new PrecisionModel(0.1);
+    checkPacked(GeometryPrecisionReducer.reduce(read(POLY_A), pm));
+    checkPacked(GeometryPrecisionReducer.reducePointwise(read(LINE), pm));
+  }
+
+  public void testSameResultAsArraySequences() throws ParseException {
+    WKTReader arrayReader = new WKTReader();
+    Geometry a = read(POLY_A);
+    Geometry b = read(POLY_B);
+    Geometry line = read(LINE);
+    Geometry aArray = arrayReader.read(POLY_A);
+    Geometry bArray = arrayReader.read(POLY_B);
+    Geometry lineArray = arrayReader.read(LINE);
+    PrecisionModel pm = new PrecisionModel(0.1);
+    
+    checkSame(OverlayNGRobust.overlay(aArray, bArray, OverlayNG.INTERSECTION), 
+        OverlayNGRobust.overlay(a, b, OverlayNG.INTERSECTION));
+    checkSame(OverlayNGRobust.overlay(lineArray, bArray, OverlayNG.DIFFERENCE), 
+        OverlayNGRobust.overlay(line, b, OverlayNG.DIFFERENCE));
+    checkSame(aArray.buffer(5), a.buffer(5));
+    checkSame(OffsetCurve.getCurve(lineArray, 2), OffsetCurve.getCurve(line, 2));
+    checkSame(DouglasPeuckerSimplifier.simplify(aArray, 5), DouglasPeuckerSimplifier.simplify(a, 5));
+    checkSame(TopologyPreservingSimplifier.simplify(lineArray, 5), TopologyPreservingSimplifier.simplify(line, 5));
+    checkSame(GeometryPrecisionReducer.reduce(aArray, pm), GeometryPrecisionReducer.reduce(a, pm));
+    checkSame(GeometryPrecisionReducer.reducePointwise(lineArray, pm), GeometryPrecisionReducer.reducePointwise(line, pm));
+  }
+
+  private static void checkSame(Geometry expected, Geometry actual) {
+    checkPacked(actual);
+    assertTrue(expected.equalsExact(actual));
+  }
+
+  private static void checkPacked(Geometry geom) {
+    assertTrue(geom.getFactory().getCoordinateSequenceFactory() instanceof PackedCoordinateSequenceFactory);
+    assertFalse(geom.isEmpty());
+    geom.apply(new CoordinateSequenceFilter() {
+      public void filter(CoordinateSequence seq, int i) {
+        assertTrue(seq instanceof PackedCoordinateSequence.Double);
+      }
+      public boolean isDone() { return false; }
+      public boolean isGeometryChanged() { return false; }
+    });
+  }
+}
@@ -224,6 +224,33 @@ public class PackedCoordinateSequenceTest
     polygonPacked.intersection(polygonArray);
   }
   
+  public void testCoordinateCache() {
+    PackedCoordinateSequence seq = (PackedCoordinateSequence) PackedCoordinateSequenceFactory.DOUBLE_FACTORY.create(5, 2);
+    initProgression(seq);
+    boolean wasCacheEnabled = PackedCoordinateSequence.isCacheEnabled();
+    // not cached by default
+    if (System.getProperty(PackedCoordinateSequence.CACHE_PROPERTY_NAME) == null) {
+      assertFalse(wasCacheEnabled);
+    }
+    try {
+      PackedCoordinateSequence.setCacheEnabled("false");
+      assertNotSame(seq.toCoordinateArray(), seq.toCoordinateArray());
+      
+      PackedCoordinateSequence.setCacheEnabled("true");
+      Coordinate[] pts = seq.toCoordinateArray();
+      assertSame(pts, seq.toCoordinateArray());
+      assertSame(pts[2], seq.getCoordinate(2));
+      // setters clear the cache
+      seq.setX(2, 99);
+      Coordinate[] pts2 = seq.toCoordinateArray();
+      assertNotSame(pts, pts2);
+      assertEquals(99.0, pts2[2].x);
+    }
+    finally {
+      PackedCoordinateSequence.setCacheEnabled(Boolean.toString(wasCacheEnabled));
+    }
+  }
+  
   public void checkDimInvalid(CoordinateSequenceFactory factory)
   {
     try {
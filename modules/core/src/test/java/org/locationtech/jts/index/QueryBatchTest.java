@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.hprtree.HPRtree;
+import org.locationtech.jts.index.quadtree.Quadtree;
+import org.locationtech.jts.index.strtree.STRtree;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+public class QueryBatchTest extends TestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(QueryBatchTest.class);
+  }
+
+  public QueryBatchTest(String name) {
+    super(name);
+  }
+
+  public void testSTRtree() {
+    STRtree tree = new STRtree(4);
+    Envelope[] items = randomEnvelopes(1000, 10, 1);
+    for (int i = 0; i < items.length; i++) {
+      tree.insert(items[i], i);
+    }
+    checkBatch(tree, items, randomEnvelopes(500, 20, 2));
+  }
+
+  public void testHPRtree() {
+    HPRtree tree = new HPRtree(4);
+    Envelope[] items = randomEnvelopes(1000, 10, 1);
+    for (int i = 0; i < items.length; i++) {
+      tree.insert(items[i], i);
+    }
+    checkBatch(tree, items, randomEnvelopes(500, 20, 2));
+  }
+
+  public void testHPRtreeSmall() {
+    HPRtree tree = new HPRtree();
+    Envelope[] items = randomEnvelopes(5, 10, 1);
+    for (int i = 0; i < items.length; i++) {
+      tree.insert(items[i], i);
+    }
+    checkBatch(tree, items, randomEnvelopes(50, 20, 2));
+  }
+
+  public void testQuadtree() {
+    Quadtree tree = new Quadtree();
+    Envelope[] items = randomEnvelopes(1000, 10, 1);
+    for (int i = 0; i < items.length; i++) {
+      tree.insert(items[i], i);
+    }
+    Envelope[] queries = randomEnvelopes(500, 20, 2);
+    // Quadtree queries may return non-intersecting items,
+    // so compare to single queries
+    List<String> expected = new ArrayList<String>();
+    for (int q = 0; q < queries.length; q++) {
+      List result = tree.query(queries[q]);
+      for (Object item : result) {
+        expected.add(q + ":" + item);
+      }
+    }
+    Collections.sort(expected);
+    List<String> actual = new ArrayList<String>();
+    QueryBatch.query(tree, queries, collector(actual));
+    Collections.sort(actual);
+    assertEquals(expected, actual);
+  }
+
+  public void testGroupSize() {
+    STRtree tree = new STRtree();
+    Envelope[] items = randomEnvelopes(1000, 10, 1);
+    for (int i = 0; i < items.length; i++) {
+      tree.insert(items[i], i);
+    }
+    Envelope[] queries = randomEnvelopes(100, 20, 2);
+    List<String> expected = bruteForce(items, queries);
+    for (int groupSize = 1; groupSize <= 128; groupSize *= 4) {
+      List<String> actual = new ArrayList<String>();
+      tree.query(new QueryBatch(queries, groupSize), collector(actual));
+      Collections.sort(actual);
+      assertEquals(expected, actual);
+    }
+  }
+
+  public void testEmptyIndex() {
+    List<String> actual = new ArrayList<String>();
+    QueryBatch.query(new STRtree(), randomEnvelopes(10, 10, 1), collector(actual));
+    QueryBatch.query(new HPRtree(), randomEnvelopes(10, 10, 1), collector(actual));
+    assertTrue(actual.isEmpty());
+  }
+
+  public void testNullQueries() {
+    STRtree tree = new STRtree();
+    tree.insert(new Envelope(0, 1, 0, 1), 0);
+    Envelope[] queries = new Envelope[] { 
+        null, new Envelope(), new Envelope(0, 2, 0, 2) 
+    };
+    List<String> actual = new ArrayList<String>();
+    QueryBatch.query(tree, queries, collector(actual));
+    assertEquals(1, actual.size());
+    assertEquals("2:0", actual.get(0));
+  }
+
+  private void checkBatch(SpatialIndex index, Envelope[] items, Envelope[] queries) {
+    List<String> expected = bruteForce(items, queries);
+    List<String> actual = new ArrayList<String>();
+    QueryBatch.query(index, queries, collector(actual));
+    Collections.sort(actual);
+    assertEquals(expected, actual);
+  }
+
+  private static BatchItemVisitor collector(final List<String> pairs) {
+    return new BatchItemVisitor() {
+      public void visitItem(int queryIndex, Object item) {
+        pairs.add(queryIndex + ":" + item);
+      }
+    };
+  }
+
+  private static List<String> bruteForce(Envelope[] items, Envelope[] queries) {
+    List<String> pairs = new ArrayList<String>();
+    for (int q = 0; q < queries.length; q++) {
+      for (int i = 0; i < items.length; i++) {
+        if (queries[q].intersects(items[i])) {
+          pairs.add(q + ":" + i);
+        }
+      }
+    }
+    Collections.sort(pairs);
+    return pairs;
+  }
+
+  private static Envelope[] randomEnvelopes(int n, double size, long seed) {
+    Random random = new Random(seed);
+    Envelope[] envs = new Envelope[n];
+    for (int i = 0; i < n; i++) {
+      double x = 1000 * random.nextDouble();
+      double y = 1000 * random.nextDouble();
+      envs[i] = new Envelope(x, x + size * random.nextDouble(), y, y + size * random.nextDouble());
+    }
+    return envs;
+  }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.index;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+import org.locationtech.jts.index.hprtree.HPRtree;
+import org.locationtech.jts.index.strtree.STRtree;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+public class SpatialJoinTest extends TestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(SpatialJoinTest.class);
+  }
+
+  private GeometryFactory geomFact = new GeometryFactory();
+  
+  public SpatialJoinTest(String name) {
+    super(name);
+  }
+
+  public void testSTRtree() {
+    checkJoin("STRtree", 1000, 500, 4, null);
+    checkJoin("STRtree", 1000, 500, 10, null);
+  }
+
+  public void testSTRtreeSmall() {
+    checkJoin("STRtree", 5, 1000, 10, null);
+    checkJoin("STRtree", 1000, 3, 10, null);
+  }
+
+  public void testSTRtreeParallel() {
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      checkJoin("STRtree", 2000, 1000, 4, pool);
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
+  public void testHPRtree() {
+    checkJoin("HPRtree", 1000, 500, 4, null);
+    checkJoin("HPRtree", 1000, 500, 16, null);
+  }
+
+  public void testHPRtreeSmall() {
+    checkJoin("HPRtree", 5, 1000, 16, null);
+    checkJoin("HPRtree", 1000, 3, 16, null);
+    checkJoin("HPRtree", 3, 5, 16, null);
+  }
+
+  public void testHPRtreeParallel() {
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      checkJoin("HPRtree", 2000, 1000, 4, pool);
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
+  public void testEmpty() {
+    assertTrue(SpatialJoin.join(new STRtree(), new STRtree()).isEmpty());
+    assertTrue(SpatialJoin.join(new HPRtree(), new HPRtree()).isEmpty());
+  }
+
+  public void testMixedIndexTypes() {
+    try {
+      new SpatialJoin(new STRtree(), new HPRtree());
+      fail();
+    }
+    catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testPointsInPolygons() {
+    List<Geometry> polys = new ArrayList<Geometry>();
+    for (int i = 0; i < 10; i++) {
+      for (int j = 0; j < 10; j++) {
+        polys.add(geomFact.createPoint(new Coordinate(100 * i + 50, 100 * j + 50)).buffer(50));
+      }
+    }
+    Random random = new Random(5);
+    List<Geometry> pts = new ArrayList<Geometry>();
+    for (int i = 0; i < 2000; i++) {
+      pts.add(geomFact.createPoint(new Coordinate(1000 * random.nextDouble(), 1000 * random.nextDouble())));
+    }
+    List<String> expected = new ArrayList<String>();
+    for (int i = 0; i < polys.size(); i++) {
+      for (int j = 0; j < pts.size(); j++) {
+        if (polys.get(i).contains(pts.get(j))) {
+          expected.add(i + ":" + j);
+        }
+      }
+    }
+    Collections.sort(expected);
+    
+    STRtree polyTree = new STRtree();
+    for (int i = 0; i < polys.size(); i++) {
+      Geometry poly = polys.get(i);
+      polyTree.insert(poly.getEnvelopeInternal(), PreparedGeometryFactory.prepare(poly));
+    }
+    STRtree ptTree = new STRtree();
+    for (int i = 0; i < pts.size(); i++) {
+      ptTree.insert(pts.get(i).getEnvelopeInternal(), pts.get(i));
+    }
+    SpatialJoin join = new SpatialJoin(polyTree, ptTree);
+    join.setPredicate(SpatialJoin.CONTAINS);
+    List<String> actual = new ArrayList<String>();
+    for (Object[] pair : join.getPairs()) {
+      Geometry poly = ((PreparedGeometry) pair[0]).getGeometry();
+      actual.add(polys.indexOf(poly) + ":" + pts.indexOf(pair[1]));
+    }
+    Collections.sort(actual);
+    assertEquals(expected, actual);
+    
+    // non-prepared items give the same result
+    STRtree polyTree2 = new STRtree();
+    for (int i = 0; i < polys.size(); i++) {
+      polyTree2.insert(polys.get(i).getEnvelopeInternal(), polys.get(i));
+    }
+    SpatialJoin join2 = new SpatialJoin(polyTree2, ptTree);
+    join2.setPredicate(SpatialJoin.CONTAINS);
+    assertEquals(expected.size(), join2.getPairs().size());
+  }
+
+  private void checkJoin(String indexType, int n1, int n2, int nodeCapacity, ForkJoinPool pool) {
+    Envelope[] envs1 = randomEnvelopes(n1, 20, 1);
+    Envelope[] envs2 = randomEnvelopes(n2, 20, 2);
+    List<String> expected = new ArrayList<String>();
+    for (int i = 0; i < n1; i++) {
+      for (int j = 0; j < n2; j++) {
+        if (envs1[i].intersects(envs2[j])) {
+          expected.add(i + ":" + j);
+        }
+      }
+    }
+    Collections.sort(expected);
+
+    SpatialIndex index1 = createIndex(indexType, envs1, nodeCapacity);
+    SpatialIndex index2 = createIndex(indexType, envs2, nodeCapacity);
+    SpatialJoin join = new SpatialJoin(index1, index2);
+    join.setPool(pool);
+    List<String> actual = new ArrayList<String>();
+    for (Object[] pair : join.getPairs()) {
+      actual.add(pair[0] + ":" + pair[1]);
+    }
+    Collections.sort(actual);
+    assertEquals(expected, actual);
+  }
+
+  private static SpatialIndex createIndex(String indexType, Envelope[] envs, int nodeCapacity) {
+    SpatialIndex index;
+    if (indexType.equals("STRtree")) {
+      index = new STRtree(nodeCapacity);
+    }
+    else {
+      index = new HPRtree(nodeCapacity);
+    }
+    for (int i = 0; i < envs.length; i++) {
+      index.insert(envs[i], i);
+    }
+    return index;
+  }
+
+  private static Envelope[] randomEnvelopes(int n, double size, long seed) {
+    Random random = new Random(seed);
+    Envelope[] envs = new Envelope[n];
+    for (int i = 0; i < n; i++) {
+      double x = 1000 * random.nextDouble();
+      double y = 1000 * random.nextDouble();
+      envs[i] = new Envelope(x, x + size * random.nextDouble(), y, y + size * random.nextDouble());
+    }
+    return envs;
+  }
+}
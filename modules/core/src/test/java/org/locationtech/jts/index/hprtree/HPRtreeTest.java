@@ -12,8 +12,10 @@
  */
 package org.locationtech.jts.index.hprtree;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Random;
 
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Envelope;
@@ -21,6 +23,7 @@ import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.index.ItemVisitor;
 import org.locationtech.jts.index.SpatialIndexTester;
+import org.locationtech.jts.index.strtree.GeometryItemDistance;
 
 import junit.framework.TestCase;
 
@@ -143,6 +146,97 @@ public class HPRtreeTest extends TestCase {
     queryGrid( 100, new HPRtree(2) );
   }
 
+  public void testNearestNeighbourEmpty() {
+    HPRtree t = new HPRtree();
+    Geometry q = factory.createPoint(new Coordinate(1, 1));
+    assertNull(t.nearestNeighbour(q.getEnvelopeInternal(), q, new GeometryItemDistance()));
+    assertEquals(0, t.nearestNeighbour(q.getEnvelopeInternal(), q, new GeometryItemDistance(), 3).length);
+    assertTrue(t.queryWithinDistance(q.getEnvelopeInternal(), q, new GeometryItemDistance(), 10).isEmpty());
+  }
+
+  public void testNearestNeighbour() {
+    checkNearestNeighbour(10, 4);
+    checkNearestNeighbour(2000, 16);
+    checkNearestNeighbour(2000, 3);
+  }
+
+  public void testQueryWithinDistance() {
+    checkQueryWithinDistance(10, 16);
+    checkQueryWithinDistance(2000, 16);
+    checkQueryWithinDistance(2000, 5);
+  }
+
+  private void checkNearestNeighbour(int numItems, int nodeCapacity) {
+    Geometry[] geoms = randomLines(numItems);
+    HPRtree t = createTree(geoms, nodeCapacity);
+    Random rnd = new Random(17);
+    for (int i = 0; i < 20; i++) {
+      Geometry q = factory.createPoint(new Coordinate(100 * rnd.nextDouble(), 100 * rnd.nextDouble()));
+      double[] dist = sortedDistances(geoms, q);
+      
+      Object nn1 = t.nearestNeighbour(q.getEnvelopeInternal(), q, new GeometryItemDistance());
+      assertEquals(dist[0], ((Geometry) nn1).distance(q));
+
+      int k = 7;
+      Object[] nn = t.nearestNeighbour(q.getEnvelopeInternal(), q, new GeometryItemDistance(), k);
+      assertEquals(Math.min(k, geoms.length), nn.length);
+      for (int j = 0; j < nn.length; j++) {
+        assertEquals(dist[j], ((Geometry) nn[j]).distance(q));
+      }
+    }
+    Geometry q = factory.createPoint(new Coordinate(50, 50));
+    assertEquals(numItems, 
+        t.nearestNeighbour(q.getEnvelopeInternal(), q, new GeometryItemDistance(), numItems + 5).length);
+  }
+
+  private void checkQueryWithinDistance(int numItems, int nodeCapacity) {
+    Geometry[] geoms = randomLines(numItems);
+    HPRtree t = createTree(geoms, nodeCapacity);
+    Random rnd = new Random(19);
+    for (int i = 0; i < 20; i++) {
+      Geometry q = factory.createPoint(new Coordinate(100 * rnd.nextDouble(), 100 * rnd.nextDouble()));
+      double maxDist = 10 * rnd.nextDouble();
+      int expected = 0;
+      for (Geometry g : geoms) {
+        if (g.distance(q) <= maxDist) expected++;
+      }
+      List result = t.queryWithinDistance(q.getEnvelopeInternal(), q, new GeometryItemDistance(), maxDist);
+      assertEquals(expected, result.size());
+      for (Object item : result) {
+        assertTrue(((Geometry) item).distance(q) <= maxDist);
+      }
+    }
+  }
+
+  private Geometry[] randomLines(int n) {
+    Random rnd = new Random(13);
+    Geometry[] geoms = new Geometry[n];
+    for (int i = 0; i < n; i++) {
+      double x = 100 * rnd.nextDouble();
+      double y = 100 * rnd.nextDouble();
+      geoms[i] = factory.createLineString(new Coordinate[] {
+          new Coordinate(x, y), new Coordinate(x + 2 * rnd.nextDouble(), y + 2 * rnd.nextDouble()) });
+    }
+    return geoms;
+  }
+
+  private static HPRtree createTree(Geometry[] geoms, int nodeCapacity) {
+    HPRtree t = new HPRtree(nodeCapacity);
+    for (Geometry g : geoms) {
+      t.insert(g.getEnvelopeInternal(), g);
+    }
+    return t;
+  }
+
+  private static double[] sortedDistances(Geometry[] geoms, Geometry q) {
+    double[] dist = new double[geoms.length];
+    for (int i = 0; i < geoms.length; i++) {
+      dist[i] = geoms[i].distance(q);
+    }
+    Arrays.sort(dist);
+    return dist;
+  }
+
   private void queryGrid(int size, HPRtree t) {
     for (int i = 0; i < size; i++ ) {
       t.insert(new Envelope(i, i+1, i, i+1), i);
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.index.hprtree;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Envelope;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+public class PackedHPRtreeFileTest extends TestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(PackedHPRtreeFileTest.class);
+  }
+
+  private File file;
+
+  public PackedHPRtreeFileTest(String name) {
+    super(name);
+  }
+
+  public void setUp() throws IOException {
+    file = File.createTempFile("hprtree", ".bin");
+    file.deleteOnExit();
+  }
+
+  public void tearDown() {
+    file.delete();
+  }
+
+  public void testEmpty() throws IOException {
+    PackedHPRtree tree = writeAndOpen(new PackedHPRtree(new double[0]));
+    assertEquals(0, tree.size());
+    assertTrue(tree.getExtent().isNull());
+    assertEquals(0, tree.query(new Envelope(0, 1, 0, 1)).length);
+  }
+
+  public void testSmall() throws IOException {
+    PackedHPRtree tree = writeAndOpen(new PackedHPRtree(new double[] {
+        0, 0, 1, 1,
+        1, 1, 2, 2,
+        2, 2, 3, 3
+    }));
+    assertEquals(3, tree.size());
+    assertEquals(new Envelope(0, 3, 0, 3), tree.getExtent());
+    assertEquals(3, tree.query(new Envelope(1, 2, 1, 2)).length);
+    assertEquals(0, tree.query(new Envelope(9, 10, 9, 10)).length);
+  }
+
+  public void testEnvelopes() throws IOException {
+    Random random = new Random(31);
+    int n = 10000;
+    double[] bounds = new double[4 * n];
+    for (int i = 0; i < n; i++) {
+      double x = 1000 * random.nextDouble();
+      double y = 1000 * random.nextDouble();
+      bounds[4*i] = x;
+      bounds[4*i+1] = y;
+      bounds[4*i+2] = x + 10 * random.nextDouble();
+      bounds[4*i+3] = y + 10 * random.nextDouble();
+    }
+    checkSameQueries(new PackedHPRtree(bounds, 8));
+  }
+
+  public void testPoints() throws IOException {
+    Random random = new Random(37);
+    int n = 10001;
+    double[] xy = new double[2 * n];
+    for (int i = 0; i < xy.length; i++) {
+      xy[i] = 1000 * random.nextDouble();
+    }
+    checkSameQueries(PackedHPRtree.createFromPoints(xy));
+  }
+
+  public void testInvalidFile() throws IOException {
+    FileOutputStream out = new FileOutputStream(file);
+    out.write(new byte[100]);
+    out.close();
+    try {
+      PackedHPRtreeFile.open(file);
+      fail();
+    }
+    catch (IOException e) {
+      // expected
+    }
+  }
+
+  public void testTruncatedFile() throws IOException {
+    PackedHPRtree tree = new PackedHPRtree(new double[] { 0, 0, 1, 1, 2, 2, 3, 3 });
+    PackedHPRtreeFile.write(tree, file);
+    RandomAccessFile raf = new RandomAccessFile(file, "rw");
+    raf.setLength(file.length() - 4);
+    raf.close();
+    try {
+      PackedHPRtreeFile.open(file);
+      fail();
+    }
+    catch (IOException e) {
+      // expected
+    }
+  }
+
+  public void testInvalidHeader() throws IOException {
+    // node capacity
+    checkInvalidHeaderValue(8, 1);
+    // item stride
+    checkInvalidHeaderValue(12, 3);
+    // item count
+    checkInvalidHeaderValue(16, -1);
+    checkInvalidHeaderValue(16, Integer.MAX_VALUE);
+    // layer index count
+    checkInvalidHeaderValue(20, -1);
+    checkInvalidHeaderValue(20, 1);
+    // node value count
+    checkInvalidHeaderValue(24, -4);
+    checkInvalidHeaderValue(24, 0);
+    // first layer index
+    checkInvalidHeaderValue(64, 4);
+  }
+
+  private void checkInvalidHeaderValue(int offset, int value) throws IOException {
+    double[] bounds = new double[4 * 100];
+    for (int i = 0; i < bounds.length; i++) {
+      bounds[i] = i;
+    }
+    PackedHPRtreeFile.write(new PackedHPRtree(bounds), file);
+    RandomAccessFile raf = new RandomAccessFile(file, "rw");
+    raf.seek(offset);
+    // the file is little-endian
+    raf.writeInt(Integer.reverseBytes(value));
+    raf.close();
+    try {
+      PackedHPRtreeFile.open(file);
+      fail();
+    }
+    catch (IOException e) {
+      // expected
+    }
+  }
+
+  private void checkSameQueries(PackedHPRtree tree) throws IOException {
+    PackedHPRtree mapped = writeAndOpen(tree);
+    assertEquals(tree.size(), mapped.size());
+    assertEquals(tree.getNodeCapacity(), mapped.getNodeCapacity());
+    assertEquals(tree.getExtent(), mapped.getExtent());
+    assertTrue(Arrays.equals(tree.getBounds(), mapped.getBounds()));
+    Random random = new Random(41);
+    for (int q = 0; q < 100; q++) {
+      double x = 1000 * random.nextDouble();
+      double y = 1000 * random.nextDouble();
+      Envelope queryEnv = new Envelope(x, x + 50, y, y + 50);
+      assertTrue(Arrays.equals(tree.query(queryEnv), mapped.query(queryEnv)));
+    }
+  }
+
+  private PackedHPRtree writeAndOpen(PackedHPRtree tree) throws IOException {
+    PackedHPRtreeFile.write(tree, file);
+    return PackedHPRtreeFile.open(file);
+  }
+}
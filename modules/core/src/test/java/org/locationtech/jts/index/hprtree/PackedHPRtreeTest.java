@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.index.hprtree;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Envelope;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+public class PackedHPRtreeTest extends TestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(PackedHPRtreeTest.class);
+  }
+
+  public PackedHPRtreeTest(String name) {
+    super(name);
+  }
+
+  public void testEmpty() {
+    PackedHPRtree tree = new PackedHPRtree(new double[0]);
+    assertEquals(0, tree.size());
+    assertEquals(0, tree.query(new Envelope(0, 1, 0, 1)).length);
+  }
+
+  public void testSmall() {
+    PackedHPRtree tree = new PackedHPRtree(new double[] {
+        0, 0, 1, 1,
+        1, 1, 2, 2,
+        2, 2, 3, 3
+    });
+    assertEquals(3, tree.size());
+    checkQuery(tree, new Envelope(1, 2, 1, 2), 0, 1, 2);
+    checkQuery(tree, new Envelope(0.1, 0.2, 0.1, 0.2), 0);
+    checkQuery(tree, new Envelope(9, 10, 9, 10));
+  }
+
+  public void testGrid() {
+    int size = 100;
+    double[] bounds = new double[4 * size];
+    for (int i = 0; i < size; i++) {
+      bounds[4*i] = i;
+      bounds[4*i+1] = i;
+      bounds[4*i+2] = i + 1;
+      bounds[4*i+3] = i + 1;
+    }
+    PackedHPRtree tree = new PackedHPRtree(bounds, 4);
+    checkQuery(tree, new Envelope(5, 6, 5, 6), 4, 5, 6);
+    checkQuery(tree, new Envelope(25, 26, 25, 26), 24, 25, 26);
+    assertEquals(11, tree.query(new Envelope(0, 10, 0, 10)).length);
+    assertEquals(100, tree.query(new Envelope(-1, 101, -1, 101)).length);
+  }
+
+  public void testPoints() {
+    double[] xy = new double[] { 0, 0, 10, 10, 5, 5, 10, 0 };
+    PackedHPRtree tree = PackedHPRtree.createFromPoints(xy, 2);
+    assertEquals(4, tree.size());
+    checkQuery(tree, new Envelope(4, 6, 4, 6), 2);
+    checkQuery(tree, new Envelope(9, 11, -1, 11), 1, 3);
+    checkQuery(tree, new Envelope(1, 2, 1, 2));
+  }
+
+  public void testInvalidArrayLength() {
+    try {
+      new PackedHPRtree(new double[] { 0, 0, 1 });
+      fail();
+    }
+    catch (IllegalArgumentException e) {
+      // expected
+    }
+  }
+
+  public void testRandomEnvelopes() {
+    checkRandomEnvelopes(1000, 16);
+    checkRandomEnvelopes(10000, 2);
+    checkRandomEnvelopes(10000, 16);
+  }
+
+  public void testRandomPoints() {
+    Random random = new Random(17);
+    int n = 10000;
+    double[] xy = new double[2 * n];
+    for (int i = 0; i < xy.length; i++) {
+      xy[i] = 1000 * random.nextDouble();
+    }
+    PackedHPRtree tree = PackedHPRtree.createFromPoints(xy);
+    for (int q = 0; q < 100; q++) {
+      double x = 1000 * random.nextDouble();
+      double y = 1000 * random.nextDouble();
+      Envelope queryEnv = new Envelope(x, x + 50, y, y + 50);
+      int[] expected = bruteForceQueryPoints(xy, queryEnv);
+      checkQuery(tree, queryEnv, expected);
+    }
+  }
+
+  private void checkRandomEnvelopes(int n, int nodeCapacity) {
+    Random random = new Random(n);
+    double[] bounds = new double[4 * n];
+    for (int i = 0; i < n; i++) {
+      double x = 1000 * random.nextDouble();
+      double y = 1000 * random.nextDouble();
+      bounds[4*i] = x;
+      bounds[4*i+1] = y;
+      bounds[4*i+2] = x + 10 * random.nextDouble();
+      bounds[4*i+3] = y + 10 * random.nextDouble();
+    }
+    PackedHPRtree tree = new PackedHPRtree(bounds, nodeCapacity);
+    assertEquals(n, tree.size());
+    for (int q = 0; q < 100; q++) {
+      double x = 1000 * random.nextDouble();
+      double y = 1000 * random.nextDouble();
+      Envelope queryEnv = new Envelope(x, x + 50, y, y + 50);
+      int[] expected = bruteForceQuery(bounds, queryEnv);
+      checkQuery(tree, queryEnv, expected);
+    }
+  }
+
+  private static int[] bruteForceQuery(double[] bounds, Envelope queryEnv) {
+    int n = bounds.length / 4;
+    int[] result = new int[n];
+    int count = 0;
+    for (int i = 0; i < n; i++) {
+      Envelope env = new Envelope(bounds[4*i], bounds[4*i+2], bounds[4*i+1], bounds[4*i+3]);
+      if (env.intersects(queryEnv))
+        result[count++] = i;
+    }
+    return Arrays.copyOf(result, count);
+  }
+
+  private static int[] bruteForceQueryPoints(double[] xy, Envelope queryEnv) {
+    int n = xy.length / 2;
+    int[] result = new int[n];
+    int count = 0;
+    for (int i = 0; i < n; i++) {
+      if (queryEnv.intersects(xy[2*i], xy[2*i+1]))
+        result[count++] = i;
+    }
+    return Arrays.copyOf(result, count);
+  }
+
+  private void checkQuery(PackedHPRtree tree, Envelope queryEnv, int... expected) {
+    int[] result = tree.query(queryEnv);
+    Arrays.sort(result);
+    int[] expectedSorted = expected.clone();
+    Arrays.sort(expectedSorted);
+    assertTrue("Expected " + Arrays.toString(expectedSorted) + " but found " + Arrays.toString(result),
+        Arrays.equals(expectedSorted, result));
+  }
+}
@@ -14,6 +14,8 @@ package org.locationtech.jts.index.kdtree;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.CoordinateArrays;
@@ -103,6 +105,223 @@ public class KdTreeTest extends TestCase {
     assertTrue( depth <= size );
   }
   
+  public void testBulkLoadSameAsInsert() {
+    Coordinate[] pts = randomGridPoints(2000, 30, 1);
+    Integer[] data = new Integer[pts.length];
+    for (int i = 0; i < data.length; i++) {
+      data[i] = i;
+    }
+    KdTree bulk = new KdTree(pts, data, 0, null);
+    KdTree incr = new KdTree();
+    for (int i = 0; i < pts.length; i++) {
+      incr.insert(pts[i], data[i]);
+    }
+    assertEquals(incr.size(), bulk.size());
+    checkSameNodes(incr, bulk, new Envelope(-1, 31, -1, 31));
+    checkSameNodes(incr, bulk, new Envelope(3, 7.5, 12, 20));
+  }
+
+  public void testBulkLoadBalanced() {
+    // monotonic points create a degenerate tree when inserted
+    int n = 10000;
+    Coordinate[] pts = new Coordinate[n];
+    for (int i = 0; i < n; i++) {
+      pts[i] = new Coordinate(i, 2 * i);
+    }
+    KdTree index = new KdTree(pts, 0);
+    assertEquals(n, index.size());
+    assertTrue(index.depth() <= 14);
+    for (int i = 0; i < n; i++) {
+      assertNotNull(index.query(pts[i]));
+    }
+    checkQuery(index, pts, new Envelope(100, 200, 0, 1000));
+  }
+
+  public void testBulkLoadCollinear() {
+    int n = 10000;
+    Coordinate[] pts = new Coordinate[n];
+    for (int i = 0; i < n; i++) {
+      pts[i] = new Coordinate(5, i);
+    }
+    KdTree index = new KdTree(pts, 0);
+    assertEquals(n, index.size());
+    assertTrue(index.depth() <= 28);
+    checkQuery(index, pts, new Envelope(4, 6, 100, 300));
+  }
+
+  public void testBulkLoadRepeated() {
+    int n = 100000;
+    Coordinate[] pts = new Coordinate[n];
+    for (int i = 0; i < n; i++) {
+      pts[i] = new Coordinate(1, 1);
+    }
+    KdTree index = new KdTree(pts, 0);
+    assertEquals(1, index.size());
+    assertEquals(n, index.getRoot().getCount());
+    
+    KdTree indexTol = new KdTree(pts, 0.1);
+    assertEquals(1, indexTol.size());
+    assertEquals(n, indexTol.getRoot().getCount());
+  }
+
+  public void testBulkLoadFirstData() {
+    Coordinate[] pts = new Coordinate[] {
+        new Coordinate(1, 1), new Coordinate(2, 2), new Coordinate(1, 1), new Coordinate(1, 2)
+    };
+    KdTree index = new KdTree(pts, new Object[] { "a", "b", "c", "d" }, 0, null);
+    KdNode node = index.query(new Coordinate(1, 1));
+    assertEquals(2, node.getCount());
+    assertEquals("a", node.getData());
+  }
+
+  public void testBulkLoadTolerance() {
+    double tolerance = 0.8;
+    Coordinate[] pts = randomGridPoints(3000, 50, 10);
+    KdTree index = new KdTree(pts, tolerance);
+    List nodes = index.query(new Envelope(-1, 51, -1, 51));
+    int count = 0;
+    for (Object o : nodes) {
+      count += ((KdNode) o).getCount();
+    }
+    assertEquals(pts.length, count);
+    // nodes are only created beyond the tolerance of existing nodes
+    Coordinate[] nodePts = KdTree.toCoordinates(nodes);
+    for (int i = 0; i < nodePts.length; i++) {
+      for (int j = i + 1; j < nodePts.length; j++) {
+        assertTrue(nodePts[i].distance(nodePts[j]) > tolerance);
+      }
+    }
+    // every point is within tolerance of a node
+    for (Coordinate p : pts) {
+      assertTrue(p.distance(index.nearestNeighbour(p).getCoordinate()) <= tolerance);
+    }
+  }
+
+  public void testBulkLoadParallel() {
+    Coordinate[] pts = randomGridPoints(100000, 1000, 1);
+    KdTree seq = new KdTree(pts, null, 0, null);
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      KdTree par = new KdTree(pts, null, 0, pool);
+      checkSameStructure(seq.getRoot(), par.getRoot());
+      KdTree parTol = new KdTree(pts, null, 0.5, pool);
+      KdTree seqTol = new KdTree(pts, null, 0.5, null);
+      checkSameStructure(seqTol.getRoot(), parTol.getRoot());
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
+  public void testBulkLoadEmpty() {
+    KdTree index = new KdTree(new Coordinate[0], 0);
+    assertTrue(index.isEmpty());
+    assertEquals(0, index.depth());
+    assertNull(index.nearestNeighbour(new Coordinate(1, 1)));
+  }
+
+  public void testNearestNeighbors() {
+    Coordinate[] pts = randomGridPoints(1000, 100, 4);
+    KdTree index = new KdTree(pts, 0);
+    KdTree incr = new KdTree();
+    for (Coordinate p : pts) {
+      incr.insert(p);
+    }
+    Coordinate[] uniquePts = KdTree.toCoordinates(index.query(new Envelope(-1, 101, -1, 101)));
+    Random rnd = new Random(7);
+    for (int i = 0; i < 50; i++) {
+      Coordinate q = new Coordinate(100 * rnd.nextDouble(), 100 * rnd.nextDouble());
+      checkNearest(index, uniquePts, q, 1);
+      checkNearest(index, uniquePts, q, 7);
+      checkNearest(incr, uniquePts, q, 7);
+    }
+    checkNearest(index, uniquePts, new Coordinate(50, 50), uniquePts.length + 10);
+    // a point in the index is its own nearest neighbour
+    assertTrue(index.nearestNeighbour(pts[17]).getCoordinate().equals2D(pts[17]));
+  }
+
+  public void testQueryWithinDistance() {
+    Coordinate[] pts = randomGridPoints(1000, 100, 1);
+    KdTree index = new KdTree(pts, 0);
+    Coordinate[] uniquePts = KdTree.toCoordinates(index.query(new Envelope(-1, 101, -1, 101)));
+    Random rnd = new Random(11);
+    for (int i = 0; i < 50; i++) {
+      Coordinate q = new Coordinate(100 * rnd.nextDouble(), 100 * rnd.nextDouble());
+      double distance = 10 * rnd.nextDouble();
+      int expected = 0;
+      for (Coordinate p : uniquePts) {
+        if (p.distance(q) <= distance) expected++;
+      }
+      List result = index.queryWithinDistance(q, distance);
+      assertEquals(expected, result.size());
+      for (Object node : result) {
+        assertTrue(((KdNode) node).getCoordinate().distance(q) <= distance);
+      }
+    }
+  }
+
+  private void checkNearest(KdTree index, Coordinate[] pts, final Coordinate q, int k) {
+    KdNode[] nn = index.nearestNeighbour(q, k);
+    Coordinate[] sorted = pts.clone();
+    Arrays.sort(sorted, new java.util.Comparator<Coordinate>() {
+      public int compare(Coordinate a, Coordinate b) {
+        int comp = Double.compare(a.distance(q), b.distance(q));
+        if (comp != 0) return comp;
+        return a.compareTo(b);
+      }
+    });
+    assertEquals(Math.min(k, pts.length), nn.length);
+    for (int i = 0; i < nn.length; i++) {
+      assertTrue(nn[i].getCoordinate().equals2D(sorted[i]));
+    }
+  }
+
+  private void checkSameNodes(KdTree expected, KdTree actual, Envelope queryEnv) {
+    List expectedNodes = expected.query(queryEnv);
+    List actualNodes = actual.query(queryEnv);
+    assertEquals(expectedNodes.size(), actualNodes.size());
+    for (Object o : expectedNodes) {
+      KdNode node = (KdNode) o;
+      KdNode actualNode = actual.query(node.getCoordinate());
+      assertEquals(node.getCount(), actualNode.getCount());
+      assertEquals(node.getData(), actualNode.getData());
+    }
+  }
+
+  private void checkSameStructure(KdNode expected, KdNode actual) {
+    if (expected == null) {
+      assertNull(actual);
+      return;
+    }
+    assertTrue(expected.getCoordinate().equals2D(actual.getCoordinate()));
+    assertEquals(expected.getCount(), actual.getCount());
+    checkSameStructure(expected.getLeft(), actual.getLeft());
+    checkSameStructure(expected.getRight(), actual.getRight());
+  }
+
+  private void checkQuery(KdTree index, Coordinate[] pts, Envelope queryEnv) {
+    int expected = 0;
+    for (Coordinate p : pts) {
+      if (queryEnv.contains(p)) expected++;
+    }
+    assertEquals(expected, index.query(queryEnv).size());
+  }
+
+  /**
+   * Creates random points, with ordinates rounded to a grid
+   * so that there are repeated points and points with equal ordinates.
+   */
+  private static Coordinate[] randomGridPoints(int n, double size, double gridSize) {
+    Random rnd = new Random(13);
+    Coordinate[] pts = new Coordinate[n];
+    for (int i = 0; i < n; i++) {
+      double x = gridSize * Math.round(size * rnd.nextDouble() / gridSize);
+      double y = gridSize * Math.round(size * rnd.nextDouble() / gridSize);
+      pts[i] = new Coordinate(x, y);
+    }
+    return pts;
+  }
+
   private void testQuery(String wktInput, double tolerance,
       Envelope queryEnv, String wktExpected) {
     KdTree index = build(wktInput, tolerance);
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.locationtech.jts.index.quadtree;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.ItemVisitor;
+import org.locationtech.jts.index.SpatialIndexTester;
+
+import test.jts.util.SerializationUtil;
+
+public class ConcurrentQuadtreeTest extends TestCase {
+  public static void main(String args[]) {
+    TestRunner.run(ConcurrentQuadtreeTest.class);
+  }
+
+  public ConcurrentQuadtreeTest(String name) {
+    super(name);
+  }
+
+  public void testSpatialIndex()
+  throws Exception
+  {
+    SpatialIndexTester tester = new SpatialIndexTester();
+    tester.setSpatialIndex(new ConcurrentQuadtree());
+    tester.init();
+    tester.run();
+    assertTrue(tester.isSuccess());
+  }
+  
+  public void testSerialization()
+  throws Exception
+  {
+    SpatialIndexTester tester = new SpatialIndexTester();
+    tester.setSpatialIndex(new ConcurrentQuadtree());
+    tester.init();
+    ConcurrentQuadtree tree = (ConcurrentQuadtree) tester.getSpatialIndex();
+    byte[] data = SerializationUtil.serialize(tree);
+    tree = (ConcurrentQuadtree) SerializationUtil.deserialize(data);
+    tester.setSpatialIndex(tree);
+    tester.run();
+    assertTrue(tester.isSuccess());
+  }
+
+  public void testNullQuery() {
+    ConcurrentQuadtree qt = new ConcurrentQuadtree();
+    assertTrue(qt.query(null).size() == 0);
+    qt.insert(new Envelope(0, 10, 0, 10), "some data");
+    assertTrue(qt.query(null).size() == 0);
+  }
+
+  public void testInsertRemove() {
+    ConcurrentQuadtree qt = new ConcurrentQuadtree();
+    Quadtree expected = new Quadtree();
+    List envs = new ArrayList();
+    Random rnd = new Random(13);
+    for (int i = 0; i < 1000; i++) {
+      Envelope env = randomEnvelope(rnd, i % 10 == 0 ? 0 : 10);
+      envs.add(env);
+      qt.insert(env, Integer.valueOf(i));
+      expected.insert(env, Integer.valueOf(i));
+    }
+    assertEquals(1000, qt.size());
+    assertEquals(expected.depth(), qt.depth());
+    checkQueries(qt, expected, envs, rnd);
+    
+    for (int i = 0; i < 1000; i += 2) {
+      Envelope env = (Envelope) envs.get(i);
+      assertTrue(qt.remove(env, Integer.valueOf(i)));
+      assertFalse(qt.remove(env, Integer.valueOf(i)));
+      expected.remove(env, Integer.valueOf(i));
+    }
+    assertEquals(500, qt.size());
+    assertEquals(500, qt.queryAll().size());
+    checkQueries(qt, expected, envs, rnd);
+    
+    for (int i = 1; i < 1000; i += 2) {
+      assertTrue(qt.remove((Envelope) envs.get(i), Integer.valueOf(i)));
+    }
+    assertTrue(qt.isEmpty());
+    assertEquals(1, qt.depth());
+  }
+
+  public void testUpdate() {
+    ConcurrentQuadtree qt = new ConcurrentQuadtree();
+    Envelope env1 = new Envelope(10, 20, 10, 20);
+    Envelope env2 = new Envelope(-200, -190, 50, 60);
+    qt.insert(env1, "a");
+    assertTrue(qt.update(env1, env2, "a"));
+    assertEquals(1, qt.size());
+    assertTrue(qt.query(env1).isEmpty());
+    assertEquals(1, qt.query(env2).size());
+    assertFalse(qt.update(env1, env2, "b"));
+    assertEquals(1, qt.size());
+  }
+  
+  public void testModifyEnvelopeAfterInsert() {
+    ConcurrentQuadtree qt = new ConcurrentQuadtree();
+    Envelope env = new Envelope(10, 20, 10, 20);
+    qt.insert(env, "a");
+    // reuse the envelope for another item
+    env.init(-200, -190, 50, 60);
+    qt.insert(env, "b");
+    env.init(500, 510, 500, 510);
+    assertEquals(1, qt.query(new Envelope(10, 20, 10, 20)).size());
+    assertEquals(1, qt.query(new Envelope(-200, -190, 50, 60)).size());
+    assertTrue(qt.query(env).isEmpty());
+    assertTrue(qt.update(new Envelope(10, 20, 10, 20), env, "a"));
+    env.init(0, 1, 0, 1);
+    assertEquals(1, qt.query(new Envelope(500, 510, 500, 510)).size());
+    assertTrue(qt.query(env).isEmpty());
+  }
+  
+  public void testQueryDuringUpdate() {
+    final ConcurrentQuadtree qt = new ConcurrentQuadtree();
+    for (int i = 0; i < 100; i++) {
+      qt.insert(new Envelope(i, i + 1, 0, 1), Integer.valueOf(i));
+    }
+    final int[] count = new int[1];
+    qt.query(new Envelope(0, 100, 0, 1), new ItemVisitor() {
+      public void visitItem(Object item) {
+        count[0]++;
+        int i = ((Integer) item).intValue();
+        qt.insert(new Envelope(i, i + 1, 0, 1), Integer.valueOf(i + 1000));
+      }
+    });
+    // query sees the snapshot at the time it started
+    assertEquals(100, count[0]);
+    assertEquals(200, qt.size());
+  }
+  
+  public void testConcurrentUpdates() throws Exception {
+    final ConcurrentQuadtree qt = new ConcurrentQuadtree();
+    final int numThreads = 4;
+    final int numItems = 2000;
+    final Envelope queryEnv = new Envelope(-1000, 1000, -1000, 1000);
+    final boolean[] isOk = new boolean[] { true };
+    Thread[] threads = new Thread[numThreads];
+    for (int t = 0; t < numThreads; t++) {
+      final int threadId = t;
+      threads[t] = new Thread() {
+        public void run() {
+          Random rnd = new Random(threadId);
+          for (int i = 0; i < numItems; i++) {
+            Envelope env = randomEnvelope(rnd, 10);
+            String item = threadId + "-" + i;
+            qt.insert(env, item);
+            if (! qt.query(env).contains(item)) 
+              isOk[0] = false;
+            if (i % 2 == 0 && ! qt.remove(env, item)) 
+              isOk[0] = false;
+            qt.query(queryEnv);
+          }
+        }
+      };
+    }
+    for (int t = 0; t < numThreads; t++) {
+      threads[t].start();
+    }
+    for (int t = 0; t < numThreads; t++) {
+      threads[t].join();
+    }
+    assertTrue(isOk[0]);
+    assertEquals(numThreads * numItems / 2, qt.size());
+    assertEquals(numThreads * numItems / 2, qt.query(queryEnv).size());
+  }
+
+  private void checkQueries(ConcurrentQuadtree qt, Quadtree expected, List envs, Random rnd) {
+    for (int i = 0; i < 100; i++) {
+      Envelope queryEnv = randomEnvelope(rnd, 100);
+      List result = qt.query(queryEnv);
+      // Quadtree returns a superset of the intersecting items
+      List candidates = expected.query(queryEnv);
+      assertTrue(candidates.containsAll(result));
+      for (Object item : expected.queryAll()) {
+        Envelope env = (Envelope) envs.get(((Integer) item).intValue());
+        if (env.intersects(queryEnv))
+          assertTrue(result.contains(item));
+      }
+    }
+  }
+
+  private static Envelope randomEnvelope(Random rnd, double size) {
+    double x = -500 + 1000 * rnd.nextDouble();
+    double y = -500 + 1000 * rnd.nextDouble();
+    return new Envelope(x, x + size * rnd.nextDouble(), y, y + size * rnd.nextDouble());
+  }
+}
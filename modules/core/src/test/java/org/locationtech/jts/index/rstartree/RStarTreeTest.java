@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+
+package org.locationtech.jts.index.rstartree;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.SpatialIndexTester;
+
+import test.jts.util.SerializationUtil;
+
+public class RStarTreeTest extends TestCase {
+  public static void main(String args[]) {
+    TestRunner.run(RStarTreeTest.class);
+  }
+
+  public RStarTreeTest(String name) {
+    super(name);
+  }
+
+  public void testSpatialIndex()
+  throws Exception
+  {
+    SpatialIndexTester tester = new SpatialIndexTester();
+    tester.setSpatialIndex(new RStarTree(4));
+    tester.init();
+    tester.run();
+    assertTrue(tester.isSuccess());
+  }
+  
+  public void testSerialization()
+  throws Exception
+  {
+    SpatialIndexTester tester = new SpatialIndexTester();
+    tester.setSpatialIndex(new RStarTree());
+    tester.init();
+    RStarTree tree = (RStarTree) tester.getSpatialIndex();
+    byte[] data = SerializationUtil.serialize(tree);
+    tree = (RStarTree) SerializationUtil.deserialize(data);
+    tester.setSpatialIndex(tree);
+    tester.run();
+    assertTrue(tester.isSuccess());
+  }
+  
+  public void testEmpty() {
+    RStarTree tree = new RStarTree();
+    assertTrue(tree.isEmpty());
+    assertEquals(1, tree.depth());
+    assertTrue(tree.query(new Envelope(0, 1, 0, 1)).isEmpty());
+    assertTrue(tree.query(null).isEmpty());
+    assertFalse(tree.remove(new Envelope(0, 1, 0, 1), "a"));
+    tree.insert(new Envelope(), "a");
+    assertTrue(tree.isEmpty());
+  }
+
+  public void testInvalidCapacity() {
+    try {
+      new RStarTree(3);
+      fail();
+    }
+    catch (IllegalArgumentException expected) {
+    }
+  }
+  
+  public void testInsertRemove() {
+    checkInsertRemove(new RStarTree(4), 2000);
+    checkInsertRemove(new RStarTree(), 5000);
+  }
+
+  private void checkInsertRemove(RStarTree tree, int n) {
+    Random rnd = new Random(13);
+    Envelope[] envs = randomEnvelopes(rnd, n);
+    for (int i = 0; i < n; i++) {
+      tree.insert(envs[i], Integer.valueOf(i));
+    }
+    assertEquals(n, tree.size());
+    checkDepth(tree);
+    checkQueries(tree, envs, rnd);
+    
+    for (int i = 0; i < n; i += 2) {
+      assertTrue(tree.remove(envs[i], Integer.valueOf(i)));
+      assertFalse(tree.remove(envs[i], Integer.valueOf(i)));
+      envs[i] = null;
+    }
+    assertEquals(n / 2, tree.size());
+    assertEquals(n / 2, tree.queryAll().size());
+    checkDepth(tree);
+    checkQueries(tree, envs, rnd);
+    
+    for (int i = 1; i < n; i += 2) {
+      assertTrue(tree.remove(envs[i], Integer.valueOf(i)));
+    }
+    assertTrue(tree.isEmpty());
+    assertEquals(1, tree.depth());
+    assertTrue(tree.queryAll().isEmpty());
+  }
+
+  public void testUpdate() {
+    RStarTree tree = new RStarTree();
+    Random rnd = new Random(17);
+    int n = 2000;
+    Envelope[] envs = randomEnvelopes(rnd, n);
+    for (int i = 0; i < n; i++) {
+      tree.insert(envs[i], Integer.valueOf(i));
+    }
+    for (int i = 0; i < n; i++) {
+      Envelope newEnv = i % 2 == 0 
+          ? randomEnvelope(rnd, 10)
+          // small move which may stay within the leaf
+          : new Envelope(envs[i].getMinX() + 0.1, envs[i].getMaxX() + 0.1,
+              envs[i].getMinY(), envs[i].getMaxY());
+      assertTrue(tree.update(envs[i], newEnv, Integer.valueOf(i)));
+      envs[i] = newEnv;
+    }
+    assertFalse(tree.update(new Envelope(0, 1, 0, 1), new Envelope(0, 1, 0, 1), "x"));
+    assertEquals(n, tree.size());
+    checkQueries(tree, envs, rnd);
+  }
+
+  public void testLoad() {
+    Random rnd = new Random(19);
+    int n = 10000;
+    Envelope[] envs = randomEnvelopes(rnd, n);
+    Object[] items = new Object[n];
+    for (int i = 0; i < n; i++) {
+      items[i] = Integer.valueOf(i);
+    }
+    RStarTree tree = new RStarTree();
+    tree.load(envs, items);
+    assertEquals(n, tree.size());
+    // 10000 items in nodes of 16 are packed in 4 levels
+    assertEquals(4, tree.depth());
+    checkQueries(tree, envs, rnd);
+    
+    // the packed tree can be updated
+    for (int i = 0; i < n; i += 3) {
+      assertTrue(tree.remove(envs[i], items[i]));
+      envs[i] = null;
+    }
+    Envelope[] addEnvs = randomEnvelopes(rnd, 1000);
+    Object[] addItems = new Object[1000];
+    for (int i = 0; i < 1000; i++) {
+      addItems[i] = Integer.valueOf(n + i);
+    }
+    // adding to a non-empty tree inserts
+    tree.load(addEnvs, addItems);
+    Envelope[] allEnvs = new Envelope[n + 1000];
+    System.arraycopy(envs, 0, allEnvs, 0, n);
+    System.arraycopy(addEnvs, 0, allEnvs, n, 1000);
+    checkDepth(tree);
+    checkQueries(tree, allEnvs, rnd);
+  }
+
+  public void testLoadSmall() {
+    RStarTree tree = new RStarTree();
+    tree.load(new Envelope[] { new Envelope(0, 1, 0, 1) }, new Object[] { "a" });
+    assertEquals(1, tree.size());
+    assertEquals(1, tree.depth());
+    assertTrue(tree.remove(new Envelope(0, 1, 0, 1), "a"));
+    assertTrue(tree.isEmpty());
+  }
+
+  public void testLoadMismatched() {
+    try {
+      new RStarTree().load(new Envelope[1], new Object[2]);
+      fail();
+    }
+    catch (IllegalArgumentException expected) {
+    }
+  }
+
+  public void testModifyEnvelopeAfterInsert() {
+    RStarTree tree = new RStarTree(4);
+    Envelope env = new Envelope();
+    // reuse one envelope for all items
+    for (int i = 0; i < 100; i++) {
+      env.init(i, i + 0.5, i, i + 0.5);
+      tree.insert(env, Integer.valueOf(i));
+    }
+    env.init(1000, 1001, 1000, 1001);
+    for (int i = 0; i < 100; i++) {
+      List result = tree.query(new Envelope(i + 0.1, i + 0.2, i + 0.1, i + 0.2));
+      assertEquals(1, result.size());
+      assertEquals(Integer.valueOf(i), result.get(0));
+    }
+    assertTrue(tree.query(env).isEmpty());
+    
+    // move an item within its leaf, and then modify the new envelope
+    Envelope newEnv = new Envelope(5.1, 5.4, 5.1, 5.4);
+    assertTrue(tree.update(new Envelope(5, 5.5, 5, 5.5), newEnv, Integer.valueOf(5)));
+    newEnv.init(1000, 1001, 1000, 1001);
+    assertEquals(1, tree.query(new Envelope(5.2, 5.3, 5.2, 5.3)).size());
+    assertTrue(tree.query(newEnv).isEmpty());
+    assertTrue(tree.remove(new Envelope(5.1, 5.4, 5.1, 5.4), Integer.valueOf(5)));
+  }
+
+  public void testModifyEnvelopeAfterLoad() {
+    Envelope[] envs = new Envelope[] { new Envelope(0, 1, 0, 1), new Envelope(5, 6, 5, 6) };
+    RStarTree tree = new RStarTree();
+    tree.load(envs, new Object[] { "a", "b" });
+    envs[0].init(100, 101, 100, 101);
+    assertEquals(1, tree.query(new Envelope(0, 1, 0, 1)).size());
+    assertTrue(tree.query(envs[0]).isEmpty());
+  }
+
+  public void testDuplicateItems() {
+    RStarTree tree = new RStarTree(4);
+    Envelope env1 = new Envelope(0, 1, 0, 1);
+    Envelope env2 = new Envelope(100, 101, 100, 101);
+    for (int i = 0; i < 20; i++) {
+      tree.insert(env1, "a");
+    }
+    tree.insert(env2, "a");
+    assertTrue(tree.remove(env2, "a"));
+    assertTrue(tree.query(env2).isEmpty());
+    assertEquals(20, tree.query(env1).size());
+  }
+
+  /**
+   * Checks that the tree is balanced enough to have at most 
+   * the depth of a tree with minimally-filled nodes.
+   */
+  private static void checkDepth(RStarTree tree) {
+    int minFill = Math.max(2, (int) (0.4 * tree.getNodeCapacity()));
+    double maxDepth = 1 + Math.ceil(Math.log(tree.size()) / Math.log(minFill));
+    assertTrue(tree.depth() <= maxDepth);
+  }
+
+  private static void checkQueries(RStarTree tree, Envelope[] envs, Random rnd) {
+    for (int i = 0; i < 200; i++) {
+      Envelope queryEnv = randomEnvelope(rnd, 100);
+      List result = tree.query(queryEnv);
+      List expected = new ArrayList();
+      for (int j = 0; j < envs.length; j++) {
+        if (envs[j] != null && envs[j].intersects(queryEnv))
+          expected.add(Integer.valueOf(j));
+      }
+      assertEquals(expected.size(), result.size());
+      assertTrue(result.containsAll(expected));
+    }
+  }
+  
+  private static Envelope[] randomEnvelopes(Random rnd, int n) {
+    Envelope[] envs = new Envelope[n];
+    for (int i = 0; i < n; i++) {
+      envs[i] = randomEnvelope(rnd, i % 10 == 0 ? 0 : 20);
+    }
+    return envs;
+  }
+
+  private static Envelope randomEnvelope(Random rnd, double size) {
+    double x = 1000 * rnd.nextDouble();
+    double y = 1000 * rnd.nextDouble();
+    return new Envelope(x, x + size * rnd.nextDouble(), y, y + size * rnd.nextDouble());
+  }
+}
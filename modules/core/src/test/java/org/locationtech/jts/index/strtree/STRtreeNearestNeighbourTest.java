@@ -86,6 +86,23 @@ public class STRtreeNearestNeighbourTest extends GeometryTestCase {
     checkWithinDistance( POINTS_A, POINTS_B, 1, false );
   }
   
+  public void testQueryWithinDistance() {
+    STRtree tree = createTree(read(POINTS_A));
+    Geometry q = read("POINT (1 1)");
+    checkQueryWithinDistance(tree, q, 1.5, 1);
+    checkQueryWithinDistance(tree, q, 9.1, 3);
+    checkQueryWithinDistance(tree, q, 100, 5);
+    checkQueryWithinDistance(new STRtree(), q, 100, 0);
+  }
+
+  private void checkQueryWithinDistance(STRtree tree, Geometry q, double distance, int expectedCount) {
+    List result = tree.queryWithinDistance(q.getEnvelopeInternal(), q, new GeometryItemDistance(), distance);
+    assertEquals(expectedCount, result.size());
+    for (Object item : result) {
+      assertTrue(((Geometry) item).distance(q) <= distance);
+    }
+  }
+
   public void testKNearestNeighborsEmpty() {
     STRtree tree = new STRtree();    
     Geometry geom = read("POINT (1 1)");
@@ -16,6 +16,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import junit.framework.TestCase;
 
@@ -182,6 +183,87 @@ public class STRtreeTest extends TestCase {
     assertEquals(3, tree.size());
   }
  
+  public void testParallelBuild() {
+    checkParallelBuild(0, 10);
+    checkParallelBuild(1, 10);
+    checkParallelBuild(11, 4);
+    checkParallelBuild(1000, 10);
+    checkParallelBuild(50000, 10);
+  }
+
+  public void testParallelBuildDuplicateCentres() {
+    // many items with equal centres test that sort order is stable
+    STRtree seqTree = new STRtree(4);
+    STRtree parTree = new STRtree(4);
+    for (int i = 0; i < 20000; i++) {
+      Envelope env = new Envelope(i % 7, i % 7 + 1, i % 5, i % 5 + 1);
+      Integer item = i;
+      seqTree.insert(env, item);
+      parTree.insert(env, item);
+    }
+    seqTree.build();
+    buildParallel(parTree);
+    checkSameStructure(seqTree.getRoot(), parTree.getRoot());
+  }
+
+  public void testParallelBuildQuery() {
+    STRtree tree = new STRtree();
+    Random random = new Random(123);
+    for (int i = 0; i < 10000; i++) {
+      double x = 1000 * random.nextDouble();
+      double y = 1000 * random.nextDouble();
+      tree.insert(new Envelope(x, x + 1, y, y + 1), i);
+    }
+    buildParallel(tree);
+    assertEquals(10000, tree.size());
+    assertEquals(10000, tree.query(new Envelope(-1, 1002, -1, 1002)).size());
+  }
+
+  private static void buildParallel(STRtree tree) {
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      tree.build(pool);
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
+  private void checkParallelBuild(int numItems, int nodeCapacity) {
+    STRtree seqTree = new STRtree(nodeCapacity);
+    STRtree parTree = new STRtree(nodeCapacity);
+    Random random = new Random(numItems);
+    for (int i = 0; i < numItems; i++) {
+      double x = 100 * random.nextDouble();
+      double y = 100 * random.nextDouble();
+      Envelope env = new Envelope(x, x + random.nextDouble(), y, y + random.nextDouble());
+      Integer item = i;
+      seqTree.insert(env, item);
+      parTree.insert(env, item);
+    }
+    seqTree.build();
+    buildParallel(parTree);
+    checkSameStructure(seqTree.getRoot(), parTree.getRoot());
+  }
+
+  private void checkSameStructure(AbstractNode node1, AbstractNode node2) {
+    assertEquals(node1.getLevel(), node2.getLevel());
+    assertEquals(node1.getBounds(), node2.getBounds());
+    List children1 = node1.getChildBoundables();
+    List children2 = node2.getChildBoundables();
+    assertEquals(children1.size(), children2.size());
+    for (int i = 0; i < children1.size(); i++) {
+      Boundable child1 = (Boundable) children1.get(i);
+      Boundable child2 = (Boundable) children2.get(i);
+      if (child1 instanceof AbstractNode) {
+        checkSameStructure((AbstractNode) child1, (AbstractNode) child2);
+      }
+      else {
+        assertEquals(((ItemBoundable) child1).getItem(), ((ItemBoundable) child2).getItem());
+      }
+    }
+  }
+
   private void doTestCreateParentsFromVerticalSlice(int childCount,
       int nodeCapacity, int expectedChildrenPerParentBoundable,
       int expectedChildrenOfLastParent) {
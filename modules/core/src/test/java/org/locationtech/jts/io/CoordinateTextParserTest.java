@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.impl.CoordinateArraySequenceFactory;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+/**
+ * Tests for {@link CoordinateTextParser}.
+ */
+public class CoordinateTextParserTest extends TestCase
+{
+  public static void main(String args[]) {
+    TestRunner.run(CoordinateTextParserTest.class);
+  }
+
+  public CoordinateTextParserTest(String name) {
+    super(name);
+  }
+
+  public void testTuples() throws ParseException {
+    checkTuples("1,2 3,4", ',', ' ', '.', 2, 1, 2, 3, 4);
+    checkTuples("  1 , 2\n\t3,4  ", ',', ' ', '.', 2, 1, 2, 3, 4);
+    checkTuples("1,5 2,5;3,5 4,5", ' ', ';', ',', 2, 1.5, 2.5, 3.5, 4.5);
+    checkTuples("1 2 , 3 4", ' ', ',', '.', 2, 1, 2, 3, 4);
+    checkTuples("1,2,3 4,5,6", ',', ' ', '.', 3, 1, 2, 3, 4, 5, 6);
+  }
+
+  public void testTuplesMissingZ() throws ParseException {
+    CoordinateTextParser parser = new CoordinateTextParser();
+    parser.parseTuples(chars("1,2,3 4,5"), 0, 9, ',', ' ', '.');
+    assertEquals(3, parser.getDimension());
+    assertTrue(Double.isNaN(parser.getOrdinate(1, 2)));
+  }
+
+  public void testList() throws ParseException {
+    CoordinateTextParser parser = new CoordinateTextParser();
+    String text = " 1 2 3\n4 5 6 ";
+    parser.parseList(chars(text), 0, text.length(), 3);
+    assertEquals(2, parser.size());
+    assertEquals(3, parser.getDimension());
+    assertEquals(6.0, parser.getOrdinate(1, 2));
+  }
+
+  public void testListIncomplete() {
+    CoordinateTextParser parser = new CoordinateTextParser();
+    try {
+      parser.parseList(chars("1 2 3"), 0, 5, 2);
+      fail("ParseException expected");
+    }
+    catch (ParseException ex) {
+      // expected
+    }
+  }
+
+  public void testInvalidNumber() {
+    CoordinateTextParser parser = new CoordinateTextParser();
+    try {
+      parser.parseTuples(chars("1,x"), 0, 3, ',', ' ', '.');
+      fail("ParseException expected");
+    }
+    catch (ParseException ex) {
+      // expected
+    }
+  }
+
+  public void testToSequence() throws ParseException {
+    CoordinateTextParser parser = new CoordinateTextParser();
+    parser.parseTuples(chars("1.23456,2.34567 3,4"), 0, 19, ',', ' ', '.');
+    CoordinateSequence packed = parser.toSequence(PackedCoordinateSequenceFactory.DOUBLE_FACTORY, null);
+    assertTrue(packed instanceof PackedCoordinateSequence.Double);
+    assertEquals(2, packed.size());
+    assertEquals(2.34567, packed.getY(0));
+
+    CoordinateSequence precise = parser.toSequence(CoordinateArraySequenceFactory.instance(), new PrecisionModel(100));
+    assertEquals(1.23, precise.getX(0));
+    assertEquals(2.35, precise.getY(0));
+  }
+
+  private void checkTuples(String text, char cs, char ts, char decimal, int dim, double... expected) 
+      throws ParseException
+  {
+    CoordinateTextParser parser = new CoordinateTextParser();
+    parser.parseTuples(chars(text), 0, text.length(), cs, ts, decimal);
+    assertEquals(dim, parser.getDimension());
+    assertEquals(expected.length / dim, parser.size());
+    for (int i = 0; i < parser.size(); i++) {
+      for (int d = 0; d < dim; d++) {
+        assertEquals(expected[i * dim + d], parser.getOrdinate(i, d));
+      }
+    }
+  }
+
+  private static char[] chars(String s) {
+    return s.toCharArray();
+  }
+}
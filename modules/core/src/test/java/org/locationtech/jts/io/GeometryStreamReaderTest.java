@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+/**
+ * Tests for {@link GeometryStreamReader}.
+ */
+public class GeometryStreamReaderTest extends TestCase
+{
+  public static void main(String args[]) {
+    TestRunner.run(GeometryStreamReaderTest.class);
+  }
+
+  private static final String WKT_INPUT = 
+      "POINT (1 2)\n"
+    + "# a comment with a ( paren\n"
+    + "LINESTRING(1 2, 3 4) POINT EMPTY\n"
+    + "  polygon empty\tPOLYGON Z ((0 0 1, 0 10 1, 10 10 1, 10 0 1, 0 0 1), (1 1 1, 2 1 1, 2 2 1, 1 1 1))\n"
+    + "GEOMETRYCOLLECTION (POINT (1 2), GEOMETRYCOLLECTION EMPTY, MULTIPOINT ((1 1), (2 2)))\n"
+    + "MULTIPOLYGON (((0 0, 0 1, 1 1, 0 0)), ((5 5, 5 6, 6 6, 5 5)))\n"
+    + "POINT (3 4)";
+
+  private GeometryFactory geomFactory = new GeometryFactory();
+  private ForkJoinPool pool = new ForkJoinPool(3);
+
+  public GeometryStreamReaderTest(String name) {
+    super(name);
+  }
+
+  public void tearDown() {
+    pool.shutdown();
+  }
+
+  public void testWKTSequential() throws Exception {
+    GeometryStreamReader reader = new GeometryStreamReader(GeometryStreamReader.WKT, geomFactory);
+    checkSameAsFileReader(reader, WKT_INPUT);
+  }
+
+  public void testWKTParallel() throws Exception {
+    GeometryStreamReader reader = new GeometryStreamReader(GeometryStreamReader.WKT, geomFactory);
+    reader.setPool(pool);
+    checkSameAsFileReader(reader, WKT_INPUT);
+  }
+
+  public void testWKTSmallBatches() throws Exception {
+    for (int batchSize = 1; batchSize < 40; batchSize += 3) {
+      GeometryStreamReader reader = new GeometryStreamReader(GeometryStreamReader.WKT, geomFactory);
+      reader.setPool(pool);
+      reader.setBatchSize(batchSize);
+      reader.setMaxPendingBatches(2);
+      checkSameAsFileReader(reader, WKT_INPUT);
+    }
+  }
+
+  public void testWKTUnordered() throws Exception {
+    String wkt = manyPoints(5000);
+    GeometryStreamReader reader = new GeometryStreamReader(GeometryStreamReader.WKT, geomFactory);
+    reader.setPool(pool);
+    reader.setOrdered(false);
+    reader.setBatchSize(100);
+    final Geometry[] geoms = new Geometry[5000];
+    long n = reader.read(new StringReader(wkt), new GeometryConsumer() {
+      public void accept(long recordNum, Geometry geometry) {
+        assertNull(geoms[(int) recordNum]);
+        geoms[(int) recordNum] = geometry;
+      }
+    });
+    assertEquals(5000, n);
+    for (int i = 0; i < geoms.length; i++) {
+      assertEquals(i, (int) geoms[i].getCoordinate().x);
+    }
+  }
+
+  public void testOffsetLimit() throws Exception {
+    GeometryStreamReader reader = new GeometryStreamReader(GeometryStreamReader.WKT, geomFactory);
+    reader.setPool(pool);
+    reader.setBatchSize(10);
+    reader.setOffset(100);
+    reader.setLimit(50);
+    List<Long> nums = new ArrayList<Long>();
+    List<Geometry> geoms = read(reader, manyPoints(1000), nums);
+    assertEquals(50, geoms.size());
+    for (int i = 0; i < 50; i++) {
+      assertEquals(100 + i, (int) geoms.get(i).getCoordinate().x);
+      assertEquals(100 + i, nums.get(i).intValue());
+    }
+  }
+
+  public void testWKTOptions() throws Exception {
+    GeometryStreamReader reader = new GeometryStreamReader(GeometryStreamReader.WKT, geomFactory);
+    reader.setFixStructure(true);
+    reader.setIsOldJtsCoordinateSyntaxAllowed(false);
+    List<Geometry> geoms = read(reader, "LINESTRING (1 2) POLYGON ((0 0, 1 1, 1 0))", null);
+    assertEquals(2, geoms.get(0).getNumPoints());
+    assertEquals(4, geoms.get(1).getNumPoints());
+    assertEquals(2, ((LineString) geoms.get(0)).getCoordinateSequence().getDimension());
+  }
+
+  public void testStrictParsing() throws Exception {
+    GeometryStreamReader reader = new GeometryStreamReader(GeometryStreamReader.WKT, geomFactory);
+    reader.setPool(pool);
+    reader.setBatchSize(10);
+    try {
+      read(reader, "POINT (1 2) POINT (1 X) POINT (3 4)", null);
+      fail();
+    }
+    catch (ParseException e) {
+      assertTrue(e.getMessage().contains("record 1"));
+    }
+  }
+
+  public void testNonStrictParsing() throws Exception {
+    GeometryStreamReader reader = new GeometryStreamReader(GeometryStreamReader.WKT, geomFactory);
+    reader.setPool(pool);
+    reader.setStrictParsing(false);
+    List<Long> nums = new ArrayList<Long>();
+    List<Geometry> geoms = read(reader, "POINT (1 2) POINT (1 X) POINT (3 4) POINT (5", nums);
+    assertEquals(2, geoms.size());
+    assertEquals(0, nums.get(0).intValue());
+    assertEquals(2, nums.get(1).intValue());
+  }
+
+  public void testWKBHex() throws Exception {
+    WKTReader wktReader = new WKTReader(geomFactory);
+    WKBWriter writer = new WKBWriter();
+    StringBuilder hex = new StringBuilder();
+    WKTFileReader fileReader = new WKTFileReader(new StringReader(WKT_INPUT), wktReader);
+    List expected = fileReader.read();
+    for (Object geom : expected) {
+      hex.append(WKBWriter.toHex(writer.write((Geometry) geom))).append("\r\n\n");
+    }
+    for (int batchSize = 1; batchSize < 300; batchSize += 50) {
+      GeometryStreamReader reader = new GeometryStreamReader(GeometryStreamReader.WKB_HEX, geomFactory);
+      reader.setPool(pool);
+      reader.setBatchSize(batchSize);
+      checkEqual(expected, read(reader, hex.toString(), null));
+    }
+  }
+
+  public void testWKBHexInvalid() throws Exception {
+    GeometryStreamReader reader = new GeometryStreamReader(GeometryStreamReader.WKB_HEX, geomFactory);
+    try {
+      read(reader, "0101000000000000000000F03F000000000000004\n", null);
+      fail();
+    }
+    catch (ParseException e) {
+      // expected
+    }
+  }
+
+  private static String manyPoints(int n) {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < n; i++) {
+      sb.append("POINT (").append(i).append(" 0)\n");
+    }
+    return sb.toString();
+  }
+
+  private void checkSameAsFileReader(GeometryStreamReader reader, String wkt) throws Exception {
+    WKTFileReader fileReader = new WKTFileReader(new StringReader(wkt), new WKTReader(geomFactory));
+    List expected = fileReader.read();
+    List<Long> nums = new ArrayList<Long>();
+    List<Geometry> actual = read(reader, wkt, nums);
+    checkEqual(expected, actual);
+    for (int i = 0; i < nums.size(); i++) {
+      assertEquals(i, nums.get(i).intValue());
+    }
+  }
+
+  private static void checkEqual(List expected, List<Geometry> actual) {
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      Geometry geom = (Geometry) expected.get(i);
+      assertTrue(geom.equalsExact(actual.get(i)));
+    }
+  }
+
+  private static List<Geometry> read(GeometryStreamReader reader, String input, final List<Long> nums) 
+      throws Exception {
+    final List<Geometry> geoms = new ArrayList<Geometry>();
+    long n = reader.read(new StringReader(input), new GeometryConsumer() {
+      public void accept(long recordNum, Geometry geometry) {
+        geoms.add(geometry);
+        if (nums != null) 
+          nums.add(recordNum);
+      }
+    });
+    assertEquals(geoms.size(), n);
+    return geoms;
+  }
+}
@@ -1,6 +1,8 @@
 package org.locationtech.jts.io;
 
+import java.math.BigDecimal;
 import java.util.Locale;
+import java.util.Random;
 
 import junit.framework.TestCase;
 import junit.textui.TestRunner;
@@ -62,6 +64,75 @@ public class OrdinateFormatTest extends TestCase {
     checkFormat(Double.NEGATIVE_INFINITY, "-Inf");
   }
 
+  public void testRoundHalfEven() {
+    checkFormat(0.125, 2, "0.12");
+    checkFormat(0.375, 2, "0.38");
+    checkFormat(2.5, 0, "2");
+    checkFormat(3.5, 0, "4");
+    checkFormat(0.5, 0, "0");
+  }
+
+  public void testRoundInexactHalf() {
+    // the decimal value is half-way, but the binary value is not
+    checkFormat(0.015, 2, "0.01");
+    checkFormat(0.005, 2, "0.01");
+    checkFormat(123456789012.345, 2, "123456789012.35");
+  }
+
+  public void testRoundToZero() {
+    checkFormat(0.001, 2, "0");
+    checkFormat(-0.001, 2, "-0");
+    checkFormat(-0.0, "-0");
+    checkFormat(0.0, "0");
+  }
+
+  public void testRoundCarry() {
+    checkFormat(9.9999, 2, "10");
+    checkFormat(-0.999, 1, "-1");
+  }
+
+  public void testSubnormal() {
+    checkFormat(Double.MIN_VALUE, "0." + zeros(323) + "49");
+    checkFormat(-Double.MAX_VALUE, "-17976931348623157" + zeros(292));
+  }
+
+  public void testShortestRoundTrip() {
+    checkFormat(0.1, "0.1");
+    checkFormat(0.3, "0.3");
+    checkFormat(0.1 + 0.2, "0.30000000000000004");
+    checkFormat(1e23, "100000000000000000000000");
+    Random rnd = new Random(13);
+    for (int i = 0; i < 20000; i++) {
+      double d = Double.longBitsToDouble(rnd.nextLong());
+      if (Double.isNaN(d) || Double.isInfinite(d)) continue;
+      String s = OrdinateFormat.DEFAULT.format(d);
+      assertEquals(s, d, Double.parseDouble(s));
+      BigDecimal dec = new BigDecimal(s);
+      assertTrue(s, dec.stripTrailingZeros().precision() <= 17);
+    }
+  }
+
+  public void testFormatBuffer() {
+    char[] buf = new char[OrdinateFormat.MAX_LENGTH + 2];
+    buf[0] = '(';
+    int end = OrdinateFormat.DEFAULT.format(-12.5, buf, 1);
+    assertEquals("(-12.5", new String(buf, 0, end));
+    end = OrdinateFormat.DEFAULT.format(-Double.MIN_VALUE, buf, 1);
+    assertEquals(OrdinateFormat.MAX_LENGTH + 1, end);
+    
+    StringBuilder sb = new StringBuilder("x=");
+    OrdinateFormat.create(3).format(1.23456, sb);
+    assertEquals("x=1.235", sb.toString());
+  }
+
+  private static String zeros(int n) {
+    StringBuilder buf = new StringBuilder();
+    for (int i = 0; i < n; i++) {
+      buf.append('0');
+    }
+    return buf.toString();
+  }
+
   private void checkFormat(double d, String expected) {
     String actual = OrdinateFormat.DEFAULT.format(d);
     assertEquals(expected, actual);
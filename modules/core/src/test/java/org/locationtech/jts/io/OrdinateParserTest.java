@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+import java.util.Random;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+/**
+ * Tests for {@link OrdinateParser}.
+ */
+public class OrdinateParserTest extends TestCase
+{
+  public static void main(String args[]) {
+    TestRunner.run(OrdinateParserTest.class);
+  }
+
+  public OrdinateParserTest(String name) {
+    super(name);
+  }
+
+  public void testNumbers() {
+    checkNumber("0");
+    checkNumber("-0");
+    checkNumber("-0.0");
+    checkNumber("123");
+    checkNumber("1.");
+    checkNumber(".25");
+    checkNumber("+7.125");
+    checkNumber("1e10");
+    checkNumber("1.5E-7");
+    checkNumber("1.e3");
+    checkNumber("0.1");
+    checkNumber("0.30000000000000004");
+    checkNumber("123456789012345678");
+    checkNumber("1234567890123456789012345");
+    checkNumber("9007199254740993");
+    checkNumber("1e22");
+    checkNumber("1e23");
+    checkNumber("4.9e-324");
+    checkNumber("1.7976931348623157e308");
+    checkNumber("1e400");
+    checkNumber("00000000000000000000001.5");
+    checkNumber("Infinity");
+    checkNumber("1d");
+    checkNumber("0x1p3");
+    checkNumber("9007199254740993e0");
+    checkNumber("2.2250738585072014E-308");
+    checkNumber("2.2250738585072011E-308");
+    checkNumber("8.98846567431158e307");
+    checkNumber("1e-342");
+  }
+
+  public void testBadNumbers() {
+    checkBadNumber("");
+    checkBadNumber("-");
+    checkBadNumber(".");
+    checkBadNumber("1e");
+    checkBadNumber("1e+");
+    checkBadNumber("1X02");
+    checkBadNumber("1-2");
+    checkBadNumber("e5");
+  }
+
+  public void testRandomNumbers() {
+    Random random = new Random(13);
+    for (int i = 0; i < 10000; i++) {
+      double d = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(20) - 10);
+      checkNumber(Double.toString(d));
+      checkNumber(String.format("%.6f", d));
+      checkNumber(Double.toString(Double.longBitsToDouble(random.nextLong())));
+      checkNumber(randomDigits(random, 1 + random.nextInt(18)) + "e" + (random.nextInt(660) - 340));
+    }
+  }
+
+  private static String randomDigits(Random random, int n) {
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < n; i++) {
+      sb.append((char) ('0' + random.nextInt(10)));
+    }
+    return sb.toString();
+  }
+
+  private static void checkNumber(String num) {
+    double expected = Double.parseDouble(num);
+    assertEquals(num, Double.doubleToLongBits(expected), 
+        Double.doubleToLongBits(parse(num)));
+  }
+
+  private static void checkBadNumber(String num) {
+    try {
+      parse(num);
+      fail(num);
+    }
+    catch (NumberFormatException e) {
+      // expected
+    }
+  }
+
+  private static double parse(String num) {
+    char[] chars = ("  " + num + "  ").toCharArray();
+    return OrdinateParser.parse(chars, 2, 2 + num.length());
+  }
+}
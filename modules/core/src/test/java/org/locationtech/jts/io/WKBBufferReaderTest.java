@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+/**
+ * Tests for {@link WKBBufferReader}.
+ */
+public class WKBBufferReaderTest extends TestCase
+{
+  public static void main(String args[]) {
+    TestRunner.run(WKBBufferReaderTest.class);
+  }
+
+  private GeometryFactory geomFactory = new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY);
+  private WKTReader rdr = new WKTReader(geomFactory);
+
+  public WKBBufferReaderTest(String name) {
+    super(name);
+  }
+
+  public void testPoint() throws ParseException {
+    checkRoundTrip("POINT (1 2)");
+    checkRoundTrip("POINT Z (1 2 3)");
+    checkRoundTrip("POINT EMPTY");
+  }
+
+  public void testLineString() throws ParseException {
+    checkRoundTrip("LINESTRING (1 2, 3 4, 5 6)");
+    checkRoundTrip("LINESTRING Z (1 2 3, 3 4 5, 5 6 7)");
+    checkRoundTrip("LINESTRING EMPTY");
+  }
+
+  public void testPolygon() throws ParseException {
+    checkRoundTrip("POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0), (1 1, 2 1, 2 2, 1 1))");
+    checkRoundTrip("POLYGON EMPTY");
+  }
+
+  public void testMulti() throws ParseException {
+    checkRoundTrip("MULTIPOINT ((1 2), (3 4))");
+    checkRoundTrip("MULTILINESTRING ((1 2, 3 4), (5 6, 7 8))");
+    checkRoundTrip("MULTIPOLYGON (((0 0, 0 10, 10 10, 0 0)), ((20 20, 20 30, 30 30, 20 20)))");
+    checkRoundTrip("GEOMETRYCOLLECTION (POINT (1 2), LINESTRING (1 2, 3 4))");
+  }
+
+  public void testSRID() throws ParseException {
+    Geometry geom = rdr.read("POLYGON ((0 0, 0 10, 10 10, 0 0))");
+    geom.setSRID(4326);
+    WKBWriter writer = new WKBWriter(2, true);
+    Geometry result = new WKBBufferReader().read(ByteBuffer.wrap(writer.write(geom)));
+    assertEquals(4326, result.getSRID());
+    assertTrue(geom.equalsExact(result));
+  }
+
+  public void testPackedSequence() throws ParseException {
+    Geometry geom = read(rdr.read("LINESTRING (1 2, 3 4)"), ByteOrderValues.LITTLE_ENDIAN, 2);
+    assertTrue(((LineString) geom).getCoordinateSequence() instanceof PackedCoordinateSequence.Double);
+  }
+
+  public void testMeasures() throws ParseException {
+    // ISO XYM linestring
+    Geometry geom = new WKBBufferReader().read(ByteBuffer.wrap(WKBReader.hexToBytes(
+        "01D2070000020000000000000000000000000000000000F03F0000000000000040000000000000084000000000000010400000000000001440")));
+    LineString line = (LineString) geom;
+    assertEquals(1, line.getCoordinateSequence().getMeasures());
+    assertEquals(2.0, line.getCoordinateSequence().getM(0));
+    assertEquals(5.0, line.getCoordinateSequence().getM(1));
+  }
+
+  public void testSpatialiteMultiGeometry() throws ParseException {
+    checkWKBGeometry("0104000000020000006901000000000000000000F03F000000000000F03F690100000000000000000000400000000000000040",
+        "MULTIPOINT ((1 1), (2 2))");
+  }
+
+  public void testRingRepair() throws ParseException {
+    checkWKBGeometry("0000000003000000010000000140590000000000004069000000000000", 
+        "POLYGON ((100 200, 100 200, 100 200, 100 200))");
+    checkWKBGeometry("00000000020000000140590000000000004069000000000000", 
+        "LINESTRING (100 200, 100 200)");
+  }
+
+  public void testPrecisionModel() throws ParseException {
+    GeometryFactory fixedFactory = new GeometryFactory(new PrecisionModel(1), 0, 
+        PackedCoordinateSequenceFactory.DOUBLE_FACTORY);
+    byte[] wkb = new WKBWriter().write(rdr.read("LINESTRING (1.2 2.7, 3.4 4.6)"));
+    Geometry result = new WKBBufferReader(fixedFactory).read(ByteBuffer.wrap(wkb));
+    assertTrue(rdr.read("LINESTRING (1 3, 3 5)").equalsExact(result));
+  }
+
+  public void testNonPackedFactory() throws ParseException {
+    Geometry geom = rdr.read("POLYGON Z ((0 0 1, 0 10 2, 10 10 3, 0 0 1))");
+    byte[] wkb = new WKBWriter(3).write(geom);
+    Geometry result = new WKBBufferReader(new GeometryFactory()).read(ByteBuffer.wrap(wkb));
+    assertTrue(geom.equalsExact(result));
+    assertEquals(3.0, result.getCoordinates()[2].getZ());
+  }
+
+  public void testOffset() throws ParseException {
+    Geometry geom = rdr.read("LINESTRING (1 2, 3 4, 5 6)");
+    byte[] wkb = new WKBWriter().write(geom);
+    ByteBuffer buf = ByteBuffer.allocate(wkb.length + 10);
+    buf.position(7);
+    buf.put(wkb);
+    WKBBufferReader reader = new WKBBufferReader();
+    Geometry result = reader.read(buf, 7);
+    assertTrue(geom.equalsExact(result));
+    assertEquals(7 + wkb.length, reader.getEndOffset());
+    // position is not changed by an absolute read
+    assertEquals(7 + wkb.length, buf.position());
+  }
+
+  public void testBufferOrderUnchanged() throws ParseException {
+    Geometry geom = rdr.read("LINESTRING (1 2, 3 4, 5 6)");
+    ByteBuffer buf = ByteBuffer.wrap(new WKBWriter(2, ByteOrderValues.LITTLE_ENDIAN).write(geom));
+    assertTrue(geom.equalsExact(new WKBBufferReader().read(buf)));
+    assertEquals(ByteOrder.BIG_ENDIAN, buf.order());
+    assertEquals(buf.limit(), buf.position());
+  }
+
+  public void testTruncated() throws ParseException {
+    byte[] wkb = new WKBWriter().write(rdr.read("LINESTRING (1 2, 3 4, 5 6)"));
+    for (int len = 0; len < wkb.length; len++) {
+      ByteBuffer buf = ByteBuffer.wrap(wkb, 0, len);
+      try {
+        new WKBBufferReader().read(buf);
+        fail("Expected ParseException for length " + len);
+      }
+      catch (ParseException expected) {
+      }
+    }
+  }
+
+  public void testExcessiveNumCoords() {
+    try {
+      new WKBBufferReader().read(ByteBuffer.wrap(WKBReader.hexToBytes("000000000200000FFF40590000000000004069000000000000")));
+      fail();
+    }
+    catch (ParseException expected) {
+      assertTrue(expected.getMessage().contains("numCoords"));
+    }
+  }
+
+  private void checkRoundTrip(String wkt) throws ParseException {
+    Geometry geom = rdr.read(wkt);
+    int dim = geom.isEmpty() ? 2 : Double.isNaN(geom.getCoordinate().getZ()) ? 2 : 3;
+    checkRead(geom, ByteOrderValues.BIG_ENDIAN, dim);
+    checkRead(geom, ByteOrderValues.LITTLE_ENDIAN, dim);
+  }
+
+  private void checkRead(Geometry geom, int byteOrder, int dim) throws ParseException {
+    Geometry result = read(geom, byteOrder, dim);
+    assertTrue(geom.equalsExact(result));
+    // compare to WKBReader
+    byte[] wkb = new WKBWriter(dim, byteOrder).write(geom);
+    Geometry expected = new WKBReader(geomFactory).read(wkb);
+    assertTrue(expected.equalsExact(result));
+    if (dim == 3 && ! geom.isEmpty()) {
+      assertEquals(geom.getCoordinate().getZ(), result.getCoordinate().getZ());
+    }
+  }
+
+  private Geometry read(Geometry geom, int byteOrder, int dim) throws ParseException {
+    byte[] wkb = new WKBWriter(dim, byteOrder).write(geom);
+    ByteBuffer buf = ByteBuffer.wrap(wkb);
+    return new WKBBufferReader().read(buf);
+  }
+
+  private void checkWKBGeometry(String wkbHex, String expectedWKT) throws ParseException {
+    Geometry g = new WKBBufferReader().read(ByteBuffer.wrap(WKBReader.hexToBytes(wkbHex)));
+    Geometry expected = rdr.read(expectedWKT);
+    assertTrue(expected.equalsExact(g));
+  }
+}
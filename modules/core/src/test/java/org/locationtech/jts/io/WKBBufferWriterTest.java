@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+/**
+ * Tests for {@link WKBBufferWriter}.
+ */
+public class WKBBufferWriterTest extends TestCase
+{
+  public static void main(String args[]) {
+    TestRunner.run(WKBBufferWriterTest.class);
+  }
+
+  private GeometryFactory geomFactory = new GeometryFactory();
+  private WKTReader rdr = new WKTReader(geomFactory);
+  private WKTReader packedRdr = new WKTReader(new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY));
+
+  public WKBBufferWriterTest(String name) {
+    super(name);
+  }
+
+  public void testPoint() throws ParseException {
+    checkSameAsWKBWriter("POINT (1 2)");
+    checkSameAsWKBWriter("POINT Z (1 2 3)");
+    checkSameAsWKBWriter("POINT EMPTY");
+  }
+
+  public void testLineString() throws ParseException {
+    checkSameAsWKBWriter("LINESTRING (1 2, 3 4, 5 6)");
+    checkSameAsWKBWriter("LINESTRING Z (1 2 3, 3 4 5, 5 6 7)");
+    checkSameAsWKBWriter("LINEARRING (0 0, 0 1, 1 1, 0 0)");
+    checkSameAsWKBWriter("LINESTRING EMPTY");
+  }
+
+  public void testPolygon() throws ParseException {
+    checkSameAsWKBWriter("POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0), (1 1, 2 1, 2 2, 1 1))");
+    checkSameAsWKBWriter("POLYGON Z ((0 0 1, 0 10 2, 10 10 3, 10 0 4, 0 0 1))");
+    checkSameAsWKBWriter("POLYGON EMPTY");
+  }
+
+  public void testMulti() throws ParseException {
+    checkSameAsWKBWriter("MULTIPOINT ((1 2), (3 4))");
+    checkSameAsWKBWriter("MULTILINESTRING ((1 2, 3 4), (5 6, 7 8))");
+    checkSameAsWKBWriter("MULTIPOLYGON (((0 0, 0 1, 1 1, 0 0)), EMPTY)");
+    checkSameAsWKBWriter("GEOMETRYCOLLECTION (POINT (1 2), LINESTRING (1 2, 3 4), GEOMETRYCOLLECTION (POINT EMPTY))");
+    checkSameAsWKBWriter("GEOMETRYCOLLECTION EMPTY");
+  }
+
+  public void testSRID() throws ParseException {
+    Geometry geom = rdr.read("GEOMETRYCOLLECTION (POINT (1 2), POLYGON ((0 0, 0 1, 1 1, 0 0)))");
+    geom.setSRID(4326);
+    checkSameAsWKBWriter(geom, 2, ByteOrderValues.BIG_ENDIAN, true);
+    checkSameAsWKBWriter(geom, 3, ByteOrderValues.LITTLE_ENDIAN, true);
+  }
+
+  public void testOffset() throws ParseException {
+    Geometry geom = rdr.read("LINESTRING (1 2, 3 4, 5 6)");
+    WKBBufferWriter writer = new WKBBufferWriter();
+    int size = writer.getSize(geom);
+    byte[] bytes = new byte[size + 10];
+    int end = writer.write(geom, bytes, 7);
+    assertEquals(7 + size, end);
+    assertTrue(Arrays.equals(new WKBWriter().write(geom), Arrays.copyOfRange(bytes, 7, end)));
+
+    ByteBuffer buf = ByteBuffer.allocate(size + 10);
+    buf.position(3);
+    writer.write(geom, buf);
+    assertEquals(3 + size, buf.position());
+    assertEquals(size, writer.write(geom, buf, 0));
+    assertEquals(3 + size, buf.position());
+  }
+
+  public void testInsufficientSpace() throws ParseException {
+    Geometry geom = rdr.read("LINESTRING (1 2, 3 4, 5 6)");
+    WKBBufferWriter writer = new WKBBufferWriter();
+    int size = writer.getSize(geom);
+    byte[] bytes = new byte[size];
+    try {
+      writer.write(geom, bytes, 1);
+      fail();
+    }
+    catch (ArrayIndexOutOfBoundsException e) {
+      // expected
+    }
+    for (int i = 0; i < bytes.length; i++) {
+      assertEquals(0, bytes[i]);
+    }
+    ByteBuffer buf = ByteBuffer.allocate(size + 10);
+    buf.limit(size - 1);
+    try {
+      writer.write(geom, buf);
+      fail();
+    }
+    catch (BufferOverflowException e) {
+      // expected
+    }
+    assertEquals(0, buf.position());
+  }
+
+  private void checkSameAsWKBWriter(String wkt) throws ParseException {
+    Geometry[] geoms = new Geometry[] { rdr.read(wkt), packedRdr.read(wkt) };
+    for (Geometry geom : geoms) {
+      for (int dim = 2; dim <= 3; dim++) {
+        checkSameAsWKBWriter(geom, dim, ByteOrderValues.BIG_ENDIAN, false);
+        checkSameAsWKBWriter(geom, dim, ByteOrderValues.LITTLE_ENDIAN, false);
+      }
+    }
+  }
+
+  private void checkSameAsWKBWriter(Geometry geom, int dim, int byteOrder, boolean includeSRID) {
+    byte[] expected = new WKBWriter(dim, byteOrder, includeSRID).write(geom);
+    WKBBufferWriter writer = new WKBBufferWriter(dim, byteOrder, includeSRID);
+    assertEquals(expected.length, writer.getSize(geom));
+    assertTrue(Arrays.equals(expected, writer.write(geom)));
+
+    ByteBuffer bigBuf = ByteBuffer.allocate(expected.length).order(ByteOrder.BIG_ENDIAN);
+    writer.write(geom, bigBuf);
+    assertTrue(Arrays.equals(expected, bigBuf.array()));
+
+    ByteBuffer littleBuf = ByteBuffer.allocateDirect(expected.length).order(ByteOrder.LITTLE_ENDIAN);
+    writer.write(geom, littleBuf);
+    byte[] actual = new byte[expected.length];
+    littleBuf.flip();
+    littleBuf.get(actual);
+    assertTrue(Arrays.equals(expected, actual));
+    assertEquals(ByteOrder.LITTLE_ENDIAN, littleBuf.order());
+  }
+}
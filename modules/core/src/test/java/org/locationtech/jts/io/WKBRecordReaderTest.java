@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+/**
+ * Tests for {@link WKBRecordReader}.
+ */
+public class WKBRecordReaderTest extends TestCase
+{
+  public static void main(String args[]) {
+    TestRunner.run(WKBRecordReaderTest.class);
+  }
+
+  private GeometryFactory geomFactory = new GeometryFactory();
+
+  public WKBRecordReaderTest(String name) {
+    super(name);
+  }
+
+  public void testConcatenatedBuffer() throws Exception {
+    List<Geometry> geoms = createGeometries(50);
+    ByteBuffer buf = ByteBuffer.wrap(toRecords(geoms, false, ByteOrder.BIG_ENDIAN));
+    checkRecords(geoms, new WKBRecordReader(buf, false));
+  }
+
+  public void testLengthPrefixedBuffer() throws Exception {
+    List<Geometry> geoms = createGeometries(50);
+    ByteBuffer buf = ByteBuffer.wrap(toRecords(geoms, true, ByteOrder.BIG_ENDIAN));
+    checkRecords(geoms, new WKBRecordReader(buf, true));
+  }
+
+  public void testLengthPrefixedLittleEndian() throws Exception {
+    List<Geometry> geoms = createGeometries(10);
+    ByteBuffer buf = ByteBuffer.wrap(toRecords(geoms, true, ByteOrder.LITTLE_ENDIAN));
+    WKBRecordReader reader = new WKBRecordReader(buf, true);
+    reader.setPrefixByteOrder(ByteOrder.LITTLE_ENDIAN);
+    checkRecords(geoms, reader);
+  }
+
+  public void testEmptyBuffer() throws Exception {
+    assertFalse(new WKBRecordReader(ByteBuffer.allocate(0), false).hasNext());
+  }
+
+  public void testFile() throws Exception {
+    List<Geometry> geoms = createGeometries(200);
+    File file = writeFile(toRecords(geoms, false, ByteOrder.BIG_ENDIAN));
+    try {
+      WKBRecordReader reader = WKBRecordReader.open(file, false);
+      checkRecords(geoms, reader);
+      reader.close();
+    }
+    finally {
+      file.delete();
+    }
+  }
+
+  public void testFileSmallWindow() throws Exception {
+    List<Geometry> geoms = createGeometries(200);
+    checkFileWindow(geoms, false, 1000);
+    checkFileWindow(geoms, true, 1000);
+  }
+
+  public void testRecordLargerThanWindow() throws Exception {
+    List<Geometry> geoms = createGeometries(10);
+    File file = writeFile(toRecords(geoms, false, ByteOrder.BIG_ENDIAN));
+    try {
+      WKBRecordReader reader = WKBRecordReader.open(file, false, new WKBBufferReader(), 20);
+      try {
+        reader.next();
+        fail();
+      }
+      catch (ParseException expected) {
+      }
+      reader.close();
+    }
+    finally {
+      file.delete();
+    }
+  }
+
+  public void testInvalidLength() throws Exception {
+    byte[] records = toRecords(createGeometries(1), true, ByteOrder.BIG_ENDIAN);
+    records[3] += 1;
+    WKBRecordReader reader = new WKBRecordReader(ByteBuffer.wrap(records), true);
+    try {
+      reader.next();
+      fail();
+    }
+    catch (ParseException expected) {
+    }
+  }
+
+  private void checkFileWindow(List<Geometry> geoms, boolean isLengthPrefixed, int windowSize) throws Exception {
+    File file = writeFile(toRecords(geoms, isLengthPrefixed, ByteOrder.BIG_ENDIAN));
+    try {
+      WKBRecordReader reader = WKBRecordReader.open(file, isLengthPrefixed, new WKBBufferReader(), windowSize);
+      checkRecords(geoms, reader);
+      reader.close();
+    }
+    finally {
+      file.delete();
+    }
+  }
+
+  private void checkRecords(List<Geometry> expected, WKBRecordReader reader) throws Exception {
+    int i = 0;
+    while (reader.hasNext()) {
+      Geometry geom = reader.next();
+      assertTrue(expected.get(i).equalsExact(geom));
+      i++;
+    }
+    assertEquals(expected.size(), i);
+  }
+
+  private List<Geometry> createGeometries(int n) {
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    for (int i = 0; i < n; i++) {
+      Geometry pt = geomFactory.createPoint(new Coordinate(i, 2 * i));
+      if (i % 3 == 0) {
+        geoms.add(pt);
+      }
+      else {
+        geoms.add(pt.buffer(1.0, i % 5 + 1));
+      }
+    }
+    return geoms;
+  }
+
+  private static byte[] toRecords(List<Geometry> geoms, boolean isLengthPrefixed, ByteOrder prefixOrder) {
+    List<byte[]> records = new ArrayList<byte[]>();
+    int size = 0;
+    WKBWriter writer = new WKBWriter();
+    for (Geometry geom : geoms) {
+      byte[] wkb = writer.write(geom);
+      records.add(wkb);
+      size += wkb.length + (isLengthPrefixed ? 4 : 0);
+    }
+    ByteBuffer buf = ByteBuffer.allocate(size).order(prefixOrder);
+    for (byte[] wkb : records) {
+      if (isLengthPrefixed)
+        buf.putInt(wkb.length);
+      buf.put(wkb);
+    }
+    return buf.array();
+  }
+
+  private static File writeFile(byte[] data) throws IOException {
+    File file = File.createTempFile("wkbrecords", ".wkb");
+    FileOutputStream os = new FileOutputStream(file);
+    try {
+      os.write(data);
+    }
+    finally {
+      os.close();
+    }
+    return file;
+  }
+}
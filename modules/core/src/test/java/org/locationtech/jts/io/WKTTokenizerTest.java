@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+
+/**
+ * Tests for {@link WKTTokenizer}, 
+ * and {@link WKTReader} reading from character data.
+ */
+public class WKTTokenizerTest extends TestCase
+{
+  public static void main(String args[]) {
+    TestRunner.run(WKTTokenizerTest.class);
+  }
+
+  private WKTReader rdr = new WKTReader(new GeometryFactory());
+
+  public WKTTokenizerTest(String name) {
+    super(name);
+  }
+
+  public void testTokens() throws IOException {
+    WKTTokenizer tokenizer = new WKTTokenizer("POINT Z( -1.5e3\t+2 # comment\n.5)");
+    checkWord(tokenizer, "POINT");
+    checkWord(tokenizer, "Z");
+    assertEquals('(', tokenizer.nextToken());
+    checkWord(tokenizer, "-1.5e3");
+    assertEquals(-1500.0, tokenizer.getNumber());
+    checkWord(tokenizer, "+2");
+    tokenizer.pushBack();
+    checkWord(tokenizer, "+2");
+    assertEquals(1, tokenizer.lineno());
+    checkWord(tokenizer, ".5");
+    assertEquals(2, tokenizer.lineno());
+    assertEquals(')', tokenizer.nextToken());
+    assertEquals(WKTTokenizer.TT_EOF, tokenizer.nextToken());
+  }
+
+  public void testIsWordIgnoresCase() throws IOException {
+    WKTTokenizer tokenizer = new WKTTokenizer("empty");
+    tokenizer.nextToken();
+    assertTrue(tokenizer.isWord("EMPTY"));
+    assertFalse(tokenizer.isWord("EMPT"));
+  }
+
+  public void testReadCharArray() throws ParseException {
+    String wkt = "LINESTRING (1 2, 3 4)";
+    char[] chars = ("xx" + wkt + "yy").toCharArray();
+    Geometry expected = rdr.read(wkt);
+    assertTrue(expected.equalsExact(rdr.read(chars, 2, wkt.length())));
+    assertTrue(expected.equalsExact(rdr.read(new StringBuilder(wkt))));
+  }
+
+  public void testReaderConsumption() throws ParseException, IOException {
+    StringReader reader = new StringReader("POINT (1 2)POINT (3 4)");
+    assertTrue(rdr.read("POINT (1 2)").equalsExact(rdr.read(reader)));
+    assertTrue(rdr.read("POINT (3 4)").equalsExact(rdr.read(reader)));
+    assertEquals(-1, reader.read());
+  }
+
+  public void testReaderLongToken() throws ParseException {
+    StringBuilder wkt = new StringBuilder("POINT (1.");
+    for (int i = 0; i < 200; i++) {
+      wkt.append('5');
+    }
+    wkt.append(" 2)");
+    Geometry geom = rdr.read(new StringReader(wkt.toString()));
+    assertEquals(Double.parseDouble(wkt.substring(7, wkt.length() - 3)), geom.getCoordinate().x);
+  }
+
+  private static void checkWord(WKTTokenizer tokenizer, String word) throws IOException {
+    assertEquals(WKTTokenizer.TT_WORD, tokenizer.nextToken());
+    assertEquals(word, tokenizer.getWord());
+  }
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.gml2;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+import org.locationtech.jts.io.GeometryConsumer;
+import org.xml.sax.SAXException;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class GMLStreamReaderTest extends GeometryTestCase {
+  private static final int DEFAULT_SRID = 9876;
+  private static final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), DEFAULT_SRID);
+
+  public static void main(String args[]) {
+    TestRunner.run(GMLStreamReaderTest.class);
+  }
+
+  public GMLStreamReaderTest(String name) { super(name); }
+
+  public void testPoint() {
+    checkRead("<gml:Point>"
+        + "    <gml:coordinates>45.67,88.56</gml:coordinates>"
+        + " </gml:Point>", 
+        "POINT (45.67 88.56)");
+  }
+
+  public void testPointCoordSepSpaces() {
+    checkRead("<Point>"
+        + "    <coordinates>45.67   ,   88.56</coordinates>"
+        + " </Point>", 
+        "POINT (45.67 88.56)");
+  }
+
+  public void testPointSRID() {
+    checkRead("<gml:Point srsName='urn:ogc:def:crs:EPSG::4326'>"
+        + "    <gml:coordinates>45.67,     88.56</gml:coordinates>"
+        + " </gml:Point>", 
+        "POINT (45.67 88.56)",
+        4326);
+  }
+
+  public void testPointCoord() {
+    checkRead("<gml:Point>"
+        + "    <gml:coord><gml:X>45.67</gml:X><gml:Y>88.56</gml:Y></gml:coord>"
+        + " </gml:Point>", 
+        "POINT (45.67 88.56)");
+  }
+
+  public void testPointPos() {
+    checkRead("<gml:Point srsDimension='3'>"
+        + "    <gml:pos>1 2 3</gml:pos>"
+        + " </gml:Point>", 
+        "POINT Z(1 2 3)");
+  }
+
+  public void testLineStringSeparators() {
+    checkRead("<gml:LineString>"
+        + "    <gml:coordinates decimal=\",\" cs=\" \" ts=\";\">45,67 88,56; 55,56 89,44</gml:coordinates>"
+        + " </gml:LineString >",
+        "LINESTRING (45.67 88.56, 55.56 89.44)");
+  }
+
+  public void testLineStringNewlines() {
+    checkRead("<gml:LineString>"
+        + "    <gml:coordinates>\n  45.67,88.56\n\t55.56,89.44\n</gml:coordinates>"
+        + " </gml:LineString >",
+        "LINESTRING (45.67 88.56, 55.56 89.44)");
+  }
+
+  public void testLineStringPosList() {
+    checkRead("<gml:LineString>"
+        + "    <gml:posList>1 2 3 4 5 6</gml:posList>"
+        + " </gml:LineString >",
+        "LINESTRING (1 2, 3 4, 5 6)");
+  }
+
+  public void testLineStringPosList3D() {
+    checkRead("<gml:LineString srsDimension='3'>"
+        + "    <gml:posList>1 2 3 4 5 6</gml:posList>"
+        + " </gml:LineString >",
+        "LINESTRING Z(1 2 3, 4 5 6)");
+  }
+
+  public void testPolygon() {
+    checkRead("<gml:Polygon>"
+        + "  <gml:outerBoundaryIs><gml:LinearRing>"
+        + "    <gml:coordinates>0,0 0,10 10,10 10,0 0,0</gml:coordinates>"
+        + "  </gml:LinearRing></gml:outerBoundaryIs>"
+        + "  <gml:innerBoundaryIs><gml:LinearRing>"
+        + "    <gml:coordinates>1,1 2,1 2,2 1,1</gml:coordinates>"
+        + "  </gml:LinearRing></gml:innerBoundaryIs>"
+        + "</gml:Polygon>",
+        "POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0), (1 1, 2 1, 2 2, 1 1))");
+  }
+
+  public void testPolygonGML3() {
+    checkRead("<gml:Polygon>"
+        + "  <gml:exterior><gml:LinearRing>"
+        + "    <gml:posList>0 0 0 10 10 10 10 0 0 0</gml:posList>"
+        + "  </gml:LinearRing></gml:exterior>"
+        + "  <gml:interior><gml:LinearRing>"
+        + "    <gml:posList>1 1 2 1 2 2 1 1</gml:posList>"
+        + "  </gml:LinearRing></gml:interior>"
+        + "</gml:Polygon>",
+        "POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0), (1 1, 2 1, 2 2, 1 1))");
+  }
+
+  public void testMultiPolygonSRID() {
+    checkRead("<gml:MultiPolygon srsName='EPSG:4326'>"
+        + "  <gml:polygonMember><gml:Polygon><gml:outerBoundaryIs><gml:LinearRing>"
+        + "    <gml:coordinates>0,0 0,10 10,10 0,0</gml:coordinates>"
+        + "  </gml:LinearRing></gml:outerBoundaryIs></gml:Polygon></gml:polygonMember>"
+        + "  <gml:polygonMember><gml:Polygon><gml:outerBoundaryIs><gml:LinearRing>"
+        + "    <gml:coordinates>20,20 20,30 30,30 20,20</gml:coordinates>"
+        + "  </gml:LinearRing></gml:outerBoundaryIs></gml:Polygon></gml:polygonMember>"
+        + "</gml:MultiPolygon>",
+        "MULTIPOLYGON (((0 0, 0 10, 10 10, 0 0)), ((20 20, 20 30, 30 30, 20 20)))",
+        4326);
+  }
+
+  public void testMultiSurface() {
+    checkRead("<gml:MultiSurface>"
+        + "  <gml:surfaceMember><gml:Polygon><gml:exterior><gml:LinearRing>"
+        + "    <gml:posList>0 0 0 10 10 10 0 0</gml:posList>"
+        + "  </gml:LinearRing></gml:exterior></gml:Polygon></gml:surfaceMember>"
+        + "</gml:MultiSurface>",
+        "MULTIPOLYGON (((0 0, 0 10, 10 10, 0 0)))");
+  }
+
+  public void testMultiGeometry() {
+    checkRead("<gml:MultiGeometry>"
+        + "  <gml:geometryMember><gml:Point><gml:coordinates>1,1</gml:coordinates></gml:Point></gml:geometryMember>"
+        + "  <gml:geometryMember><gml:LineString><gml:coordinates>1,1 2,2</gml:coordinates></gml:LineString></gml:geometryMember>"
+        + "</gml:MultiGeometry>",
+        "GEOMETRYCOLLECTION (POINT (1 1), LINESTRING (1 1, 2 2))");
+  }
+
+  public void testFeatureCollection() {
+    String gml = "<wfs:FeatureCollection xmlns:wfs='http://www.opengis.net/wfs' xmlns:gml='http://www.opengis.net/gml'>"
+        + "<gml:boundedBy><gml:Box><gml:coordinates>0,0 100,100</gml:coordinates></gml:Box></gml:boundedBy>"
+        + "<gml:featureMember><road><name>A</name><geom>"
+        + "  <gml:LineString><gml:coordinates>0,0 10,10</gml:coordinates></gml:LineString>"
+        + "</geom></road></gml:featureMember>"
+        + "<gml:featureMember><road><name>B</name><geom>"
+        + "  <gml:MultiLineString><gml:lineStringMember><gml:LineString><gml:coordinates>1,1 2,2</gml:coordinates></gml:LineString></gml:lineStringMember>"
+        + "  <gml:lineStringMember><gml:LineString><gml:coordinates>3,3 4,4</gml:coordinates></gml:LineString></gml:lineStringMember></gml:MultiLineString>"
+        + "</geom></road></gml:featureMember>"
+        + "<gml:featureMember><site><name>C</name><geom>"
+        + "  <gml:Point><gml:coordinates>5,5</gml:coordinates></gml:Point>"
+        + "</geom></site></gml:featureMember>"
+        + "</wfs:FeatureCollection>";
+    List<Geometry> geoms = readAll(gml, geometryFactory);
+    checkEqual(readArray(
+        "LINESTRING (0 0, 10 10)",
+        "MULTILINESTRING ((1 1, 2 2), (3 3, 4 4))",
+        "POINT (5 5)"), 
+        geoms.toArray(new Geometry[0]));
+  }
+
+  public void testSameAsGMLReader() throws Exception {
+    String gml = "<gml:MultiLineString srsName='4326'>"
+        + "  <gml:lineStringMember><gml:LineString><gml:coordinates>1,1 2,2 3,1</gml:coordinates></gml:LineString></gml:lineStringMember>"
+        + "  <gml:lineStringMember><gml:LineString><gml:coordinates>3,3,1 4,4,2</gml:coordinates></gml:LineString></gml:lineStringMember>"
+        + "</gml:MultiLineString>";
+    Geometry expected = new GMLReader().read(gml, geometryFactory);
+    List<Geometry> geoms = readAll(gml, geometryFactory);
+    assertEquals(1, geoms.size());
+    checkEqual(expected, geoms.get(0));
+    assertEquals(expected.getSRID(), geoms.get(0).getSRID());
+  }
+
+  public void testPackedFactory() {
+    GeometryFactory packedFactory = new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY);
+    List<Geometry> geoms = readAll("<gml:LineString>"
+        + "    <gml:coordinates>45.67,88.56 55.56,89.44</gml:coordinates>"
+        + " </gml:LineString >", packedFactory);
+    LineString line = (LineString) geoms.get(0);
+    assertTrue(line.getCoordinateSequence() instanceof PackedCoordinateSequence.Double);
+    checkEqual(read("LINESTRING (45.67 88.56, 55.56 89.44)"), line);
+  }
+
+  public void testInvalidNumber() {
+    checkReadError("<gml:Point><gml:coordinates>1,x</gml:coordinates></gml:Point>");
+  }
+
+  public void testPointWithTwoCoordinates() {
+    checkReadError("<gml:Point><gml:coordinates>1,1 2,2</gml:coordinates></gml:Point>");
+  }
+
+  public void testInvalidPosList() {
+    checkReadError("<gml:LineString><gml:posList>1 2 3</gml:posList></gml:LineString>");
+  }
+
+  private void checkRead(String gml, String wktExpected) {
+    checkRead(gml, wktExpected, DEFAULT_SRID);
+  } 
+
+  private void checkRead(String gml, String wktExpected, int srid) {
+    List<Geometry> geoms = readAll(gml, geometryFactory);
+    assertEquals(1, geoms.size());
+    Geometry g = geoms.get(0);
+    Geometry expected = read(wktExpected);
+    if (wktExpected.contains(" Z"))
+      checkEqualXYZ(expected, g);
+    else
+      checkEqual(expected, g);
+    assertEquals("SRID incorrect - ", srid, g.getSRID());
+  }
+
+  private void checkReadError(String gml) {
+    try {
+      new GMLStreamReader(geometryFactory).read(new StringReader(gml), new GeometryConsumer() {
+        public void accept(long recordNum, Geometry geometry) {
+        }
+      });
+      fail("SAXException expected");
+    } catch (SAXException e) {
+      // expected
+    } catch (IOException | ParserConfigurationException e) {
+      fail(e.getMessage());
+    }
+  }
+
+  private static List<Geometry> readAll(String gml, GeometryFactory factory) {
+    final List<Geometry> geoms = new ArrayList<Geometry>();
+    GMLStreamReader reader = new GMLStreamReader(factory);
+    try {
+      long count = reader.read(new StringReader(gml), new GeometryConsumer() {
+        public void accept(long recordNum, Geometry geometry) {
+          assertEquals(geoms.size(), recordNum);
+          geoms.add(geometry);
+        }
+      });
+      assertEquals(geoms.size(), count);
+    } catch (SAXException | IOException | ParserConfigurationException e) {
+      fail(e.getMessage());
+    }
+    return geoms;
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.kml;
+
+import junit.framework.TestCase;
+import junit.textui.TestRunner;
+import org.junit.Assert;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+import org.locationtech.jts.io.GeometryConsumer;
+import org.locationtech.jts.io.ParseException;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public class KMLStreamReaderTest extends TestCase {
+    public static void main(String args[]) {
+        TestRunner.run(KMLStreamReaderTest.class);
+    }
+
+    private static final List<String> ATTRIBUTE_NAMES = Arrays.asList("altitudeMode", "tesselate", "extrude");
+
+    private static final String POLYGON =
+            "<Polygon>" +
+            "   <altitudeMode>relativeToGround</altitudeMode>" +
+            "   <outerBoundaryIs>" +
+            "       <LinearRing>" +
+            "           <coordinates>1.0,1.0 1.0,10.0 10.0,10.0 10.0,1.0 1.0,1.0</coordinates>" +
+            "       </LinearRing>" +
+            "   </outerBoundaryIs>" +
+            "   <innerBoundaryIs>" +
+            "       <LinearRing>" +
+            "           <coordinates>2.0,2.0 2.0,3.0 3.0,3.0 3.0,2.0 2.0,2.0</coordinates>" +
+            "       </LinearRing>" +
+            "   </innerBoundaryIs>" +
+            "</Polygon>";
+
+    private static final String MULTIGEOMETRY =
+            "<MultiGeometry>" +
+            "   <Point><altitudeMode>absolute</altitudeMode><coordinates>1.0,1.0</coordinates></Point>" +
+            "   <LineString><tesselate>1</tesselate><coordinates>1.0,1.0 2.0,2.0</coordinates></LineString>" +
+            "</MultiGeometry>";
+
+    public KMLStreamReaderTest(String name) {
+        super(name);
+    }
+
+    public void testSameAsKMLReader() throws ParseException {
+        String[] kmls = {
+            "<Point><altitudeMode>absolute</altitudeMode><coordinates>1.0,1.0</coordinates></Point>",
+            "<LineString><tesselate>1</tesselate><coordinates>1.0,1.0 2.0,2.0</coordinates></LineString>",
+            "<Point><coordinates>1.0,1.0,50.0</coordinates></Point>",
+            POLYGON,
+            MULTIGEOMETRY,
+            "<MultiGeometry><Point><coordinates>1.0,1.0</coordinates></Point><Point><coordinates>2.0,2.0</coordinates></Point></MultiGeometry>",
+            "<MultiGeometry><LineString><coordinates>1.0,1.0 2.0,2.0</coordinates></LineString><LineString><coordinates>5.0,5.0 6.0,6.0</coordinates></LineString></MultiGeometry>",
+        };
+        KMLReader kmlReader = new KMLReader(ATTRIBUTE_NAMES);
+        for (String kml : kmls) {
+            Geometry expected = kmlReader.read(kml);
+            List<Geometry> geoms = readAll(kml, new GeometryFactory());
+            assertEquals(1, geoms.size());
+            Geometry actual = geoms.get(0);
+            assertEquals(expected.toText(), actual.toText());
+            assertEquals(expected.getCoordinate().z, actual.getCoordinate().z);
+            for (int i = 0; i < expected.getNumGeometries(); i++) {
+                assertEquals(expected.getGeometryN(i).getUserData(), actual.getGeometryN(i).getUserData());
+            }
+        }
+    }
+
+    public void testDocument() throws ParseException {
+        String kml = "<?xml version='1.0' encoding='UTF-8'?>" +
+                "<kml xmlns='http://www.opengis.net/kml/2.2'><Document>" +
+                "<Placemark><name>A</name><description>Polygon</description>" + POLYGON + "</Placemark>" +
+                "<Folder><Placemark><name>B</name>" + MULTIGEOMETRY + "</Placemark>" +
+                "<Placemark><name>C</name><Point><coordinates>\n\t5,6\n</coordinates></Point></Placemark></Folder>" +
+                "</Document></kml>";
+        List<Geometry> geoms = readAll(kml, new GeometryFactory());
+        assertEquals(3, geoms.size());
+        assertEquals("POLYGON ((1 1, 1 10, 10 10, 10 1, 1 1), (2 2, 2 3, 3 3, 3 2, 2 2))", geoms.get(0).toText());
+        assertEquals(Collections.singletonMap("altitudeMode", "relativeToGround"), geoms.get(0).getUserData());
+        assertEquals("GEOMETRYCOLLECTION (POINT (1 1), LINESTRING (1 1, 2 2))", geoms.get(1).toText());
+        assertEquals("POINT (5 6)", geoms.get(2).toText());
+    }
+
+    public void testCoordinatesWhitespace() throws ParseException {
+        List<Geometry> geoms = readAll(
+                "<LineString><coordinates>\n   1,1,0\n   2,2,0\n\t3,1,0\n</coordinates></LineString>",
+                new GeometryFactory());
+        assertEquals("LINESTRING (1 1, 2 2, 3 1)", geoms.get(0).toText());
+        assertEquals(0.0, ((LineString) geoms.get(0)).getCoordinateSequence().getZ(2));
+    }
+
+    public void testEmptyMultiGeometry() throws ParseException {
+        List<Geometry> geoms = readAll("<MultiGeometry></MultiGeometry>", new GeometryFactory());
+        assertEquals("GEOMETRYCOLLECTION EMPTY", geoms.get(0).toText());
+    }
+
+    public void testPrecisionAndSRID() throws ParseException {
+        GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(1000.0), 4326);
+        List<Geometry> geoms = readAll("<Point><coordinates>1.385093,1.436456</coordinates></Point>", geometryFactory);
+        assertEquals("Wrong SRID", geometryFactory.getSRID(), geoms.get(0).getSRID());
+        assertEquals("Wrong precision", "POINT (1.385 1.436)", geoms.get(0).toText());
+    }
+
+    public void testPackedFactory() throws ParseException {
+        GeometryFactory packedFactory = new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY);
+        List<Geometry> geoms = readAll("<LineString><coordinates>1,1 2,2</coordinates></LineString>", packedFactory);
+        LineString line = (LineString) geoms.get(0);
+        assertTrue(line.getCoordinateSequence() instanceof PackedCoordinateSequence.Double);
+    }
+
+    public void testCoordinatesErrors() {
+        checkExceptionThrown("<Point></Point>", "No element coordinates found in Point");
+        checkExceptionThrown("<Point><coordinates></coordinates></Point>", "Empty coordinates");
+        checkExceptionThrown("<Polygon></Polygon>", "No outer boundary for Polygon");
+        checkExceptionThrown("<Polygon><outerBoundaryIs><LinearRing></LinearRing></outerBoundaryIs></Polygon>", "No element coordinates found in outerBoundaryIs");
+    }
+
+    private void checkExceptionThrown(String kmlString, String expectedError) {
+        try {
+            readAll(kmlString, new GeometryFactory());
+            Assert.fail("Exception must be thrown");
+        } catch (ParseException e) {
+            assertEquals("Exception text differs", expectedError, e.getMessage());
+        }
+    }
+
+    private static List<Geometry> readAll(String kml, GeometryFactory geometryFactory) throws ParseException {
+        final List<Geometry> geoms = new ArrayList<>();
+        KMLStreamReader reader = new KMLStreamReader(geometryFactory, ATTRIBUTE_NAMES);
+        try {
+            long count = reader.read(new StringReader(kml), new GeometryConsumer() {
+                public void accept(long recordNum, Geometry geometry) {
+                    assertEquals(geoms.size(), recordNum);
+                    geoms.add(geometry);
+                }
+            });
+            assertEquals(geoms.size(), count);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return geoms;
+    }
+}
@@ -126,6 +126,13 @@ public class KMLWriterTest extends TestCase
         " <LineString><coordinates>1,1.1 2.6,3</coordinates></LineString>");
   }
 
+  public void testDefaultFormat()
+  {
+    // without a precision ordinates are written as by Double.toString
+    checkEqual("LINESTRING Z (0.00001 12345678901 1.5, -0.1 2e-7 3)", 
+        "<LineString><coordinates>1.0E-5,1.2345678901E10,1.5 -0.1,2.0E-7,3.0</coordinates></LineString>");
+  }
+
 
   private void checkEqual(String wkt, String expectedKML) {
     KMLWriter kmlWriter = new KMLWriter();
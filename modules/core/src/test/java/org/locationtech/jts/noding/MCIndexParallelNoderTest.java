@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.noding;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.locationtech.jts.algorithm.RobustLineIntersector;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.operation.overlayng.OverlayNG;
+import org.locationtech.jts.geom.util.SineStarFactory;
+
+import test.jts.GeometryTestCase;
+
+public class MCIndexParallelNoderTest extends GeometryTestCase {
+
+  public static void main(String[] args) {
+    junit.textui.TestRunner.run(MCIndexParallelNoderTest.class);
+  }
+  
+  public MCIndexParallelNoderTest(String name) {
+    super(name);
+  }
+
+  private ForkJoinPool pool = new ForkJoinPool(4);
+
+  public void tearDown() {
+    pool.shutdown();
+  }
+  
+  public void testSimple() {
+    checkSameNoding(toSegmentStrings(read(
+        "MULTILINESTRING ((0 0, 10 10), (0 10, 10 0), (5 0, 5 10, 0 5))")));
+  }
+
+  public void testRandomLines() {
+    checkSameNoding(randomLines(2000, 6, 1));
+  }
+
+  public void testRandomLinesZ() {
+    // Z values are retained from the first node added,
+    // so this checks that nodes are added in the same order
+    checkSameNoding(randomLines(2000, 6, 2));
+  }
+
+  public void testEmpty() {
+    MCIndexParallelNoder noder = new MCIndexParallelNoder(pool);
+    noder.computeNodes(new ArrayList());
+    assertTrue(noder.getNodedSubstrings().isEmpty());
+  }
+
+  public void testOverlay() {
+    Geometry a = createSineStar(0, 0, 100, 2000);
+    Geometry b = createSineStar(30, 20, 100, 2000);
+    Geometry expected = OverlayNG.overlay(a, b, OverlayNG.UNION, createSequentialNoder());
+    Geometry actual = OverlayNG.overlay(a, b, OverlayNG.UNION, new MCIndexParallelNoder(pool));
+    assertTrue(expected.equalsExact(actual));
+  }
+
+  private void checkSameNoding(List<NodedSegmentString> segStrings) {
+    Noder seqNoder = createSequentialNoder();
+    seqNoder.computeNodes(copy(segStrings));
+    Collection expected = seqNoder.getNodedSubstrings();
+    
+    Noder parNoder = new MCIndexParallelNoder(pool);
+    parNoder.computeNodes(copy(segStrings));
+    Collection actual = parNoder.getNodedSubstrings();
+    
+    assertEquals(expected.size(), actual.size());
+    Iterator itExp = expected.iterator();
+    Iterator itAct = actual.iterator();
+    while (itExp.hasNext()) {
+      Coordinate[] ptsExp = ((SegmentString) itExp.next()).getCoordinates();
+      Coordinate[] ptsAct = ((SegmentString) itAct.next()).getCoordinates();
+      assertEquals(ptsExp.length, ptsAct.length);
+      for (int i = 0; i < ptsExp.length; i++) {
+        assertTrue(ptsExp[i].equals3D(ptsAct[i]) 
+            || (ptsExp[i].equals2D(ptsAct[i]) && Double.isNaN(ptsExp[i].getZ()) && Double.isNaN(ptsAct[i].getZ())));
+      }
+    }
+  }
+
+  private static Noder createSequentialNoder() {
+    return new MCIndexNoder(new IntersectionAdder(new RobustLineIntersector()));
+  }
+  
+  private static List<NodedSegmentString> copy(List<NodedSegmentString> segStrings) {
+    List<NodedSegmentString> copy = new ArrayList<NodedSegmentString>();
+    for (NodedSegmentString ss : segStrings) {
+      copy.add(new NodedSegmentString(ss.getCoordinates(), ss.getData()));
+    }
+    return copy;
+  }
+  
+  private static List<NodedSegmentString> toSegmentStrings(Geometry geom) {
+    List<NodedSegmentString> segStrings = new ArrayList<NodedSegmentString>();
+    for (int i = 0; i < geom.getNumGeometries(); i++) {
+      segStrings.add(new NodedSegmentString(geom.getGeometryN(i).getCoordinates(), null));
+    }
+    return segStrings;
+  }
+  
+  private static List<NodedSegmentString> randomLines(int numLines, int numPts, long seed) {
+    Random random = new Random(seed);
+    List<NodedSegmentString> segStrings = new ArrayList<NodedSegmentString>();
+    for (int i = 0; i < numLines; i++) {
+      double x = 1000 * random.nextDouble();
+      double y = 1000 * random.nextDouble();
+      Coordinate[] pts = new Coordinate[numPts];
+      for (int j = 0; j < numPts; j++) {
+        pts[j] = new Coordinate(x, y, 100 * random.nextDouble());
+        x += 50 * (random.nextDouble() - 0.5);
+        y += 50 * (random.nextDouble() - 0.5);
+      }
+      segStrings.add(new NodedSegmentString(pts, null));
+    }
+    return segStrings;
+  }
+  
+  private Geometry createSineStar(double x, double y, double size, int nPts) {
+    SineStarFactory gsf = new SineStarFactory(getGeometryFactory());
+    gsf.setCentre(new Coordinate(x, y));
+    gsf.setSize(size);
+    gsf.setNumPoints(nPts);
+    gsf.setArmLengthRatio(0.3);
+    gsf.setNumArms(20);
+    return gsf.createSineStar();
+  }
+}
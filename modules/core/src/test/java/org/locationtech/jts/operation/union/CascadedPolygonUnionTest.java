@@ -15,6 +15,7 @@ package org.locationtech.jts.operation.union;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
@@ -77,6 +78,33 @@ public class CascadedPolygonUnionTest extends TestCase
   			CascadedPolygonUnionTester.MIN_SIMILARITY_MEAURE);
   }
 
+
+  public void testParallel()
+  throws Exception
+  {
+    checkParallel(createDiscs(5, 0.7));
+    checkParallel(createDiscs(20, 0.6));
+  }
+
+  public void testParallelSingle()
+  throws Exception
+  {
+    checkParallel(createDiscs(1, 0.7));
+  }
+
+  private void checkParallel(Collection geoms)
+  {
+    Geometry expected = CascadedPolygonUnion.union(geoms);
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      Geometry actual = CascadedPolygonUnion.union(geoms, 
+          CascadedPolygonUnion.CLASSIC_UNION, pool);
+      assertTrue(expected.equalsExact(actual));
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
   
   // TODO: add some synthetic tests
   
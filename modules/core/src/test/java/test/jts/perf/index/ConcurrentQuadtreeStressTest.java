@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package test.jts.perf.index;
+
+import java.util.List;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.quadtree.ConcurrentQuadtree;
+import org.locationtech.jts.util.Stopwatch;
+
+/**
+ * Stress tests {@link ConcurrentQuadtree} with 
+ * concurrent reader and writer threads.
+ * <p>
+ * A fixed set of items is loaded at the start and never removed,
+ * so every query must find the fixed items it intersects. 
+ * Writers repeatedly insert, move and remove their own items.
+ */
+public class ConcurrentQuadtreeStressTest {
+  
+  private static final int NUM_ITEMS = 10000;
+  private static final int NUM_READERS = 4;
+  private static final int NUM_WRITERS = 4;
+  private static final int NUM_OPS = 100000;
+  
+  private static final double BASE_MIN = -1000;
+  private static final double BASE_MAX = 1000;
+  private static final double SIZE_MAX = 100;
+
+  public static void main(String[] args) throws Exception
+  {
+    ConcurrentQuadtreeStressTest test = new ConcurrentQuadtreeStressTest();
+    test.run();
+  }
+  
+  private ConcurrentQuadtree tree = new ConcurrentQuadtree();
+  private Envelope[] fixedEnv = new Envelope[NUM_ITEMS];
+  private volatile int errorCount = 0;
+  
+  private void run() throws InterruptedException {
+    loadGrid(NUM_ITEMS);
+    
+    Thread[] threads = new Thread[NUM_READERS + NUM_WRITERS];
+    for (int i = 0; i < NUM_READERS; i++) {
+      threads[i] = new Reader(i);
+    }
+    for (int i = 0; i < NUM_WRITERS; i++) {
+      threads[NUM_READERS + i] = new Writer(i);
+    }
+    Stopwatch sw = new Stopwatch();
+    for (Thread t : threads) t.start();
+    for (Thread t : threads) t.join();
+    System.out.println("Run time: " + sw.getTimeString());
+    
+    int expectedSize = NUM_ITEMS + NUM_WRITERS * (NUM_OPS / 2);
+    if (tree.size() != expectedSize) {
+      error("Final size is " + tree.size() + " - expected " + expectedSize);
+    }
+    if (tree.queryAll().size() != expectedSize) {
+      error("Final item count is " + tree.queryAll().size() + " - expected " + expectedSize);
+    }
+    System.out.println("Errors: " + errorCount);
+  }
+
+  private void loadGrid(int numItems) {
+    int numSide = (int) Math.sqrt(numItems);
+    double gridSize = (BASE_MAX - BASE_MIN) / numSide;
+    for (int i = 0; i < numSide; i++) {
+      for (int j = 0; j < numSide; j++) {
+        double x = BASE_MIN + i * gridSize;
+        double y = BASE_MIN + j * gridSize;
+        Envelope env = new Envelope(x, x + gridSize / 2, y, y + gridSize / 2);
+        int index = i * numSide + j;
+        fixedEnv[index] = env;
+        tree.insert(env, Integer.valueOf(index));
+      }
+    }
+  }
+  
+  private synchronized void error(String msg) {
+    errorCount++;
+    System.out.println(msg);
+  }
+
+  private class Reader extends Thread {
+    private Random random;
+    
+    Reader(int id) {
+      random = new Random(id);
+    }
+    
+    public void run() {
+      for (int i = 0; i < NUM_OPS; i++) {
+        Envelope env = randomEnvelope(random, BASE_MIN, BASE_MAX, 2 * SIZE_MAX);
+        List result = tree.query(env);
+        checkFixed(env, result);
+      }
+    }
+
+    private void checkFixed(Envelope env, List result) {
+      int numFixed = 0;
+      for (Object item : result) {
+        if (item instanceof Integer) numFixed++;
+      }
+      int expected = 0;
+      for (int i = 0; i < fixedEnv.length; i++) {
+        if (fixedEnv[i] != null && fixedEnv[i].intersects(env)) expected++;
+      }
+      if (numFixed != expected) {
+        error("Query " + env + " found " + numFixed + " fixed items - expected " + expected);
+      }
+    }
+  }
+
+  private class Writer extends Thread {
+    private int id;
+    private Random random;
+    
+    Writer(int id) {
+      this.id = id;
+      random = new Random(1000 + id);
+    }
+    
+    public void run() {
+      for (int i = 0; i < NUM_OPS; i++) {
+        String item = id + "-" + i;
+        Envelope env = randomEnvelope(random, BASE_MIN, BASE_MAX, SIZE_MAX);
+        tree.insert(env, item);
+        if (! tree.query(env).contains(item)) {
+          error("Inserted item " + item + " not found");
+        }
+        Envelope moveEnv = randomEnvelope(random, BASE_MIN, BASE_MAX, SIZE_MAX);
+        if (! tree.update(env, moveEnv, item)) {
+          error("Item " + item + " not found for update");
+        }
+        if (i % 2 == 0 && ! tree.remove(moveEnv, item)) {
+          error("Item " + item + " not found for removal");
+        }
+      }
+    }
+  }
+
+  private static Envelope randomEnvelope(Random random, double baseMin, double baseMax, double size) {
+    double x = baseMin + (baseMax - baseMin) * random.nextDouble();
+    double y = baseMin + (baseMax - baseMin) * random.nextDouble();
+    return new Envelope(x, x + size * random.nextDouble(), y, y + size * random.nextDouble());
+  }
+}
@@ -0,0 +1,454 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.columnar;
+
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFactory;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.MultiPoint;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+
+/**
+ * A batch of geometries of a single type held in columnar form,
+ * following the memory layout of the GeoArrow native encodings.
+ * <p>
+ * The coordinates of all the geometries are held in
+ * <code>double</code> buffers, either interleaved (one buffer of
+ * <code>x, y, [z], [m]</code> tuples) or separate (one buffer per ordinate).
+ * The nesting of the geometries is described by levels of <code>int</code> offsets.
+ * Each level has one more entry than the number of items at that level,
+ * and the offsets of item <code>i</code> are 
+ * <code>offsets[i]</code> (inclusive) to <code>offsets[i+1]</code> (exclusive)
+ * in the next level, or in the coordinates for the last level.
+ * The levels for each geometry type are:
+ * <ul>
+ * <li>{@link #POINT}: none (one coordinate per geometry)
+ * <li>{@link #LINESTRING}, {@link #MULTIPOINT}: geometries
+ * <li>{@link #POLYGON}: geometries, rings
+ * <li>{@link #MULTILINESTRING}: geometries, lines
+ * <li>{@link #MULTIPOLYGON}: geometries, polygons, rings
+ * </ul>
+ * An empty point is encoded as a coordinate with all ordinates <code>NaN</code>.
+ * <p>
+ * A batch is created from geometries with {@link #create(Geometry[], boolean)}, 
+ * and converted back with {@link #toGeometries(GeometryFactory)}.
+ * Coordinates are moved with bulk array copies, and if the target factory uses a
+ * {@link PackedCoordinateSequenceFactory} the copied arrays are used directly 
+ * as the storage of {@link PackedCoordinateSequence}s.
+ * A batch can also be constructed directly from offset and coordinate buffers
+ * produced by another system, 
+ * and can be stored in a file with {@link GeometryBatchWriter}.
+ * <p>
+ * Batches are immutable, but the buffer accessors return the
+ * internal arrays without copying, so they must not be modified.
+ *
+ * @see GeometryBatchWriter
+ * @see GeometryBatchReader
+ */
+public class GeometryBatch
+{
+  /**
+   * Type code for a batch of {@link Point}s.
+   */
+  public static final int POINT = 1;
+  /**
+   * Type code for a batch of {@link LineString}s.
+   */
+  public static final int LINESTRING = 2;
+  /**
+   * Type code for a batch of {@link Polygon}s.
+   */
+  public static final int POLYGON = 3;
+  /**
+   * Type code for a batch of {@link MultiPoint}s.
+   */
+  public static final int MULTIPOINT = 4;
+  /**
+   * Type code for a batch of {@link MultiLineString}s.
+   */
+  public static final int MULTILINESTRING = 5;
+  /**
+   * Type code for a batch of {@link MultiPolygon}s.
+   */
+  public static final int MULTIPOLYGON = 6;
+
+  /**
+   * Gets the number of offset levels used by a geometry type.
+   * 
+   * @param type a geometry type code
+   * @return the number of offset levels for the type
+   */
+  public static int numLevels(int type) {
+    switch (type) {
+    case POINT: return 0;
+    case LINESTRING: return 1;
+    case POLYGON: return 2;
+    case MULTIPOINT: return 1;
+    case MULTILINESTRING: return 2;
+    case MULTIPOLYGON: return 3;
+    }
+    throw new IllegalArgumentException("Unknown geometry type: " + type);
+  }
+
+  /**
+   * Creates a batch from an array of geometries.
+   * The batch type is the most general type of the geometries, 
+   * so that for example a mix of {@link Polygon}s and {@link MultiPolygon}s
+   * produces a {@link #MULTIPOLYGON} batch.
+   * The batch has a Z ordinate if any geometry has Z, and an M ordinate if
+   * any geometry has M; missing ordinates are <code>NaN</code>.
+   * 
+   * @param geoms the geometries to encode
+   * @param isInterleaved true if the coordinates are held in a single interleaved buffer
+   * @return a batch containing the geometries
+   * @throws IllegalArgumentException if the geometries are of incompatible types, 
+   *   or an element is null or a heterogeneous GeometryCollection
+   */
+  public static GeometryBatch create(Geometry[] geoms, boolean isInterleaved) {
+    return new GeometryBatchEncoder(geoms).encode(isInterleaved);
+  }
+
+  private final int type;
+  private final int size;
+  private final int dimension;
+  private final int measures;
+  private final int[][] offsets;
+  private final double[][] buffers;
+  private final int numCoordinates;
+
+  /**
+   * Creates a batch with interleaved coordinates.
+   * 
+   * @param type the geometry type code
+   * @param size the number of geometries
+   * @param dimension the coordinate dimension (2, 3 or 4)
+   * @param measures the number of measures (0 or 1)
+   * @param offsets the offset levels for the type
+   * @param coordinates the interleaved coordinate buffer
+   * @throws IllegalArgumentException if the offsets or coordinates are inconsistent
+   */
+  public GeometryBatch(int type, int size, int dimension, int measures, 
+      int[][] offsets, double[] coordinates) {
+    this(type, size, dimension, measures, offsets, new double[][] { coordinates }, 
+        coordinates.length / dimension);
+  }
+
+  /**
+   * Creates a batch with a separate buffer for each ordinate.
+   * 
+   * @param type the geometry type code
+   * @param size the number of geometries
+   * @param dimension the coordinate dimension (2, 3 or 4)
+   * @param measures the number of measures (0 or 1)
+   * @param offsets the offset levels for the type
+   * @param ordinates the ordinate buffers, in the order x, y, [z], [m]
+   * @throws IllegalArgumentException if the offsets or coordinates are inconsistent
+   */
+  public GeometryBatch(int type, int size, int dimension, int measures, 
+      int[][] offsets, double[][] ordinates) {
+    this(type, size, dimension, measures, offsets, ordinates, 
+        ordinates.length > 0 ? ordinates[0].length : 0);
+  }
+
+  private GeometryBatch(int type, int size, int dimension, int measures, 
+      int[][] offsets, double[][] buffers, int numCoordinates) {
+    this.type = type;
+    this.size = size;
+    this.dimension = dimension;
+    this.measures = measures;
+    this.offsets = offsets;
+    this.buffers = buffers;
+    this.numCoordinates = numCoordinates;
+    validate();
+  }
+
+  private void validate() {
+    if (dimension < 2 || dimension > 4)
+      throw new IllegalArgumentException("Invalid dimension: " + dimension);
+    if (measures < 0 || measures > 1 || dimension - measures < 2)
+      throw new IllegalArgumentException("Invalid measures: " + measures);
+    if (size < 0)
+      throw new IllegalArgumentException("Invalid size: " + size);
+    int numLevels = numLevels(type);
+    if (offsets.length != numLevels)
+      throw new IllegalArgumentException("Expected " + numLevels + " offset levels, found " + offsets.length);
+    if (buffers.length == 1) {
+      if (buffers[0].length != numCoordinates * dimension)
+        throw new IllegalArgumentException("Coordinate buffer length is not a multiple of dimension");
+    }
+    else {
+      if (buffers.length != dimension)
+        throw new IllegalArgumentException("Expected " + dimension + " ordinate buffers, found " + buffers.length);
+      for (int i = 0; i < buffers.length; i++) {
+        if (buffers[i].length != numCoordinates)
+          throw new IllegalArgumentException("Ordinate buffers have different lengths");
+      }
+    }
+    int count = size;
+    for (int level = 0; level < numLevels; level++) {
+      int[] off = offsets[level];
+      if (off.length != count + 1 || off[0] != 0)
+        throw new IllegalArgumentException("Invalid offsets at level " + level);
+      for (int i = 0; i < count; i++) {
+        if (off[i + 1] < off[i])
+          throw new IllegalArgumentException("Offsets decrease at level " + level + " index " + i);
+      }
+      count = off[count];
+    }
+    if (count != numCoordinates)
+      throw new IllegalArgumentException("Offsets reference " + count + " coordinates, found " + numCoordinates);
+  }
+
+  /**
+   * Gets the geometry type code of the batch.
+   * 
+   * @return the geometry type code
+   */
+  public int getType() {
+    return type;
+  }
+
+  /**
+   * Gets the number of geometries in the batch.
+   * 
+   * @return the number of geometries
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Gets the coordinate dimension of the batch.
+   * 
+   * @return the coordinate dimension
+   */
+  public int getDimension() {
+    return dimension;
+  }
+
+  /**
+   * Gets the number of measures of the batch.
+   * 
+   * @return the number of measures
+   */
+  public int getMeasures() {
+    return measures;
+  }
+
+  /**
+   * Gets the total number of coordinates in the batch.
+   * 
+   * @return the number of coordinates
+   */
+  public int getNumCoordinates() {
+    return numCoordinates;
+  }
+
+  /**
+   * Tests whether the coordinates are held in a single interleaved buffer.
+   * 
+   * @return true if the coordinates are interleaved
+   */
+  public boolean isInterleaved() {
+    return buffers.length == 1;
+  }
+
+  /**
+   * Gets the offsets at a nesting level.
+   * 
+   * @param level the level index, starting at 0 for the geometries
+   * @return the offsets array
+   */
+  public int[] getOffsets(int level) {
+    return offsets[level];
+  }
+
+  /**
+   * Gets the interleaved coordinate buffer.
+   * 
+   * @return the coordinate buffer
+   * @throws IllegalStateException if the coordinates are not interleaved
+   */
+  public double[] getCoordinates() {
+    if (! isInterleaved())
+      throw new IllegalStateException("Coordinates are not interleaved");
+    return buffers[0];
+  }
+
+  /**
+   * Gets the buffer for an ordinate.
+   * 
+   * @param ordinateIndex the ordinate index (0 for x, 1 for y, ...)
+   * @return the ordinate buffer
+   * @throws IllegalStateException if the coordinates are interleaved
+   */
+  public double[] getOrdinates(int ordinateIndex) {
+    if (isInterleaved())
+      throw new IllegalStateException("Coordinates are interleaved");
+    return buffers[ordinateIndex];
+  }
+
+  /**
+   * Gets a copy of this batch with the coordinates 
+   * in interleaved or separate form.
+   * The offsets are shared.
+   * 
+   * @param isInterleaved true if the result should have interleaved coordinates
+   * @return a batch with the requested coordinate layout
+   */
+  public GeometryBatch toLayout(boolean isInterleaved) {
+    if (isInterleaved == isInterleaved())
+      return this;
+    if (isInterleaved) {
+      double[] coords = new double[numCoordinates * dimension];
+      for (int d = 0; d < dimension; d++) {
+        double[] ords = buffers[d];
+        for (int i = 0, j = d; i < numCoordinates; i++, j += dimension) {
+          coords[j] = ords[i];
+        }
+      }
+      return new GeometryBatch(type, size, dimension, measures, offsets, coords);
+    }
+    double[][] ordinates = new double[dimension][numCoordinates];
+    double[] coords = buffers[0];
+    for (int d = 0; d < dimension; d++) {
+      double[] ords = ordinates[d];
+      for (int i = 0, j = d; i < numCoordinates; i++, j += dimension) {
+        ords[i] = coords[j];
+      }
+    }
+    return new GeometryBatch(type, size, dimension, measures, offsets, ordinates);
+  }
+
+  /**
+   * Converts the batch to an array of geometries.
+   * 
+   * @param factory the factory to create the geometries with
+   * @return the geometries in the batch
+   */
+  public Geometry[] toGeometries(GeometryFactory factory) {
+    Geometry[] geoms = new Geometry[size];
+    for (int i = 0; i < size; i++) {
+      geoms[i] = getGeometry(i, factory);
+    }
+    return geoms;
+  }
+
+  /**
+   * Creates the geometry at an index in the batch.
+   * 
+   * @param index the index of the geometry
+   * @param factory the factory to create the geometry with
+   * @return the geometry
+   */
+  public Geometry getGeometry(int index, GeometryFactory factory) {
+    switch (type) {
+    case POINT: 
+      return createPoint(index, factory);
+    case LINESTRING:
+      return factory.createLineString(createSequence(offsets[0], index, factory));
+    case POLYGON:
+      return createPolygon(index, offsets[0], offsets[1], factory);
+    case MULTIPOINT:
+      return factory.createMultiPoint(createSequence(offsets[0], index, factory));
+    case MULTILINESTRING: {
+      int start = offsets[0][index];
+      LineString[] lines = new LineString[offsets[0][index + 1] - start];
+      for (int i = 0; i < lines.length; i++) {
+        lines[i] = factory.createLineString(createSequence(offsets[1], start + i, factory));
+      }
+      return factory.createMultiLineString(lines);
+    }
+    case MULTIPOLYGON: {
+      int start = offsets[0][index];
+      Polygon[] polys = new Polygon[offsets[0][index + 1] - start];
+      for (int i = 0; i < polys.length; i++) {
+        polys[i] = createPolygon(start + i, offsets[1], offsets[2], factory);
+      }
+      return factory.createMultiPolygon(polys);
+    }
+    }
+    throw new IllegalStateException();
+  }
+
+  private Point createPoint(int index, GeometryFactory factory) {
+    boolean isEmpty = true;
+    for (int d = 0; d < dimension; d++) {
+      if (! Double.isNaN(ordinate(index, d))) {
+        isEmpty = false;
+        break;
+      }
+    }
+    if (isEmpty)
+      return factory.createPoint();
+    return factory.createPoint(createSequence(index, index + 1, factory));
+  }
+
+  private Polygon createPolygon(int index, int[] polyOffsets, int[] ringOffsets, GeometryFactory factory) {
+    int start = polyOffsets[index];
+    int numRings = polyOffsets[index + 1] - start;
+    if (numRings == 0)
+      return factory.createPolygon();
+    LinearRing shell = factory.createLinearRing(createSequence(ringOffsets, start, factory));
+    LinearRing[] holes = new LinearRing[numRings - 1];
+    for (int i = 0; i < holes.length; i++) {
+      holes[i] = factory.createLinearRing(createSequence(ringOffsets, start + 1 + i, factory));
+    }
+    return factory.createPolygon(shell, holes);
+  }
+
+  private double ordinate(int coordIndex, int ordinateIndex) {
+    if (isInterleaved())
+      return buffers[0][coordIndex * dimension + ordinateIndex];
+    return buffers[ordinateIndex][coordIndex];
+  }
+
+  private CoordinateSequence createSequence(int[] coordOffsets, int index, GeometryFactory factory) {
+    return createSequence(coordOffsets[index], coordOffsets[index + 1], factory);
+  }
+
+  private CoordinateSequence createSequence(int start, int end, GeometryFactory factory) {
+    int n = end - start;
+    double[] ords = new double[n * dimension];
+    if (isInterleaved()) {
+      System.arraycopy(buffers[0], start * dimension, ords, 0, ords.length);
+    }
+    else {
+      for (int d = 0; d < dimension; d++) {
+        double[] src = buffers[d];
+        for (int i = 0, j = d; i < n; i++, j += dimension) {
+          ords[j] = src[start + i];
+        }
+      }
+    }
+    CoordinateSequenceFactory csFactory = factory.getCoordinateSequenceFactory();
+    if (csFactory instanceof PackedCoordinateSequenceFactory) {
+      return ((PackedCoordinateSequenceFactory) csFactory).create(ords, dimension, measures);
+    }
+    CoordinateSequence seq = csFactory.create(n, dimension, measures);
+    int seqDim = Math.min(dimension, seq.getDimension());
+    for (int i = 0; i < n; i++) {
+      for (int d = 0; d < seqDim; d++) {
+        seq.setOrdinate(i, d, ords[i * dimension + d]);
+      }
+    }
+    return seq;
+  }
+}
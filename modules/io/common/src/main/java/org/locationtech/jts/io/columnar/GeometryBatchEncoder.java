@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.columnar;
+
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.MultiPoint;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+
+/**
+ * Encodes an array of geometries into a {@link GeometryBatch}.
+ * A first pass determines the batch type and dimension and counts the items
+ * at each level, so that the buffers are allocated at their exact size
+ * and filled in a second pass.
+ */
+class GeometryBatchEncoder
+{
+  private final Geometry[] geoms;
+  private int type;
+  private boolean hasZ = false;
+  private boolean hasM = false;
+  private int dimension;
+  private int measures;
+  
+  private int[][] offsets;
+  private int[] levelCount;
+  private double[][] buffers;
+  private boolean isInterleaved;
+  private int numCoords = 0;
+
+  GeometryBatchEncoder(Geometry[] geoms) {
+    this.geoms = geoms;
+  }
+
+  GeometryBatch encode(boolean isInterleaved) {
+    this.isInterleaved = isInterleaved;
+    type = computeType();
+    int numLevels = GeometryBatch.numLevels(type);
+    levelCount = new int[numLevels + 1];
+    for (int i = 0; i < geoms.length; i++) {
+      count(geoms[i]);
+    }
+    dimension = 2 + (hasZ ? 1 : 0) + (hasM ? 1 : 0);
+    measures = hasM ? 1 : 0;
+
+    offsets = new int[numLevels][];
+    int count = geoms.length;
+    for (int level = 0; level < numLevels; level++) {
+      offsets[level] = new int[count + 1];
+      count = levelCount[level + 1];
+    }
+    if (isInterleaved) {
+      buffers = new double[][] { new double[count * dimension] };
+    }
+    else {
+      buffers = new double[dimension][count];
+    }
+    levelCount = new int[numLevels + 1];
+    for (int i = 0; i < geoms.length; i++) {
+      add(geoms[i]);
+    }
+    if (isInterleaved)
+      return new GeometryBatch(type, geoms.length, dimension, measures, offsets, buffers[0]);
+    return new GeometryBatch(type, geoms.length, dimension, measures, offsets, buffers);
+  }
+
+  private int computeType() {
+    int batchType = 0;
+    for (int i = 0; i < geoms.length; i++) {
+      int geomType = typeOf(geoms[i]);
+      if (batchType == 0 || batchType == geomType) {
+        batchType = geomType;
+      }
+      else if (family(batchType) == family(geomType)) {
+        batchType = family(batchType) + 3;
+      }
+      else {
+        throw new IllegalArgumentException("Geometry at index " + i + " is a " 
+            + geoms[i].getGeometryType() + " which is incompatible with the batch type");
+      }
+    }
+    return batchType == 0 ? GeometryBatch.POINT : batchType;
+  }
+
+  private static int family(int type) {
+    return type > 3 ? type - 3 : type;
+  }
+
+  private static int typeOf(Geometry geom) {
+    if (geom == null)
+      throw new IllegalArgumentException("Null geometries are not supported");
+    if (geom instanceof Point) return GeometryBatch.POINT;
+    if (geom instanceof LineString) return GeometryBatch.LINESTRING;
+    if (geom instanceof Polygon) return GeometryBatch.POLYGON;
+    if (geom instanceof MultiPoint) return GeometryBatch.MULTIPOINT;
+    if (geom instanceof MultiLineString) return GeometryBatch.MULTILINESTRING;
+    if (geom instanceof MultiPolygon) return GeometryBatch.MULTIPOLYGON;
+    throw new IllegalArgumentException("Unsupported geometry type: " + geom.getGeometryType());
+  }
+
+  //---------------- first pass: counting
+
+  private void count(Geometry geom) {
+    switch (type) {
+    case GeometryBatch.POINT:
+      countPoint((Point) geom);
+      return;
+    case GeometryBatch.LINESTRING:
+      countSequence(((LineString) geom).getCoordinateSequence(), 1);
+      return;
+    case GeometryBatch.POLYGON:
+      countPolygon((Polygon) geom, 1);
+      return;
+    case GeometryBatch.MULTIPOINT:
+      for (int i = 0; i < geom.getNumGeometries(); i++) {
+        countPoint((Point) geom.getGeometryN(i));
+      }
+      return;
+    case GeometryBatch.MULTILINESTRING:
+      levelCount[1] += geom.getNumGeometries();
+      for (int i = 0; i < geom.getNumGeometries(); i++) {
+        countSequence(((LineString) geom.getGeometryN(i)).getCoordinateSequence(), 2);
+      }
+      return;
+    case GeometryBatch.MULTIPOLYGON:
+      levelCount[1] += geom.getNumGeometries();
+      for (int i = 0; i < geom.getNumGeometries(); i++) {
+        countPolygon((Polygon) geom.getGeometryN(i), 2);
+      }
+      return;
+    }
+  }
+
+  private void countPoint(Point pt) {
+    levelCount[levelCount.length - 1]++;
+    if (! pt.isEmpty()) {
+      checkDimension(pt.getCoordinateSequence());
+    }
+  }
+
+  private void countPolygon(Polygon poly, int ringLevel) {
+    if (poly.isEmpty())
+      return;
+    levelCount[ringLevel] += 1 + poly.getNumInteriorRing();
+    countSequence(poly.getExteriorRing().getCoordinateSequence(), ringLevel + 1);
+    for (int i = 0; i < poly.getNumInteriorRing(); i++) {
+      countSequence(poly.getInteriorRingN(i).getCoordinateSequence(), ringLevel + 1);
+    }
+  }
+
+  private void countSequence(CoordinateSequence seq, int level) {
+    levelCount[level] += seq.size();
+    checkDimension(seq);
+  }
+
+  private void checkDimension(CoordinateSequence seq) {
+    if (seq.hasZ()) hasZ = true;
+    if (seq.hasM()) hasM = true;
+  }
+
+  //---------------- second pass: filling the buffers
+
+  /**
+   * Closes the current item at a level, recording the current 
+   * count of the next level as its end offset.
+   */
+  private void endItem(int level) {
+    offsets[level][++levelCount[level]] = levelCount[level + 1];
+  }
+
+  private void add(Geometry geom) {
+    switch (type) {
+    case GeometryBatch.POINT:
+      addPoint((Point) geom);
+      return;
+    case GeometryBatch.LINESTRING:
+      addSequence(((LineString) geom).getCoordinateSequence());
+      endItem(0);
+      return;
+    case GeometryBatch.POLYGON:
+      addPolygon((Polygon) geom, 1);
+      endItem(0);
+      return;
+    case GeometryBatch.MULTIPOINT:
+      for (int i = 0; i < geom.getNumGeometries(); i++) {
+        addPoint((Point) geom.getGeometryN(i));
+      }
+      endItem(0);
+      return;
+    case GeometryBatch.MULTILINESTRING:
+      for (int i = 0; i < geom.getNumGeometries(); i++) {
+        addSequence(((LineString) geom.getGeometryN(i)).getCoordinateSequence());
+        endItem(1);
+      }
+      endItem(0);
+      return;
+    case GeometryBatch.MULTIPOLYGON:
+      for (int i = 0; i < geom.getNumGeometries(); i++) {
+        addPolygon((Polygon) geom.getGeometryN(i), 2);
+        endItem(1);
+      }
+      endItem(0);
+      return;
+    }
+  }
+
+  private void addPoint(Point pt) {
+    if (pt.isEmpty()) {
+      for (int d = 0; d < dimension; d++) {
+        setOrdinate(numCoords, d, Double.NaN);
+      }
+      numCoords++;
+    }
+    else {
+      addSequence(pt.getCoordinateSequence());
+    }
+    levelCount[levelCount.length - 1] = numCoords;
+  }
+
+  private void addPolygon(Polygon poly, int ringLevel) {
+    if (poly.isEmpty())
+      return;
+    addSequence(poly.getExteriorRing().getCoordinateSequence());
+    endItem(ringLevel);
+    for (int i = 0; i < poly.getNumInteriorRing(); i++) {
+      addSequence(poly.getInteriorRingN(i).getCoordinateSequence());
+      endItem(ringLevel);
+    }
+  }
+
+  private void addSequence(CoordinateSequence seq) {
+    int n = seq.size();
+    if (isInterleaved && seq instanceof PackedCoordinateSequence.Double
+        && seq.getDimension() == dimension && seq.getMeasures() == measures) {
+      double[] raw = ((PackedCoordinateSequence.Double) seq).getRawCoordinates();
+      System.arraycopy(raw, 0, buffers[0], numCoords * dimension, n * dimension);
+    }
+    else {
+      for (int i = 0; i < n; i++) {
+        int c = numCoords + i;
+        setOrdinate(c, 0, seq.getX(i));
+        setOrdinate(c, 1, seq.getY(i));
+        int d = 2;
+        if (hasZ) setOrdinate(c, d++, seq.getZ(i));
+        if (hasM) setOrdinate(c, d, seq.getM(i));
+      }
+    }
+    numCoords += n;
+    levelCount[levelCount.length - 1] = numCoords;
+  }
+
+  private void setOrdinate(int coordIndex, int ordinateIndex, double value) {
+    if (isInterleaved)
+      buffers[0][coordIndex * dimension + ordinateIndex] = value;
+    else
+      buffers[ordinateIndex][coordIndex] = value;
+  }
+}
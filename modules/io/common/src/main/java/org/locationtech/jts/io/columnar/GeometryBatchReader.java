@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.columnar;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.locationtech.jts.io.ParseException;
+
+/**
+ * Reads {@link GeometryBatch}es in the binary format written by
+ * {@link GeometryBatchWriter}.
+ * The batch buffers are filled with bulk transfers from the input.
+ * 
+ * @see GeometryBatchWriter
+ */
+public class GeometryBatchReader
+{
+  /**
+   * Reads all the batches in a file.
+   * 
+   * @param file the file to read
+   * @return the batches in the file
+   * @throws IOException if an I/O error occurs
+   * @throws ParseException if the file content is not valid
+   */
+  public static List<GeometryBatch> read(File file) throws IOException, ParseException {
+    FileInputStream in = new FileInputStream(file);
+    try {
+      GeometryBatchReader reader = new GeometryBatchReader(in.getChannel());
+      List<GeometryBatch> batches = new ArrayList<GeometryBatch>();
+      while (reader.hasNext()) {
+        batches.add(reader.next());
+      }
+      return batches;
+    }
+    finally {
+      in.close();
+    }
+  }
+
+  private final ReadableByteChannel channel;
+  private final ByteBuffer buf = ByteBuffer.allocateDirect(GeometryBatchWriter.BUFFER_SIZE)
+      .order(ByteOrder.LITTLE_ENDIAN);
+  private boolean isEOF = false;
+
+  /**
+   * Creates a reader for a channel.
+   * 
+   * @param channel the channel to read from
+   */
+  public GeometryBatchReader(ReadableByteChannel channel) {
+    this.channel = channel;
+    buf.flip();
+  }
+
+  /**
+   * Tests whether there is another batch in the input.
+   * 
+   * @return true if there is another batch
+   * @throws IOException if an I/O error occurs
+   */
+  public boolean hasNext() throws IOException {
+    return fill(1);
+  }
+
+  /**
+   * Reads the next batch from the input.
+   * 
+   * @return the batch read
+   * @throws IOException if an I/O error occurs, or the input ends within a batch
+   * @throws ParseException if the input is not a valid batch
+   */
+  public GeometryBatch next() throws IOException, ParseException {
+    require(32);
+    for (int i = 0; i < GeometryBatchWriter.MAGIC.length; i++) {
+      if (buf.get() != GeometryBatchWriter.MAGIC[i])
+        throw new ParseException("Input is not a geometry batch");
+    }
+    int version = buf.getInt();
+    if (version != GeometryBatchWriter.VERSION)
+      throw new ParseException("Unsupported geometry batch version: " + version);
+    int type = buf.getInt();
+    int dimension = buf.getInt();
+    int measures = buf.getInt();
+    int flags = buf.getInt();
+    int size = buf.getInt();
+    int numCoords = buf.getInt();
+    if (type < GeometryBatch.POINT || type > GeometryBatch.MULTIPOLYGON)
+      throw new ParseException("Invalid geometry batch type: " + type);
+    if (dimension < 2 || dimension > 4 || size < 0 || numCoords < 0)
+      throw new ParseException("Invalid geometry batch header");
+    boolean isInterleaved = (flags & GeometryBatchWriter.FLAG_INTERLEAVED) != 0;
+
+    int numLevels = GeometryBatch.numLevels(type);
+    int[][] offsets = new int[numLevels][];
+    int count = size;
+    for (int level = 0; level < numLevels; level++) {
+      require(4);
+      int len = buf.getInt();
+      if (len != count + 1)
+        throw new ParseException("Invalid offsets length at level " + level + ": " + len);
+      offsets[level] = readInts(len);
+      count = offsets[level][count];
+      if (count < 0)
+        throw new ParseException("Invalid offsets at level " + level);
+    }
+    try {
+      if (isInterleaved) {
+        double[] coords = readDoubles((long) numCoords * dimension);
+        return new GeometryBatch(type, size, dimension, measures, offsets, coords);
+      }
+      double[][] ordinates = new double[dimension][];
+      for (int d = 0; d < dimension; d++) {
+        ordinates[d] = readDoubles(numCoords);
+      }
+      return new GeometryBatch(type, size, dimension, measures, offsets, ordinates);
+    }
+    catch (IllegalArgumentException ex) {
+      throw new ParseException("Invalid geometry batch: " + ex.getMessage());
+    }
+  }
+
+  private int[] readInts(int len) throws IOException {
+    int[] values = new int[len];
+    int i = 0;
+    while (i < len) {
+      require(4);
+      int n = Math.min(len - i, buf.remaining() / 4);
+      buf.asIntBuffer().get(values, i, n);
+      buf.position(buf.position() + 4 * n);
+      i += n;
+    }
+    return values;
+  }
+
+  private double[] readDoubles(long len) throws IOException, ParseException {
+    if (len > Integer.MAX_VALUE)
+      throw new ParseException("Geometry batch too large");
+    double[] values = new double[(int) len];
+    int i = 0;
+    while (i < len) {
+      require(8);
+      int n = (int) Math.min(len - i, buf.remaining() / 8);
+      buf.asDoubleBuffer().get(values, i, n);
+      buf.position(buf.position() + 8 * n);
+      i += n;
+    }
+    return values;
+  }
+
+  private void require(int n) throws IOException {
+    if (! fill(n))
+      throw new EOFException("Unexpected end of geometry batch input");
+  }
+
+  /**
+   * Ensures at least n bytes are available in the buffer, if possible.
+   */
+  private boolean fill(int n) throws IOException {
+    if (buf.remaining() >= n)
+      return true;
+    if (isEOF)
+      return false;
+    buf.compact();
+    while (buf.position() < n) {
+      if (channel.read(buf) < 0) {
+        isEOF = true;
+        break;
+      }
+    }
+    buf.flip();
+    return buf.remaining() >= n;
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.columnar;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Writes {@link GeometryBatch}es in a simple binary file format.
+ * <p>
+ * The format stores the batch buffers as they are held in memory,
+ * so that they can be written and read with bulk transfers.
+ * All values are little-endian.
+ * A file contains a sequence of batches, each of which is:
+ * <pre>
+ * magic       4 bytes "JTSB"
+ * version     int32 (1)
+ * type        int32 (a GeometryBatch type code)
+ * dimension   int32
+ * measures    int32
+ * flags       int32 (bit 0 set if coordinates are interleaved)
+ * size        int32 (number of geometries)
+ * numCoords   int32 (number of coordinates)
+ * offsets     for each level of the type: 
+ *               int32 length, followed by length int32 values
+ * coordinates if interleaved, numCoords * dimension float64 values,
+ *               otherwise dimension buffers of numCoords float64 values
+ * </pre>
+ * 
+ * @see GeometryBatchReader
+ */
+public class GeometryBatchWriter
+{
+  static final byte[] MAGIC = { 'J', 'T', 'S', 'B' };
+  static final int VERSION = 1;
+  static final int FLAG_INTERLEAVED = 1;
+
+  /**
+   * The size of the transfer buffer.
+   */
+  static final int BUFFER_SIZE = 1 << 16;
+
+  /**
+   * Writes a batch to a file, replacing any existing content.
+   * 
+   * @param batch the batch to write
+   * @param file the file to write to
+   * @throws IOException if an I/O error occurs
+   */
+  public static void write(GeometryBatch batch, File file) throws IOException {
+    FileOutputStream out = new FileOutputStream(file);
+    try {
+      new GeometryBatchWriter().write(batch, out.getChannel());
+    }
+    finally {
+      out.close();
+    }
+  }
+
+  private final ByteBuffer buf = ByteBuffer.allocateDirect(BUFFER_SIZE)
+      .order(ByteOrder.LITTLE_ENDIAN);
+
+  /**
+   * Creates a new writer.
+   */
+  public GeometryBatchWriter() {
+  }
+
+  /**
+   * Writes a batch to a channel.
+   * Several batches may be written to the same channel.
+   * 
+   * @param batch the batch to write
+   * @param channel the channel to write to
+   * @throws IOException if an I/O error occurs
+   */
+  public void write(GeometryBatch batch, WritableByteChannel channel) throws IOException {
+    buf.clear();
+    buf.put(MAGIC);
+    buf.putInt(VERSION);
+    buf.putInt(batch.getType());
+    buf.putInt(batch.getDimension());
+    buf.putInt(batch.getMeasures());
+    buf.putInt(batch.isInterleaved() ? FLAG_INTERLEAVED : 0);
+    buf.putInt(batch.size());
+    buf.putInt(batch.getNumCoordinates());
+    int numLevels = GeometryBatch.numLevels(batch.getType());
+    for (int level = 0; level < numLevels; level++) {
+      int[] offsets = batch.getOffsets(level);
+      ensureRemaining(4, channel);
+      buf.putInt(offsets.length);
+      writeInts(offsets, channel);
+    }
+    if (batch.isInterleaved()) {
+      writeDoubles(batch.getCoordinates(), channel);
+    }
+    else {
+      for (int d = 0; d < batch.getDimension(); d++) {
+        writeDoubles(batch.getOrdinates(d), channel);
+      }
+    }
+    flush(channel);
+  }
+
+  private void writeInts(int[] values, WritableByteChannel channel) throws IOException {
+    int i = 0;
+    while (i < values.length) {
+      ensureRemaining(4, channel);
+      int n = Math.min(values.length - i, buf.remaining() / 4);
+      buf.asIntBuffer().put(values, i, n);
+      buf.position(buf.position() + 4 * n);
+      i += n;
+    }
+  }
+
+  private void writeDoubles(double[] values, WritableByteChannel channel) throws IOException {
+    int i = 0;
+    while (i < values.length) {
+      ensureRemaining(8, channel);
+      int n = Math.min(values.length - i, buf.remaining() / 8);
+      buf.asDoubleBuffer().put(values, i, n);
+      buf.position(buf.position() + 8 * n);
+      i += n;
+    }
+  }
+
+  private void ensureRemaining(int n, WritableByteChannel channel) throws IOException {
+    if (buf.remaining() < n) {
+      flush(channel);
+    }
+  }
+
+  private void flush(WritableByteChannel channel) throws IOException {
+    buf.flip();
+    while (buf.hasRemaining()) {
+      channel.write(buf);
+    }
+    buf.clear();
+  }
+}
@@ -47,6 +47,9 @@ import org.locationtech.jts.io.ParseException;
  * {@link PrecisionModel} matches the precision of the incoming data. If a lower
  * precision for the data is required, a subsequent process must be run on the
  * data to reduce its precision.
+ * <p>
+ * This reader parses the entire document into memory before creating geometries.
+ * To read large FeatureCollections use {@link GeoJsonStreamReader}.
  * 
  * @author Martin Davis
  * @author Paul Howells, Vivid Solutions.
@@ -0,0 +1,627 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.geojson;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFactory;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.io.ParseException;
+
+/**
+ * Reads the geometries in a GeoJSON document one at a time,
+ * without building an object tree for the JSON content.
+ * <p>
+ * The input may be a <code>FeatureCollection</code>, a single <code>Feature</code>, 
+ * or a single GeoJSON geometry.  
+ * For a FeatureCollection the geometry of each feature is returned in turn,
+ * reading the <code>features</code> array incrementally,
+ * so that arbitrarily large collections can be processed in constant memory.
+ * Feature geometries which are <code>null</code> are returned as an 
+ * empty <code>GeometryCollection</code>.
+ * Feature properties and other members are skipped.
+ * <p>
+ * Coordinate arrays are decoded directly into {@link CoordinateSequence}s
+ * created by the {@link CoordinateSequenceFactory} of the geometry factory.
+ * Sequences have dimension 3 if any position has a Z value, and 2 otherwise.
+ * The members of GeoJSON objects may occur in any order.
+ * <p>
+ * As for {@link GeoJsonReader}, if no geometry factory is provided
+ * the SRID is taken from the top-level <code>crs</code> member,
+ * or is 4326 if there is none.
+ * In a FeatureCollection the <code>crs</code> is only used if it occurs 
+ * before the <code>features</code> member.
+ * <p>
+ * Typical use is:
+ * <pre>
+ * GeoJsonStreamReader reader = new GeoJsonStreamReader(new FileReader(file));
+ * try {
+ *   while (reader.hasNext()) {
+ *     Geometry geom = reader.next();
+ *     ...
+ *   }
+ * }
+ * finally {
+ *   reader.close();
+ * }
+ * </pre>
+ * 
+ * @see GeoJsonReader
+ */
+public class GeoJsonStreamReader implements Closeable {
+  
+  private static final int DEFAULT_SRID = 4326;
+  
+  private Reader reader;
+  private JsonTokenizer tokenizer;
+  private GeometryFactory geomFactory = null;
+  private boolean isFactoryFixed = false;
+  private CoordinateSequenceFactory csFactory;
+  
+  private boolean isStarted = false;
+  private boolean isInFeatures = false;
+  private boolean isFeaturesRead = false;
+  private int featureCount = 0;
+  private GeoJsonObject topObject;
+  private Geometry nextGeom = null;
+  
+  private double[] ords = new double[3 * 64];
+  private int ordsSize = 0;
+  private boolean hasZ = false;
+
+  /**
+   * Creates a reader for a GeoJSON document,
+   * with the SRID determined by the document.
+   * 
+   * @param reader the source of the GeoJSON text
+   */
+  public GeoJsonStreamReader(Reader reader) {
+    this(reader, null);
+  }
+
+  /**
+   * Creates a reader for a GeoJSON document,
+   * using a given geometry factory.
+   * The factory overrides the <code>crs</code> of the document.
+   * 
+   * @param reader the source of the GeoJSON text
+   * @param geometryFactory the factory to create geometries with
+   */
+  public GeoJsonStreamReader(Reader reader, GeometryFactory geometryFactory) {
+    this.reader = reader;
+    this.tokenizer = new JsonTokenizer(reader);
+    if (geometryFactory != null) {
+      geomFactory = geometryFactory;
+      isFactoryFixed = true;
+    }
+    else {
+      geomFactory = new GeometryFactory(new PrecisionModel(), DEFAULT_SRID);
+    }
+    csFactory = geomFactory.getCoordinateSequenceFactory();
+  }
+
+  /**
+   * Tests whether there is another geometry to read.
+   * 
+   * @return true if there is another geometry
+   * @throws IOException if the input cannot be read
+   * @throws ParseException if the input is not valid GeoJSON
+   */
+  public boolean hasNext() throws IOException, ParseException {
+    if (nextGeom == null) 
+      nextGeom = readNext();
+    return nextGeom != null;
+  }
+
+  /**
+   * Reads the next geometry.
+   * 
+   * @return the next geometry
+   * @throws IOException if the input cannot be read
+   * @throws ParseException if the input is not valid GeoJSON
+   * @throws NoSuchElementException if there are no more geometries
+   */
+  public Geometry next() throws IOException, ParseException {
+    if (! hasNext()) 
+      throw new NoSuchElementException();
+    Geometry geom = nextGeom;
+    nextGeom = null;
+    return geom;
+  }
+  
+  /**
+   * Closes the underlying reader.
+   */
+  public void close() throws IOException {
+    reader.close();
+  }
+  
+  private Geometry readNext() throws IOException, ParseException {
+    if (! isStarted) {
+      isStarted = true;
+      expect('{', "GeoJSON object");
+      topObject = new GeoJsonObject();
+      readMembers(topObject, true);
+      if (! isInFeatures) {
+        expectEnd();
+        return createTopLevel(topObject);
+      }
+    }
+    if (! isInFeatures)
+      return null;
+    return readNextFeature();
+  }
+
+  private Geometry readNextFeature() throws IOException, ParseException {
+    int tok = tokenizer.next();
+    if (tok == ']') {
+      isInFeatures = false;
+      // read remaining members of the collection
+      tok = tokenizer.next();
+      if (tok == ',') {
+        readMembers(topObject, true);
+      }
+      else if (tok != '}') {
+        throw unexpectedToken("',' or '}'");
+      }
+      expectEnd();
+      return null;
+    }
+    if (featureCount > 0) {
+      if (tok != ',') 
+        throw unexpectedToken("',' or ']'");
+      tok = tokenizer.next();
+    }
+    if (tok != '{') 
+      throw unexpectedToken("Feature object");
+    featureCount++;
+    GeoJsonObject feature = new GeoJsonObject();
+    readMembers(feature, false);
+    if (! GeoJsonConstants.NAME_FEATURE.equals(feature.type))
+      throw new ParseException("Expected a Feature in FeatureCollection but found type " + feature.type);
+    return createFeature(feature);
+  }
+  
+  /**
+   * Reads the members of an object, after the opening brace.
+   * If the object is the top-level object and a <code>features</code>
+   * member is found, reading stops at the start of the array.
+   */
+  private void readMembers(GeoJsonObject obj, boolean isTop) throws IOException, ParseException {
+    int tok = tokenizer.next();
+    if (tok == '}') 
+      return;
+    tokenizer.pushBack();
+    do {
+      if (tokenizer.next() != JsonTokenizer.TT_STRING) 
+        throw unexpectedToken("member name");
+      String name = memberName();
+      expect(':', "':'");
+      if (name == GeoJsonConstants.NAME_TYPE) {
+        if (tokenizer.next() != JsonTokenizer.TT_STRING)
+          throw unexpectedToken("type name");
+        obj.type = tokenizer.getString();
+      }
+      else if (name == GeoJsonConstants.NAME_COORDINATES) {
+        obj.coordinates = readCoordinates();
+      }
+      else if (name == GeoJsonConstants.NAME_GEOMETRIES) {
+        obj.geometries = readGeometries();
+      }
+      else if (name == GeoJsonConstants.NAME_GEOMETRY) {
+        obj.geometry = readGeometry();
+      }
+      else if (name == GeoJsonConstants.NAME_CRS && isTop) {
+        readCRS();
+      }
+      else if (name == GeoJsonConstants.NAME_FEATURES && isTop && ! isFeaturesRead) {
+        expect('[', "features array");
+        isFeaturesRead = true;
+        isInFeatures = true;
+        return;
+      }
+      else {
+        skipValue();
+      }
+      tok = tokenizer.next();
+    } while (tok == ',');
+    if (tok != '}') 
+      throw unexpectedToken("',' or '}'");
+  }
+  
+  private static final String[] MEMBER_NAMES = {
+    GeoJsonConstants.NAME_TYPE,
+    GeoJsonConstants.NAME_COORDINATES,
+    GeoJsonConstants.NAME_GEOMETRIES,
+    GeoJsonConstants.NAME_GEOMETRY,
+    GeoJsonConstants.NAME_CRS,
+    GeoJsonConstants.NAME_FEATURES
+  };
+  
+  /**
+   * Gets the constant for the current member name,
+   * without creating a string.
+   * 
+   * @return the constant name, or null if the member is not used
+   */
+  private String memberName() {
+    for (int i = 0; i < MEMBER_NAMES.length; i++) {
+      if (tokenizer.isString(MEMBER_NAMES[i])) 
+        return MEMBER_NAMES[i];
+    }
+    return null;
+  }
+  
+  private GeoJsonObject readGeometry() throws IOException, ParseException {
+    int tok = tokenizer.next();
+    if (tok == JsonTokenizer.TT_NULL)
+      return null;
+    if (tok != '{')
+      throw unexpectedToken("geometry object");
+    GeoJsonObject geom = new GeoJsonObject();
+    readMembers(geom, false);
+    return geom;
+  }
+  
+  private List<GeoJsonObject> readGeometries() throws IOException, ParseException {
+    List<GeoJsonObject> geoms = new ArrayList<GeoJsonObject>();
+    int tok = tokenizer.next();
+    if (tok == JsonTokenizer.TT_NULL)
+      return geoms;
+    if (tok != '[')
+      throw unexpectedToken("geometries array");
+    tok = tokenizer.next();
+    if (tok == ']') 
+      return geoms;
+    tokenizer.pushBack();
+    do {
+      if (tokenizer.next() != '{') 
+        throw unexpectedToken("geometry object");
+      GeoJsonObject geom = new GeoJsonObject();
+      readMembers(geom, false);
+      geoms.add(geom);
+      tok = tokenizer.next();
+    } while (tok == ',');
+    if (tok != ']') 
+      throw unexpectedToken("',' or ']'");
+    return geoms;
+  }
+  
+  private void readCRS() throws IOException, ParseException {
+    if (isFactoryFixed) {
+      skipValue();
+      return;
+    }
+    String name = null;
+    int tok = tokenizer.next();
+    if (tok == JsonTokenizer.TT_NULL)
+      return;
+    if (tok != '{')
+      throw unexpectedToken("crs object");
+    do {
+      if (tokenizer.next() != JsonTokenizer.TT_STRING) 
+        throw unexpectedToken("member name");
+      boolean isProps = tokenizer.isString(GeoJsonConstants.NAME_PROPERTIES);
+      expect(':', "':'");
+      if (isProps) {
+        name = readCRSName();
+      }
+      else {
+        skipValue();
+      }
+      tok = tokenizer.next();
+    } while (tok == ',');
+    if (tok != '}') 
+      throw unexpectedToken("',' or '}'");
+    
+    try {
+      int srid = Integer.parseInt(name.split(":")[1]);
+      geomFactory = new GeometryFactory(new PrecisionModel(), srid);
+    }
+    catch (RuntimeException e) {
+      throw new ParseException("Could not parse SRID from Geojson 'crs' object.", e);
+    }
+  }
+  
+  private String readCRSName() throws IOException, ParseException {
+    String name = null;
+    expect('{', "crs properties object");
+    int tok;
+    do {
+      if (tokenizer.next() != JsonTokenizer.TT_STRING) 
+        throw unexpectedToken("member name");
+      boolean isName = tokenizer.isString(GeoJsonConstants.NAME_NAME);
+      expect(':', "':'");
+      if (isName && tokenizer.next() == JsonTokenizer.TT_STRING) {
+        name = tokenizer.getString();
+      }
+      else {
+        if (isName) tokenizer.pushBack();
+        skipValue();
+      }
+      tok = tokenizer.next();
+    } while (tok == ',');
+    if (tok != '}') 
+      throw unexpectedToken("',' or '}'");
+    return name;
+  }
+  
+  /**
+   * Reads the value of a <code>coordinates</code> member.
+   * Arrays of positions are returned as a CoordinateSequence,
+   * and arrays of arrays of positions as a List.
+   * A single position is returned as a CoordinateSequence of length 1.
+   * Empty or null arrays are returned as an empty List.
+   */
+  private Object readCoordinates() throws IOException, ParseException {
+    int tok = tokenizer.next();
+    if (tok == JsonTokenizer.TT_NULL)
+      return Collections.EMPTY_LIST;
+    if (tok != '[')
+      throw unexpectedToken("coordinates array");
+    return readCoordinateArray();
+  }
+  
+  /**
+   * Reads an array of coordinate data, after the opening bracket.
+   */
+  private Object readCoordinateArray() throws IOException, ParseException {
+    int tok = tokenizer.next();
+    if (tok == ']') 
+      return Collections.EMPTY_LIST;
+    if (tok == JsonTokenizer.TT_NUMBER) {
+      ordsSize = 0;
+      hasZ = false;
+      readPosition();
+      return createSequence();
+    }
+    if (tok != '[') 
+      throw unexpectedToken("number or array");
+    
+    tok = tokenizer.next();
+    if (tok == JsonTokenizer.TT_NUMBER) {
+      // an array of positions
+      ordsSize = 0;
+      hasZ = false;
+      readPosition();
+      while ((tok = tokenizer.next()) == ',') {
+        expect('[', "position");
+        if (tokenizer.next() != JsonTokenizer.TT_NUMBER)
+          throw unexpectedToken("number");
+        readPosition();
+      }
+      if (tok != ']') 
+        throw unexpectedToken("',' or ']'");
+      return createSequence();
+    }
+    tokenizer.pushBack();
+    
+    List<Object> list = new ArrayList<Object>();
+    list.add(readCoordinateArray());
+    while ((tok = tokenizer.next()) == ',') {
+      expect('[', "array");
+      list.add(readCoordinateArray());
+    }
+    if (tok != ']') 
+      throw unexpectedToken("',' or ']'");
+    return list;
+  }
+
+  /**
+   * Reads a position, starting at its first number
+   * and ending after the closing bracket.
+   */
+  private void readPosition() throws IOException, ParseException {
+    if (ordsSize + 3 > ords.length) {
+      double[] newOrds = new double[2 * ords.length];
+      System.arraycopy(ords, 0, newOrds, 0, ordsSize);
+      ords = newOrds;
+    }
+    double x = tokenizer.getNumber();
+    if (tokenizer.next() != ',') 
+      throw unexpectedToken("','");
+    if (tokenizer.next() != JsonTokenizer.TT_NUMBER) 
+      throw unexpectedToken("number");
+    double y = tokenizer.getNumber();
+    double z = Double.NaN;
+    int tok = tokenizer.next();
+    if (tok == ',') {
+      if (tokenizer.next() != JsonTokenizer.TT_NUMBER) 
+        throw unexpectedToken("number");
+      z = tokenizer.getNumber();
+      hasZ = true;
+      // skip any further ordinates
+      while ((tok = tokenizer.next()) == ',') {
+        if (tokenizer.next() != JsonTokenizer.TT_NUMBER) 
+          throw unexpectedToken("number");
+      }
+    }
+    if (tok != ']') 
+      throw unexpectedToken("',' or ']'");
+    ords[ordsSize++] = x;
+    ords[ordsSize++] = y;
+    ords[ordsSize++] = z;
+  }
+  
+  private CoordinateSequence createSequence() {
+    int size = ordsSize / 3;
+    int dim = hasZ ? 3 : 2;
+    CoordinateSequence seq = csFactory.create(size, dim);
+    for (int i = 0; i < size; i++) {
+      seq.setOrdinate(i, CoordinateSequence.X, ords[3 * i]);
+      seq.setOrdinate(i, CoordinateSequence.Y, ords[3 * i + 1]);
+      if (hasZ) 
+        seq.setOrdinate(i, CoordinateSequence.Z, ords[3 * i + 2]);
+    }
+    return seq;
+  }
+  
+  private void skipValue() throws IOException, ParseException {
+    int depth = 0;
+    do {
+      int tok = tokenizer.next();
+      switch (tok) {
+      case '{':
+      case '[':
+        depth++;
+        break;
+      case '}':
+      case ']':
+        if (depth == 0) 
+          throw unexpectedToken("value");
+        depth--;
+        break;
+      case ',':
+      case ':':
+        if (depth == 0) 
+          throw unexpectedToken("value");
+        break;
+      case JsonTokenizer.TT_EOF:
+        throw unexpectedToken("value");
+      }
+    } while (depth > 0);
+  }
+  
+  private void expect(int type, String expected) throws IOException, ParseException {
+    if (tokenizer.next() != type) 
+      throw unexpectedToken(expected);
+  }
+  
+  private void expectEnd() throws IOException, ParseException {
+    expect(JsonTokenizer.TT_EOF, "End-of-input");
+  }
+  
+  private ParseException unexpectedToken(String expected) {
+    return tokenizer.parseError("Expected " + expected + " but found " + tokenizer.tokenString());
+  }
+
+  private Geometry createTopLevel(GeoJsonObject obj) throws ParseException {
+    if (GeoJsonConstants.NAME_FEATURE.equals(obj.type)) 
+      return createFeature(obj);
+    if (GeoJsonConstants.NAME_FEATURECOLLECTION.equals(obj.type)) 
+      throw new ParseException("Could not parse FeatureCollection from GeoJson string.  No 'features' property found.");
+    return createChecked(obj);
+  }
+  
+  private Geometry createFeature(GeoJsonObject obj) throws ParseException {
+    if (obj.geometry == null) 
+      return geomFactory.createGeometryCollection();
+    return createChecked(obj.geometry);
+  }
+  
+  private Geometry createChecked(GeoJsonObject obj) throws ParseException {
+    try {
+      return create(obj);
+    }
+    catch (IllegalArgumentException ex) {
+      throw new ParseException("Could not parse " + obj.type + " from GeoJson string.", ex);
+    }
+  }
+  
+  private Geometry create(GeoJsonObject obj) throws ParseException {
+    String type = obj.type;
+    if (type == null) 
+      throw new ParseException("Could not parse Geometry from Json string.  No 'type' property found.");
+    
+    if (GeoJsonConstants.NAME_POINT.equals(type)) {
+      return geomFactory.createPoint(toSequence(obj.coordinates, type));
+    }
+    if (GeoJsonConstants.NAME_LINESTRING.equals(type)) {
+      return geomFactory.createLineString(toSequence(obj.coordinates, type));
+    }
+    if (GeoJsonConstants.NAME_POLYGON.equals(type)) {
+      return createPolygon(obj.coordinates, type);
+    }
+    if (GeoJsonConstants.NAME_MULTIPOINT.equals(type)) {
+      return geomFactory.createMultiPoint(toSequence(obj.coordinates, type));
+    }
+    if (GeoJsonConstants.NAME_MULTILINESTRING.equals(type)) {
+      List lines = toList(obj.coordinates, type);
+      LineString[] lineStrings = new LineString[lines.size()];
+      for (int i = 0; i < lineStrings.length; i++) {
+        lineStrings[i] = geomFactory.createLineString(toSequence(lines.get(i), type));
+      }
+      return geomFactory.createMultiLineString(lineStrings);
+    }
+    if (GeoJsonConstants.NAME_MULTIPOLYGON.equals(type)) {
+      List polys = toList(obj.coordinates, type);
+      Polygon[] polygons = new Polygon[polys.size()];
+      for (int i = 0; i < polygons.length; i++) {
+        polygons[i] = createPolygon(polys.get(i), type);
+      }
+      return geomFactory.createMultiPolygon(polygons);
+    }
+    if (GeoJsonConstants.NAME_GEOMETRYCOLLECTION.equals(type)) {
+      List<GeoJsonObject> elements = obj.geometries;
+      if (elements == null) 
+        elements = Collections.emptyList();
+      Geometry[] geoms = new Geometry[elements.size()];
+      for (int i = 0; i < geoms.length; i++) {
+        geoms[i] = create(elements.get(i));
+      }
+      return geomFactory.createGeometryCollection(geoms);
+    }
+    throw new ParseException("Could not parse Geometry from GeoJson string.  Unsupported 'type':" + type);
+  }
+  
+  private Polygon createPolygon(Object coords, String type) throws ParseException {
+    List rings = toList(coords, type);
+    if (rings.isEmpty()) 
+      return geomFactory.createPolygon();
+    LinearRing shell = geomFactory.createLinearRing(toSequence(rings.get(0), type));
+    LinearRing[] holes = new LinearRing[rings.size() - 1];
+    for (int i = 1; i < rings.size(); i++) {
+      holes[i - 1] = geomFactory.createLinearRing(toSequence(rings.get(i), type));
+    }
+    return geomFactory.createPolygon(shell, holes);
+  }
+  
+  private CoordinateSequence toSequence(Object coords, String type) throws ParseException {
+    if (coords == null || coords == Collections.EMPTY_LIST) 
+      return csFactory.create(0, 2);
+    if (coords instanceof CoordinateSequence) 
+      return (CoordinateSequence) coords;
+    throw new ParseException("Could not parse " + type + " from GeoJson string.  Invalid 'coordinates' nesting.");
+  }
+  
+  private static List toList(Object coords, String type) throws ParseException {
+    if (coords == null) 
+      return Collections.EMPTY_LIST;
+    if (coords instanceof List) 
+      return (List) coords;
+    throw new ParseException("Could not parse " + type + " from GeoJson string.  Invalid 'coordinates' nesting.");
+  }
+
+  /**
+   * The members of a GeoJSON object which are needed 
+   * to create a geometry.
+   * This allows the members to occur in any order.
+   */
+  private static class GeoJsonObject {
+    String type;
+    Object coordinates;
+    List<GeoJsonObject> geometries;
+    GeoJsonObject geometry;
+  }
+}
@@ -11,8 +11,6 @@
  */
 package org.locationtech.jts.io.geojson;
 
-import org.json.simple.JSONAware;
-import org.json.simple.JSONObject;
 import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
@@ -22,15 +20,12 @@ import org.locationtech.jts.geom.MultiPoint;
 import org.locationtech.jts.geom.MultiPolygon;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.io.OrdinateFormat;
 import org.locationtech.jts.util.Assert;
 
 import java.io.IOException;
-import java.io.StringWriter;
 import java.io.Writer;
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
+import java.nio.CharBuffer;
 
 
 /**
@@ -44,6 +39,10 @@ import java.util.Map;
  * <p>
  * The GeoJSON specification does not state how to represent empty geometries of specific type.
  * The writer emits empty typed geometries using an empty array for the <code>coordinates</code> property.
+ * <p>
+ * The JSON text is written directly to the output,
+ * so geometries can be appended to a {@link Writer} or other {@link Appendable} 
+ * (e.g. when writing the features of a large FeatureCollection).
  * 
  * @author Martin Davis
  * @author Paul Howells, Vivid Solutions
@@ -51,6 +50,8 @@ import java.util.Map;
 public class GeoJsonWriter {
   
   private static final String JSON_ARRAY_EMPTY = "[]";
+  
+  private static final OrdinateFormat ORDINATE_FORMAT = OrdinateFormat.DEFAULT;
 
   /**
    * The prefix for EPSG codes in the <code>crs</code> property.
@@ -107,14 +108,14 @@ public class GeoJsonWriter {
    */
   public String write(Geometry geometry) {
 
-    StringWriter writer = new StringWriter();
+    StringBuilder buf = new StringBuilder();
     try {
-      write(geometry, writer);
+      write(geometry, buf);
     } catch (IOException ex) {
       Assert.shouldNeverReachHere();
     }
 
-    return writer.toString();
+    return buf.toString();
   }
 
   /**
@@ -128,43 +129,43 @@ public class GeoJsonWriter {
    *           throws an IOException when unable to write the JSON string
    */
   public void write(Geometry geometry, Writer writer) throws IOException {
-    Map<String, Object> map = create(geometry, isEncodeCRS);
-    JSONObject.writeJSONString(map, writer);
+    write(geometry, (Appendable) writer);
     writer.flush();
   }
 
-  private Map<String, Object> create(Geometry geometry, boolean encodeCRS) {
+  /**
+   * Writes a {@link Geometry} in GeoJson format to an {@link Appendable}.
+   * The JSON text is written to the output through a small buffer
+   * as the geometry is traversed, 
+   * without creating intermediate JSON objects
+   * or a copy of the whole text.
+   * 
+   * @param geometry
+   *          Geometry to encode
+   * @param out
+   *          the output to append to
+   * @throws IOException
+   *           throws an IOException when unable to write the JSON string
+   */
+  public void write(Geometry geometry, Appendable out) throws IOException {
+    JsonOutput jsonOut = new JsonOutput(out);
+    writeGeometry(geometry, isEncodeCRS, jsonOut);
+    jsonOut.flush();
+  }
 
-    Map<String, Object> result = new LinkedHashMap<String, Object>();
-    result.put(GeoJsonConstants.NAME_TYPE, geometry.getGeometryType());
+  private void writeGeometry(Geometry geometry, boolean encodeCRS, JsonOutput out) throws IOException {
+    out.append("{\"").append(GeoJsonConstants.NAME_TYPE).append("\":\"")
+      .append(geometry.getGeometryType()).append("\",\"");
 
     if (geometry instanceof Point) {
       Point point = (Point) geometry;
-
-      CoordinateSequence coordinateSequence = point.getCoordinateSequence();
-      final String jsonString = coordinateSequence.size() == 0
-          ? JSON_ARRAY_EMPTY : getJsonString(coordinateSequence);
-
-      result.put(GeoJsonConstants.NAME_COORDINATES, new JSONAware() {
-
-        public String toJSONString() {
-          return jsonString;
-        }
-      });
+      writeCoordinatesName(out);
+      writeSequenceOrEmpty(point.getCoordinateSequence(), out);
 
     } else if (geometry instanceof LineString) {
       LineString lineString = (LineString) geometry;
-
-      CoordinateSequence coordinateSequence = lineString.getCoordinateSequence();
-      final String jsonString = coordinateSequence.size() == 0
-          ? JSON_ARRAY_EMPTY : getJsonString(coordinateSequence);
-
-      result.put(GeoJsonConstants.NAME_COORDINATES, new JSONAware() {
-
-        public String toJSONString() {
-          return jsonString;
-        }
-      });
+      writeCoordinatesName(out);
+      writeSequenceOrEmpty(lineString.getCoordinateSequence(), out);
 
     } else if (geometry instanceof Polygon) {
       Polygon polygon = (Polygon) geometry;
@@ -172,18 +173,13 @@ public class GeoJsonWriter {
       if (isForceCCW) {
         polygon = (Polygon) OrientationTransformer.transformCCW(polygon);
       }
+      writeCoordinatesName(out);
+      writePolygonCoordinates(polygon, out);
 
-      result.put(GeoJsonConstants.NAME_COORDINATES, makeJsonAware(polygon));
-
-    } else if (geometry instanceof MultiPoint) {
-      MultiPoint multiPoint = (MultiPoint) geometry;
-
-      result.put(GeoJsonConstants.NAME_COORDINATES, makeJsonAware(multiPoint));
-
-    } else if (geometry instanceof MultiLineString) {
-      MultiLineString multiLineString = (MultiLineString) geometry;
-
-      result.put(GeoJsonConstants.NAME_COORDINATES, makeJsonAware(multiLineString));
+    } else if (geometry instanceof MultiPoint 
+        || geometry instanceof MultiLineString) {
+      writeCoordinatesName(out);
+      writeMultiCoordinates((GeometryCollection) geometry, out);
 
     } else if (geometry instanceof MultiPolygon) {
       MultiPolygon multiPolygon = (MultiPolygon) geometry;
@@ -191,159 +187,199 @@ public class GeoJsonWriter {
       if (isForceCCW) {
         multiPolygon = (MultiPolygon) OrientationTransformer.transformCCW(multiPolygon);
       }
-
-      result.put(GeoJsonConstants.NAME_COORDINATES, makeJsonAware(multiPolygon));
+      writeCoordinatesName(out);
+      writeMultiCoordinates(multiPolygon, out);
 
     } else if (geometry instanceof GeometryCollection) {
       GeometryCollection geometryCollection = (GeometryCollection) geometry;
 
-      ArrayList<Map<String, Object>> geometries = new ArrayList<Map<String, Object>>(
-          geometryCollection.getNumGeometries());
-
+      out.append(GeoJsonConstants.NAME_GEOMETRIES).append("\":[");
       for (int i = 0; i < geometryCollection.getNumGeometries(); i++) {
-        geometries.add(create(geometryCollection.getGeometryN(i), false));
+        if (i > 0) {
+          out.append(',');
+        }
+        writeGeometry(geometryCollection.getGeometryN(i), false, out);
       }
-
-      result.put(GeoJsonConstants.NAME_GEOMETRIES, geometries);
+      out.append(']');
 
     } else {
       throw new IllegalArgumentException("Unable to encode geometry " + geometry.getGeometryType() );
     }
 
     if (encodeCRS) {
-      result.put(GeoJsonConstants.NAME_CRS, createCRS(geometry.getSRID()));
+      writeCRS(geometry.getSRID(), out);
     }
-
-    return result;
+    out.append('}');
   }
 
-  private Map<String, Object> createCRS(int srid) {
-
-    Map<String, Object> result = new LinkedHashMap<String, Object>();
-    result.put(GeoJsonConstants.NAME_TYPE, GeoJsonConstants.NAME_NAME);
-
-    Map<String, Object> props = new LinkedHashMap<String, Object>();
-    props.put(GeoJsonConstants.NAME_NAME, EPSG_PREFIX + srid);
-
-    result.put(GeoJsonConstants.NAME_PROPERTIES, props);
-
-    return result;
+  private static void writeCoordinatesName(JsonOutput out) throws IOException {
+    out.append(GeoJsonConstants.NAME_COORDINATES).append("\":");
   }
 
-  private List<JSONAware> makeJsonAware(Polygon poly) {
-    ArrayList<JSONAware> result = new ArrayList<JSONAware>();
-
-    {
-      final String jsonString = getJsonString(poly.getExteriorRing()
-          .getCoordinateSequence());
-      result.add(new JSONAware() {
+  private static void writeCRS(int srid, JsonOutput out) throws IOException {
+    out.append(",\"").append(GeoJsonConstants.NAME_CRS)
+      .append("\":{\"").append(GeoJsonConstants.NAME_TYPE)
+      .append("\":\"").append(GeoJsonConstants.NAME_NAME)
+      .append("\",\"").append(GeoJsonConstants.NAME_PROPERTIES)
+      .append("\":{\"").append(GeoJsonConstants.NAME_NAME)
+      .append("\":\"").append(EPSG_PREFIX).append(Integer.toString(srid))
+      .append("\"}}");
+  }
 
-        public String toJSONString() {
-          return jsonString;
-        }
-      });
-    }
+  private void writePolygonCoordinates(Polygon poly, JsonOutput out) throws IOException {
+    out.append('[');
+    writeSequence(poly.getExteriorRing().getCoordinateSequence(), out);
     for (int i = 0; i < poly.getNumInteriorRing(); i++) {
-      final String jsonString = getJsonString(poly.getInteriorRingN(i)
-          .getCoordinateSequence());
-      result.add(new JSONAware() {
-
-        public String toJSONString() {
-          return jsonString;
-        }
-      });
+      out.append(',');
+      writeSequence(poly.getInteriorRingN(i).getCoordinateSequence(), out);
     }
-
-    return result;
+    out.append(']');
   }
 
-  private List<Object> makeJsonAware(GeometryCollection geometryCollection) {
-
-    ArrayList<Object> list = new ArrayList<Object>(
-        geometryCollection.getNumGeometries());
+  private void writeMultiCoordinates(GeometryCollection geometryCollection, JsonOutput out) throws IOException {
+    out.append('[');
+    boolean isFirst = true;
     for (int i = 0; i < geometryCollection.getNumGeometries(); i++) {
       Geometry geometry = geometryCollection.getGeometryN(i);
       
+      if (! (geometry instanceof Polygon 
+          || geometry instanceof LineString 
+          || geometry instanceof Point)) {
+        continue;
+      }
+      if (! isFirst) {
+        out.append(',');
+      }
+      isFirst = false;
       if (geometry instanceof Polygon) {
-        Polygon polygon = (Polygon) geometry;
-        list.add(makeJsonAware(polygon));
+        writePolygonCoordinates((Polygon) geometry, out);
       } 
       else if (geometry instanceof LineString) {
-        LineString lineString = (LineString) geometry;
-        final String jsonString = getJsonString(lineString
-            .getCoordinateSequence());
-        list.add(new JSONAware() {
-
-          public String toJSONString() {
-            return jsonString;
-          }
-        });
+        writeSequence(((LineString) geometry).getCoordinateSequence(), out);
       } 
-      else if (geometry instanceof Point) {
-        Point point = (Point) geometry;
-        final String jsonString = getJsonString(point.getCoordinateSequence());
-        list.add(new JSONAware() {
-
-          public String toJSONString() {
-            return jsonString;
-          }
-        });
+      else {
+        writeSequence(((Point) geometry).getCoordinateSequence(), out);
       }
     }
-
-    return list;
+    out.append(']');
   }
 
-  private String getJsonString(CoordinateSequence coordinateSequence) {
-    StringBuffer result = new StringBuffer();
+  private void writeSequenceOrEmpty(CoordinateSequence coordinateSequence, JsonOutput out) throws IOException {
+    if (coordinateSequence.size() == 0) {
+      out.append(JSON_ARRAY_EMPTY);
+    }
+    else {
+      writeSequence(coordinateSequence, out);
+    }
+  }
 
+  private void writeSequence(CoordinateSequence coordinateSequence, JsonOutput out) throws IOException {
+    // a sequence of a single coordinate is written as a position
     if (coordinateSequence.size() > 1) {
-      result.append("[");
+      out.append('[');
     }
+    boolean hasZ = coordinateSequence.getDimension() > 2;
     for (int i = 0; i < coordinateSequence.size(); i++) {
       if (i > 0) {
-        result.append(",");
+        out.append(',');
       }
-      result.append("[");
-      result.append(formatOrdinate(coordinateSequence.getOrdinate(i, CoordinateSequence.X))); 
-      result.append(",");
-      result.append(formatOrdinate(coordinateSequence.getOrdinate(i, CoordinateSequence.Y)));
+      out.append('[');
+      writeOrdinate(coordinateSequence.getOrdinate(i, CoordinateSequence.X), out); 
+      out.append(',');
+      writeOrdinate(coordinateSequence.getOrdinate(i, CoordinateSequence.Y), out);
 
-      if (coordinateSequence.getDimension() > 2 ) {
+      if (hasZ) {
         double z = coordinateSequence.getOrdinate(i, CoordinateSequence.Z);
         if (!  Double.isNaN(z)) {
-          result.append(",");
-          result.append(formatOrdinate(z));
+          out.append(',');
+          writeOrdinate(z, out);
         }
       }
 
-      result.append("]");
-
+      out.append(']');
     }
 
     if (coordinateSequence.size() > 1) {
-      result.append("]");
+      out.append(']');
     }
-
-    return result.toString();
   }
 
-  private String formatOrdinate(double x) {
-    String result = null;
-
-    if (Math.abs(x) >= Math.pow(10, -3) && x < Math.pow(10, 7)) {
+  private void writeOrdinate(double x, JsonOutput out) throws IOException {
+    if (Math.abs(x) >= 1e-3 && x < 1e7) {
       x = Math.floor(x * scale + 0.5) / scale;
       long lx = (long) x;
       if (lx == x) {
-        result = Long.toString(lx);
-      } else {
-        result = Double.toString(x);
+        // write integral values as a long, avoiding negative zero
+        out.appendOrdinate((double) lx);
+        return;
+      } 
+      if (x > -1e7) {
+        // same as Double.toString in this range
+        out.appendOrdinate(x);
+        return;
       }
-    } else {
-      result = Double.toString(x);
+    }
+    out.append(Double.toString(x));
+  }
+
+  /**
+   * Buffers the JSON text written to an {@link Appendable},
+   * so that ordinates can be formatted directly into the buffer.
+   * The buffer is written to the output whenever it is full.
+   */
+  private static final class JsonOutput {
+    private static final int BUFFER_SIZE = 2048;
+    
+    private final Appendable out;
+    private final char[] buf = new char[BUFFER_SIZE];
+    private int len = 0;
+    
+    JsonOutput(Appendable out) {
+      this.out = out;
+    }
+    
+    JsonOutput append(char c) throws IOException {
+      if (len == buf.length) {
+        flush();
+      }
+      buf[len++] = c;
+      return this;
+    }
+    
+    JsonOutput append(String s) throws IOException {
+      int n = s.length();
+      if (n > buf.length - len) {
+        flush();
+        if (n > buf.length) {
+          out.append(s);
+          return this;
+        }
+      }
+      s.getChars(0, n, buf, len);
+      len += n;
+      return this;
+    }
+    
+    void appendOrdinate(double ord) throws IOException {
+      if (buf.length - len < OrdinateFormat.MAX_LENGTH) {
+        flush();
+      }
+      len = ORDINATE_FORMAT.format(ord, buf, len);
     }
 
-    return result;
+    void flush() throws IOException {
+      if (len == 0) return;
+      if (out instanceof Writer) {
+        ((Writer) out).write(buf, 0, len);
+      }
+      else if (out instanceof StringBuilder) {
+        ((StringBuilder) out).append(buf, 0, len);
+      }
+      else {
+        out.append(CharBuffer.wrap(buf, 0, len));
+      }
+      len = 0;
+    }
   }
 
 }
@@ -0,0 +1,312 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.geojson;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import org.locationtech.jts.io.OrdinateParser;
+import org.locationtech.jts.io.ParseException;
+
+/**
+ * A pull tokenizer for JSON text read from a {@link Reader}.
+ * <p>
+ * The tokenizer does not create any objects for numbers, 
+ * and string values are only materialized when requested,
+ * so that it can be used to scan large documents 
+ * with minimal memory allocation.
+ * Punctuation tokens are returned as their character value.
+ */
+class JsonTokenizer
+{
+  static final int TT_EOF = -1;
+  static final int TT_STRING = -2;
+  static final int TT_NUMBER = -3;
+  static final int TT_TRUE = -4;
+  static final int TT_FALSE = -5;
+  static final int TT_NULL = -6;
+  
+  private static final int BUFFER_SIZE = 8192;
+  
+  private Reader reader;
+  private char[] buf = new char[BUFFER_SIZE];
+  private int pos = 0;
+  private int end = 0;
+  private long bufOffset = 0;
+  private long tokenOffset = 0;
+  
+  private int type;
+  private boolean isPushedBack = false;
+  private StringBuilder str = new StringBuilder();
+  private char[] num = new char[32];
+  private int numLen = 0;
+
+  /**
+   * Creates a tokenizer reading from a {@link Reader}.
+   * 
+   * @param reader the reader to read from
+   */
+  JsonTokenizer(Reader reader) {
+    this.reader = reader;
+  }
+
+  /**
+   * Reads the next token.
+   * 
+   * @return the type of the token
+   * @throws IOException if an I/O error occurs
+   * @throws ParseException if the input is not valid JSON
+   */
+  int next() throws IOException, ParseException {
+    if (isPushedBack) {
+      isPushedBack = false;
+      return type;
+    }
+    int c = skipWhitespace();
+    tokenOffset = bufOffset + pos - 1;
+    switch (c) {
+    case -1:
+      type = TT_EOF;
+      tokenOffset++;
+      break;
+    case '{':
+    case '}':
+    case '[':
+    case ']':
+    case ':':
+    case ',':
+      type = c;
+      break;
+    case '"':
+      readString();
+      type = TT_STRING;
+      break;
+    case 't':
+      readLiteral("true");
+      type = TT_TRUE;
+      break;
+    case 'f':
+      readLiteral("false");
+      type = TT_FALSE;
+      break;
+    case 'n':
+      readLiteral("null");
+      type = TT_NULL;
+      break;
+    default:
+      if (c == '-' || (c >= '0' && c <= '9')) {
+        readNumber((char) c);
+        type = TT_NUMBER;
+        break;
+      }
+      throw parseError("Unexpected character '" + (char) c + "'");
+    }
+    return type;
+  }
+  
+  /**
+   * Causes the next call to {@link #next()} to return the current token again.
+   */
+  void pushBack() {
+    isPushedBack = true;
+  }
+  
+  /**
+   * Gets the type of the current token.
+   * 
+   * @return the type of the current token
+   */
+  int getType() {
+    return type;
+  }
+  
+  /**
+   * Gets the value of the current string token.
+   * 
+   * @return the string value
+   */
+  String getString() {
+    return str.toString();
+  }
+  
+  /**
+   * Tests whether the current token is a string with a given value,
+   * without creating a string object.
+   * 
+   * @param s the string to compare to
+   * @return true if the current token is a string equal to s
+   */
+  boolean isString(String s) {
+    if (type != TT_STRING || str.length() != s.length()) 
+      return false;
+    for (int i = 0; i < s.length(); i++) {
+      if (str.charAt(i) != s.charAt(i)) 
+        return false;
+    }
+    return true;
+  }
+  
+  /**
+   * Gets the value of the current number token.
+   * 
+   * @return the numeric value
+   * @throws ParseException if the token is not a valid number
+   */
+  double getNumber() throws ParseException {
+    try {
+      return OrdinateParser.parse(num, 0, numLen);
+    }
+    catch (NumberFormatException ex) {
+      throw parseError("Invalid number '" + new String(num, 0, numLen) + "'");
+    }
+  }
+  
+  /**
+   * Creates an exception for an error at the current token,
+   * including the location in the message.
+   * 
+   * @param msg the error message
+   * @return the exception
+   */
+  ParseException parseError(String msg) {
+    return new ParseException(msg + " at offset " + tokenOffset);
+  }
+  
+  /**
+   * Gets a description of the current token for use in error messages.
+   * 
+   * @return a description of the token
+   */
+  String tokenString() {
+    switch (type) {
+    case TT_EOF: return "End-of-input";
+    case TT_STRING: return "\"" + str + "\"";
+    case TT_NUMBER: return new String(num, 0, numLen);
+    case TT_TRUE: return "true";
+    case TT_FALSE: return "false";
+    case TT_NULL: return "null";
+    }
+    return "'" + (char) type + "'";
+  }
+  
+  private boolean fill() throws IOException {
+    bufOffset += end;
+    pos = 0;
+    end = reader.read(buf, 0, buf.length);
+    if (end <= 0) {
+      end = 0;
+      return false;
+    }
+    return true;
+  }
+  
+  private int read() throws IOException {
+    if (pos >= end && ! fill()) 
+      return -1;
+    return buf[pos++];
+  }
+  
+  private int skipWhitespace() throws IOException {
+    while (true) {
+      if (pos >= end && ! fill()) 
+        return -1;
+      char c = buf[pos++];
+      if (c != ' ' && c != '\n' && c != '\r' && c != '\t') 
+        return c;
+    }
+  }
+  
+  private void readString() throws IOException, ParseException {
+    str.setLength(0);
+    while (true) {
+      if (pos >= end && ! fill()) 
+        throw parseError("Unterminated string");
+      int start = pos;
+      while (pos < end) {
+        char c = buf[pos];
+        if (c == '"' || c == '\\') break;
+        pos++;
+      }
+      str.append(buf, start, pos - start);
+      if (pos >= end) 
+        continue;
+      if (buf[pos++] == '"') 
+        return;
+      readEscape();
+    }
+  }
+  
+  private void readEscape() throws IOException, ParseException {
+    int c = read();
+    switch (c) {
+    case '"': 
+    case '\\': 
+    case '/': 
+      str.append((char) c); 
+      return;
+    case 'b': str.append('\b'); return;
+    case 'f': str.append('\f'); return;
+    case 'n': str.append('\n'); return;
+    case 'r': str.append('\r'); return;
+    case 't': str.append('\t'); return;
+    case 'u':
+      int code = 0;
+      for (int i = 0; i < 4; i++) {
+        int digit = Character.digit(read(), 16);
+        if (digit < 0) 
+          throw parseError("Invalid unicode escape in string");
+        code = (code << 4) | digit;
+      }
+      str.append((char) code);
+      return;
+    }
+    throw parseError("Invalid escape in string");
+  }
+  
+  private void readNumber(char first) throws IOException {
+    numLen = 0;
+    appendNumberChar(first);
+    while (pos < end || fill()) {
+      char c = buf[pos];
+      if (! isNumberChar(c)) 
+        return;
+      appendNumberChar(c);
+      pos++;
+    }
+  }
+  
+  private static boolean isNumberChar(char c) {
+    return (c >= '0' && c <= '9') || c == '.' || c == 'e' || c == 'E' 
+        || c == '-' || c == '+';
+  }
+  
+  private void appendNumberChar(char c) {
+    if (numLen >= num.length) {
+      char[] newNum = new char[2 * num.length];
+      System.arraycopy(num, 0, newNum, 0, numLen);
+      num = newNum;
+    }
+    num[numLen++] = c;
+  }
+  
+  private void readLiteral(String literal) throws IOException, ParseException {
+    for (int i = 1; i < literal.length(); i++) {
+      if (read() != literal.charAt(i)) 
+        throw parseError("Invalid literal (expected '" + literal + "')");
+    }
+    if (pos < end || fill()) {
+      char c = buf[pos];
+      if (Character.isLetterOrDigit(c)) 
+        throw parseError("Invalid literal (expected '" + literal + "')");
+    }
+  }
+}
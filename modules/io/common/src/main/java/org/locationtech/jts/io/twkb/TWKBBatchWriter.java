@@ -0,0 +1,384 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.twkb;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.MultiPoint;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.io.twkb.TWKBHeader.GeometryType;
+
+/**
+ * Writes many {@link Geometry}s as concatenated TWKB (Tiny Well-known Binary) records into a
+ * single growable byte buffer.
+ * <p>
+ * All records share the precision, size and bounding box settings of the writer, which are taken
+ * from a {@link TWKBWriter} when the batch writer is created. Each record is identical to the one
+ * produced by that {@link TWKBWriter} for the same geometry. The power-of-ten scale factors are
+ * computed once per record, and ordinates are delta- and varint-encoded straight into the buffer,
+ * so no streams or intermediate arrays are created per geometry.
+ * <p>
+ * The records can be read back with {@link TWKBBufferReader#readAll}. A typical usage pattern is:
+ * <pre>
+ * TWKBBatchWriter batch = new TWKBBatchWriter(new TWKBWriter().setXYPrecision(5));
+ * for (Geometry geom : geoms) {
+ *     batch.write(geom);
+ * }
+ * batch.writeTo(out);
+ * batch.reset();
+ * </pre>
+ * This class is not thread-safe; each thread should create its own instance.
+ *
+ * @see TWKBWriter
+ * @see TWKBBufferReader
+ */
+public class TWKBBatchWriter {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final TWKBHeader params;
+
+    private byte[] buf = new byte[INITIAL_CAPACITY];
+    private int size = 0;
+    private int recordCount = 0;
+
+    /**
+     * Creates a batch writer with the default {@link TWKBWriter} settings.
+     */
+    public TWKBBatchWriter() {
+        this(new TWKBWriter());
+    }
+
+    /**
+     * Creates a batch writer using the current settings of a {@link TWKBWriter}. Later changes to
+     * the settings of the writer do not affect the batch writer.
+     *
+     * @param settings the writer providing the precision, size and bounding box settings
+     */
+    public TWKBBatchWriter(TWKBWriter settings) {
+        this.params = new TWKBHeader(settings.getParams());
+    }
+
+    /**
+     * Appends the TWKB record for a geometry to the buffer.
+     *
+     * @param geom the geometry to write
+     */
+    public void write(Geometry geom) {
+        Objects.requireNonNull(geom, "geometry is null");
+        write(geom, params, false);
+        recordCount++;
+    }
+
+    /**
+     * Appends the TWKB records for a collection of geometries to the buffer.
+     *
+     * @param geoms the geometries to write
+     */
+    public void writeAll(Iterable<? extends Geometry> geoms) {
+        for (Geometry geom : geoms) {
+            write(geom);
+        }
+    }
+
+    /**
+     * Gets the number of bytes written to the buffer.
+     *
+     * @return the size of the buffered records in bytes
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of records written to the buffer.
+     *
+     * @return the number of buffered records
+     */
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Returns a copy of the buffered records.
+     *
+     * @return the concatenated TWKB records
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buf, size);
+    }
+
+    /**
+     * Writes the buffered records to an output stream.
+     *
+     * @param out the stream to write to
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buf, 0, size);
+    }
+
+    /**
+     * Writes the buffered records to a buffer at its position, advancing the position.
+     *
+     * @param out the buffer to write to
+     * @throws java.nio.BufferOverflowException if the buffer does not have room for the records
+     */
+    public void writeTo(ByteBuffer out) {
+        out.put(buf, 0, size);
+    }
+
+    /**
+     * Discards the buffered records, retaining the allocated buffer.
+     */
+    public void reset() {
+        size = 0;
+        recordCount = 0;
+    }
+
+    private void write(Geometry geom, TWKBHeader parent, boolean preserveDimensions) {
+        final TWKBHeader header = new TWKBHeader(parent);
+        final boolean isEmpty = geom.isEmpty();
+        if (!preserveDimensions) {
+            setDimensions(geom, header);
+        }
+        header.setEmpty(isEmpty);
+        header.setGeometryType(GeometryType.valueOf(geom.getClass()));
+        if (isEmpty) {
+            header.setHasBBOX(false);
+        }
+
+        writeHeader(header);
+        if (isEmpty) {
+            if (header.hasSize()) {
+                writeUnsignedVarLong(0);
+            }
+            return;
+        }
+        final int bodyStart = size;
+        writeBody(geom, header);
+        if (header.hasSize()) {
+            insertUnsignedVarLong(bodyStart, size - bodyStart);
+        }
+    }
+
+    private void writeHeader(TWKBHeader header) {
+        ensureCapacity(3);
+        final int precisionHeader = Varint.zigZagEncode(header.xyPrecision()) << 4;
+        buf[size++] = (byte) (precisionHeader | header.geometryType().getValue());
+        buf[size++] = (byte) ((header.hasBBOX() ? 0b00000001 : 0)
+            | (header.hasSize() ? 0b00000010 : 0)
+            | (header.hasIdList() ? 0b00000100 : 0)
+            | (header.hasExtendedPrecision() ? 0b00001000 : 0)
+            | (header.isEmpty() ? 0b00010000 : 0));
+        if (header.hasExtendedPrecision()) {
+            buf[size++] = (byte) ((header.hasZ() ? 0b00000001 : 0)
+                | (header.hasM() ? 0b00000010 : 0)
+                | header.zPrecision() << 2
+                | header.mPrecision() << 5);
+        }
+    }
+
+    private void writeBody(Geometry geom, TWKBHeader header) {
+        final int dim = header.getDimensions();
+        final double[] scales = new double[dim];
+        for (int d = 0; d < dim; d++) {
+            scales[d] = Math.pow(10, header.getPrecision(d));
+        }
+        if (header.hasBBOX()) {
+            BoundsExtractor extractor = new BoundsExtractor(dim);
+            geom.apply(extractor);
+            for (int d = 0; d < dim; d++) {
+                long min = Math.round(extractor.ordinates[2 * d] * scales[d]);
+                long max = Math.round(extractor.ordinates[2 * d + 1] * scales[d]);
+                writeSignedVarLong(min);
+                writeSignedVarLong(max - min);
+            }
+        }
+        switch (header.geometryType()) {
+            case POINT: {
+                CoordinateSequence seq = ((Point) geom).getCoordinateSequence();
+                for (int d = 0; d < dim; d++) {
+                    writeSignedVarLong(Math.round(seq.getOrdinate(0, d) * scales[d]));
+                }
+                return;
+            }
+            case LINESTRING:
+                writeCoordinates(((LineString) geom).getCoordinateSequence(), scales,
+                    new long[dim], 3);
+                return;
+            case POLYGON:
+                writePolygon((Polygon) geom, scales, new long[dim]);
+                return;
+            case MULTIPOINT: {
+                CoordinateSequence seq = geom.getFactory().getCoordinateSequenceFactory()
+                    .create(((MultiPoint) geom).getCoordinates());
+                writeCoordinates(seq, scales, new long[dim], 2);
+                return;
+            }
+            case MULTILINESTRING: {
+                final int n = writeNumGeometries(geom);
+                final long[] prev = new long[dim];
+                for (int i = 0; i < n; i++) {
+                    writeCoordinates(((LineString) geom.getGeometryN(i)).getCoordinateSequence(),
+                        scales, prev, 3);
+                }
+                return;
+            }
+            case MULTIPOLYGON: {
+                final int n = writeNumGeometries(geom);
+                final long[] prev = new long[dim];
+                for (int i = 0; i < n; i++) {
+                    writePolygon((Polygon) geom.getGeometryN(i), scales, prev);
+                }
+                return;
+            }
+            case GEOMETRYCOLLECTION: {
+                final int n = writeNumGeometries(geom);
+                for (int i = 0; i < n; i++) {
+                    Geometry child = geom.getGeometryN(i);
+                    write(child, header, child.isEmpty());
+                }
+                return;
+            }
+            default:
+                throw new IllegalStateException();
+        }
+    }
+
+    private void writePolygon(Polygon poly, double[] scales, long[] prev) {
+        if (poly.isEmpty()) {
+            writeUnsignedVarLong(0);
+            return;
+        }
+        final int numHoles = poly.getNumInteriorRing();
+        writeUnsignedVarLong(1 + numHoles);
+        writeRing(poly.getExteriorRing(), scales, prev);
+        for (int i = 0; i < numHoles; i++) {
+            writeRing(poly.getInteriorRingN(i), scales, prev);
+        }
+    }
+
+    private void writeRing(LineString ring, double[] scales, long[] prev) {
+        if (ring.isEmpty()) {
+            writeUnsignedVarLong(0);
+            return;
+        }
+        writeCoordinates(ring.getCoordinateSequence(), scales, prev, 3);
+    }
+
+    private int writeNumGeometries(Geometry geom) {
+        final int n = ((GeometryCollection) geom).getNumGeometries();
+        writeUnsignedVarLong(n);
+        return n;
+    }
+
+    /**
+     * Writes a point count and the delta-encoded points of a sequence. Repeated points are
+     * dropped as long as at least <code>minNPoints</code> points remain. Since the count is only
+     * known after the points are encoded, it is inserted in front of them.
+     */
+    private void writeCoordinates(CoordinateSequence seq, double[] scales, long[] prev,
+        int minNPoints) {
+        final int dim = scales.length;
+        final int n = seq.size();
+        final long[] delta = new long[dim];
+        final int start = size;
+        int nPoints = 0;
+        int nPointsRemaining = n;
+        for (int i = 0; i < n; i++) {
+            long diff = 0;
+            nPointsRemaining--;
+            for (int d = 0; d < dim; d++) {
+                long precise = Math.round(seq.getOrdinate(i, d) * scales[d]);
+                delta[d] = precise - prev[d];
+                prev[d] = precise;
+                diff += Math.abs(delta[d]);
+            }
+            if (i != 0 && diff == 0 && (nPoints + nPointsRemaining) > minNPoints) {
+                continue;
+            }
+            for (int d = 0; d < dim; d++) {
+                writeSignedVarLong(delta[d]);
+            }
+            nPoints++;
+        }
+        insertUnsignedVarLong(start, nPoints);
+    }
+
+    private void writeSignedVarLong(long value) {
+        writeUnsignedVarLong((value << 1) ^ (value >> 63));
+    }
+
+    private void writeUnsignedVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & 0xFFFFFFFFFFFFFF80L) != 0L) {
+            buf[size++] = (byte) (((int) value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buf[size++] = (byte) value;
+    }
+
+    /**
+     * Inserts an unsigned varint at an offset, moving the following bytes up.
+     */
+    private void insertUnsignedVarLong(int offset, long value) {
+        int len = 1;
+        for (long v = value >>> 7; v != 0; v >>>= 7) {
+            len++;
+        }
+        ensureCapacity(len);
+        System.arraycopy(buf, offset, buf, offset + len, size - offset);
+        final int end = size + len;
+        size = offset;
+        writeUnsignedVarLong(value);
+        size = end;
+    }
+
+    private void ensureCapacity(int n) {
+        if (size + n > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(buf.length * 2, size + n));
+        }
+    }
+
+    private static void setDimensions(Geometry g, TWKBHeader header) {
+        if (g.isEmpty()) {
+            header.setHasZ(false).setHasM(false);
+            return;
+        }
+        if (g instanceof Point) {
+            setDimensions(((Point) g).getCoordinateSequence(), header);
+        }
+        else if (g instanceof LineString) {
+            setDimensions(((LineString) g).getCoordinateSequence(), header);
+        }
+        else if (g instanceof Polygon) {
+            setDimensions(((Polygon) g).getExteriorRing().getCoordinateSequence(), header);
+        }
+        else {
+            setDimensions(g.getGeometryN(0), header);
+        }
+    }
+
+    private static void setDimensions(CoordinateSequence seq, TWKBHeader header) {
+        header.setHasZ(seq.hasZ()).setHasM(seq.hasM());
+    }
+}
@@ -0,0 +1,344 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.twkb;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFactory;
+import org.locationtech.jts.geom.CoordinateSequences;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+import org.locationtech.jts.io.GeometryConsumer;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.twkb.TWKBHeader.GeometryType;
+
+/**
+ * Reads {@link Geometry}s encoded in TWKB (Tiny Well-known Binary) directly from a
+ * {@link ByteBuffer}.
+ * <p>
+ * The geometries read are identical to those read by {@link TWKBReader}. The delta-encoded
+ * varint ordinates of each coordinate sequence are decoded from the buffer straight into a new
+ * <code>double</code> array. If the geometry factory uses a {@link PackedCoordinateSequenceFactory}
+ * (which is the default), this array is used directly as the storage of a
+ * {@link PackedCoordinateSequence}, so no {@link org.locationtech.jts.geom.Coordinate}s or other
+ * temporary objects are created.
+ * <p>
+ * TWKB records carry no framing, so a buffer can hold any number of concatenated records.
+ * {@link #read(ByteBuffer)} reads the record at the buffer position and advances the position past
+ * it, and {@link #readAll(ByteBuffer, GeometryConsumer)} reads all remaining records.
+ * <p>
+ * Reading past the limit of the buffer, or a count too large for the remaining data, causes a
+ * {@link ParseException}.
+ * <p>
+ * This class is designed to support reuse of a single instance to read multiple geometries. This
+ * class is not thread-safe; each thread should create its own instance.
+ *
+ * @see TWKBReader
+ * @see TWKBBatchWriter
+ */
+public class TWKBBufferReader {
+
+    private static final GeometryFactory DEFAULT_FACTORY = new GeometryFactory(
+        PackedCoordinateSequenceFactory.DOUBLE_FACTORY);
+
+    private final GeometryFactory factory;
+    private final CoordinateSequenceFactory csFactory;
+    private final boolean isPacked;
+
+    private ByteBuffer buf;
+    private int pos;
+    private int limit;
+
+    /**
+     * Creates a reader which creates geometries using a default {@link GeometryFactory}
+     * using {@link PackedCoordinateSequence.Double} coordinate sequences.
+     */
+    public TWKBBufferReader() {
+        this(DEFAULT_FACTORY);
+    }
+
+    /**
+     * Creates a reader which creates geometries using the given {@link GeometryFactory}.
+     *
+     * @param geometryFactory the factory to use
+     */
+    public TWKBBufferReader(GeometryFactory geometryFactory) {
+        this.factory = Objects.requireNonNull(geometryFactory, "GeometryFactory is null");
+        this.csFactory = geometryFactory.getCoordinateSequenceFactory();
+        this.isPacked = csFactory instanceof PackedCoordinateSequenceFactory;
+    }
+
+    /**
+     * Reads a single TWKB record from a byte array.
+     *
+     * @param bytes the TWKB data
+     * @return the geometry read
+     * @throws ParseException if the data is malformed
+     */
+    public Geometry read(byte[] bytes) throws ParseException {
+        return read(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Reads the TWKB record starting at the position of a buffer. On success the buffer position is
+     * advanced to the end of the record; otherwise it is unchanged.
+     *
+     * @param buffer the buffer to read from
+     * @return the geometry read
+     * @throws ParseException if the record is malformed
+     */
+    public Geometry read(ByteBuffer buffer) throws ParseException {
+        Objects.requireNonNull(buffer, "ByteBuffer is null");
+        this.buf = buffer;
+        this.pos = buffer.position();
+        this.limit = buffer.limit();
+        try {
+            Geometry geom = readRecord();
+            buffer.position(pos);
+            return geom;
+        } finally {
+            this.buf = null;
+        }
+    }
+
+    /**
+     * Reads all the TWKB records between the position and the limit of a buffer, passing each
+     * geometry to a consumer. On return the buffer position is at the limit.
+     *
+     * @param buffer the buffer to read from
+     * @param consumer the consumer to pass the geometries to
+     * @return the number of records read
+     * @throws ParseException if a record is malformed. The buffer position is at the start of
+     *         the malformed record.
+     */
+    public long readAll(ByteBuffer buffer, GeometryConsumer consumer) throws ParseException {
+        long count = 0;
+        while (buffer.hasRemaining()) {
+            consumer.accept(count, read(buffer));
+            count++;
+        }
+        return count;
+    }
+
+    private Geometry readRecord() throws ParseException {
+        final int typeAndPrecision = readByte();
+        final int typeCode = typeAndPrecision & 0b00001111;
+        if (typeCode < 1 || typeCode > 7) {
+            throw new ParseException("Unknown TWKB geometry type " + typeCode
+                + " at offset " + (pos - 1));
+        }
+        final GeometryType geometryType = GeometryType.valueOf(typeCode);
+        final int xyPrecision = Varint.zigzagDecode((typeAndPrecision & 0b11110000) >> 4);
+        final int metadata = readByte();
+        final boolean hasBBOX = (metadata & 0b00000001) > 0;
+        final boolean hasSize = (metadata & 0b00000010) > 0;
+        final boolean hasIdList = (metadata & 0b00000100) > 0;
+        final boolean hasExtendedPrecision = (metadata & 0b00001000) > 0;
+        final boolean isEmpty = (metadata & 0b00010000) > 0;
+
+        boolean hasZ = false;
+        boolean hasM = false;
+        int zPrecision = 0;
+        int mPrecision = 0;
+        if (hasExtendedPrecision) {
+            final int extendedDims = readByte();
+            hasZ = (extendedDims & 0b00000001) > 0;
+            hasM = (extendedDims & 0b00000010) > 0;
+            zPrecision = (extendedDims & 0b00011100) >> 2;
+            mPrecision = (extendedDims & 0b11100000) >> 5;
+        }
+        if (hasSize) {
+            readUnsignedVarLong();
+        }
+        if (isEmpty) {
+            return geometryType.createEmpty(factory);
+        }
+
+        final int dim = 2 + (hasZ ? 1 : 0) + (hasM ? 1 : 0);
+        final int measures = hasM ? 1 : 0;
+        final double[] scales = new double[dim];
+        scales[0] = Math.pow(10, xyPrecision);
+        scales[1] = scales[0];
+        if (dim > 2) {
+            scales[2] = Math.pow(10, hasZ ? zPrecision : mPrecision);
+        }
+        if (dim > 3) {
+            scales[3] = Math.pow(10, mPrecision);
+        }
+        if (hasBBOX) {
+            for (int i = 0; i < 2 * dim; i++) {
+                readUnsignedVarLong();
+            }
+        }
+
+        switch (geometryType) {
+            case POINT:
+                return factory.createPoint(readCoordinates(1, scales, measures, new long[dim]));
+            case LINESTRING:
+                return readLineString(scales, measures, new long[dim]);
+            case POLYGON:
+                return readPolygon(scales, measures, new long[dim]);
+            case MULTIPOINT: {
+                final int numPoints = readCount(hasIdList);
+                return factory.createMultiPoint(
+                    readCoordinates(numPoints, scales, measures, new long[dim]));
+            }
+            case MULTILINESTRING: {
+                final LineString[] lines = new LineString[readCount(hasIdList)];
+                final long[] prev = new long[dim];
+                for (int i = 0; i < lines.length; i++) {
+                    lines[i] = readLineString(scales, measures, prev);
+                }
+                return factory.createMultiLineString(lines);
+            }
+            case MULTIPOLYGON: {
+                final Polygon[] polys = new Polygon[readCount(hasIdList)];
+                final long[] prev = new long[dim];
+                for (int i = 0; i < polys.length; i++) {
+                    polys[i] = readPolygon(scales, measures, prev);
+                }
+                return factory.createMultiPolygon(polys);
+            }
+            case GEOMETRYCOLLECTION: {
+                final Geometry[] geoms = new Geometry[readCount(hasIdList)];
+                for (int i = 0; i < geoms.length; i++) {
+                    geoms[i] = readRecord();
+                }
+                return factory.createGeometryCollection(geoms);
+            }
+            default:
+                throw new IllegalStateException();
+        }
+    }
+
+    private LineString readLineString(double[] scales, int measures, long[] prev)
+        throws ParseException {
+        final int size = readSize(scales.length);
+        return factory.createLineString(readCoordinates(size, scales, measures, prev));
+    }
+
+    private Polygon readPolygon(double[] scales, int measures, long[] prev)
+        throws ParseException {
+        final int numRings = readSize(1);
+        if (numRings == 0) {
+            return factory.createPolygon();
+        }
+        final LinearRing shell = readLinearRing(scales, measures, prev);
+        final LinearRing[] holes = new LinearRing[numRings - 1];
+        for (int i = 0; i < holes.length; i++) {
+            holes[i] = readLinearRing(scales, measures, prev);
+        }
+        return factory.createPolygon(shell, holes);
+    }
+
+    private LinearRing readLinearRing(double[] scales, int measures, long[] prev)
+        throws ParseException {
+        final int size = readSize(scales.length);
+        CoordinateSequence seq = readCoordinates(size, scales, measures, prev);
+        if (!CoordinateSequences.isRing(seq)) {
+            seq = CoordinateSequences.ensureValidRing(csFactory, seq);
+        }
+        return factory.createLinearRing(seq);
+    }
+
+    /**
+     * Reads the member count of a multi-geometry, skipping the id list if present.
+     */
+    private int readCount(boolean hasIdList) throws ParseException {
+        final int count = readSize(1);
+        if (hasIdList) {
+            for (int i = 0; i < count; i++) {
+                readUnsignedVarLong();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Reads a count of items, each encoded in at least <code>bytesPerItem</code> bytes, and checks
+     * that the remaining data can contain them.
+     */
+    private int readSize(int bytesPerItem) throws ParseException {
+        final int offset = pos;
+        final long size = readUnsignedVarLong();
+        if (size < 0 || size * bytesPerItem > limit - pos) {
+            throw new ParseException("Invalid TWKB count " + size + " at offset " + offset);
+        }
+        return (int) size;
+    }
+
+    private CoordinateSequence readCoordinates(int size, double[] scales, int measures,
+        long[] prev) throws ParseException {
+        final int dim = scales.length;
+        final double[] ords = new double[size * dim];
+        int i = 0;
+        for (int coordIndex = 0; coordIndex < size; coordIndex++) {
+            for (int d = 0; d < dim; d++) {
+                long raw = readUnsignedVarLong();
+                long value = prev[d] + ((raw >>> 1) ^ -(raw & 1));
+                prev[d] = value;
+                ords[i++] = value / scales[d];
+            }
+        }
+        if (isPacked) {
+            return ((PackedCoordinateSequenceFactory) csFactory).create(ords, dim, measures);
+        }
+        CoordinateSequence seq = csFactory.create(size, dim, measures);
+        if (seq.getDimension() != dim || seq.getMeasures() != measures) {
+            throw new IllegalStateException(
+                "Provided CoordinateSequenceFactory does not support the required dimension. Requested "
+                    + dim + " with " + measures + " measures, returned " + seq.getDimension()
+                    + " with " + seq.getMeasures() + " measures");
+        }
+        i = 0;
+        for (int coordIndex = 0; coordIndex < size; coordIndex++) {
+            for (int d = 0; d < dim; d++) {
+                seq.setOrdinate(coordIndex, d, ords[i++]);
+            }
+        }
+        return seq;
+    }
+
+    private int readByte() throws ParseException {
+        if (pos >= limit) {
+            throw new ParseException("Unexpected end of TWKB data at offset " + pos);
+        }
+        return buf.get(pos++) & 0xFF;
+    }
+
+    private long readUnsignedVarLong() throws ParseException {
+        long value = 0L;
+        int shift = 0;
+        while (true) {
+            if (pos >= limit) {
+                throw new ParseException("Unexpected end of TWKB data at offset " + pos);
+            }
+            final int b = buf.get(pos++);
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+            if (shift > 63) {
+                throw new ParseException(
+                    "Variable length quantity is too long at offset " + (pos - 1));
+            }
+        }
+    }
+}
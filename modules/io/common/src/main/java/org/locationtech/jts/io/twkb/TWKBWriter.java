@@ -124,6 +124,10 @@ public class TWKBWriter {
         return this;
     }
 
+    TWKBHeader getParams() {
+        return paramsHeader;
+    }
+
     public byte[] write(Geometry geom) {
         ByteArrayOutputStream out = new ByteArrayOutputStream();
         try {
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.columnar;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.List;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+import org.locationtech.jts.io.ParseException;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class GeometryBatchReaderTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(GeometryBatchReaderTest.class);
+  }
+
+  private static final GeometryFactory PACKED_FACTORY = new GeometryFactory(
+      PackedCoordinateSequenceFactory.DOUBLE_FACTORY);
+
+  public GeometryBatchReaderTest(String name) {
+    super(name);
+  }
+
+  public void testInterleaved() throws Exception {
+    checkRoundTrip(true, "MULTIPOLYGON (((0 0, 10 0, 10 10, 0 0), (1 1, 2 1, 2 2, 1 1)), ((20 20, 30 20, 30 30, 20 20)))",
+        "POLYGON ((40 40, 50 40, 50 50, 40 40))", "MULTIPOLYGON EMPTY");
+  }
+
+  public void testSeparate() throws Exception {
+    checkRoundTrip(false, "LINESTRING Z (1 2 3, 4 5 6)", "LINESTRING EMPTY");
+  }
+
+  public void testPoints() throws Exception {
+    checkRoundTrip(true, "POINT (1 2)", "POINT EMPTY");
+  }
+
+  /**
+   * Tests a batch larger than the transfer buffer.
+   */
+  public void testLarge() throws Exception {
+    Geometry[] geoms = new Geometry[3];
+    for (int i = 0; i < geoms.length; i++) {
+      double[] coords = new double[2 * 10000];
+      for (int j = 0; j < coords.length; j++) {
+        coords[j] = i * j;
+      }
+      geoms[i] = PACKED_FACTORY.createLineString(
+          PackedCoordinateSequenceFactory.DOUBLE_FACTORY.create(coords, 2));
+    }
+    checkRoundTrip(geoms, true);
+    checkRoundTrip(geoms, false);
+  }
+
+  public void testMultipleBatches() throws Exception {
+    GeometryBatch batch1 = GeometryBatch.create(readArray("POINT (1 2)"), true);
+    GeometryBatch batch2 = GeometryBatch.create(readArray("LINESTRING (1 2, 3 4)"), false);
+    File file = File.createTempFile("jts", ".batch");
+    try {
+      GeometryBatchWriter writer = new GeometryBatchWriter();
+      FileOutputStream out = new FileOutputStream(file);
+      try {
+        writer.write(batch1, out.getChannel());
+        writer.write(batch2, out.getChannel());
+      }
+      finally {
+        out.close();
+      }
+      List<GeometryBatch> batches = GeometryBatchReader.read(file);
+      assertEquals(2, batches.size());
+      assertEquals(GeometryBatch.POINT, batches.get(0).getType());
+      assertEquals(GeometryBatch.LINESTRING, batches.get(1).getType());
+      assertFalse(batches.get(1).isInterleaved());
+    }
+    finally {
+      file.delete();
+    }
+  }
+
+  public void testTruncated() throws Exception {
+    byte[] data = write(GeometryBatch.create(readArray("LINESTRING (1 2, 3 4)"), true));
+    for (int len = 1; len < data.length; len++) {
+      byte[] truncated = new byte[len];
+      System.arraycopy(data, 0, truncated, 0, len);
+      try {
+        read(truncated);
+        fail("Expected exception for length " + len);
+      }
+      catch (EOFException ex) {
+        // expected
+      }
+    }
+  }
+
+  public void testInvalid() throws Exception {
+    byte[] data = write(GeometryBatch.create(readArray("LINESTRING (1 2, 3 4)"), true));
+    byte[] badMagic = data.clone();
+    badMagic[0] = 'X';
+    checkParseError(badMagic);
+    // last geometry offset, referencing more coordinates than present
+    byte[] badOffset = data.clone();
+    badOffset[40] = 3;
+    checkParseError(badOffset);
+  }
+
+  private void checkParseError(byte[] data) throws IOException {
+    try {
+      read(data);
+      fail();
+    }
+    catch (ParseException ex) {
+      // expected
+    }
+  }
+
+  private void checkRoundTrip(boolean isInterleaved, String... wkt) throws Exception {
+    checkRoundTrip(readArray(wkt), isInterleaved);
+  }
+
+  private void checkRoundTrip(Geometry[] geoms, boolean isInterleaved) throws Exception {
+    GeometryBatch batch = GeometryBatch.create(geoms, isInterleaved);
+    GeometryBatch result = read(write(batch));
+    assertEquals(batch.getType(), result.getType());
+    assertEquals(batch.size(), result.size());
+    assertEquals(batch.getDimension(), result.getDimension());
+    assertEquals(batch.getMeasures(), result.getMeasures());
+    assertEquals(isInterleaved, result.isInterleaved());
+    Geometry[] expected = batch.toGeometries(PACKED_FACTORY);
+    Geometry[] actual = result.toGeometries(PACKED_FACTORY);
+    for (int i = 0; i < expected.length; i++) {
+      if (batch.getDimension() > 2)
+        checkEqualXYZ(expected[i], actual[i]);
+      else
+        checkEqual(expected[i], actual[i]);
+    }
+  }
+
+  private static byte[] write(GeometryBatch batch) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new GeometryBatchWriter().write(batch, Channels.newChannel(out));
+    return out.toByteArray();
+  }
+
+  private static GeometryBatch read(byte[] data) throws IOException, ParseException {
+    GeometryBatchReader reader = new GeometryBatchReader(
+        Channels.newChannel(new ByteArrayInputStream(data)));
+    assertTrue(reader.hasNext());
+    GeometryBatch batch = reader.next();
+    assertFalse(reader.hasNext());
+    return batch;
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.columnar;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.impl.CoordinateArraySequenceFactory;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+
+import junit.textui.TestRunner;
+import test.jts.GeometryTestCase;
+
+public class GeometryBatchTest extends GeometryTestCase {
+
+  public static void main(String args[]) {
+    TestRunner.run(GeometryBatchTest.class);
+  }
+
+  private static final GeometryFactory PACKED_FACTORY = new GeometryFactory(
+      PackedCoordinateSequenceFactory.DOUBLE_FACTORY);
+
+  public GeometryBatchTest(String name) {
+    super(name);
+  }
+
+  public void testPoints() {
+    checkRoundTrip(GeometryBatch.POINT, "POINT (1 2)", "POINT EMPTY", "POINT (3 4)");
+  }
+
+  public void testLineStrings() {
+    checkRoundTrip(GeometryBatch.LINESTRING, 
+        "LINESTRING (1 2, 3 4)", "LINESTRING EMPTY", "LINESTRING (5 6, 7 8, 9 10)");
+  }
+
+  public void testPolygons() {
+    checkRoundTrip(GeometryBatch.POLYGON, 
+        "POLYGON ((0 0, 10 0, 10 10, 0 0), (1 1, 2 1, 2 2, 1 1))", 
+        "POLYGON EMPTY",
+        "POLYGON ((20 20, 30 20, 30 30, 20 20))");
+  }
+
+  public void testMultiPoints() {
+    checkRoundTrip(GeometryBatch.MULTIPOINT, 
+        "MULTIPOINT ((1 2), (3 4))", "MULTIPOINT EMPTY", "POINT (5 6)");
+  }
+
+  public void testMultiLineStrings() {
+    checkRoundTrip(GeometryBatch.MULTILINESTRING, 
+        "MULTILINESTRING ((1 2, 3 4), (5 6, 7 8))", "LINESTRING (9 9, 10 10)", "MULTILINESTRING EMPTY");
+  }
+
+  public void testMultiPolygons() {
+    checkRoundTrip(GeometryBatch.MULTIPOLYGON, 
+        "MULTIPOLYGON (((0 0, 10 0, 10 10, 0 0), (1 1, 2 1, 2 2, 1 1)), ((20 20, 30 20, 30 30, 20 20)))",
+        "POLYGON ((40 40, 50 40, 50 50, 40 40))",
+        "MULTIPOLYGON EMPTY");
+  }
+
+  public void testEmptyBatch() {
+    GeometryBatch batch = GeometryBatch.create(new Geometry[0], true);
+    assertEquals(0, batch.size());
+    assertEquals(0, batch.toGeometries(PACKED_FACTORY).length);
+  }
+
+  public void testZ() {
+    Geometry[] geoms = readArray("LINESTRING Z (1 2 3, 4 5 6)", "LINESTRING (7 8, 9 10)");
+    GeometryBatch batch = GeometryBatch.create(geoms, true);
+    assertEquals(3, batch.getDimension());
+    assertEquals(0, batch.getMeasures());
+    Geometry[] result = batch.toGeometries(PACKED_FACTORY);
+    checkEqualXYZ(geoms[0], result[0]);
+    assertTrue(Double.isNaN(result[1].getCoordinate().getZ()));
+  }
+
+  public void testM() {
+    Geometry[] geoms = readArray("LINESTRING M (1 2 3, 4 5 6)", "LINESTRING ZM (1 2 3 4, 5 6 7 8)");
+    GeometryBatch batch = GeometryBatch.create(geoms, false);
+    assertEquals(4, batch.getDimension());
+    assertEquals(1, batch.getMeasures());
+    Geometry[] result = batch.toGeometries(PACKED_FACTORY);
+    LineString line = (LineString) result[0];
+    assertEquals(6.0, line.getCoordinateSequence().getM(1));
+    assertTrue(Double.isNaN(line.getCoordinateSequence().getZ(1)));
+    assertEquals(8.0, ((LineString) result[1]).getCoordinateSequence().getM(1));
+  }
+
+  public void testLayout() {
+    Geometry[] geoms = readArray("MULTILINESTRING Z ((1 2 3, 4 5 6), (7 8 9, 10 11 12))");
+    GeometryBatch interleaved = GeometryBatch.create(geoms, true);
+    GeometryBatch separate = GeometryBatch.create(geoms, false);
+    assertEquals(4, interleaved.getNumCoordinates());
+    assertEquals(4, separate.getNumCoordinates());
+    assertArrayEquals(new double[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12 }, 
+        interleaved.getCoordinates());
+    assertArrayEquals(new double[] { 3, 6, 9, 12 }, separate.getOrdinates(2));
+    assertArrayEquals(new int[] { 0, 2 }, interleaved.getOffsets(0));
+    assertArrayEquals(new int[] { 0, 2, 4 }, interleaved.getOffsets(1));
+    assertArrayEquals(interleaved.getCoordinates(), separate.toLayout(true).getCoordinates());
+    assertArrayEquals(separate.getOrdinates(0), interleaved.toLayout(false).getOrdinates(0));
+  }
+
+  public void testPackedSequenceNotShared() {
+    Geometry[] geoms = { read(PACKED_FACTORY, "LINESTRING (1 2, 3 4)") };
+    GeometryBatch batch = GeometryBatch.create(geoms, true);
+    LineString line = (LineString) batch.toGeometries(PACKED_FACTORY)[0];
+    PackedCoordinateSequence.Double seq = (PackedCoordinateSequence.Double) line.getCoordinateSequence();
+    assertNotSame(batch.getCoordinates(), seq.getRawCoordinates());
+    seq.setOrdinate(0, 0, 99);
+    assertEquals(1.0, batch.getCoordinates()[0]);
+  }
+
+  public void testCoordinateArrayFactory() {
+    GeometryFactory factory = new GeometryFactory(CoordinateArraySequenceFactory.instance());
+    Geometry[] geoms = readArray("POLYGON ((0 0, 10 0, 10 10, 0 0))", "MULTIPOLYGON EMPTY");
+    Geometry[] result = GeometryBatch.create(geoms, false).toGeometries(factory);
+    checkEqual(geoms[0], result[0].getGeometryN(0));
+    assertTrue(result[1].isEmpty());
+  }
+
+  public void testIncompatibleTypes() {
+    checkInvalid(readArray("POINT (1 1)", "LINESTRING (1 1, 2 2)"));
+    checkInvalid(readArray("GEOMETRYCOLLECTION (POINT (1 1))"));
+    checkInvalid(new Geometry[] { null });
+  }
+
+  public void testInvalidOffsets() {
+    try {
+      new GeometryBatch(GeometryBatch.LINESTRING, 1, 2, 0, new int[][] { { 0, 3 } }, new double[4]);
+      fail();
+    }
+    catch (IllegalArgumentException ex) {
+      // expected
+    }
+    try {
+      new GeometryBatch(GeometryBatch.POLYGON, 1, 2, 0, new int[][] { { 0, 1 } }, new double[4]);
+      fail();
+    }
+    catch (IllegalArgumentException ex) {
+      // expected
+    }
+  }
+
+  private void checkInvalid(Geometry[] geoms) {
+    try {
+      GeometryBatch.create(geoms, true);
+      fail();
+    }
+    catch (IllegalArgumentException ex) {
+      // expected
+    }
+  }
+
+  private void checkRoundTrip(int expectedType, String... wkt) {
+    Geometry[] geoms = readArray(wkt);
+    checkRoundTrip(expectedType, geoms, true);
+    checkRoundTrip(expectedType, geoms, false);
+  }
+
+  private void checkRoundTrip(int expectedType, Geometry[] geoms, boolean isInterleaved) {
+    GeometryBatch batch = GeometryBatch.create(geoms, isInterleaved);
+    assertEquals(expectedType, batch.getType());
+    assertEquals(geoms.length, batch.size());
+    assertEquals(isInterleaved, batch.isInterleaved());
+    Geometry[] result = batch.toGeometries(PACKED_FACTORY);
+    for (int i = 0; i < geoms.length; i++) {
+      Geometry actual = result[i];
+      // single geometries in a multi-geometry batch are returned as one-element collections
+      if (! actual.getGeometryType().equals(geoms[i].getGeometryType())) {
+        assertEquals(1, actual.getNumGeometries());
+        actual = actual.getGeometryN(0);
+      }
+      checkEqual(geoms[i], actual);
+      assertEquals(geoms[i].isEmpty(), actual.isEmpty());
+    }
+  }
+
+  private static void assertArrayEquals(double[] expected, double[] actual) {
+    assertEquals(expected.length, actual.length);
+    for (int i = 0; i < expected.length; i++) {
+      assertEquals(expected[i], actual[i]);
+    }
+  }
+
+  private static void assertArrayEquals(int[] expected, int[] actual) {
+    assertEquals(expected.length, actual.length);
+    for (int i = 0; i < expected.length; i++) {
+      assertEquals(expected[i], actual[i]);
+    }
+  }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.geojson;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+import org.locationtech.jts.io.ParseException;
+
+import test.jts.GeometryTestCase;
+
+public class GeoJsonStreamReaderTest extends GeometryTestCase {
+
+  public GeoJsonStreamReaderTest(String name) {
+    super(name);
+  }
+
+  public void testPoint() throws Exception {
+    checkSingle("{\"type\":\"Point\",\"coordinates\":[1,2]}", "POINT (1 2)");
+  }
+
+  public void testPointZ() throws Exception {
+    checkSingle("{\"type\":\"Point\",\"coordinates\":[1,2,3,4]}", "POINT Z (1 2 3)");
+    Geometry pt = readAll("{\"type\":\"Point\",\"coordinates\":[1,2,3,4]}").get(0);
+    assertEquals(3.0, pt.getCoordinate().getZ());
+  }
+
+  public void testPointEmpty() throws Exception {
+    checkSingle("{\"type\":\"Point\",\"coordinates\":[]}", "POINT EMPTY");
+    checkSingle("{\"type\":\"Point\",\"coordinates\":null}", "POINT EMPTY");
+  }
+
+  public void testLineString() throws Exception {
+    checkSingle("{\"type\":\"LineString\",\"coordinates\":[[1,2],[3.5,-4e2]]}", "LINESTRING (1 2, 3.5 -400)");
+  }
+
+  public void testPolygonWithHole() throws Exception {
+    checkSingle("{\"type\":\"Polygon\",\"coordinates\":[[[0,0],[0,10],[10,10],[10,0],[0,0]],[[1,1],[1,2],[2,2],[1,1]]]}", 
+        "POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0), (1 1, 1 2, 2 2, 1 1))");
+  }
+
+  public void testPolygonEmpty() throws Exception {
+    checkSingle("{\"type\":\"Polygon\",\"coordinates\":[]}", "POLYGON EMPTY");
+  }
+
+  public void testMultiGeometries() throws Exception {
+    checkSingle("{\"type\":\"MultiPoint\",\"coordinates\":[[1,2],[3,4]]}", "MULTIPOINT ((1 2), (3 4))");
+    checkSingle("{\"type\":\"MultiLineString\",\"coordinates\":[[[1,2],[3,4]],[[5,6],[7,8]]]}", 
+        "MULTILINESTRING ((1 2, 3 4), (5 6, 7 8))");
+    checkSingle("{\"type\":\"MultiPolygon\",\"coordinates\":[[[[0,0],[0,1],[1,1],[0,0]]],[[[5,5],[5,6],[6,6],[5,5]]]]}", 
+        "MULTIPOLYGON (((0 0, 0 1, 1 1, 0 0)), ((5 5, 5 6, 6 6, 5 5)))");
+  }
+
+  public void testGeometryCollection() throws Exception {
+    checkSingle("{\"type\":\"GeometryCollection\",\"geometries\":[{\"type\":\"Point\",\"coordinates\":[1,2]},"
+        + "{\"type\":\"GeometryCollection\",\"geometries\":[]}]}", 
+        "GEOMETRYCOLLECTION (POINT (1 2), GEOMETRYCOLLECTION EMPTY)");
+  }
+
+  public void testMemberOrder() throws Exception {
+    checkSingle("{\"coordinates\":[[1,2],[3,4]],\"bbox\":[1,2,3,4],\"type\":\"LineString\"}", "LINESTRING (1 2, 3 4)");
+  }
+
+  public void testFeature() throws Exception {
+    checkSingle("{\"type\":\"Feature\",\"properties\":{\"name\":\"a \\\"b\\\" \\u00e9\",\"v\":[true,false,null,{}]},"
+        + "\"geometry\":{\"type\":\"Point\",\"coordinates\":[1,2]}}", "POINT (1 2)");
+  }
+
+  public void testFeatureNullGeometry() throws Exception {
+    checkSingle("{\"type\":\"Feature\",\"geometry\":null,\"properties\":null}", "GEOMETRYCOLLECTION EMPTY");
+  }
+
+  public void testFeatureCollection() throws Exception {
+    String json = "{ \"type\": \"FeatureCollection\", \"name\": \"test\",\n"
+        + " \"features\": [\n"
+        + "  { \"type\": \"Feature\", \"id\": 1, \"geometry\": { \"type\": \"Polygon\", \"coordinates\": [ [ [ 10, 20, 0 ], [ 11, 21, 0 ], [ 10, 20, 0 ] ] ] }, \"properties\": { \"name\": \"poly\" } },\n"
+        + "  { \"properties\": { \"name\": \"pt\" }, \"geometry\": { \"type\": \"Point\", \"coordinates\": [ 12, 13 ] }, \"type\": \"Feature\" },\n"
+        + "  { \"type\": \"Feature\", \"geometry\": null, \"properties\": {} }\n"
+        + " ],\n"
+        + " \"bbox\": [ 10, 13, 12, 21 ] }";
+    List<Geometry> geoms = readAll(json);
+    assertEquals(3, geoms.size());
+    checkEqual(read("POLYGON Z ((10 20 0, 11 21 0, 10 20 0))"), geoms.get(0));
+    checkEqual(read("POINT (12 13)"), geoms.get(1));
+    checkEqual(read("GEOMETRYCOLLECTION EMPTY"), geoms.get(2));
+    assertEquals(4326, geoms.get(0).getSRID());
+  }
+
+  public void testFeatureCollectionEmpty() throws Exception {
+    assertEquals(0, readAll("{\"type\":\"FeatureCollection\",\"features\":[]}").size());
+  }
+
+  public void testSameAsGeoJsonReader() throws Exception {
+    GeoJsonWriter writer = new GeoJsonWriter();
+    String[] wkts = {
+        "POINT (1.5 -2.25)",
+        "LINESTRING Z (0 0 1, 10 10 2, 20 5 3)",
+        "POLYGON ((0 0, 0 10, 10 10, 10 0, 0 0), (1 1, 1 2, 2 2, 1 1))",
+        "MULTIPOLYGON (((0 0, 0 1, 1 1, 0 0)), ((5 5, 5 6, 6 6, 5 5), (5.1 5.2, 5.1 5.3, 5.2 5.3, 5.1 5.2)))",
+        "GEOMETRYCOLLECTION (POINT (1 2), LINESTRING (1 1, 2 2))"
+    };
+    GeoJsonReader reader = new GeoJsonReader();
+    for (String wkt : wkts) {
+      Geometry geom = read(wkt);
+      geom.setSRID(1234);
+      String json = writer.write(geom);
+      Geometry expected = reader.read(json);
+      Geometry actual = readAll(json).get(0);
+      checkEqual(expected, actual);
+      assertEquals(expected.getCoordinate().getZ(), actual.getCoordinate().getZ());
+      assertEquals(1234, actual.getSRID());
+    }
+  }
+
+  public void testCRS() throws Exception {
+    String json = "{\"type\":\"FeatureCollection\",\"crs\":{\"type\":\"name\",\"properties\":{\"name\":\"EPSG:3857\"}},"
+        + "\"features\":[{\"type\":\"Feature\",\"geometry\":{\"type\":\"Point\",\"coordinates\":[1,2]}}]}";
+    assertEquals(3857, readAll(json).get(0).getSRID());
+  }
+
+  public void testFactory() throws Exception {
+    GeometryFactory factory = new GeometryFactory(new PrecisionModel(), 99, 
+        PackedCoordinateSequenceFactory.DOUBLE_FACTORY);
+    String json = "{\"type\":\"LineString\",\"coordinates\":[[1,2],[3,4]],"
+        + "\"crs\":{\"type\":\"name\",\"properties\":{\"name\":\"EPSG:3857\"}}}";
+    GeoJsonStreamReader reader = new GeoJsonStreamReader(new StringReader(json), factory);
+    LineString line = (LineString) reader.next();
+    assertEquals(99, line.getSRID());
+    assertTrue(line.getCoordinateSequence() instanceof PackedCoordinateSequence.Double);
+    assertFalse(reader.hasNext());
+    try {
+      reader.next();
+      fail();
+    }
+    catch (NoSuchElementException ex) {
+    }
+  }
+
+  public void testLargeFeatureCollection() throws Exception {
+    StringBuilder json = new StringBuilder("{\"type\":\"FeatureCollection\",\"features\":[");
+    int n = 5000;
+    for (int i = 0; i < n; i++) {
+      if (i > 0) json.append(",\n");
+      json.append("{\"type\":\"Feature\",\"properties\":{\"id\":" + i + "},\"geometry\":"
+          + "{\"type\":\"LineString\",\"coordinates\":[[" + i + ",0.125],[" + i + ".5,1e-3]]}}");
+    }
+    json.append("]}");
+    List<Geometry> geoms = readAll(json.toString());
+    assertEquals(n, geoms.size());
+    for (int i = 0; i < n; i++) {
+      checkEqual(read("LINESTRING (" + i + " 0.125, " + i + ".5 0.001)"), geoms.get(i));
+    }
+  }
+
+  public void testParseErrors() throws Exception {
+    checkParseError("");
+    checkParseError("[]");
+    checkParseError("{}");
+    checkParseError("{\"type\":\"Point\",\"coordinates\":[1,2]");
+    checkParseError("{\"type\":\"Point\",\"coordinates\":[1,]}");
+    checkParseError("{\"type\":\"Point\",\"coordinates\":[1,2]} x");
+    checkParseError("{\"type\":\"Point\",\"coordinates\":[1,2],\"name\":\"abc}");
+    checkParseError("{\"type\":\"Point\",\"coordinates\":[1,2],\"v\":tru}");
+    checkParseError("{\"type\":\"Point\",\"coordinates\":[1,2.3.4]}");
+    checkParseError("{\"type\":\"Polygon\",\"coordinates\":[[1,2],[3,4]]}");
+    checkParseError("{\"type\":\"LineString\",\"coordinates\":[[1,2]]}");
+    checkParseError("{\"type\":\"Curve\",\"coordinates\":[[1,2]]}");
+    checkParseError("{\"type\":\"FeatureCollection\",\"features\":[{\"type\":\"Point\",\"coordinates\":[1,2]}]}");
+    checkParseError("{\"type\":\"FeatureCollection\",\"features\":[{\"type\":\"Feature\",\"geometry\":null} {}]}");
+  }
+
+  private void checkSingle(String json, String expectedWKT) throws IOException, ParseException {
+    List<Geometry> geoms = readAll(json);
+    assertEquals(1, geoms.size());
+    checkEqual(read(expectedWKT), geoms.get(0));
+  }
+
+  private static List<Geometry> readAll(String json) throws IOException, ParseException {
+    GeoJsonStreamReader reader = new GeoJsonStreamReader(new StringReader(json));
+    List<Geometry> geoms = new ArrayList<Geometry>();
+    while (reader.hasNext()) {
+      geoms.add(reader.next());
+    }
+    reader.close();
+    return geoms;
+  }
+
+  private static void checkParseError(String json) throws IOException {
+    try {
+      readAll(json);
+      fail("Expected ParseException for: " + json);
+    }
+    catch (ParseException ex) {
+    }
+  }
+}
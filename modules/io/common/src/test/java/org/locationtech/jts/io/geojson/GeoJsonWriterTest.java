@@ -12,7 +12,11 @@
 
 package org.locationtech.jts.io.geojson;
 
+import java.io.IOException;
+
+import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.io.ParseException;
 
 import test.jts.GeometryTestCase;
@@ -126,6 +130,47 @@ public class GeoJsonWriterTest extends GeometryTestCase {
     runTest("GEOMETRYCOLLECTION EMPTY","{'type':'GeometryCollection','geometries':[]}");
   }
 
+  public void testAppendable() throws ParseException, IOException {
+    Geometry geom = read("GEOMETRYCOLLECTION (POINT (1 2), LINESTRING (1 1, 2 2))");
+    geoJsonWriter.setEncodeCRS(false);
+    StringBuilder buf = new StringBuilder("[");
+    geoJsonWriter.write(geom, buf);
+    geoJsonWriter.write(geom, buf);
+    String expected = "{'type':'GeometryCollection','geometries':[{'type':'Point','coordinates':[1,2]},{'type':'LineString','coordinates':[[1,1],[2,2]]}]}";
+    assertEquals("[" + expected + expected, buf.toString().replace('"', '\''));
+  }
+
+  public void testAppendableStreaming() throws IOException {
+    Coordinate[] pts = new Coordinate[10000];
+    for (int i = 0; i < pts.length; i++) {
+      pts[i] = new Coordinate(i + 0.125, -i - 0.5);
+    }
+    Geometry geom = new GeometryFactory().createLineString(pts);
+    geoJsonWriter.setEncodeCRS(false);
+    final StringBuilder text = new StringBuilder();
+    final int[] maxAppend = new int[1];
+    Appendable out = new Appendable() {
+      public Appendable append(CharSequence csq) {
+        maxAppend[0] = Math.max(maxAppend[0], csq.length());
+        text.append(csq);
+        return this;
+      }
+      public Appendable append(CharSequence csq, int start, int end) {
+        return append(csq.subSequence(start, end));
+      }
+      public Appendable append(char c) {
+        maxAppend[0] = Math.max(maxAppend[0], 1);
+        text.append(c);
+        return this;
+      }
+    };
+    geoJsonWriter.write(geom, out);
+    String expected = geoJsonWriter.write(geom);
+    assertEquals(expected, text.toString());
+    // the text is written in pieces, not as one copy of the whole output
+    assertTrue(maxAppend[0] < expected.length() / 10);
+  }
+
   private void runTest(String wkt) throws ParseException {
     Geometry expected = read(wkt);
     geoJsonWriter.setEncodeCRS(false);
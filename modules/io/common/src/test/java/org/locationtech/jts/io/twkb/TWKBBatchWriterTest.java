@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.twkb;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.twkb.TWKBTestSupport.TWKBTestData;
+
+public class TWKBBatchWriterTest {
+
+    public @Rule TWKBTestSupport testSupport = new TWKBTestSupport();
+
+    public @Test void testPoints() {
+        checkEncode(testSupport.getPoints());
+    }
+
+    public @Test void testMultiPoints() {
+        checkEncode(testSupport.getMultiPoints());
+    }
+
+    public @Test void testLineStrings() {
+        checkEncode(testSupport.getLineStrings());
+    }
+
+    public @Test void testMultiLineStrings() {
+        checkEncode(testSupport.getMultiLineStrings());
+    }
+
+    public @Test void testPolygons() {
+        checkEncode(testSupport.getPolygons());
+    }
+
+    public @Test void testMultiPolygons() {
+        checkEncode(testSupport.getMultiPolygons());
+    }
+
+    public @Test void testGeometryCollections() {
+        checkEncode(testSupport.getGeometryCollections());
+    }
+
+    public @Test void testEmptyWithSize() {
+        TWKBWriter settings = new TWKBWriter().setXYPrecision(5).setIncludeSize(true)
+            .setIncludeBbox(true);
+        checkEncode(settings, "POINT EMPTY", "a11200");
+        checkEncode(settings, "GEOMETRYCOLLECTION EMPTY", "a71200");
+    }
+
+    public @Test void testLargeLineWithSize() {
+        StringBuilder wkt = new StringBuilder("LINESTRING (");
+        for (int i = 0; i < 1000; i++) {
+            if (i > 0) {
+                wkt.append(", ");
+            }
+            wkt.append(i * 1000.123).append(' ').append(-i * 7.5);
+        }
+        wkt.append(')');
+        TWKBWriter settings = new TWKBWriter().setXYPrecision(3).setIncludeSize(true)
+            .setIncludeBbox(true);
+        Geometry geom = testSupport.parseWKT(wkt.toString());
+        TWKBBatchWriter batch = new TWKBBatchWriter(settings);
+        batch.write(geom);
+        assertArrayEquals(settings.write(geom), batch.toByteArray());
+    }
+
+    public @Test void testConcatenated() throws IOException {
+        TWKBWriter settings = new TWKBWriter().setXYPrecision(2).setIncludeSize(true);
+        TWKBBatchWriter batch = new TWKBBatchWriter(settings);
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        List<Geometry> geoms = new ArrayList<Geometry>();
+        for (TWKBTestData data : testSupport.getPolygons()) {
+            geoms.add(data.getInputGeometry());
+            expected.write(settings.write(data.getInputGeometry()));
+        }
+        batch.writeAll(geoms);
+        assertEquals(geoms.size(), batch.getRecordCount());
+        assertArrayEquals(expected.toByteArray(), batch.toByteArray());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        batch.writeTo(out);
+        assertArrayEquals(expected.toByteArray(), out.toByteArray());
+
+        ByteBuffer buf = ByteBuffer.allocate(batch.size() + 1);
+        buf.put((byte) 0);
+        batch.writeTo(buf);
+        assertEquals(batch.size() + 1, buf.position());
+
+        batch.reset();
+        assertEquals(0, batch.size());
+        assertEquals(0, batch.getRecordCount());
+    }
+
+    private void checkEncode(List<TWKBTestData> testData) {
+        for (TWKBTestData data : testData) {
+            TWKBWriter settings = new TWKBWriter()
+                .setXYPrecision(data.getXyprecision())
+                .setZPrecision(data.getZprecision())
+                .setMPrecision(data.getMprecision())
+                .setIncludeSize(data.isIncludeSize())
+                .setIncludeBbox(data.isIncludeBbox());
+            checkEncode(settings, data.getInputWKT(), data.getExpectedTWKBHex());
+        }
+    }
+
+    private void checkEncode(TWKBWriter settings, String wkt, String expectedHex) {
+        TWKBBatchWriter batch = new TWKBBatchWriter(settings);
+        batch.write(testSupport.parseWKT(wkt));
+        assertEquals(wkt, expectedHex, testSupport.toHexString(batch.toByteArray()));
+    }
+}
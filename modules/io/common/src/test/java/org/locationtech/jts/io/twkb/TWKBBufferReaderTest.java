@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026 Martin Davis.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * and Eclipse Distribution License v. 1.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v20.html
+ * and the Eclipse Distribution License is available at
+ *
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ */
+package org.locationtech.jts.io.twkb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.impl.CoordinateArraySequenceFactory;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+import org.locationtech.jts.io.GeometryConsumer;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKBReader;
+import org.locationtech.jts.io.twkb.TWKBTestSupport.TWKBTestData;
+
+public class TWKBBufferReaderTest {
+
+    public @Rule TWKBTestSupport testSupport = new TWKBTestSupport();
+
+    private TWKBReader reader = new TWKBReader();
+
+    private TWKBBufferReader bufferReader = new TWKBBufferReader();
+
+    public @Test void testPoints() throws ParseException {
+        checkDecode(testSupport.getPoints());
+    }
+
+    public @Test void testMultiPoints() throws ParseException {
+        checkDecode(testSupport.getMultiPoints());
+    }
+
+    public @Test void testLineStrings() throws ParseException {
+        checkDecode(testSupport.getLineStrings());
+    }
+
+    public @Test void testMultiLineStrings() throws ParseException {
+        checkDecode(testSupport.getMultiLineStrings());
+    }
+
+    public @Test void testPolygons() throws ParseException {
+        checkDecode(testSupport.getPolygons());
+    }
+
+    public @Test void testMultiPolygons() throws ParseException {
+        checkDecode(testSupport.getMultiPolygons());
+    }
+
+    public @Test void testGeometryCollections() throws ParseException {
+        checkDecode(testSupport.getGeometryCollections());
+    }
+
+    public @Test void testPackedSequence() throws ParseException {
+        Geometry geom = bufferReader.read(lineTWKB());
+        assertTrue(((LineString) geom).getCoordinateSequence()
+            instanceof PackedCoordinateSequence.Double);
+    }
+
+    public @Test void testCoordinateArrayFactory() throws ParseException {
+        TWKBBufferReader rdr = new TWKBBufferReader(
+            new GeometryFactory(CoordinateArraySequenceFactory.instance()));
+        TWKBReader expectedReader = new TWKBReader(
+            new GeometryFactory(CoordinateArraySequenceFactory.instance()));
+        for (TWKBTestData data : testSupport.getMultiPolygons()) {
+            byte[] twkb = data.getExpectedTWKB();
+            checkEqual(data.getExpectedTWKBHex(), expectedReader.read(twkb), rdr.read(twkb));
+        }
+    }
+
+    public @Test void testConcatenated() throws ParseException {
+        TWKBBatchWriter batch = new TWKBBatchWriter(new TWKBWriter().setXYPrecision(3));
+        List<TWKBTestData> testData = testSupport.getGeometryCollections();
+        for (TWKBTestData data : testData) {
+            batch.write(data.getInputGeometry());
+        }
+        ByteBuffer buf = ByteBuffer.allocateDirect(batch.size());
+        batch.writeTo(buf);
+        buf.flip();
+
+        final List<Geometry> geoms = new ArrayList<Geometry>();
+        long count = bufferReader.readAll(buf, new GeometryConsumer() {
+            public void accept(long recordNum, Geometry geometry) {
+                assertEquals(geoms.size(), recordNum);
+                geoms.add(geometry);
+            }
+        });
+        assertEquals(testData.size(), count);
+        assertEquals(buf.limit(), buf.position());
+        byte[] bytes = batch.toByteArray();
+        ByteBuffer wrapped = ByteBuffer.wrap(bytes);
+        for (int i = 0; i < geoms.size(); i++) {
+            int start = wrapped.position();
+            Geometry geom = bufferReader.read(wrapped);
+            byte[] record = new byte[wrapped.position() - start];
+            System.arraycopy(bytes, start, record, 0, record.length);
+            checkEqual("record " + i, reader.read(record), geoms.get(i));
+            checkEqual("record " + i, geom, geoms.get(i));
+        }
+    }
+
+    public @Test void testTruncated() {
+        byte[] twkb = lineTWKB();
+        for (int len = 0; len < twkb.length; len++) {
+            ByteBuffer buf = ByteBuffer.wrap(twkb, 0, len);
+            try {
+                bufferReader.read(buf);
+                fail("Expected ParseException for length " + len);
+            }
+            catch (ParseException ex) {
+                assertEquals(0, buf.position());
+            }
+        }
+    }
+
+    public @Test void testInvalidCount() {
+        checkParseError("a200ffffffff0f");
+    }
+
+    public @Test void testInvalidType() {
+        checkParseError("0800");
+        checkParseError("a000");
+    }
+
+    private byte[] lineTWKB() {
+        return new TWKBWriter().setXYPrecision(3).setIncludeSize(true)
+            .write(testSupport.parseWKT("LINESTRING (1.5 2.5, 30.25 -40.75, 500 600)"));
+    }
+
+    private void checkParseError(String hex) {
+        try {
+            bufferReader.read(WKBReader.hexToBytes(hex));
+            fail("Expected ParseException for " + hex);
+        }
+        catch (ParseException ex) {
+            // expected
+        }
+    }
+
+    private void checkDecode(List<TWKBTestData> testData) throws ParseException {
+        for (TWKBTestData data : testData) {
+            byte[] twkb = data.getExpectedTWKB();
+            checkEqual(data.getExpectedTWKBHex(), reader.read(twkb), bufferReader.read(twkb));
+        }
+    }
+
+    private static void checkEqual(String msg, Geometry expected, Geometry actual) {
+        assertEquals(msg, expected.getGeometryType(), actual.getGeometryType());
+        assertTrue(msg + ": " + actual, expected.equalsExact(actual));
+        assertEquals(msg, expected.getNumPoints(), actual.getNumPoints());
+        if (expected.getNumPoints() > 0) {
+            assertEquals(msg, dimension(expected), dimension(actual));
+        }
+    }
+
+    private static String dimension(Geometry geom) {
+        final StringBuilder dims = new StringBuilder();
+        geom.apply(new org.locationtech.jts.geom.CoordinateSequenceFilter() {
+            public void filter(org.locationtech.jts.geom.CoordinateSequence seq, int i) {
+                dims.append(seq.getDimension()).append(seq.getMeasures());
+            }
+            public boolean isDone() {
+                return true;
+            }
+            public boolean isGeometryChanged() {
+                return false;
+            }
+        });
+        return dims.toString();
+    }
+}
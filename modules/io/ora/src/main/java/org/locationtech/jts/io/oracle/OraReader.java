@@ -38,6 +38,7 @@ import org.locationtech.jts.geom.MultiPolygon;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.Polygon;
 import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
 
 import oracle.sql.ARRAY;
 import oracle.sql.Datum;
@@ -79,6 +80,13 @@ import oracle.sql.STRUCT;
  * </ul>
  * The Geometry SRID field is populated from the input Geometry.
  * <p>
+ * Many rows can be read at once using {@link #read(STRUCT[])} 
+ * (for instance the <code>STRUCT</code>s of one JDBC fetch)
+ * or {@link #read(int[], int[], double[][], int[][], double[][])}
+ * (for the raw SDO_GEOMETRY attribute arrays).
+ * These create geometries backed by {@link org.locationtech.jts.geom.impl.PackedCoordinateSequence}s,
+ * which are filled directly from the ordinate arrays.
+ * <p>
  * To use this class a suitable Oracle JDBC JAR must be present in the classpath.
  * 
  * <h3>LIMITATIONS</h3>
@@ -164,6 +172,111 @@ public class OraReader
 		if (struct == null)
 			return null;
 
+		OraGeom oraGeom = toOraGeom(struct);
+		Geometry geom = read(oraGeom);
+		
+		// Set SRID of created Geometry to be the same as input (regardless of geomFactory SRID)
+		if (geom != null)
+			geom.setSRID(oraGeom.srid);
+		return geom;
+	}
+
+	/**
+	 * Reads the {@link Geometry}s representing a batch of MDSYS.GEOMETRY
+	 * values, such as those returned by one JDBC fetch.
+	 * The geometries are created with {@link org.locationtech.jts.geom.impl.PackedCoordinateSequence}s,
+	 * using the reader's factory if it has a {@link PackedCoordinateSequenceFactory},
+	 * or otherwise a factory with the same precision model and SRID 
+	 * and {@link PackedCoordinateSequenceFactory#DOUBLE_FACTORY}.
+	 * The SRID of each created geometry is set to be the same as its input SRID.
+	 *
+	 * @param structs the MDSYS.GEOMETRY Objects to decode (elements may be null)
+	 * @return the Geometrys read, with a null entry for each null input
+	 * 
+	 * @throws SQLException if a read error occurs while accessing a struct
+	 * @throws IllegalArgumentException if an unsupported geometry type or encoding error is found
+	 */
+	public Geometry[] read(STRUCT[] structs) throws SQLException 
+	{
+		OraGeom[] oraGeoms = new OraGeom[structs.length];
+		for (int i = 0; i < structs.length; i++) {
+			if (structs[i] != null)
+				oraGeoms[i] = toOraGeom(structs[i]);
+		}
+		return read(oraGeoms);
+	}
+
+	/**
+	 * Reads the {@link Geometry}s for a batch of SDO_GEOMETRY values
+	 * supplied as arrays of their attributes, with one entry per row.
+	 * This allows decoding rows fetched by other means than <code>STRUCT</code>s
+	 * (for instance by selecting the SDO_GEOMETRY attributes as columns).
+	 * The geometries are created with {@link org.locationtech.jts.geom.impl.PackedCoordinateSequence}s,
+	 * as described in {@link #read(STRUCT[])}.
+	 * <p>
+	 * A row with an SDO_GTYPE of 0 represents a NULL SDO_GEOMETRY, 
+	 * and produces a null entry.
+	 * NULL ordinate values should be supplied as <code>Double.NaN</code>.
+	 *
+	 * @param gTypes the SDO_GTYPE values
+	 * @param srids the SDO_SRID values (using -1 for NULL)
+	 * @param points the SDO_POINT values as <code>{x, y, z}</code> arrays (the array or its elements may be null)
+	 * @param elemInfos the SDO_ELEM_INFO arrays (elements may be null)
+	 * @param ordinates the SDO_ORDINATES arrays (elements may be null)
+	 * @return the Geometrys read
+	 * 
+	 * @throws IllegalArgumentException if an unsupported geometry type or encoding error is found
+	 */
+	public Geometry[] read(int[] gTypes, int[] srids, double[][] points, int[][] elemInfos, double[][] ordinates) 
+	{
+		OraGeom[] oraGeoms = new OraGeom[gTypes.length];
+		for (int i = 0; i < gTypes.length; i++) {
+			if (gTypes[i] == 0)
+				continue;
+			oraGeoms[i] = new OraGeom(gTypes[i], srids[i], points == null ? null : points[i], 
+					elemInfos[i], ordinates[i]);
+		}
+		return read(oraGeoms);
+	}
+
+	/**
+	 * Reads the {@link Geometry}s for a batch of SDO_GEOMETRY values,
+	 * creating them with {@link org.locationtech.jts.geom.impl.PackedCoordinateSequence}s.
+	 *
+	 * @param oraGeoms the Oracle geometries to read (elements may be null)
+	 * @return the Geometrys read, with a null entry for each null input
+	 */
+	Geometry[] read(OraGeom[] oraGeoms)
+	{
+		OraReader reader = packedReader();
+		Geometry[] geoms = new Geometry[oraGeoms.length];
+		for (int i = 0; i < oraGeoms.length; i++) {
+			if (oraGeoms[i] == null)
+				continue;
+			geoms[i] = reader.read(oraGeoms[i]);
+			geoms[i].setSRID(oraGeoms[i].srid);
+		}
+		return geoms;
+	}
+
+	/**
+	 * Gets a reader with the same settings as this one, 
+	 * which creates {@link org.locationtech.jts.geom.impl.PackedCoordinateSequence}s.
+	 * 
+	 * @return a reader creating packed coordinate sequences
+	 */
+	private OraReader packedReader()
+	{
+		if (geometryFactory.getCoordinateSequenceFactory() instanceof PackedCoordinateSequenceFactory)
+			return this;
+		OraReader reader = new OraReader(new GeometryFactory(geometryFactory.getPrecisionModel(), 
+				geometryFactory.getSRID(), PackedCoordinateSequenceFactory.DOUBLE_FACTORY));
+		reader.outputDimension = outputDimension;
+		return reader;
+	}
+
+	private static OraGeom toOraGeom(STRUCT struct) throws SQLException
+	{
 		Datum data[] = struct.getOracleAttributes();
 		
 		int gType = OraUtil.toInteger(data[0], 0);
@@ -171,13 +284,7 @@ public class OraReader
 		double point[] = OraUtil.toDoubleArray((STRUCT) data[2], Double.NaN);
 		int elemInfo[] = OraUtil.toIntArray((ARRAY) data[3], 0);
 		double ordinates[] = OraUtil.toDoubleArray((ARRAY) data[4], Double.NaN);
-		OraGeom oraGeom = new OraGeom(gType, SRID, point, elemInfo, ordinates);
-		Geometry geom = read(oraGeom);
-		
-		// Set SRID of created Geometry to be the same as input (regardless of geomFactory SRID)
-		if (geom != null)
-			geom.setSRID(SRID);
-		return geom;
+		return new OraGeom(gType, SRID, point, elemInfo, ordinates);
 	}
 
 	/**
@@ -558,6 +665,10 @@ public class OraReader
       }
       int nCoord = (ordDim == 0 ? 0 : (end - start) / ordDim);
 
+      if (isPackedDouble(csFactory)) {
+        return extractPackedCoords(csFactory, ordinates, start, nCoord, ordDim, csDim);
+      }
+
       CoordinateSequence cs = csFactory.create(nCoord, csDim);
       int actualCSDim = cs.getDimension();
       int readDim = Math.min(actualCSDim, ordDim);
@@ -572,6 +683,34 @@ public class OraReader
       return cs;
     }
 
+    /**
+     * Constructs a packed coordinate sequence by copying the element ordinates
+     * directly into its ordinate array.
+     * The sequence has the same dimension and measures
+     * as one created by {@link CoordinateSequenceFactory#create(int, int)}.
+     */
+    private static CoordinateSequence extractPackedCoords(CoordinateSequenceFactory csFactory, 
+        double[] ordinates, int start, int nCoord, int ordDim, int csDim)
+    {
+      double[] packed = new double[nCoord * csDim];
+      if (csDim == ordDim) {
+        System.arraycopy(ordinates, start - 1, packed, 0, packed.length);
+      }
+      else {
+        int readDim = Math.min(csDim, ordDim);
+        for (int iCoord = 0; iCoord < nCoord; iCoord++) {
+          System.arraycopy(ordinates, start - 1 + iCoord * ordDim, packed, iCoord * csDim, readDim);
+        }
+      }
+      return ((PackedCoordinateSequenceFactory) csFactory).create(packed, csDim, Math.max(0, csDim - 3));
+    }
+
+    private static boolean isPackedDouble(CoordinateSequenceFactory csFactory)
+    {
+      return csFactory instanceof PackedCoordinateSequenceFactory
+          && ((PackedCoordinateSequenceFactory) csFactory).getType() == PackedCoordinateSequenceFactory.DOUBLE;
+    }
+
     private static void checkETYPE(int eType, int val1, String geomType)
     {
     	checkETYPE(eType,val1, -1, -1, geomType);
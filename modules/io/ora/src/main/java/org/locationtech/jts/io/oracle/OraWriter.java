@@ -35,14 +35,17 @@ import org.locationtech.jts.geom.MultiPoint;
 import org.locationtech.jts.geom.MultiPolygon;
 import org.locationtech.jts.geom.Point;
 import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
 import org.locationtech.jts.util.Assert;
 
 import oracle.jdbc.OracleConnection;
 
 import oracle.sql.ARRAY;
+import oracle.sql.ArrayDescriptor;
 import oracle.sql.Datum;
 import oracle.sql.NUMBER;
 import oracle.sql.STRUCT;
+import oracle.sql.StructDescriptor;
 
 import oracle.jdbc.OracleConnection;
 
@@ -66,6 +69,11 @@ import oracle.jdbc.OracleConnection;
  * Oracle cannot represent {@link MultiPolygon}s or {@link MultiLineString}s directly as elements
  * of a {@link GeometryCollection}. Instead, their components are written individually.
  * {@link MultiPoint}s are represented directly, however.
+ * <p>
+ * Many geometries can be converted at once using {@link #write(Geometry[], OracleConnection)},
+ * which looks up the Oracle type descriptors only once for the batch.
+ * The resulting <code>STRUCT</code>s can be bound to a statement
+ * executed as a JDBC batch.
  * 
  * The dimension of the output <code>SDO_GEOMETRY</code> is determined as follows:
  * <ul>
@@ -285,22 +293,54 @@ public class OraWriter
       return createEmptySDOGeometry(connection);
 
     OraGeom oraGeom = createOraGeom(geom);
-    
+    return toSTRUCT(oraGeom, new Descriptors(connection), connection);
+  }
+
+  /**
+   * Converts an array of {@link Geometry}s into Oracle MDSYS.SDO_GEOMETRY STRUCTs,
+   * for use in array-bound (batch) inserts or updates.
+   * The Oracle type descriptors are looked up only once for the batch.
+   * <p>
+   * Each geometry is encoded as by {@link #write(Geometry, OracleConnection)}.
+   * In particular, a null or empty geometry produces an empty SDO_GEOMETRY STRUCT.
+   * 
+   * @param geoms the geometries to encode
+   * @param connection the connection to use
+   * @return an array of Oracle MDSYS.SDO_GEOMETRY STRUCTs representing the geometries
+   * @throws SQLException if an encoding error was encountered
+   */
+  public STRUCT[] write(Geometry[] geoms, OracleConnection connection) throws SQLException
+  {
+    OraGeom[] oraGeoms = createOraGeoms(geoms);
+    Descriptors descriptors = new Descriptors(connection);
+    STRUCT[] structs = new STRUCT[oraGeoms.length];
+    for (int i = 0; i < oraGeoms.length; i++) {
+      if (oraGeoms[i] == null) {
+        structs[i] = new STRUCT(descriptors.geometry, connection, new Datum[5]);
+      }
+      else {
+        structs[i] = toSTRUCT(oraGeoms[i], descriptors, connection);
+      }
+    }
+    return structs;
+  }
+
+  private static STRUCT toSTRUCT(OraGeom oraGeom, Descriptors descriptors, OracleConnection connection) 
+      throws SQLException
+  {
     STRUCT SDO_POINT = null;
     ARRAY SDO_ELEM_INFO = null;
     ARRAY SDO_ORDINATES = null;
     if (oraGeom.point == null) {
-      SDO_ELEM_INFO = OraUtil.toARRAY(oraGeom.elemInfo, OraGeom.TYPE_ELEM_INFO_ARRAY,
-          connection);
-      SDO_ORDINATES = OraUtil.toARRAY(oraGeom.ordinates, OraGeom.TYPE_ORDINATE_ARRAY,
-          connection);
+      SDO_ELEM_INFO = new ARRAY(descriptors.elemInfo(), connection, oraGeom.elemInfo);
+      SDO_ORDINATES = new ARRAY(descriptors.ordinates(), connection, oraGeom.ordinates);
     }
     else { // Point Optimization
       Datum data[] = new Datum[] { 
           OraUtil.toNUMBER(oraGeom.point[0]),
           OraUtil.toNUMBER(oraGeom.point[1]), 
           OraUtil.toNUMBER(oraGeom.point[2]), };
-      SDO_POINT = OraUtil.toSTRUCT(data, OraGeom.TYPE_POINT_TYPE, connection);
+      SDO_POINT = new STRUCT(descriptors.point(), connection, data);
     }
     
     NUMBER SDO_GTYPE = new NUMBER(oraGeom.gType);
@@ -312,7 +352,47 @@ public class OraWriter
         SDO_POINT,
         SDO_ELEM_INFO, 
         SDO_ORDINATES };
-    return OraUtil.toSTRUCT(sdoGeometryComponents, OraGeom.TYPE_GEOMETRY, connection);
+    return new STRUCT(descriptors.geometry, connection, sdoGeometryComponents);
+  }
+
+  /**
+   * The Oracle type descriptors used to create SDO_GEOMETRY STRUCTs.
+   * The attribute descriptors are looked up only when needed.
+   */
+  private static class Descriptors
+  {
+    private final OracleConnection connection;
+    final StructDescriptor geometry;
+    private StructDescriptor point;
+    private ArrayDescriptor elemInfo;
+    private ArrayDescriptor ordinates;
+
+    Descriptors(OracleConnection connection) throws SQLException
+    {
+      this.connection = connection;
+      geometry = StructDescriptor.createDescriptor(OraGeom.TYPE_GEOMETRY, connection);
+    }
+
+    StructDescriptor point() throws SQLException
+    {
+      if (point == null)
+        point = StructDescriptor.createDescriptor(OraGeom.TYPE_POINT_TYPE, connection);
+      return point;
+    }
+
+    ArrayDescriptor elemInfo() throws SQLException
+    {
+      if (elemInfo == null)
+        elemInfo = ArrayDescriptor.createDescriptor(OraGeom.TYPE_ELEM_INFO_ARRAY, connection);
+      return elemInfo;
+    }
+
+    ArrayDescriptor ordinates() throws SQLException
+    {
+      if (ordinates == null)
+        ordinates = ArrayDescriptor.createDescriptor(OraGeom.TYPE_ORDINATE_ARRAY, connection);
+      return ordinates;
+    }
   }
 
   /**
@@ -372,6 +452,25 @@ public class OraWriter
     return oraGeom;
   }
 
+  /**
+   * Creates the {@link OraGeom} structures for an array of Geometrys.
+   * This allows disconnected testing of batch writing.
+   * 
+   * @param geoms the Geometrys to write
+   * @return the OraGeom structures, with a null entry for each null or empty Geometry
+   */
+  OraGeom[] createOraGeoms(Geometry[] geoms)
+  {
+    OraGeom[] oraGeoms = new OraGeom[geoms.length];
+    for (int i = 0; i < geoms.length; i++) {
+      Geometry geom = geoms[i];
+      if (geom == null || geom.isEmpty() || geom.getCoordinate() == null)
+        continue;
+      oraGeoms[i] = createOraGeom(geom);
+    }
+    return oraGeoms;
+  }
+
   /**
    * Extracts ordinate data for SDO_POINT_TYPE for Point geometries.
    * <code>null</code> is returned
@@ -606,6 +705,12 @@ public class OraWriter
   private int writeOrds(CoordinateSequence seq, int dim, double[] ordData, int ordIndex)
   {
     int nCoord = seq.size();
+    // packed ordinates of the same dimension can be copied directly
+    if (seq instanceof PackedCoordinateSequence.Double && seq.getDimension() == dim) {
+      double[] raw = ((PackedCoordinateSequence.Double) seq).getRawCoordinates();
+      System.arraycopy(raw, 0, ordData, ordIndex, nCoord * dim);
+      return ordIndex + nCoord * dim;
+    }
     for (int i = 0; i < nCoord; i++) {
       for (int id = 0; id < dim; id++) {
         ordData[ordIndex++] = seq.getOrdinate(i, id);
@@ -24,11 +24,15 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.Geometry;
 import org.locationtech.jts.geom.GeometryCollection;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
 import org.locationtech.jts.io.ParseException;
 import org.locationtech.jts.io.WKTReader;
 import org.locationtech.jts.io.oracle.OraGeom;
@@ -413,6 +417,75 @@ public class OraReaderCreateTest extends BaseOraTestCase
     assertEquals(expected, actual);
   }
 
+  public void testBatch() throws Exception {
+    OraGeom[] oraGeoms = new OraGeom[] {
+        MDSYS.SDO_GEOMETRY(2002,4326,NULL,MDSYS.SDO_ELEM_INFO_ARRAY(1,2,1),
+            MDSYS.SDO_ORDINATE_ARRAY(1,2, 2,1, 3,1, 4,2)),
+        null,
+        MDSYS.SDO_GEOMETRY(2007,NULL,NULL,MDSYS.SDO_ELEM_INFO_ARRAY(1,1003,1,11,2003,1,19,1003,1),
+            MDSYS.SDO_ORDINATE_ARRAY(2,3, 7,3, 7,9, 2,9, 2,3,  3,4, 3,8, 6,8, 3,4,  9,5, 13,5, 11,8, 9,5)),
+        MDSYS.SDO_GEOMETRY(3005,8307,NULL,MDSYS.SDO_ELEM_INFO_ARRAY(1,1,2),
+            MDSYS.SDO_ORDINATE_ARRAY(50,50,5, 100,200,300)),
+        MDSYS.SDO_GEOMETRY(3001,NULL,MDSYS.SDO_POINT_TYPE(50,50,100),NULL,NULL),
+        MDSYS.SDO_GEOMETRY(2003,NULL,NULL,MDSYS.SDO_ELEM_INFO_ARRAY(1,1003,3),
+            MDSYS.SDO_ORDINATE_ARRAY(1,1, 5,7))
+    };
+    OraReader oraReader = new OraReader();
+    Geometry[] geoms = oraReader.read(oraGeoms);
+    assertEquals(oraGeoms.length, geoms.length);
+    assertNull(geoms[1]);
+    for (int i = 0; i < oraGeoms.length; i++) {
+      if (oraGeoms[i] == null) continue;
+      Geometry expected = oraReader.read(oraGeoms[i]);
+      assertTrue(expected.equalsExact(geoms[i]));
+      assertEquals(oraGeoms[i].srid, geoms[i].getSRID());
+    }
+    assertEquals(300.0, geoms[3].getCoordinates()[1].getZ());
+    assertPacked(geoms[0]);
+    assertPacked(((Polygon) geoms[2].getGeometryN(0)).getInteriorRingN(0));
+    assertPacked(geoms[4]);
+  }
+
+  public void testBatchArrays() throws Exception {
+    int[] gTypes = new int[] { 2001, 0, 3002 };
+    int[] srids = new int[] { 4326, NULL, NULL };
+    double[][] points = new double[][] { MDSYS.SDO_POINT_TYPE(1, 2, DNULL), null, null };
+    int[][] elemInfos = new int[][] { null, null, MDSYS.SDO_ELEM_INFO_ARRAY(1,2,1) };
+    double[][] ordinates = new double[][] { null, null, MDSYS.SDO_ORDINATE_ARRAY(0,0,0, 50,50,100) };
+    Geometry[] geoms = new OraReader().read(gTypes, srids, points, elemInfos, ordinates);
+    checkEqual("POINT (1 2)", geoms[0]);
+    assertEquals(4326, geoms[0].getSRID());
+    assertNull(geoms[1]);
+    checkEqual("LINESTRING (0 0 0, 50 50 100)", geoms[2]);
+    assertEquals(100.0, geoms[2].getCoordinates()[1].getZ());
+  }
+
+  public void testBatchDimension() throws Exception {
+    OraGeom oraGeom = MDSYS.SDO_GEOMETRY(4402,NULL,NULL,MDSYS.SDO_ELEM_INFO_ARRAY(1,2,1),
+        MDSYS.SDO_ORDINATE_ARRAY(0,0,1,2, 50,50,3,4));
+    OraReader oraReader = new OraReader(new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY));
+    oraReader.setDimension(3);
+    LineString line = (LineString) oraReader.read(new OraGeom[] { oraGeom })[0];
+    assertPacked(line);
+    assertEquals(3, line.getCoordinateSequence().getDimension());
+    assertEquals(3.0, line.getCoordinateSequence().getZ(1));
+  }
+
+  private static void assertPacked(Geometry geom) {
+    CoordinateSequence seq = geom instanceof Point ? ((Point) geom).getCoordinateSequence() 
+        : ((LineString) geom).getCoordinateSequence();
+    assertTrue(seq instanceof PackedCoordinateSequence.Double);
+  }
+
+  private void checkEqual(String wkt, Geometry actual) {
+    try {
+      assertTrue(wktRdr.read(wkt).equalsExact(actual));
+    }
+    catch (ParseException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   void checkFailure(OraGeom oraGeom, String wkt)
   {
 	  try {
@@ -21,6 +21,8 @@
 package org.locationtech.jts.io.oracle;
 
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
 import org.locationtech.jts.io.ParseException;
 import org.locationtech.jts.io.WKTReader;
 import org.locationtech.jts.io.oracle.OraGeom;
@@ -258,6 +260,39 @@ public class OraWriterCreateTest extends BaseOraTestCase
   //====================================================================================
 
 
+  public void testBatch() throws Exception {
+    Geometry[] geoms = new Geometry[] {
+        wktRdr.read("LINESTRING (1 2, 2 1, 3 1, 4 2)"),
+        null,
+        wktRdr.read("POLYGON EMPTY"),
+        wktRdr.read("MULTIPOLYGON (((2 3, 7 3, 7 9, 2 9, 2 3), (3 4, 3 8, 6 8, 3 4)), ((9 5, 13 5, 11 8, 9 5)))"),
+        wktRdr.read("POINT (50 50 100)")
+    };
+    OraWriter oraWriter = new OraWriter();
+    OraGeom[] oraGeoms = oraWriter.createOraGeoms(geoms);
+    assertEquals(geoms.length, oraGeoms.length);
+    assertNull(oraGeoms[1]);
+    assertNull(oraGeoms[2]);
+    assertTrue(oraGeoms[0].isEqual(oraWriter.createOraGeom(geoms[0])));
+    assertTrue(oraGeoms[3].isEqual(MDSYS.SDO_GEOMETRY(2007,NULL,NULL,MDSYS.SDO_ELEM_INFO_ARRAY(1,1003,1,11,2003,1,19,1003,1),
+        MDSYS.SDO_ORDINATE_ARRAY(2,3, 7,3, 7,9, 2,9, 2,3,  3,4, 3,8, 6,8, 3,4,  9,5, 13,5, 11,8, 9,5))));
+    assertTrue(oraGeoms[4].isEqual(MDSYS.SDO_GEOMETRY(3001,NULL,MDSYS.SDO_POINT_TYPE(50,50,100),NULL,NULL)));
+  }
+
+  public void testPackedRoundTrip() throws Exception {
+    String wkt = "MULTIPOLYGON (((2 3, 7 3, 7 9, 2 9, 2 3), (3 4, 3 8, 6 8, 3 4)), ((9 5, 11 8, 13 5, 9 5)))";
+    Geometry geom = wktRdr.read(wkt);
+    WKTReader packedRdr = new WKTReader(new GeometryFactory(PackedCoordinateSequenceFactory.DOUBLE_FACTORY));
+    Geometry packedGeom = packedRdr.read(wkt);
+    OraWriter oraWriter = new OraWriter();
+    OraGeom oraGeom = oraWriter.createOraGeom(geom);
+    OraGeom packedOraGeom = oraWriter.createOraGeoms(new Geometry[] { packedGeom })[0];
+    assertTrue(oraGeom.isEqual(packedOraGeom));
+
+    Geometry read = new OraReader().read(new OraGeom[] { packedOraGeom })[0];
+    assertTrue(read.equalsNorm(geom));
+  }
+
   void checkValue(OraGeom expectedOraGeom, String wkt)
   {
     checkValue(expectedOraGeom, -1, wkt);